@@ -140,6 +140,9 @@ public class MacroHandler extends Observable {
 
 	private final Object LOCK = new Object();
 
+	/** incremented whenever a macro is added, changed or removed */
+	private volatile long modificationCount;
+
 	public MacroHandler(Process process) {
 		this.process = process;
 	}
@@ -148,6 +151,7 @@ public class MacroHandler extends Observable {
 		setChanged();
 		synchronized (LOCK) {
 			macroMap.clear();
+			modificationCount++;
 		}
 		notifyObservers(this);
 	}
@@ -187,6 +191,7 @@ public class MacroHandler extends Observable {
 			setChanged();
 			synchronized (LOCK) {
 				macroMap.put(macro, value);
+				modificationCount++;
 			}
 			notifyObservers(this);
 		}
@@ -196,10 +201,37 @@ public class MacroHandler extends Observable {
 		setChanged();
 		synchronized (LOCK) {
 			macroMap.remove(macro);
+			modificationCount++;
 		}
 		notifyObservers(this);
 	}
 
+	/**
+	 * Returns a counter that changes whenever a macro is added, changed or removed. This can be used to check whether
+	 * values derived from macros are still valid.
+	 *
+	 * @return the modification count
+	 * @since 9.10.0
+	 */
+	public long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Checks whether the macro is a predefined macro whose value depends on the process, the operator or the time
+	 * instead of only on the macros added to a handler, e.g. %{process_name}, %{a} or %{p[1]}.
+	 *
+	 * @param macro
+	 *            the macro key
+	 * @return whether the macro is predefined
+	 * @since 9.10.0
+	 */
+	public static boolean isPredefinedMacro(String macro) {
+		return PREDEFINED_OPERATOR_INDEPENDENT_MACROS.contains(macro) || PREDEFINED_OPERATOR_DEPENDENT_MACROS.contains(macro)
+				|| STRING_EXPANSION_MACRO_KEYS.contains(macro) || LEGACY_STRING_EXPANSION_MACRO_KEYS
+				.contains(macro.length() > 1 ? macro.substring(0, 2) : macro);
+	}
+
 	/**
 	 * Checks whether a provided macro was set.
 	 *
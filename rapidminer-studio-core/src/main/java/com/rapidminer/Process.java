@@ -77,7 +77,10 @@ import com.rapidminer.operator.ProcessStoppedException;
 import com.rapidminer.operator.UnknownParameterInformation;
 import com.rapidminer.operator.UserError;
 import com.rapidminer.operator.execution.FlowData;
+import com.rapidminer.operator.execution.OperatorProfiler;
+import com.rapidminer.operator.execution.OperatorResultCache;
 import com.rapidminer.operator.execution.ProcessFlowFilter;
+import com.rapidminer.operator.io.RepositoryPrefetcher;
 import com.rapidminer.operator.nio.file.BinaryEntryFileObject;
 import com.rapidminer.operator.nio.file.RepositoryBlobObject;
 import com.rapidminer.operator.ports.InputPort;
@@ -260,6 +263,15 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 	 */
 	private boolean omitNullResults = true;
 
+	/** loads the data of the Retrieve operators in the background while the process runs */
+	private transient volatile RepositoryPrefetcher repositoryPrefetcher;
+
+	/** measures the operators of the process if profiling is enabled */
+	private transient volatile OperatorProfiler operatorProfiler;
+
+	/** counts the hits and misses of the operator result cache while the process runs with caching enabled */
+	private transient volatile OperatorResultCache.Statistics resultCacheStatistics;
+
 
 	// -------------------
 	// Constructors
@@ -530,6 +542,39 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 	// Macro Handler
 	// -------------------------
 
+	/**
+	 * Returns the prefetcher that loads the data of the Retrieve operators of the running process in the background.
+	 *
+	 * @return the prefetcher or {@code null} if the process is not running or nothing is prefetched
+	 * @since 9.10.0
+	 */
+	public RepositoryPrefetcher getRepositoryPrefetcher() {
+		return repositoryPrefetcher;
+	}
+
+	/**
+	 * Returns the profiler that measures the operators of this process, see
+	 * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS}. The profiler of the last run is kept until the
+	 * process runs again.
+	 *
+	 * @return the profiler or {@code null} if profiling was disabled when the process started
+	 * @since 9.10.0
+	 */
+	public OperatorProfiler getOperatorProfiler() {
+		return operatorProfiler;
+	}
+
+	/**
+	 * Returns the hit and miss counts of the {@link OperatorResultCache} for the current run. Operators only use the
+	 * cache while this is not {@code null}, see {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE}.
+	 *
+	 * @return the statistics or {@code null} if the process is not running or caching was disabled when it started
+	 * @since 9.10.0
+	 */
+	public OperatorResultCache.Statistics getResultCacheStatistics() {
+		return resultCacheStatistics;
+	}
+
 	/** Returns the macro handler. */
 	public MacroHandler getMacroHandler() {
 		return this.macroHandler;
@@ -779,11 +824,23 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 	/** Stops the process as soon as possible. */
 	public void stop() {
 		this.setProcessState(PROCESS_STATE_STOPPED);
+		cancelPrefetching();
 		synchronized (breakpointLock) {
 			breakpointLock.notifyAll();
 		}
 	}
 
+	/**
+	 * Cancels the loads of the {@link RepositoryPrefetcher} and drops the prefetched data that was not taken.
+	 */
+	private void cancelPrefetching() {
+		RepositoryPrefetcher prefetcher = repositoryPrefetcher;
+		if (prefetcher != null) {
+			repositoryPrefetcher = null;
+			prefetcher.cancel();
+		}
+	}
+
 	/** Stops the process as soon as possible. */
 	public void pause() {
 		this.setProcessState(PROCESS_STATE_PAUSED);
@@ -913,6 +970,25 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 		}
 	}
 
+	/**
+	 * Replaces the profiler of the last run by a new one if profiling is enabled via
+	 * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS}. No filter is registered otherwise, so that
+	 * profiling causes no overhead when it is disabled.
+	 */
+	private void startOperatorProfiler() {
+		OperatorProfiler oldProfiler = operatorProfiler;
+		if (oldProfiler != null) {
+			removeProcessFlowFilter(oldProfiler);
+			operatorProfiler = null;
+		}
+		if (Tools.booleanValue(ParameterService.getParameterValue(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS),
+				false)) {
+			OperatorProfiler profiler = new OperatorProfiler();
+			addProcessFlowFilter(profiler);
+			operatorProfiler = profiler;
+		}
+	}
+
 	// --------------------
 	// Breakpoint Handling
 	// --------------------
@@ -1286,6 +1362,8 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 			if (filter != null && !processFlowFilters.contains(filter)) {
 				addProcessFlowFilter(filter);
 			}
+			startOperatorProfiler();
+			resultCacheStatistics = OperatorResultCache.isEnabled() ? new OperatorResultCache.Statistics() : null;
 
 			// make sure licensing constraints are not violated
 			// iterate over all operators in the process
@@ -1335,6 +1413,7 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 			long start = System.currentTimeMillis();
 
 			rootOperator.processStarts();
+			repositoryPrefetcher = RepositoryPrefetcher.start(this);
 
 			final int firstInput = input != null ? input.getIOObjects().length : 0;
 			if (checkForInitialData(firstInput)) {
@@ -1512,7 +1591,13 @@ public class Process extends AbstractObservable<Process> implements Cloneable {
 	 */
 	private void finishProcess(Handler logHandler) {
 		stop();
+		cancelPrefetching();
 		tearDown();
+		OperatorResultCache.Statistics cacheStatistics = resultCacheStatistics;
+		if (cacheStatistics != null) {
+			resultCacheStatistics = null;
+			getLogger().info("Operator result cache: " + cacheStatistics + ".");
+		}
 		if (logHandler != null) {
 			getLogger().removeHandler(logHandler);
 			logHandler.close();
@@ -56,6 +56,7 @@ import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.ParameterTypeCategory;
 import com.rapidminer.parameter.ParameterTypeDirectory;
+import com.rapidminer.parameter.ParameterTypeDouble;
 import com.rapidminer.parameter.ParameterTypeFile;
 import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.ParameterTypePassword;
@@ -446,6 +447,84 @@ public class RapidMiner {
 	 */
 	public static final String PROPERTY_RAPIDMINER_SYSTEM_LEGACY_DATA_MGMT = "rapidminer.system.legacy_data_mgmt";
 
+	/**
+	 * The name of the property defining the fraction of the maximal heap size above which example
+	 * tables are stored off-heap in memory-mapped temporary files.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_OFF_HEAP_FRACTION = "rapidminer.system.off_heap_fraction";
+
+	/**
+	 * The name of the property defining the fraction of the maximal heap size that the parallel
+	 * tasks of a process may use before fewer tasks are started at the same time.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_MEMORY_BUDGET_FRACTION = "rapidminer.system.memory_budget_fraction";
+
+	/**
+	 * The name of the property defining the fraction of the maximal heap size used to cache the pages
+	 * of data that is read on demand.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_PAGE_CACHE_FRACTION = "rapidminer.system.page_cache_fraction";
+
+	/**
+	 * The name of the property defining whether example sets are stored in the columnar format that
+	 * cannot be read by versions before 9.10.0.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_COLUMNAR_SERIALIZATION = "rapidminer.system.columnar_serialization";
+
+	/**
+	 * The name of the property defining whether the data of the Retrieve operators of a process is
+	 * loaded in the background as soon as the process starts.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_PREFETCH_REPOSITORY_DATA = "rapidminer.system.prefetch_repository_data";
+
+	/**
+	 * The name of the property defining whether independent operators of a subprocess are executed in
+	 * parallel.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_PARALLEL_OPERATOR_EXECUTION = "rapidminer.system.parallel_operator_execution";
+
+	/**
+	 * The name of the property defining whether the execution time, memory allocation and data sizes of
+	 * all operators are recorded when a process runs.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS = "rapidminer.system.profile_operators";
+
+	/**
+	 * The name of the property defining whether the results of deterministic operators are cached and reused when the
+	 * operators are executed again with the same parameters and inputs.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE = "rapidminer.system.operator_result_cache";
+
+	/**
+	 * The name of the property defining the number of megabytes of serialized operator results kept in memory.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_MEMORY = "rapidminer.system.operator_result_cache_memory";
+
+	/**
+	 * The name of the property defining the number of megabytes of operator results kept on disk.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_DISK = "rapidminer.system.operator_result_cache_disk";
+
 	public static final String PROPERTY_RAPIDMINER_PROXY_MODE = "rapidminer.proxy.mode";
 	public static final String PROPERTY_RAPIDMINER_PROXY_EXCLUDE = "rapidminer.proxy.exclude";
 
@@ -586,6 +665,18 @@ public class RapidMiner {
 		registerParameter(new ParameterTypeInt(PROPERTY_RAPIDMINER_MAX_MEMORY, "", 384, Integer.MAX_VALUE, true), "system");
 
 		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_LEGACY_DATA_MGMT, "", false), "system");
+		registerParameter(new ParameterTypeDouble(PROPERTY_RAPIDMINER_SYSTEM_OFF_HEAP_FRACTION, "", 0, 1, 0.5), "system");
+		registerParameter(new ParameterTypeDouble(PROPERTY_RAPIDMINER_SYSTEM_MEMORY_BUDGET_FRACTION, "", 0, 1, 0.9), "system");
+		registerParameter(new ParameterTypeDouble(PROPERTY_RAPIDMINER_SYSTEM_PAGE_CACHE_FRACTION, "", 0, 1, 0.1), "system");
+		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_COLUMNAR_SERIALIZATION, "", false), "system");
+		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_PREFETCH_REPOSITORY_DATA, "", true), "system");
+		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_PARALLEL_OPERATOR_EXECUTION, "", false), "system");
+		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS, "", false), "system");
+		registerParameter(new ParameterTypeBoolean(PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE, "", false), "system");
+		registerParameter(new ParameterTypeInt(PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_MEMORY, "", 0,
+				Integer.MAX_VALUE, 512), "system");
+		registerParameter(new ParameterTypeInt(PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_DISK, "", 0,
+				Integer.MAX_VALUE, 4096), "system");
 
 		registerParameter(new ParameterTypeInt(WebServiceTools.WEB_SERVICE_TIMEOUT, "", 1, Integer.MAX_VALUE, 20000),
 				"system");
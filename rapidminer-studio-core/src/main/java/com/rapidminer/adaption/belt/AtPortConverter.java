@@ -19,9 +19,11 @@
 package com.rapidminer.adaption.belt;
 
 import java.util.Optional;
+import java.util.logging.Level;
 
 import com.rapidminer.belt.column.ColumnType;
 import com.rapidminer.belt.table.BeltConverter;
+import com.rapidminer.belt.table.Table;
 import com.rapidminer.belt.table.TableViewCreator;
 import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.example.ExampleSet;
@@ -29,6 +31,7 @@ import com.rapidminer.operator.GeneralModel;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.IOTableModel;
 import com.rapidminer.operator.Model;
+import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.ProcessSetupError;
 import com.rapidminer.operator.WrappedGeneralModel;
 import com.rapidminer.operator.WrappedIOTableModel;
@@ -52,6 +55,7 @@ import com.rapidminer.operator.ports.metadata.table.FromTableMetaDataConverter;
 import com.rapidminer.operator.ports.metadata.table.TableMetaData;
 import com.rapidminer.studio.concurrency.internal.SequentialConcurrencyContext;
 import com.rapidminer.studio.internal.Resources;
+import com.rapidminer.tools.Tools;
 import com.rapidminer.tools.belt.BeltTools;
 
 
@@ -66,9 +70,23 @@ import com.rapidminer.tools.belt.BeltTools;
  */
 public final class AtPortConverter {
 
+	/** the number of data conversions performed by each thread */
+	private static final ThreadLocal<long[]> CONVERSIONS = ThreadLocal.withInitial(() -> new long[1]);
+
 	// Suppress default constructor for noninstantiability
 	private AtPortConverter() {throw new AssertionError();}
 
+	/**
+	 * Returns the number of data conversions via {@link #convert(IOObject, Port)} performed by the current thread so
+	 * far. The difference between two calls is the number of conversions in between.
+	 *
+	 * @return the number of conversions of the current thread
+	 * @since 9.10.0
+	 */
+	public static long getConversionsOfCurrentThread() {
+		return CONVERSIONS.get()[0];
+	}
+
 	/**
 	 * Checks if is is possible to convert the dataClass into the desired class. Only conversion from an {@link
 	 * ExampleSet} to a {@link IOTable} and vice versa or from a {@link Model} or {@link IOTableModel} to a {@link
@@ -169,10 +187,9 @@ public final class AtPortConverter {
 	 * 		if a table cannot be converted because it contains advanced columns
 	 */
 	public static IOObject convert(IOObject data, Port port) {
+		CONVERSIONS.get()[0]++;
 		if (data instanceof ExampleSet) {
-			ConcurrencyContext context = port == null ? new SequentialConcurrencyContext() :
-					Resources.getConcurrencyContext(port.getPorts().getOwner().getOperator());
-			return BeltConverter.convert((ExampleSet) data, context);
+			return convertExampleSet((ExampleSet) data, port);
 		} else if (data instanceof IOTable) {
 			// convert as a view and throw on advanced columns
 			return TableViewCreator.INSTANCE.convertOnWriteView((IOTable) data, true);
@@ -191,6 +208,44 @@ public final class AtPortConverter {
 		}
 	}
 
+	/**
+	 * Converts the example set into a {@link IOTable}. If the same data was converted before in the
+	 * same process, the converted {@link Table} is shared instead of copying the data again, see
+	 * {@link ConversionCache}. The copied or shared bytes are reported in the process log.
+	 */
+	private static IOTable convertExampleSet(ExampleSet exampleSet, Port port) {
+		Operator operator = port == null ? null : port.getPorts().getOwner().getOperator();
+		ConversionCache cache = ConversionCache.of(operator);
+		long bytes = ConversionCache.estimateBytes(exampleSet);
+		Table cached = cache == null ? null : cache.get(exampleSet);
+		if (cached != null) {
+			IOTable result = new IOTable(cached);
+			result.setSource(exampleSet.getSource());
+			result.getAnnotations().putAll(exampleSet.getAnnotations());
+			cache.record(bytes, true);
+			log(operator, cache, "com.rapidminer.adaption.belt.AtPortConverter.conversion_shared", bytes);
+			return result;
+		}
+		ConcurrencyContext context = operator == null ? new SequentialConcurrencyContext() :
+				Resources.getConcurrencyContext(operator);
+		IOTable result = BeltConverter.convert(exampleSet, context);
+		if (cache != null) {
+			cache.put(exampleSet, result.getTable());
+			cache.record(bytes, false);
+			log(operator, cache, "com.rapidminer.adaption.belt.AtPortConverter.conversion_copied", bytes);
+		}
+		return result;
+	}
+
+	/**
+	 * Logs the conversion of a table with the given number of bytes to the log of the process of the
+	 * operator.
+	 */
+	private static void log(Operator operator, ConversionCache cache, String key, long bytes) {
+		operator.getLogger().log(Level.FINE, key, new Object[]{Tools.formatBytes(bytes),
+				Tools.formatBytes(cache.getCopiedBytes()), Tools.formatBytes(cache.getSharedBytes())});
+	}
+
 	/**
 	 * Converts an {@link ExampleSetMetaData} into a {@link TableMetaData} or {@link ModelMetaData} into
 	 * {@link TableModelMetaData} and vice versa.
@@ -0,0 +1,284 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.adaption.belt;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.rapidminer.Process;
+import com.rapidminer.belt.table.Table;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.AttributeRole;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.set.AbstractExampleSet;
+import com.rapidminer.example.set.SimpleExampleSet;
+import com.rapidminer.example.table.ExampleTable;
+import com.rapidminer.operator.Operator;
+
+
+/**
+ * Remembers the belt {@link Table}s created from {@link ExampleSet}s at ports, so that an example
+ * set that is delivered to several belt-based ports is only copied once. There is one cache per
+ * {@link Process}, see {@link #of(Operator)}, which vanishes together with the process. The cache
+ * only holds weak references to the converted objects, so entries vanish together with the example
+ * set, and soft references to the tables, so they can be freed when memory runs low.
+ * <p>
+ * Plain {@link SimpleExampleSet}s are remembered by their {@link ExampleTable}, so that the clones
+ * that operators create of their inputs share the same converted table. Other views are remembered
+ * by their identity. A stored table is only reused while the example table and the view report no
+ * modifications, see {@link ExampleTable#getModificationCount()}, and the attributes, including
+ * their transformations and nominal mappings, are unchanged. Example sets that do not keep track of their modifications are never cached.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ConversionCache {
+
+	/** the caches of the processes, weakly keyed so that a cache vanishes with its process */
+	private static final Map<Process, ConversionCache> CACHES = new WeakHashMap<>();
+
+	/**
+	 * Weak reference that compares its referents by identity.
+	 */
+	private static final class IdentityKey extends WeakReference<Object> {
+
+		private final int hash;
+
+		private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey) obj).get();
+		}
+	}
+
+	/**
+	 * A converted table together with the state of the example set it was created from.
+	 */
+	private static final class Entry {
+
+		private final SoftReference<Table> table;
+		private final List<Object> state;
+
+		private Entry(Table table, List<Object> state) {
+			this.table = new SoftReference<>(table);
+			this.state = state;
+		}
+	}
+
+	private final Map<IdentityKey, Entry> entries = new HashMap<>();
+
+	private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+
+	private final LongAdder copiedBytes = new LongAdder();
+
+	private final LongAdder sharedBytes = new LongAdder();
+
+	private ConversionCache() {}
+
+	/**
+	 * Returns the cache of the process of the given operator.
+	 *
+	 * @param operator
+	 *            the operator at whose port the conversion takes place, can be {@code null}
+	 * @return the cache or {@code null} if the operator is not part of a process
+	 */
+	static ConversionCache of(Operator operator) {
+		Process process = operator == null ? null : operator.getProcess();
+		if (process == null) {
+			return null;
+		}
+		synchronized (CACHES) {
+			return CACHES.computeIfAbsent(process, p -> new ConversionCache());
+		}
+	}
+
+	/**
+	 * Returns the table that was converted from the given example set or an example set with the
+	 * same data before.
+	 *
+	 * @param exampleSet
+	 *            the example set to convert
+	 * @return the converted table or {@code null} if there is none or the data changed since
+	 */
+	Table get(ExampleSet exampleSet) {
+		List<Object> state = createState(exampleSet);
+		if (state == null) {
+			return null;
+		}
+		IdentityKey key = new IdentityKey(getKeyObject(exampleSet), null);
+		synchronized (entries) {
+			expungeReleased();
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			Table table = entry.table.get();
+			if (table == null || !entry.state.equals(state)) {
+				entries.remove(key);
+				return null;
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * Stores the table converted from the given example set. Nothing is stored if the example set
+	 * does not track its modifications.
+	 *
+	 * @param exampleSet
+	 *            the converted example set
+	 * @param table
+	 *            the result of the conversion
+	 */
+	void put(ExampleSet exampleSet, Table table) {
+		List<Object> state = createState(exampleSet);
+		if (state == null) {
+			return;
+		}
+		synchronized (entries) {
+			expungeReleased();
+			entries.put(new IdentityKey(getKeyObject(exampleSet), released), new Entry(table, state));
+		}
+	}
+
+	/**
+	 * Records the number of bytes that were copied or shared by a conversion.
+	 *
+	 * @param bytes
+	 *            the estimated number of bytes of the table
+	 * @param shared
+	 *            whether the bytes were shared instead of copied
+	 */
+	void record(long bytes, boolean shared) {
+		(shared ? sharedBytes : copiedBytes).add(bytes);
+	}
+
+	/**
+	 * @return the estimated number of bytes copied by conversions so far
+	 */
+	long getCopiedBytes() {
+		return copiedBytes.sum();
+	}
+
+	/**
+	 * @return the estimated number of bytes shared by conversions so far
+	 */
+	long getSharedBytes() {
+		return sharedBytes.sum();
+	}
+
+	/**
+	 * Estimates the number of bytes of the data of the given example set, eight bytes per value.
+	 *
+	 * @param exampleSet
+	 *            the example set
+	 * @return the estimated number of bytes
+	 */
+	static long estimateBytes(ExampleSet exampleSet) {
+		return (long) exampleSet.size() * exampleSet.getAttributes().allSize() * Double.BYTES;
+	}
+
+	/**
+	 * Plain example sets on all rows of their table are keyed by the table, all others by
+	 * themselves.
+	 */
+	private static Object getKeyObject(ExampleSet exampleSet) {
+		if (exampleSet.getClass() == SimpleExampleSet.class) {
+			return exampleSet.getExampleTable();
+		}
+		return exampleSet;
+	}
+
+	/**
+	 * Describes everything the converted table depends on: the modification counts of the data and
+	 * the attributes with their roles, table indices, transformations and nominal mappings. Objects
+	 * are described by their identity hash, so the state does not keep them alive, and the values
+	 * of the nominal mappings by their hash, so they are not copied.
+	 *
+	 * @return the state or {@code null} if the example set does not track its modifications
+	 */
+	private static List<Object> createState(ExampleSet exampleSet) {
+		ExampleTable table = exampleSet.getExampleTable();
+		if (table == null) {
+			return null;
+		}
+		long tableModifications = table.getModificationCount();
+		long mappingModifications = AbstractExampleSet.getMappingModificationCount(exampleSet);
+		if (tableModifications < 0 || mappingModifications < 0) {
+			return null;
+		}
+		List<Object> state = new ArrayList<>();
+		state.add(tableModifications);
+		state.add(mappingModifications);
+		state.add(exampleSet.size());
+		Iterator<AttributeRole> roles = exampleSet.getAttributes().allAttributeRoles();
+		while (roles.hasNext()) {
+			AttributeRole role = roles.next();
+			Attribute attribute = role.getAttribute();
+			state.add(attribute.getName());
+			state.add(Objects.toString(role.getSpecialName(), ""));
+			state.add(attribute.getValueType());
+			state.add(attribute.getTableIndex());
+			state.add(System.identityHashCode(attribute.getLastTransformation()));
+			if (attribute.isNominal()) {
+				state.add(System.identityHashCode(attribute.getMapping()));
+				state.add(attribute.getMapping().size());
+				state.add(attribute.getMapping().getValues().hashCode());
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Removes the entries of example sets that were garbage collected.
+	 */
+	private void expungeReleased() {
+		Reference<?> reference;
+		while ((reference = released.poll()) != null) {
+			entries.remove(reference);
+		}
+	}
+
+}
@@ -98,6 +98,16 @@ public final class IOTable extends ResultObjectAdapter implements IODataTable {
 		return str.toString();
 	}
 
+	/**
+	 * {@inheritDoc} Assumes eight bytes per value.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		return (long) table.height() * table.width() * Double.BYTES;
+	}
+
 	@Override
 	public String toResultString() {
 		return table.toString();
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 
 import com.rapidminer.adaption.belt.IODataTable;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.example.table.ExampleTable;
 import com.rapidminer.operator.ResultObject;
 
@@ -118,6 +119,75 @@ public interface ExampleSet extends ResultObject, Cloneable, Iterable<Example>,
 	 */
 	public void remapIds();
 
+	// -------------------- Bulk Reading --------------------
+
+	/**
+	 * Reads the values of the given attribute for the examples starting at index {@code fromRow}
+	 * into the target array. Reads as many values as fit into the target array or as there are
+	 * examples left. The values are the same as the ones returned by
+	 * {@link Example#getValue(Attribute)}, but implementations can read them without creating an
+	 * {@link Example} for every row.
+	 *
+	 * @param attribute
+	 *            the attribute whose values should be read
+	 * @param fromRow
+	 *            the index of the first example to read
+	 * @param target
+	 *            the array to write the values into
+	 * @return the number of values read
+	 * @since 9.10.0
+	 */
+	public default int readColumn(Attribute attribute, int fromRow, double[] target) {
+		int length = Math.max(0, Math.min(target.length, size() - fromRow));
+		readColumn(attribute, fromRow, target, 0, length);
+		return length;
+	}
+
+	/**
+	 * Reads the values of the given attribute for the examples {@code fromRow} to
+	 * {@code fromRow + length - 1} into the target array starting at position {@code offset}. The
+	 * values are the same as the ones returned by {@link Example#getValue(Attribute)}. The default
+	 * implementation reads them via {@link #getExample(int)}, subclasses should override this
+	 * method if they can read the values more efficiently.
+	 *
+	 * @param attribute
+	 *            the attribute whose values should be read
+	 * @param fromRow
+	 *            the index of the first example to read
+	 * @param target
+	 *            the array to write the values into
+	 * @param offset
+	 *            the first position in the target array to write to
+	 * @param length
+	 *            the number of values to read
+	 * @since 9.10.0
+	 */
+	public default void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			target[offset + i] = getExample(fromRow + i).getValue(attribute);
+		}
+	}
+
+	/**
+	 * Reads the values of the given attribute for the examples with the given indices into the
+	 * target array, i.e. the value of the example {@code rows[i]} is written to {@code target[i]}.
+	 * The default implementation reads them via {@link #getExample(int)}, subclasses should
+	 * override this method if they can read the values more efficiently.
+	 *
+	 * @param attribute
+	 *            the attribute whose values should be read
+	 * @param rows
+	 *            the indices of the examples to read
+	 * @param target
+	 *            the array to write the values into, at least as long as rows
+	 * @since 9.10.0
+	 */
+	public default void readColumn(Attribute attribute, int[] rows, double[] target) {
+		for (int i = 0; i < rows.length; i++) {
+			target[i] = getExample(rows[i]).getValue(attribute);
+		}
+	}
+
 	// -------------------- File Writing --------------------
 
 	/** Writes the data and the attribute description to a file. */
@@ -157,6 +227,18 @@ public interface ExampleSet extends ResultObject, Cloneable, Iterable<Example>,
 	/** Recalculate all attribute statistics. */
 	public void recalculateAllAttributeStatistics();
 
+	/**
+	 * Recalculate all attribute statistics. Implementations may use the given context to calculate
+	 * the statistics of different attributes in parallel.
+	 *
+	 * @param context
+	 *            the context to use for the calculation, can be {@code null}
+	 * @since 9.10.0
+	 */
+	public default void recalculateAllAttributeStatistics(ConcurrencyContext context) {
+		recalculateAllAttributeStatistics();
+	}
+
 	/** Recalculate the attribute statistics of the given attribute. */
 	public void recalculateAttributeStatistics(Attribute attribute);
 
@@ -18,6 +18,7 @@
  */
 package com.rapidminer.example;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -832,4 +833,28 @@ public class Tools {
 		}
 		return true;
 	}
+
+	/**
+	 * Creates copies of the statistics of the given attributes that are ready for counting values,
+	 * e.g. while the data is read. Once all values are counted, the statistics can be handed to
+	 * {@link com.rapidminer.example.set.AbstractExampleSet#setAttributeStatistics}.
+	 *
+	 * @param attributes
+	 *            the attributes to count statistics for
+	 * @return the statistics for each attribute, in the order of the attributes
+	 * @since 9.10.0
+	 */
+	public static List<List<Statistics>> startCountingStatistics(Attribute[] attributes) {
+		List<List<Statistics>> statistics = new ArrayList<>(attributes.length);
+		for (Attribute attribute : attributes) {
+			List<Statistics> attributeStatistics = new ArrayList<>();
+			for (Iterator<Statistics> iterator = attribute.getAllStatistics(); iterator.hasNext(); ) {
+				Statistics copy = (Statistics) iterator.next().clone();
+				copy.startCounting(attribute);
+				attributeStatistics.add(copy);
+			}
+			statistics.add(attributeStatistics);
+		}
+		return statistics;
+	}
 }
@@ -29,9 +29,13 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.GZIPOutputStream;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -39,16 +43,21 @@ import javax.xml.parsers.ParserConfigurationException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.datatable.DataTable;
 import com.rapidminer.datatable.DataTableExampleSetAdapter;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.AttributeRole;
+import com.rapidminer.example.AttributeTransformation;
 import com.rapidminer.example.AttributeWeights;
 import com.rapidminer.example.Attributes;
 import com.rapidminer.example.Example;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.example.Statistics;
+import com.rapidminer.example.table.ExampleTable;
+import com.rapidminer.example.table.NominalMapping;
 import com.rapidminer.example.table.SparseFormatDataRowReader;
+import com.rapidminer.example.table.internal.ColumnarExampleTable;
 import com.rapidminer.io.process.XMLTools;
 import com.rapidminer.operator.IOContainer;
 import com.rapidminer.operator.IOObject;
@@ -75,12 +84,70 @@ public abstract class AbstractExampleSet extends ResultObjectAdapter implements
 
 	private static final long serialVersionUID = 8596141056047402798L;
 
+	/** Number of values read at once when calculating statistics. */
+	private static final int READ_BLOCK_SIZE = 4096;
+
 	/** Maps attribute names to list of statistics objects. */
 	private final Map<String, List<Statistics>> statisticsMap = new HashMap<>();
 
+	/** Maps attribute names to the state of the data for which the statistics were calculated. */
+	private transient Map<String, StatisticsKey> statisticsKeys;
+
 	/** Maps the id values on the line index in the example table. */
 	private Map<Double, int[]> idMap = new HashMap<>();
 
+	/**
+	 * Counts the examples read through this view and its clones by iterators and bulk reads, used
+	 * by {@link ViewComposition} to decide about materialization. Single examples accessed by
+	 * {@link #getExample(int)} are not counted to keep random access cheap.
+	 */
+	private transient LongAdder accesses;
+
+	/**
+	 * The state of the data for which the statistics of an attribute were calculated. As long as the
+	 * state does not change, the statistics need not be recalculated. The nominal mapping is part of
+	 * the state since the nominal statistics depend on it and it can be changed in place.
+	 */
+	private static final class StatisticsKey {
+
+		private final Attribute attribute;
+		private final AttributeTransformation transformation;
+		private final NominalMapping nominalMapping;
+		private final int nominalValuesHash;
+		private final Attribute weight;
+		private final AttributeTransformation weightTransformation;
+		private final ExampleTable table;
+		private final long tableModifications;
+		private final long mappingModifications;
+		private final int size;
+
+		private StatisticsKey(Attribute attribute, Attribute weight, ExampleTable table, long tableModifications,
+				long mappingModifications, int size) {
+			this.attribute = attribute;
+			this.transformation = attribute.getLastTransformation();
+			this.nominalMapping = attribute.isNominal() ? attribute.getMapping() : null;
+			this.nominalValuesHash = nominalMapping == null ? 0 : nominalMapping.getValues().hashCode();
+			this.weight = weight;
+			this.weightTransformation = weight == null ? null : weight.getLastTransformation();
+			this.table = table;
+			this.tableModifications = tableModifications;
+			this.mappingModifications = mappingModifications;
+			this.size = size;
+		}
+
+		/**
+		 * Checks whether the other key describes the same state. Attributes, transformations,
+		 * mappings and tables are compared by identity, the values of the mappings by their hash.
+		 */
+		private boolean matches(StatisticsKey other) {
+			return other != null && attribute == other.attribute && transformation == other.transformation
+					&& nominalMapping == other.nominalMapping && nominalValuesHash == other.nominalValuesHash
+					&& weight == other.weight && weightTransformation == other.weightTransformation
+					&& table == other.table && tableModifications == other.tableModifications
+					&& mappingModifications == other.mappingModifications && size == other.size;
+		}
+	}
+
 	/** This method overrides the implementation of ResultObjectAdapter and returns "ExampleSet". */
 	@Override
 	public String getName() {
@@ -365,6 +432,7 @@ public abstract class AbstractExampleSet extends ResultObjectAdapter implements
 			Constructor<? extends AbstractExampleSet> cloneConstructor = clazz.getConstructor(new Class[]{clazz});
 			AbstractExampleSet result = cloneConstructor.newInstance(new Object[]{this});
 			result.idMap = this.idMap;
+			result.accesses = getAccesses();
 			result.setAllUserData(this.getAllUserData());
 			return result;
 		} catch (IllegalAccessException e) {
@@ -413,18 +481,36 @@ public abstract class AbstractExampleSet extends ResultObjectAdapter implements
 	 * Recalculates the attribute statistics for all attributes. They are average value, variance,
 	 * minimum, and maximum. For nominal attributes the occurences for all values are counted. This
 	 * method collects all attributes (regular and special) in a list and invokes
-	 * <code>recalculateAttributeStatistics(List attributes)</code> and performs only one data scan.
+	 * <code>recalculateAttributeStatistics(List attributes)</code>. Statistics of attributes whose
+	 * data did not change since the last calculation are not recalculated.
 	 * <p>
 	 * The statistics calculation is stopped by {@link Thread#interrupt()}.
 	 */
 	@Override
 	public void recalculateAllAttributeStatistics() {
+		recalculateAllAttributeStatistics(null);
+	}
+
+	/**
+	 * Recalculates the attribute statistics for all attributes like
+	 * {@link #recalculateAllAttributeStatistics()}. If a context is given and this view can be read
+	 * concurrently, the statistics of the attributes are calculated in parallel.
+	 * <p>
+	 * The statistics calculation is stopped by {@link Thread#interrupt()} or by stopping the process
+	 * of the context.
+	 *
+	 * @param context
+	 *            the context to use for the calculation, can be {@code null}
+	 * @since 9.10.0
+	 */
+	@Override
+	public void recalculateAllAttributeStatistics(ConcurrencyContext context) {
 		List<Attribute> allAttributes = new ArrayList<Attribute>();
 		Iterator<Attribute> a = getAttributes().allAttributes();
 		while (a.hasNext()) {
 			allAttributes.add(a.next());
 		}
-		recalculateAttributeStatistics(allAttributes);
+		recalculateAttributeStatistics(allAttributes, context);
 	}
 
 	/**
@@ -436,66 +522,320 @@ public abstract class AbstractExampleSet extends ResultObjectAdapter implements
 	public void recalculateAttributeStatistics(Attribute attribute) {
 		List<Attribute> allAttributes = new ArrayList<Attribute>();
 		allAttributes.add(attribute);
-		recalculateAttributeStatistics(allAttributes);
+		recalculateAttributeStatistics(allAttributes, null);
 	}
 
 	/**
-	 * Here the Example Set is parsed only once, all the information is retained for each example
-	 * set.
+	 * Sets statistics of the given attribute that were counted while the data was created, e.g.
+	 * while reading it from a file, so that no further pass over the data is needed. The statistics
+	 * must have been counted without weights over all values of the attribute in this example set.
+	 * Like calculated statistics, they are kept until the data changes. Does nothing if this example
+	 * set has a weight attribute or cannot keep track of the changes of its data.
+	 *
+	 * @param attribute
+	 *            an attribute of this example set
+	 * @param statistics
+	 *            the counted statistics of the attribute, they are copied
+	 * @since 9.10.0
+	 */
+	public synchronized void setAttributeStatistics(Attribute attribute, List<Statistics> statistics) {
+		if (getAttributes().getWeight() != null) {
+			return;
+		}
+		StatisticsKey key = createStatisticsKey(attribute, null);
+		if (key == null) {
+			return;
+		}
+		List<Statistics> copies = new LinkedList<>();
+		for (Statistics original : statistics) {
+			copies.add((Statistics) original.clone());
+		}
+		statisticsMap.put(attribute.getName(), copies);
+		if (statisticsKeys == null) {
+			statisticsKeys = new HashMap<>();
+		}
+		statisticsKeys.put(attribute.getName(), key);
+	}
+
+	/**
+	 * Calculates the statistics for the attributes whose data changed since the last calculation,
+	 * see {@link #createStatisticsKey}. The attributes are processed in parallel if a context is
+	 * given and the data can be read concurrently, otherwise one after the other.
 	 * <p>
 	 * The statistics calculation is stopped by {@link Thread#interrupt()}.
 	 */
-	private synchronized void recalculateAttributeStatistics(List<Attribute> attributeList) {
+	private synchronized void recalculateAttributeStatistics(List<Attribute> attributeList, ConcurrencyContext context) {
 		// do nothing if not desired
-		if (attributeList.size() == 0) {
+		if (attributeList.isEmpty()) {
 			return;
+		}
+
+		Attribute weightAttribute = getAttributes().getWeight();
+		if (weightAttribute != null && !weightAttribute.isNumerical()) {
+			weightAttribute = null;
+		}
+
+		// find the attributes whose data changed, the keys are created before the data is read
+		if (statisticsKeys == null) {
+			statisticsKeys = new HashMap<>();
+		}
+		Map<Attribute, StatisticsKey> outdated = new LinkedHashMap<>();
+		for (Attribute attribute : attributeList) {
+			StatisticsKey key = createStatisticsKey(attribute, weightAttribute);
+			if (key == null || !key.matches(statisticsKeys.get(attribute.getName()))
+					|| !statisticsMap.containsKey(attribute.getName())) {
+				outdated.put(attribute, key);
+			}
+		}
+		if (outdated.isEmpty()) {
+			return;
+		}
+		List<Attribute> calculationList = new ArrayList<>(outdated.keySet());
+
+		// calculate statistics
+		Thread caller = Thread.currentThread();
+		boolean complete;
+		if (context != null && calculationList.size() > 1 && context.getParallelism() > 1
+				&& isConcurrentlyReadable(calculationList, weightAttribute)) {
+			complete = countStatisticsParallel(calculationList, weightAttribute, caller, context);
 		} else {
-			// init statistics
-			resetAttributeStatistics(attributeList);
+			complete = true;
+			for (Attribute attribute : calculationList) {
+				if (!countStatistics(attribute, weightAttribute, caller, context)) {
+					complete = false;
+					break;
+				}
+			}
+		}
+		if (!complete || caller.isInterrupted()) {
+			// statistics is only partly calculated
+			resetAttributeStatistics(calculationList);
+			return;
+		}
+
+		// store cloned statistics
+		for (Attribute attribute : calculationList) {
+			// do not directly work on the existing List because that might force a
+			// ConcurrentModification and the well known Exception
+			List<Statistics> tmpStatisticsList = new LinkedList<>();
 
-			// calculate statistics
-			Attribute weightAttribute = getAttributes().getWeight();
-			if (weightAttribute != null && !weightAttribute.isNumerical()) {
-				weightAttribute = null;
+			Iterator<Statistics> stats = attribute.getAllStatistics();
+			while (stats.hasNext()) {
+				Statistics statistics = (Statistics) stats.next().clone();
+				tmpStatisticsList.add(statistics);
+			}
+			statisticsMap.put(attribute.getName(), tmpStatisticsList);
+			StatisticsKey key = outdated.get(attribute);
+			if (key != null) {
+				statisticsKeys.put(attribute.getName(), key);
+			} else {
+				statisticsKeys.remove(attribute.getName());
+			}
+			if (caller.isInterrupted()) {
+				return;
 			}
+		}
+	}
 
-			for (Attribute attribute : attributeList) {
-				if (weightAttribute == null) {
-					for (Example example : this) {
-						double value = example.getValue(attribute);
-						attribute.getAllStatistics().forEachRemaining(s -> s.count(value, 1.0d));
-					}
-				} else {
-					for (Example example : this) {
-						double value = example.getValue(attribute);
-						double weight = example.getValue(weightAttribute);
-						attribute.getAllStatistics().forEachRemaining(s -> s.count(value, weight));
-					}
-				}
-				if (Thread.currentThread().isInterrupted()) {
-					// statistics is only partly calculated
-					resetAttributeStatistics(attributeList);
-					return;
-				}
+	/**
+	 * Counts the statistics of the given attributes in parallel, one task per attribute.
+	 *
+	 * @return {@code false} if the calculation was interrupted
+	 */
+	private boolean countStatisticsParallel(List<Attribute> attributeList, Attribute weightAttribute, Thread caller,
+			ConcurrencyContext context) {
+		List<Callable<Boolean>> tasks = new ArrayList<>(attributeList.size());
+		for (Attribute attribute : attributeList) {
+			tasks.add(() -> countStatistics(attribute, weightAttribute, caller, context));
+		}
+		try {
+			return !context.call(tasks).contains(Boolean.FALSE);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new IllegalStateException(cause);
 			}
+		}
+	}
 
-			// store cloned statistics
-			for (Attribute attribute : attributeList) {
-				// do not directly work on the existing List because that might force a
-				// ConcurrentModification and the well known Exception
-				List<Statistics> tmpStatisticsList = new LinkedList<>();
+	/**
+	 * Resets the statistics of the attribute and counts all its values, read blockwise via
+	 * {@link #readColumn(Attribute, int, double[])}. Only the statistics of the given attribute are
+	 * changed, so this method can be called concurrently for different attributes.
+	 *
+	 * @param caller
+	 *            the thread that requested the calculation, checked for interruption
+	 * @param context
+	 *            the context to check for stop, can be {@code null}
+	 * @return {@code false} if the calculation was interrupted
+	 */
+	private boolean countStatistics(Attribute attribute, Attribute weightAttribute, Thread caller,
+			ConcurrencyContext context) {
+		List<Statistics> attributeStatistics = new ArrayList<>();
+		for (Iterator<Statistics> stats = attribute.getAllStatistics(); stats.hasNext();) {
+			Statistics statistics = stats.next();
+			statistics.startCounting(attribute);
+			attributeStatistics.add(statistics);
+		}
 
-				Iterator<Statistics> stats = attribute.getAllStatistics();
-				while (stats.hasNext()) {
-					Statistics statistics = (Statistics) stats.next().clone();
-					tmpStatisticsList.add(statistics);
-				}
-				statisticsMap.put(attribute.getName(), tmpStatisticsList);
-				if (Thread.currentThread().isInterrupted()) {
-					return;
+		int size = size();
+		double[] values = new double[Math.min(size, READ_BLOCK_SIZE)];
+		double[] weights = weightAttribute == null ? null : new double[values.length];
+		for (int from = 0; from < size; from += values.length) {
+			if (caller.isInterrupted()) {
+				return false;
+			}
+			if (context != null) {
+				context.checkStatus();
+			}
+			int length = readColumn(attribute, from, values);
+			if (weights != null) {
+				readColumn(weightAttribute, from, weights);
+			}
+			for (Statistics statistics : attributeStatistics) {
+				for (int i = 0; i < length; i++) {
+					statistics.count(values[i], weights == null ? 1.0d : weights[i]);
 				}
 			}
 		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the values of the given attributes can be read concurrently, see
+	 * {@link com.rapidminer.example.utils.ExampleSets#createThreadSafeCopy(ExampleSet)}.
+	 */
+	private boolean isConcurrentlyReadable(List<Attribute> attributeList, Attribute weightAttribute) {
+		if (!isThreadSafeView() || getExampleTable().getClass() != ColumnarExampleTable.class) {
+			return false;
+		}
+		if (weightAttribute != null && weightAttribute.getLastTransformation() != null) {
+			return false;
+		}
+		for (Attribute attribute : attributeList) {
+			if (attribute.getLastTransformation() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the key describing the current state of the data of the given attribute. If the key
+	 * matches the key stored at the last calculation, the statistics are still valid.
+	 *
+	 * @return the key or {@code null} if the example table or the view do not keep track of their
+	 *         modifications
+	 */
+	private StatisticsKey createStatisticsKey(Attribute attribute, Attribute weightAttribute) {
+		ExampleTable table = getExampleTable();
+		if (table == null) {
+			return null;
+		}
+		long tableModifications = table.getModificationCount();
+		long mappingModifications = getMappingModificationCount();
+		if (tableModifications < 0 || mappingModifications < 0) {
+			return null;
+		}
+		return new StatisticsKey(attribute, weightAttribute, table, tableModifications, mappingModifications, size());
+	}
+
+	/**
+	 * Returns a counter that changes whenever the mapping of this view to the rows of the
+	 * {@link ExampleTable} changes. Together with {@link ExampleTable#getModificationCount()} it
+	 * decides whether calculated attribute statistics are still valid. Views that cannot notice such
+	 * changes return {@code -1}, which disables the reuse of statistics. Views on a parent example
+	 * set must include the count of the parent, see {@link #getMappingModificationCount(ExampleSet)}.
+	 *
+	 * @return the modification count of the mapping or {@code -1} if unknown
+	 * @since 9.10.0
+	 */
+	protected long getMappingModificationCount() {
+		return -1;
+	}
+
+	/**
+	 * Returns the mapping modification count of the given example set, e.g. the parent of a view.
+	 *
+	 * @param parent
+	 *            the example set
+	 * @return the modification count of the mapping or {@code -1} if unknown
+	 * @see #getMappingModificationCount()
+	 * @since 9.10.0
+	 */
+	public static long getMappingModificationCount(ExampleSet parent) {
+		if (parent instanceof AbstractExampleSet) {
+			return ((AbstractExampleSet) parent).getMappingModificationCount();
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc} The estimate consists of the data of the underlying {@link ExampleTable}, which
+	 * is shared with all other views on it, and the nominal mappings of the attributes.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		ExampleTable table = getExampleTable();
+		long tableBytes = table == null ? 0 : table.estimateMemoryUsage();
+		return tableBytes + estimateNominalMappingBytes();
+	}
+
+	/**
+	 * Estimates the number of bytes used by the nominal mappings of all attributes of this example
+	 * set.
+	 *
+	 * @return the estimated number of bytes
+	 * @since 9.10.0
+	 */
+	protected final long estimateNominalMappingBytes() {
+		long bytes = 0;
+		Iterator<Attribute> attributes = getAttributes().allAttributes();
+		while (attributes.hasNext()) {
+			Attribute attribute = attributes.next();
+			if (attribute.isNominal()) {
+				bytes += attribute.getMapping().estimateMemoryUsage();
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Records that the given number of examples were read through this view. Views on a parent
+	 * example set call this once per iterator or bulk read, so that {@link ViewComposition} can
+	 * estimate the costs of deep view chains.
+	 *
+	 * @param count
+	 *            the number of accessed examples
+	 * @since 9.10.0
+	 */
+	protected final void recordAccesses(long count) {
+		getAccesses().add(count);
+	}
+
+	/**
+	 * @return the number of examples read through this view and its clones
+	 */
+	final long getAccessCount() {
+		return getAccesses().sum();
+	}
+
+	/**
+	 * @return the access counter, created lazily after deserialization
+	 */
+	private LongAdder getAccesses() {
+		LongAdder counter = accesses;
+		if (counter == null) {
+			counter = new LongAdder();
+			accesses = counter;
+		}
+		return counter;
 	}
 
 	/**
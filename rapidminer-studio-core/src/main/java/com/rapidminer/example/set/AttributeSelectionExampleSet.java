@@ -54,6 +54,8 @@ public class AttributeSelectionExampleSet extends AbstractExampleSet {
 	public AttributeSelectionExampleSet(ExampleSet exampleSet, boolean[] selectionMask) {
 		this.parent = (ExampleSet) exampleSet.clone();
 		selectAttributes(selectionMask, parent);
+		// the attributes are stored in the parent, so attribute views below are not needed
+		this.parent = ViewComposition.skipAttributeViews(parent);
 	}
 
 	/**
@@ -159,6 +161,7 @@ public class AttributeSelectionExampleSet extends AbstractExampleSet {
 	 */
 	@Override
 	public Iterator<Example> iterator() {
+		recordAccesses(parent.size());
 		return new AttributesExampleReader(parent.iterator(), this);
 	}
 
@@ -167,11 +170,23 @@ public class AttributeSelectionExampleSet extends AbstractExampleSet {
 		return this.parent.getExample(index);
 	}
 
+	/**
+	 * @return the parent example set without cloning it, used by {@link ViewComposition}
+	 */
+	ExampleSet getParent() {
+		return parent;
+	}
+
 	@Override
 	public ExampleTable getExampleTable() {
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		return getMappingModificationCount(parent);
+	}
+
 	@Override
 	public int size() {
 		return parent.size();
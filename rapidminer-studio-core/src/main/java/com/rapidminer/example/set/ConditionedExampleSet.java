@@ -101,6 +101,7 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 		} catch (ProcessStoppedException e) {
 			// Cannot happen because progress is null
 		}
+		composeParent();
 	}
 
 	/**
@@ -116,6 +117,18 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 			throws ExpressionEvaluationException, ProcessStoppedException {
 		this.parent = (ExampleSet) parent.clone();
 		this.mapping = calculateMapping(condition, inverted, progress);
+		composeParent();
+	}
+
+	/**
+	 * Collapses the views below this one into the mapping, see {@link ViewComposition}.
+	 */
+	private void composeParent() {
+		ViewComposition.ComposedMapping composed = ViewComposition.compose(parent, mapping, true);
+		if (composed != null) {
+			parent = composed.parent;
+			mapping = composed.mapping;
+		}
 	}
 
 	/** Clone constructor. */
@@ -207,6 +220,7 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 	/** Returns a {@link MappedExampleReader}. */
 	@Override
 	public Iterator<Example> iterator() {
+		recordAccesses(mapping.length);
 		return new MappedExampleReader(parent.iterator(), this.mapping);
 	}
 
@@ -220,6 +234,20 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 		}
 	}
 
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		recordAccesses(length);
+		ParentColumnReader.read(parent, attribute, i -> mapping[fromRow + i], length, target, offset);
+	}
+
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int[] rows, double[] target) {
+		recordAccesses(rows.length);
+		ParentColumnReader.read(parent, attribute, i -> mapping[rows[i]], rows.length, target, 0);
+	}
+
 	/** Counts the number of examples which fulfills the condition. */
 	@Override
 	public int size() {
@@ -236,6 +264,11 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		return getMappingModificationCount(parent);
+	}
+
 	/**
 	 * Checks if the given name is the short name of a known condition and creates it. If the name
 	 * is not known, this method creates a new instance of className which must be an implementation
@@ -306,4 +339,11 @@ public class ConditionedExampleSet extends AbstractExampleSet implements Mapping
 	public ExampleSet getParentClone() {
 		return (ExampleSet) parent.clone();
 	}
+
+	/**
+	 * @return the parent example set without cloning it, used by {@link ViewComposition}
+	 */
+	ExampleSet getParent() {
+		return parent;
+	}
 }
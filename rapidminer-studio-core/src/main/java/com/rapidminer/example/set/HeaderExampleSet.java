@@ -85,6 +85,14 @@ public class HeaderExampleSet extends AbstractExampleSet {
 		throw new UnsupportedOperationException("The method getExampleTable() is not supported by the header example set.");
 	}
 
+	/**
+	 * {@inheritDoc} The header example set has no data, only the nominal mappings are counted.
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		return estimateNominalMappingBytes();
+	}
+
 	@Override
 	public void remapIds() {
 		throw new UnsupportedOperationException("The method remapIds() is not supported by the header example set.");
@@ -106,6 +106,18 @@ public class MappedExampleSet extends AbstractExampleSet implements MappingBased
 				this.mapping[index++] = i.next();
 			}
 		}
+		composeParent();
+	}
+
+	/**
+	 * Collapses the views below this one into the mapping, see {@link ViewComposition}.
+	 */
+	private void composeParent() {
+		ViewComposition.ComposedMapping composed = ViewComposition.compose(parent, mapping, true);
+		if (composed != null) {
+			parent = composed.parent;
+			mapping = composed.mapping;
+		}
 	}
 
 	/** Clone constructor. */
@@ -163,6 +175,7 @@ public class MappedExampleSet extends AbstractExampleSet implements MappingBased
 	/** Returns a {@link MappedExampleReader}. */
 	@Override
 	public Iterator<Example> iterator() {
+		recordAccesses(mapping.length);
 		return new MappedExampleReader(parent.iterator(), this.mapping);
 	}
 
@@ -176,6 +189,20 @@ public class MappedExampleSet extends AbstractExampleSet implements MappingBased
 		}
 	}
 
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		recordAccesses(length);
+		ParentColumnReader.read(parent, attribute, i -> mapping[fromRow + i], length, target, offset);
+	}
+
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int[] rows, double[] target) {
+		recordAccesses(rows.length);
+		ParentColumnReader.read(parent, attribute, i -> mapping[rows[i]], rows.length, target, 0);
+	}
+
 	/** Counts the number of examples. */
 	@Override
 	public int size() {
@@ -192,6 +219,11 @@ public class MappedExampleSet extends AbstractExampleSet implements MappingBased
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		return getMappingModificationCount(parent);
+	}
+
 	/** Creates a new mapping for the given example set by sampling with replacement. */
 	public static int[] createBootstrappingMapping(ExampleSet exampleSet, int size, Random random) {
 		int[] mapping = new int[size];
@@ -257,4 +289,11 @@ public class MappedExampleSet extends AbstractExampleSet implements MappingBased
 		return (ExampleSet) parent.clone();
 	}
 
+	/**
+	 * @return the parent example set without cloning it, used by {@link ViewComposition}
+	 */
+	ExampleSet getParent() {
+		return parent;
+	}
+
 }
@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.operator.OperatorProgress;
+import com.rapidminer.operator.ProcessStoppedException;
+import com.rapidminer.tools.Ontology;
+
+
+/**
+ * Sorts the rows of an {@link ExampleSet} by one or more attributes, each with its own direction.
+ * The sort keys are kept in primitive arrays: date values are replaced by their milliseconds and
+ * nominal values by the rank of their string in the natural order, so no object is created per
+ * row. The result is a permutation of the row indices in which rows with equal keys keep their
+ * original order. Large inputs are sorted in parallel if a {@link ConcurrencyContext} is given.
+ *
+ * @author agent
+ * @see SortedExampleSet
+ * @since 9.10.0
+ */
+final class MultiKeySorter {
+
+	/** Inputs with at least this number of rows are sorted in parallel */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/** Ranges up to this length are sorted by insertion sort */
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+
+	/** the sort keys, one array with a value per row for every sorting attribute */
+	private final double[][] keys;
+
+	private final boolean[] descending;
+
+	/**
+	 * Reads the sort keys of the given attributes.
+	 *
+	 * @param exampleSet
+	 *            the example set to sort
+	 * @param attributes
+	 *            the sorting attributes, the first one has the highest priority
+	 * @param directions
+	 *            the sorting direction for each attribute, either {@link SortedExampleSet#INCREASING}
+	 *            or {@link SortedExampleSet#DECREASING}
+	 */
+	MultiKeySorter(ExampleSet exampleSet, List<Attribute> attributes, int[] directions) {
+		if (attributes.isEmpty() || attributes.size() != directions.length) {
+			throw new IllegalArgumentException("Every sorting attribute needs exactly one direction");
+		}
+		keys = new double[attributes.size()][];
+		descending = new boolean[attributes.size()];
+		for (int k = 0; k < keys.length; k++) {
+			keys[k] = readKeys(exampleSet, attributes.get(k));
+			descending[k] = directions[k] == SortedExampleSet.DECREASING;
+		}
+	}
+
+	/**
+	 * Sorts the row indices.
+	 *
+	 * @param context
+	 *            the context for sorting large inputs in parallel, can be {@code null}
+	 * @param progress
+	 *            the progress to report to, can be {@code null}
+	 * @return the row indices of the example set in sorted order
+	 * @throws ProcessStoppedException
+	 *             if the process was stopped
+	 */
+	int[] sort(ConcurrencyContext context, OperatorProgress progress) throws ProcessStoppedException {
+		int size = keys[0].length;
+		int[] sorted = new int[size];
+		Arrays.setAll(sorted, i -> i);
+		if (context != null && context.getParallelism() > 1 && size >= PARALLEL_THRESHOLD) {
+			return sortParallel(sorted, context, progress);
+		}
+		mergeSort(sorted.clone(), sorted, 0, size);
+		return sorted;
+	}
+
+	/**
+	 * Sorts one chunk per thread, then merges neighboring chunks in parallel until only one is left.
+	 */
+	private int[] sortParallel(int[] indices, ConcurrencyContext context, OperatorProgress progress)
+			throws ProcessStoppedException {
+		int size = indices.length;
+		int chunkSize = (size + context.getParallelism() - 1) / context.getParallelism();
+		int[] source = indices;
+		int[] target = indices.clone();
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int from = 0; from < size; from += chunkSize) {
+			final int start = from;
+			final int end = Math.min(from + chunkSize, size);
+			final int[] buffer = target;
+			final int[] result = source;
+			tasks.add(() -> {
+				context.checkStatus();
+				mergeSort(buffer, result, start, end);
+				return null;
+			});
+		}
+		call(tasks, context);
+		if (progress != null) {
+			progress.setCompleted(70);
+		}
+
+		for (int width = chunkSize; width < size; width <<= 1) {
+			tasks.clear();
+			final int[] mergeSource = source;
+			final int[] mergeTarget = target;
+			for (int start = 0; start < size; start += width << 1) {
+				final int left = start;
+				final int middle = Math.min(start + width, size);
+				final int right = Math.min(start + (width << 1), size);
+				tasks.add(() -> {
+					context.checkStatus();
+					merge(mergeSource, left, middle, right, mergeTarget);
+					return null;
+				});
+			}
+			call(tasks, context);
+			source = mergeTarget;
+			target = mergeSource;
+		}
+		return source;
+	}
+
+	/**
+	 * Sorts the range of the target array. Source and target must contain the same values in the
+	 * range, source is used as buffer.
+	 */
+	private void mergeSort(int[] source, int[] target, int from, int to) {
+		if (to - from <= INSERTION_SORT_THRESHOLD) {
+			insertionSort(target, from, to);
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(target, source, from, middle);
+		mergeSort(target, source, middle, to);
+		merge(source, from, middle, to, target);
+	}
+
+	/**
+	 * Merges the sorted ranges [from, middle) and [middle, to) of the source into the same range
+	 * of the target.
+	 */
+	private void merge(int[] source, int from, int middle, int to, int[] target) {
+		if (middle >= to || compare(source[middle - 1], source[middle]) <= 0) {
+			// already in order
+			System.arraycopy(source, from, target, from, to - from);
+			return;
+		}
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || left < middle && compare(source[left], source[right]) <= 0) {
+				target[i] = source[left++];
+			} else {
+				target[i] = source[right++];
+			}
+		}
+	}
+
+	private void insertionSort(int[] indices, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			int current = indices[i];
+			int j = i;
+			while (j > from && compare(indices[j - 1], current) > 0) {
+				indices[j] = indices[j - 1];
+				j--;
+			}
+			indices[j] = current;
+		}
+	}
+
+	/**
+	 * Compares two rows by their keys. Rows with equal keys are ordered by their index, so the
+	 * order is total and the sorting stable.
+	 */
+	private int compare(int first, int second) {
+		for (int k = 0; k < keys.length; k++) {
+			int result = Double.compare(keys[k][first], keys[k][second]);
+			if (result != 0) {
+				return descending[k] ? -result : result;
+			}
+		}
+		return Integer.compare(first, second);
+	}
+
+	/**
+	 * Reads the values of the attribute and converts them into keys whose natural order is the
+	 * order of the values: numbers are used as they are, dates as milliseconds with missing dates
+	 * kept missing like missing numbers, and nominal values as the rank of their string with missing values ranked as
+	 * {@link Attribute#MISSING_NOMINAL_VALUE}.
+	 */
+	private static double[] readKeys(ExampleSet exampleSet, Attribute attribute) {
+		double[] values = new double[exampleSet.size()];
+		exampleSet.readColumn(attribute, 0, values);
+		if (Ontology.ATTRIBUTE_VALUE_TYPE.isA(attribute.getValueType(), Ontology.DATE_TIME)) {
+			for (int i = 0; i < values.length; i++) {
+				if (!Double.isNaN(values[i])) {
+					values[i] = (long) values[i];
+				}
+			}
+		} else if (!attribute.isNumerical()) {
+			List<String> nominalValues = attribute.getMapping().getValues();
+			TreeSet<String> orderedValues = new TreeSet<>(nominalValues);
+			orderedValues.add(Attribute.MISSING_NOMINAL_VALUE);
+			String[] order = orderedValues.toArray(new String[0]);
+			double[] ranks = new double[nominalValues.size()];
+			for (int i = 0; i < ranks.length; i++) {
+				ranks[i] = Arrays.binarySearch(order, nominalValues.get(i));
+			}
+			double missingRank = Arrays.binarySearch(order, Attribute.MISSING_NOMINAL_VALUE);
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Double.isNaN(values[i]) ? missingRank : ranks[(int) values[i]];
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Runs the tasks and passes on their runtime exceptions and errors.
+	 */
+	private static void call(List<Callable<Void>> tasks, ConcurrencyContext context) {
+		try {
+			context.call(tasks);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+}
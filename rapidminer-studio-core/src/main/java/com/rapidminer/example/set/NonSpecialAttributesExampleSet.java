@@ -51,6 +51,8 @@ public class NonSpecialAttributesExampleSet extends AbstractExampleSet {
 	public NonSpecialAttributesExampleSet(ExampleSet exampleSet) {
 		this.parent = (ExampleSet) exampleSet.clone();
 		makeSpecialAttributesRegular(parent);
+		// the attributes are stored in the parent, so attribute views below are not needed
+		this.parent = ViewComposition.skipAttributeViews(parent);
 	}
 
 	/**
@@ -115,6 +117,7 @@ public class NonSpecialAttributesExampleSet extends AbstractExampleSet {
 	 */
 	@Override
 	public Iterator<Example> iterator() {
+		recordAccesses(parent.size());
 		return new AttributesExampleReader(parent.iterator(), this);
 	}
 
@@ -123,11 +126,23 @@ public class NonSpecialAttributesExampleSet extends AbstractExampleSet {
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		return getMappingModificationCount(parent);
+	}
+
 	@Override
 	public Example getExample(int index) {
 		return this.parent.getExample(index);
 	}
 
+	/**
+	 * @return the parent example set without cloning it, used by {@link ViewComposition}
+	 */
+	ExampleSet getParent() {
+		return parent;
+	}
+
 	@Override
 	public int size() {
 		return parent.size();
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.IntUnaryOperator;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+
+
+/**
+ * Reads the values of a view with an index mapping ({@link MappedExampleSet},
+ * {@link ConditionedExampleSet}, {@link SplittedExampleSet}) by gathering them from its parent via
+ * {@link ExampleSet#readColumn(Attribute, int[], double[])}. The parent rows are gathered in chunks
+ * into index and value buffers that are reused by the reading thread, so bulk reads do not
+ * allocate arrays of the size of the read.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ParentColumnReader {
+
+	/** the number of values gathered from the parent at once */
+	static final int CHUNK_SIZE = 1024;
+
+	/**
+	 * the buffers of the current thread, a stack since reading a view can read a view below on the
+	 * same thread
+	 */
+	private static final ThreadLocal<Deque<Buffers>> BUFFERS = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/** The reused index and value buffers. */
+	private static final class Buffers {
+
+		private final int[] rows = new int[CHUNK_SIZE];
+		private final double[] values = new double[CHUNK_SIZE];
+	}
+
+	private ParentColumnReader() {}
+
+	/**
+	 * Reads the values of the given attribute for the view rows {@code 0} to {@code length - 1}
+	 * from the parent into the target array starting at the offset.
+	 *
+	 * @param parent
+	 *            the parent of the view
+	 * @param attribute
+	 *            the attribute whose values should be read
+	 * @param parentRow
+	 *            maps the position of a value to the row of the parent to read it from
+	 * @param length
+	 *            the number of values to read
+	 * @param target
+	 *            the array to write the values into
+	 * @param offset
+	 *            the first position in the target array to write to
+	 */
+	static void read(ExampleSet parent, Attribute attribute, IntUnaryOperator parentRow, int length, double[] target,
+			int offset) {
+		if (length <= 0) {
+			return;
+		}
+		Deque<Buffers> stack = BUFFERS.get();
+		Buffers buffers = stack.isEmpty() ? new Buffers() : stack.pop();
+		try {
+			int[] rows = buffers.rows;
+			double[] values = buffers.values;
+			for (int start = 0; start < length; start += CHUNK_SIZE) {
+				int count = Math.min(CHUNK_SIZE, length - start);
+				for (int i = 0; i < count; i++) {
+					rows[i] = parentRow.applyAsInt(start + i);
+				}
+				// the last chunk is padded with a valid row, the surplus values are not copied
+				Arrays.fill(rows, count, CHUNK_SIZE, rows[count - 1]);
+				parent.readColumn(attribute, rows, values);
+				System.arraycopy(values, 0, target, offset + start, count);
+			}
+		} finally {
+			stack.push(buffers);
+		}
+	}
+
+}
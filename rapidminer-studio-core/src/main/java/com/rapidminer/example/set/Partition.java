@@ -53,6 +53,9 @@ public class Partition implements Cloneable, Serializable {
 	 */
 	private int[] tableIndexMap = null;
 
+	/** Counts the changes of the selection. */
+	private transient long modificationCount;
+
 	/**
 	 * Creates a new partition of a given size consisting of <tt>ratio.length</tt> sets. The set
 	 * <i>i</i> will be of size of <i>size x ratio[i]</i>, i.e. the sum of all <i>ratio[i]</i> must
@@ -279,6 +282,7 @@ public class Partition implements Cloneable, Serializable {
 	 * Recalculates the example table indices of the currently selected examples.
 	 */
 	private void recalculateTableIndices() {
+		modificationCount++;
 		int length = 0;
 		for (int i = 0; i < elements.length; i++) {
 			if (mask[elements[i]]) {
@@ -318,6 +322,14 @@ public class Partition implements Cloneable, Serializable {
 		return new Partition(this);
 	}
 
+	/**
+	 * @return a counter that changes whenever the selection changes
+	 * @since 9.10.0
+	 */
+	long getModificationCount() {
+		return modificationCount;
+	}
+
 	/**
 	 * @return a copy of the table index map
 	 */
@@ -249,6 +249,11 @@ public class RemappedExampleSet extends AbstractExampleSet {
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		return getMappingModificationCount(parent);
+	}
+
 	@Override
 	public int size() {
 		return parent.size();
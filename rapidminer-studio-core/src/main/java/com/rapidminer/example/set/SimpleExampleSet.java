@@ -32,6 +32,7 @@ import com.rapidminer.example.table.DataRow;
 import com.rapidminer.example.table.ExampleTable;
 import com.rapidminer.example.table.MemoryExampleTable;
 import com.rapidminer.example.table.internal.CleanableExampleTable;
+import com.rapidminer.example.table.internal.ColumnarExampleTable;
 
 
 /**
@@ -160,6 +161,12 @@ public class SimpleExampleSet extends AbstractExampleSet {
 		return exampleTable;
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		// all rows of the table are used, changes of the table size are covered by the table
+		return 0;
+	}
+
 	@Override
 	public int size() {
 		return exampleTable.size();
@@ -180,6 +187,38 @@ public class SimpleExampleSet extends AbstractExampleSet {
 		return new SimpleExampleReader(getExampleTable().getDataRowReader(), this);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Copies the values directly out of the columns if the underlying table is a
+	 * {@link ColumnarExampleTable} and the attribute has no transformations.
+	 */
+	@Override
+	public void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		ExampleTable table = getExampleTable();
+		if (table instanceof ColumnarExampleTable && attribute.getLastTransformation() == null) {
+			((ColumnarExampleTable) table).readColumn(attribute, fromRow, target, offset, length);
+		} else {
+			super.readColumn(attribute, fromRow, target, offset, length);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Copies the values directly out of the columns if the underlying table is a
+	 * {@link ColumnarExampleTable} and the attribute has no transformations.
+	 */
+	@Override
+	public void readColumn(Attribute attribute, int[] rows, double[] target) {
+		ExampleTable table = getExampleTable();
+		if (table instanceof ColumnarExampleTable && attribute.getLastTransformation() == null) {
+			((ColumnarExampleTable) table).readColumn(attribute, rows, target);
+		} else {
+			super.readColumn(attribute, rows, target);
+		}
+	}
+
 	@Override
 	public void cleanup() {
 		if (exampleTable instanceof CleanableExampleTable) {
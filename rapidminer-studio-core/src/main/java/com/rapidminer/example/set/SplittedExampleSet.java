@@ -335,6 +335,7 @@ public class SplittedExampleSet extends AbstractExampleSet implements MappingBas
 	/** Returns an example reader that splits all examples that are not selected. */
 	@Override
 	public Iterator<Example> iterator() {
+		recordAccesses(size());
 		return new IndexBasedExampleSetReader(this);
 	}
 
@@ -352,6 +353,20 @@ public class SplittedExampleSet extends AbstractExampleSet implements MappingBas
 		return this.parent.getExample(actualIndex);
 	}
 
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		recordAccesses(length);
+		ParentColumnReader.read(parent, attribute, i -> partition.mapIndex(fromRow + i), length, target, offset);
+	}
+
+	/** Reads the values by mapping the indices and gathering them from the parent. */
+	@Override
+	public void readColumn(Attribute attribute, int[] rows, double[] target) {
+		recordAccesses(rows.length);
+		ParentColumnReader.read(parent, attribute, i -> partition.mapIndex(rows[i]), rows.length, target, 0);
+	}
+
 	/** Returns the index of the example in the parent example set. */
 	public int getActualParentIndex(int index) {
 		return partition.mapIndex(index);
@@ -362,6 +377,12 @@ public class SplittedExampleSet extends AbstractExampleSet implements MappingBas
 		return parent.getExampleTable();
 	}
 
+	@Override
+	protected long getMappingModificationCount() {
+		long parentCount = getMappingModificationCount(parent);
+		return parentCount < 0 ? -1 : parentCount + partition.getModificationCount();
+	}
+
 	@Override
 	public Attributes getAttributes() {
 		return this.parent.getAttributes();
@@ -443,4 +464,11 @@ public class SplittedExampleSet extends AbstractExampleSet implements MappingBas
 	public ExampleSet getParentClone() {
 		return (ExampleSet) parent.clone();
 	}
+
+	/**
+	 * @return the parent example set without cloning it, used by {@link ViewComposition}
+	 */
+	ExampleSet getParent() {
+		return parent;
+	}
 }
@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import java.util.logging.Level;
+
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.operator.Annotations;
+import com.rapidminer.operator.preprocessing.MaterializeDataInMemory;
+import com.rapidminer.tools.LogService;
+
+
+/**
+ * Keeps chains of example set views short. Operators like filters, samplings, splits and
+ * attribute selections each wrap their input into another view, so that after many steps every
+ * access to an {@link com.rapidminer.example.Example} walks through a long chain of views.
+ * <p>
+ * The views with an index mapping ({@link MappedExampleSet}, {@link ConditionedExampleSet},
+ * {@link SortedExampleSet}) use {@link #compose} on construction to collapse the mappings of the
+ * views below into their own mapping, so that they directly access the first view that is not part
+ * of this composition. The attribute views ({@link AttributeSelectionExampleSet},
+ * {@link NonSpecialAttributesExampleSet}) only change the attributes of their parent clone and are
+ * skipped by {@link #skipAttributeViews}, so consecutive attribute selections work on one header.
+ * All views keep using the same {@link com.rapidminer.example.table.ExampleTable}, so writing
+ * values through a composed view changes the same data as before.
+ * <p>
+ * Chains that cannot be composed, e.g. because they contain {@link SplittedExampleSet}s whose
+ * partition is applied to a filtered parent, can be replaced by a materialized copy with
+ * {@link #materializeIfCheaper(ExampleSet)} once they were read often enough that reading a copy
+ * is cheaper than walking the chain again.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class ViewComposition {
+
+	/** Chains with fewer views are never materialized */
+	private static final int MINIMAL_MATERIALIZATION_DEPTH = 4;
+
+	/**
+	 * Chains that were completely read this often are expected to be read again and are
+	 * materialized
+	 */
+	private static final int MATERIALIZATION_PASSES = 2;
+
+	/** The maximal fraction of the free heap a materialized copy may use */
+	private static final double MAXIMAL_HEAP_FRACTION = 0.25;
+
+	/**
+	 * The result of {@link ViewComposition#compose}: the new parent and the mapping of the view rows
+	 * to the rows of this parent.
+	 */
+	static final class ComposedMapping {
+
+		final ExampleSet parent;
+		final int[] mapping;
+
+		private ComposedMapping(ExampleSet parent, int[] mapping) {
+			this.parent = parent;
+			this.mapping = mapping;
+		}
+	}
+
+	private ViewComposition() {}
+
+	/**
+	 * Collapses the views below a view with an index mapping. All {@link MappedExampleSet}s,
+	 * {@link ConditionedExampleSet}s, {@link SortedExampleSet}s and {@link SplittedExampleSet}s
+	 * below the view are replaced by one mapping, attribute views are skipped.
+	 *
+	 * @param parent
+	 *            the parent of the view, must be a clone owned by the view
+	 * @param mapping
+	 *            the mapping from the view rows to the parent rows
+	 * @param requireSorted
+	 *            whether the view iterates its parent and therefore can only use ascending
+	 *            mappings
+	 * @return the new parent and mapping or {@code null} if nothing could be composed
+	 */
+	static ComposedMapping compose(ExampleSet parent, int[] mapping, boolean requireSorted) {
+		Annotations annotations = parent.getAnnotations();
+		ExampleSet current = parent;
+		int[] composed = mapping;
+		ExampleSet next;
+		while ((next = getParent(current)) != null) {
+			if (current instanceof MappingBasedExampleSet) {
+				int[] parentMapping = ((MappingBasedExampleSet) current).getMappingCopy();
+				if (requireSorted && !isAscending(parentMapping)) {
+					break;
+				}
+				int[] result = new int[composed.length];
+				for (int i = 0; i < composed.length; i++) {
+					result[i] = parentMapping[composed[i]];
+				}
+				composed = result;
+			}
+			current = next;
+		}
+		if (current == parent) {
+			return null;
+		}
+		keepAnnotations(current, annotations);
+		return new ComposedMapping(current, composed);
+	}
+
+	/**
+	 * Skips the attribute views ({@link AttributeSelectionExampleSet},
+	 * {@link NonSpecialAttributesExampleSet}) at the top of the given parent. Since these views
+	 * store their attributes in their parent clone, the result has the same attributes.
+	 *
+	 * @param parent
+	 *            the parent of an attribute view, must be a clone owned by the view
+	 * @return the first parent that is no attribute view
+	 */
+	static ExampleSet skipAttributeViews(ExampleSet parent) {
+		ExampleSet current = parent;
+		while (isAttributeView(current)) {
+			current = getParent(current);
+		}
+		if (current != parent) {
+			keepAnnotations(current, parent.getAnnotations());
+		}
+		return current;
+	}
+
+	/**
+	 * Replaces a deep chain of views by a materialized copy if the chain was already read so often
+	 * that another read of the whole chain is expected, i.e. if the examples read through the top
+	 * view by iterators and bulk reads exceed two full passes. Nothing is done
+	 * for short chains or if the copy would need too much memory.
+	 * <p>
+	 * Note that the copy is backed by a new {@link com.rapidminer.example.table.ExampleTable}, so
+	 * this must only be used where the result does not need to share its data with the input, e.g.
+	 * for the result of an operator. Every materialization is logged.
+	 *
+	 * @param exampleSet
+	 *            the example set to check
+	 * @return the materialized copy or the given example set
+	 */
+	public static ExampleSet materializeIfCheaper(ExampleSet exampleSet) {
+		int depth = 0;
+		ExampleSet current = exampleSet;
+		ExampleSet next;
+		while ((next = getParent(current)) != null) {
+			depth++;
+			current = next;
+		}
+		if (depth < MINIMAL_MATERIALIZATION_DEPTH) {
+			return exampleSet;
+		}
+		// every read through the top view walks the whole chain
+		long accesses = ((AbstractExampleSet) exampleSet).getAccessCount();
+		long size = exampleSet.size();
+		if (accesses < MATERIALIZATION_PASSES * size) {
+			return exampleSet;
+		}
+		Runtime runtime = Runtime.getRuntime();
+		long freeMemory = runtime.maxMemory() - runtime.totalMemory() + runtime.freeMemory();
+		long bytes = size * exampleSet.getAttributes().allSize() * Double.BYTES;
+		if (bytes > freeMemory * MAXIMAL_HEAP_FRACTION) {
+			return exampleSet;
+		}
+		LogService.getRoot().log(Level.INFO, "com.rapidminer.example.set.ViewComposition.materialized",
+				new Object[] { depth, size, accesses });
+		return MaterializeDataInMemory.materializeExampleSet(exampleSet);
+	}
+
+	/**
+	 * Returns the parent of the views that can be composed. Only the exact classes are supported
+	 * since subclasses might change the access to the parent.
+	 *
+	 * @param exampleSet
+	 *            the example set
+	 * @return the parent or {@code null} if the example set is no view that can be composed
+	 */
+	private static ExampleSet getParent(ExampleSet exampleSet) {
+		Class<? extends ExampleSet> clazz = exampleSet.getClass();
+		if (clazz == MappedExampleSet.class) {
+			return ((MappedExampleSet) exampleSet).getParent();
+		} else if (clazz == ConditionedExampleSet.class) {
+			return ((ConditionedExampleSet) exampleSet).getParent();
+		} else if (clazz == SortedExampleSet.class) {
+			return ((SortedExampleSet) exampleSet).getParent();
+		} else if (clazz == SplittedExampleSet.class) {
+			return ((SplittedExampleSet) exampleSet).getParent();
+		} else if (clazz == AttributeSelectionExampleSet.class) {
+			return ((AttributeSelectionExampleSet) exampleSet).getParent();
+		} else if (clazz == NonSpecialAttributesExampleSet.class) {
+			return ((NonSpecialAttributesExampleSet) exampleSet).getParent();
+		}
+		return null;
+	}
+
+	private static boolean isAttributeView(ExampleSet exampleSet) {
+		Class<? extends ExampleSet> clazz = exampleSet.getClass();
+		return clazz == AttributeSelectionExampleSet.class || clazz == NonSpecialAttributesExampleSet.class;
+	}
+
+	private static boolean isAscending(int[] mapping) {
+		for (int i = 1; i < mapping.length; i++) {
+			if (mapping[i] < mapping[i - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Makes sure that the new parent has the annotations of the skipped views.
+	 */
+	private static void keepAnnotations(ExampleSet newParent, Annotations annotations) {
+		Annotations parentAnnotations = newParent.getAnnotations();
+		if (parentAnnotations != annotations) {
+			parentAnnotations.clear();
+			parentAnnotations.addAll(annotations);
+		}
+	}
+
+}
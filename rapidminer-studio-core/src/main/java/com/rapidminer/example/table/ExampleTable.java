@@ -167,4 +167,28 @@ public interface ExampleTable extends Serializable {
 	/** Dumps the complete data as string. */
 	public String toDataString();
 
+	/**
+	 * Returns a counter that changes whenever the data of this table changes, i.e. if values are
+	 * set or if rows or attributes are added or removed. This can be used to check whether
+	 * information derived from the data, like attribute statistics, is still valid. Tables that do
+	 * not keep track of their changes return {@code -1}.
+	 *
+	 * @return the modification count or {@code -1} if the table does not track modifications
+	 * @since 9.10.0
+	 */
+	public default long getModificationCount() {
+		return -1;
+	}
+
+	/**
+	 * Estimates the number of bytes on the Java heap used by the values of this table. The default
+	 * implementation assumes one double value per cell.
+	 *
+	 * @return the estimated number of bytes
+	 * @since 9.10.0
+	 */
+	public default long estimateMemoryUsage() {
+		return (long) size() * getNumberOfAttributes() * Double.BYTES;
+	}
+
 }
@@ -112,4 +112,19 @@ public interface NominalMapping extends Cloneable, Serializable {
 	/** Clears the mapping. */
 	public void clear();
 
+	/**
+	 * Estimates the number of bytes on the Java heap used by this mapping.
+	 *
+	 * @return the estimated number of bytes
+	 * @since 9.10.0
+	 */
+	public default long estimateMemoryUsage() {
+		long bytes = 0;
+		for (String value : getValues()) {
+			// the string with its character array and the entries in the value list and index map
+			bytes += 96 + 2L * value.length();
+		}
+		return bytes;
+	}
+
 }
@@ -218,4 +218,11 @@ abstract class AbstractHighSparsityChunk implements Serializable {
 	 */
 	abstract void setValue(int index, double value);
 
+	/**
+	 * @return the estimated number of bytes used for the row indices
+	 */
+	final long estimateIndexMemoryUsage() {
+		return (long) indices.length * Integer.BYTES;
+	}
+
 }
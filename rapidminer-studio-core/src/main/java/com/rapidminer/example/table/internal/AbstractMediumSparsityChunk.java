@@ -299,4 +299,11 @@ abstract class AbstractMediumSparsityChunk implements Serializable {
 	 */
 	abstract void setValue(int index, double value);
 
+	/**
+	 * @return the estimated number of bytes used for the row indices and the bloom filter
+	 */
+	final long estimateIndexMemoryUsage() {
+		return (long) indices.length * Integer.BYTES + bloomFilter.length;
+	}
+
 }
@@ -77,6 +77,15 @@ final class AutoColumnUtils {
 	/** the missing values for integers */
 	static final int INTEGER_NAN = Integer.MIN_VALUE;
 
+	/** the maximal number of distinct values in a dictionary encoded chunk */
+	static final int MAXIMAL_DICTIONARY_SIZE = 1 << 16;
+
+	/**
+	 * the maximal size of an encoded chunk relative to the size of the dense chunk, smaller savings
+	 * are not worth the slower access
+	 */
+	static final double THRESHOLD_ENCODING_RATIO = 0.5;
+
 	private AutoColumnUtils() {
 		// Utility class constructor
 	}
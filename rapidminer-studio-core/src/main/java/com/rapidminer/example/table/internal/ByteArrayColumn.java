@@ -104,4 +104,9 @@ class ByteArrayColumn implements Column {
 		set(row, value);
 	}
 
+	@Override
+	public long estimateMemoryUsage(int size) {
+		return data.length;
+	}
+
 }
@@ -55,6 +55,53 @@ interface Column extends Serializable {
 	 */
 	void setLast(int row, double value);
 
+	/**
+	 * Sets the values of the rows {@code fromRow} to {@code fromRow + length - 1} to the values of
+	 * the source array starting at position {@code offset}. Like {@link #setLast(int, double)}, this
+	 * requires that no row behind {@code fromRow} was set before. Implementations can override this
+	 * method to copy more efficiently than by calling {@link #setLast(int, double)} for every row.
+	 *
+	 * @param fromRow
+	 *            the first row to set
+	 * @param source
+	 *            the array containing the values
+	 * @param offset
+	 *            the first position in the source array to read from
+	 * @param length
+	 *            the number of values to set
+	 * @since 9.10.0
+	 */
+	default void setLast(int fromRow, double[] source, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			setLast(fromRow + i, source[offset + i]);
+		}
+	}
+
+	/**
+	 * Sets the values of the rows {@code fromRow} to {@code fromRow + length - 1} to the integer
+	 * values of the source array starting at position {@code offset}, where
+	 * {@link ColumnarExampleTable#MISSING_INTEGER} stands for a missing value. Like
+	 * {@link #setLast(int, double[], int, int)}, this requires that no row behind {@code fromRow}
+	 * was set before. Columns storing integers can override this method to copy without
+	 * converting to double values.
+	 *
+	 * @param fromRow
+	 *            the first row to set
+	 * @param source
+	 *            the array containing the values
+	 * @param offset
+	 *            the first position in the source array to read from
+	 * @param length
+	 *            the number of values to set
+	 * @since 9.10.0
+	 */
+	default void setLast(int fromRow, int[] source, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			int value = source[offset + i];
+			setLast(fromRow + i, value == ColumnarExampleTable.MISSING_INTEGER ? Double.NaN : value);
+		}
+	}
+
 	/**
 	 * Sets the value at the specified row to the given value.
 	 *
@@ -73,10 +120,76 @@ interface Column extends Serializable {
 	 */
 	void ensure(int size);
 
+	/**
+	 * Copies the values of the rows {@code fromRow} to {@code fromRow + length - 1} into the target
+	 * array starting at position {@code offset}. Implementations can override this method to copy
+	 * more efficiently than by calling {@link #get(int)} for every row.
+	 *
+	 * @param fromRow
+	 *            the first row to copy
+	 * @param target
+	 *            the array to copy the values into
+	 * @param offset
+	 *            the first position in the target array to write to
+	 * @param length
+	 *            the number of values to copy
+	 * @since 9.10.0
+	 */
+	default void get(int fromRow, double[] target, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			target[offset + i] = get(fromRow + i);
+		}
+	}
+
+	/**
+	 * Copies the values of the given rows into the target array, i.e. the value at row
+	 * {@code rows[i]} is written to {@code target[i]} for every {@code i < rows.length}.
+	 *
+	 * @param rows
+	 *            the rows to copy
+	 * @param target
+	 *            the array to copy the values into, at least as long as rows
+	 * @since 9.10.0
+	 */
+	default void get(int[] rows, double[] target) {
+		for (int i = 0; i < rows.length; i++) {
+			target[i] = get(rows[i]);
+		}
+	}
+
+	/**
+	 * Estimates the number of bytes on the Java heap used by the values of this column. The default
+	 * implementation assumes one double value per row.
+	 *
+	 * @param size
+	 *            the number of rows the column can hold
+	 * @return the estimated number of bytes
+	 * @since 9.10.0
+	 */
+	default long estimateMemoryUsage(int size) {
+		return (long) size * Double.BYTES;
+	}
+
 	/**
 	 * Completes the column (optional). Invoking this method signals that no further calls to
 	 * {@link #ensure(int)} and {@link #append(double)} will be made.
 	 */
 	default void complete() {};
 
+	/**
+	 * Signals that one more table holds this column, e.g. a shallow clone of the table
+	 * (optional). Must be balanced by a call to {@link #release()}.
+	 *
+	 * @since 9.10.0
+	 */
+	default void retain() {}
+
+	/**
+	 * Signals that a table no longer holds this column (optional). Columns keeping resources
+	 * outside of the Java heap free them as soon as no table holds them anymore.
+	 *
+	 * @since 9.10.0
+	 */
+	default void release() {}
+
 }
@@ -18,9 +18,12 @@
  */
 package com.rapidminer.example.table.internal;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntToDoubleFunction;
 
 import com.rapidminer.example.Attribute;
@@ -51,6 +54,14 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 	/** Non-empty tables will allocate at least memory for {@value} rows. */
 	private static final int MIN_NON_EMPTY_SIZE = 8;
 
+	/**
+	 * Stands for a missing value in the integer arrays passed to
+	 * {@link #fillColumn(Attribute, int, int[], int, int)}.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final int MISSING_INTEGER = AutoColumnUtils.INTEGER_NAN;
+
 	/**
 	 * Empty column as filler for non-existent attributes. Prevents {@link NullPointerException}s
 	 * and makes {@code null} checks unnecessary
@@ -80,6 +91,7 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 		@Override
 		protected void set(int column, double value, double defaultValue) {
 			columns[column].set(row, value);
+			modifications.rowsWritten();
 		}
 
 		@Override
@@ -138,6 +150,47 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 
 	private DataManagement management = DataManagement.AUTO;
 
+	/**
+	 * Counts the changes of the data. Writing single rows only sets a flag, so that the count is
+	 * increased once per batch of row writes instead of once per value.
+	 */
+	private static final class ModificationCounter {
+
+		private final AtomicLong count = new AtomicLong();
+
+		/** whether rows were written since the count was last read */
+		private volatile boolean rowsWritten;
+
+		/** Increases the count, called once per bulk operation or column change. */
+		private void increment() {
+			count.incrementAndGet();
+		}
+
+		/** Marks that rows were written. Cheap enough to be called for every value. */
+		private void rowsWritten() {
+			if (!rowsWritten) {
+				rowsWritten = true;
+			}
+		}
+
+		private long get() {
+			if (rowsWritten) {
+				synchronized (this) {
+					if (rowsWritten) {
+						// increment before resetting the flag, so that no reader sees the old count
+						// after the flag was reset
+						count.incrementAndGet();
+						rowsWritten = false;
+					}
+				}
+			}
+			return count.get();
+		}
+	}
+
+	/** Counts the changes of the data, shared with the shallow clones since they share the columns. */
+	private transient ModificationCounter modifications = new ModificationCounter();
+
 	/**
 	 * Creates a new, empty data table with the given attributes.
 	 *
@@ -190,9 +243,16 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 	private ColumnarExampleTable(ColumnarExampleTable table) {
 		super(table);
 		this.columns = Arrays.copyOf(table.columns, table.columns.length);
+		for (Column column : columns) {
+			if (column != null) {
+				column.retain();
+			}
+		}
 		this.size = table.size;
 		this.sizeLimit = table.sizeLimit;
 		this.completable = table.completable;
+		this.management = table.management;
+		this.modifications = table.modifications;
 	}
 
 	@Override
@@ -246,6 +306,7 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 			columns[i].setLast(size, dataRow.get(attribute));
 		}
 		size++;
+		modifications.rowsWritten();
 	}
 
 	/**
@@ -261,6 +322,7 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 			columns[i].setLast(size, row[i]);
 		}
 		size++;
+		modifications.rowsWritten();
 	}
 
 	/**
@@ -277,6 +339,7 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 				ensureHeight(newSize);
 			}
 			size = newSize;
+			modifications.increment();
 		}
 	}
 
@@ -293,6 +356,117 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 		for (int i = 0; i < size; i++) {
 			column.setLast(i, function.applyAsDouble(i));
 		}
+		modifications.increment();
+	}
+
+	/**
+	 * Fills the rows {@code fromRow} to {@code fromRow + length - 1} of the column associated with
+	 * the attribute with the values of the source array starting at position {@code offset}. The
+	 * column must be filled in ascending row order, e.g. chunk by chunk after a
+	 * {@link #resetColumn(Attribute)}. Different columns can be filled by different threads.
+	 *
+	 * @param attribute
+	 *            the attribute whose column should be filled with values
+	 * @param fromRow
+	 *            the first row to fill
+	 * @param source
+	 *            the array containing the values
+	 * @param offset
+	 *            the first position in the source array to read from
+	 * @param length
+	 *            the number of values to fill
+	 * @since 9.10.0
+	 */
+	public void fillColumn(Attribute attribute, int fromRow, double[] source, int offset, int length) {
+		columns[attribute.getTableIndex()].setLast(fromRow, source, offset, length);
+		modifications.increment();
+	}
+
+	/**
+	 * Fills the rows like {@link #fillColumn(Attribute, int, double[], int, int)} but with integer
+	 * values, e.g. the indices of a nominal attribute, where {@link #MISSING_INTEGER} stands for a
+	 * missing value. Columns of nominal attributes copy these values without conversion.
+	 *
+	 * @param attribute
+	 *            the attribute whose column should be filled with values
+	 * @param fromRow
+	 *            the first row to fill
+	 * @param source
+	 *            the array containing the values
+	 * @param offset
+	 *            the first position in the source array to read from
+	 * @param length
+	 *            the number of values to fill
+	 * @since 9.10.0
+	 */
+	public void fillColumn(Attribute attribute, int fromRow, int[] source, int offset, int length) {
+		columns[attribute.getTableIndex()].setLast(fromRow, source, offset, length);
+		modifications.increment();
+	}
+
+	/**
+	 * Replaces the column associated with the attribute by a column that reads the values of the
+	 * first rows from the source on first access, page by page. Values of rows behind are 0 as in a
+	 * new column. The pages are cached in a bounded cache shared by all tables, so only the accessed
+	 * parts of the data are held in memory. The values are copied into a regular column as soon as a
+	 * value of the column is written.
+	 * <p>
+	 * Call this method before adding the rows by {@link #addBlankRows(int)}, so that no memory is
+	 * allocated for the column at all. Note that {@link #setExpectedSize(int)} replaces the column if
+	 * the table switches to off-heap storage.
+	 *
+	 * @param attribute
+	 *            the attribute whose column should be read on demand
+	 * @param source
+	 *            the source of the values
+	 * @param rows
+	 *            the number of rows the source provides
+	 * @since 9.10.0
+	 */
+	public void pageColumn(Attribute attribute, PageSource source, int rows) {
+		columns[attribute.getTableIndex()].release();
+		columns[attribute.getTableIndex()] = new PagedColumn(source, rows, sizeLimit);
+		modifications.increment();
+	}
+
+	/**
+	 * Copies the values of the column associated with the attribute for the rows {@code fromRow}
+	 * to {@code fromRow + length - 1} into the target array starting at position {@code offset}.
+	 * The values are copied as stored, i.e. without applying
+	 * {@link com.rapidminer.example.AttributeTransformation}s of the attribute.
+	 *
+	 * @param attribute
+	 *            the attribute whose column should be read
+	 * @param fromRow
+	 *            the first row to copy
+	 * @param target
+	 *            the array to copy the values into
+	 * @param offset
+	 *            the first position in the target array to write to
+	 * @param length
+	 *            the number of values to copy
+	 * @since 9.10.0
+	 */
+	public void readColumn(Attribute attribute, int fromRow, double[] target, int offset, int length) {
+		columns[attribute.getTableIndex()].get(fromRow, target, offset, length);
+	}
+
+	/**
+	 * Copies the values of the column associated with the attribute at the given rows into the
+	 * target array, i.e. the value at row {@code rows[i]} is written to {@code target[i]}. The
+	 * values are copied as stored, i.e. without applying
+	 * {@link com.rapidminer.example.AttributeTransformation}s of the attribute.
+	 *
+	 * @param attribute
+	 *            the attribute whose column should be read
+	 * @param rows
+	 *            the rows to copy
+	 * @param target
+	 *            the array to copy the values into, at least as long as rows
+	 * @since 9.10.0
+	 */
+	public void readColumn(Attribute attribute, int[] rows, double[] target) {
+		columns[attribute.getTableIndex()].get(rows, target);
 	}
 
 	/**
@@ -313,6 +487,10 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 	 * Sets the expected number of rows. Use this if you know in advance how many rows will be added
 	 * by {@link #addRow} or {@link #addDataRow}. Using this method prevents unnecessary resizing if
 	 * the container for row values becomes to small.
+	 * <p>
+	 * If the table is still empty and uses {@link DataManagement#AUTO}, it switches to
+	 * {@link DataManagement#OFF_HEAP} in case the expected data does not fit into the configured
+	 * fraction of the heap.
 	 *
 	 * @param expectedNumberOfRows
 	 *            the expected number of rows
@@ -321,9 +499,46 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 		if (expectedNumberOfRows <= sizeLimit) {
 			return;
 		}
+		if (size == 0 && management == DataManagement.AUTO && OffHeapStorage
+				.exceedsHeapFraction((long) expectedNumberOfRows * super.getNumberOfAttributes() * Double.BYTES)) {
+			management = DataManagement.OFF_HEAP;
+			for (int i = 0; i < super.getNumberOfAttributes(); i++) {
+				updateColumn(i, getAttribute(i));
+			}
+		}
 		updateHeight(expectedNumberOfRows);
 	}
 
+	/**
+	 * @return the data management optimization type used for new columns
+	 * @since 9.10.0
+	 */
+	public DataManagement getDataManagement() {
+		return management;
+	}
+
+	/**
+	 * Estimates the number of bytes on the Java heap used by the values of this table. Columns
+	 * compressed by {@link #complete()} count with their compressed size, columns stored off-heap
+	 * are not counted.
+	 *
+	 * @return the estimated number of bytes
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryUsage() {
+		long bytes = 0;
+		for (int i = 0; i < super.getNumberOfAttributes(); i++) {
+			bytes += columns[i].estimateMemoryUsage(sizeLimit);
+		}
+		return bytes;
+	}
+
+	@Override
+	public long getModificationCount() {
+		return modifications.get();
+	}
+
 	/**
 	 * Signals that the number of rows is final. Must be called when using the constructor
 	 * {@link #ColumnarExampleTable(List, boolean)} with completable {@code true} before the first
@@ -416,7 +631,11 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 	/**
 	 * Updates the given column with respect to the type of the associated attribute. If an
 	 * attribute is removed, a reference to {@link #NAN_COLUMN} is set to prevent
-	 * {@link NullPointerException}s when iterating over all attribute indices.
+	 * {@link NullPointerException}s when iterating over all attribute indices. The replaced column
+	 * is {@link Column#release() released}, so that off-heap columns no longer held by any table
+	 * free their storage right away.
+	 * Binominal columns are kept on the heap also in mode {@link DataManagement#OFF_HEAP} since
+	 * they only need two bits per value.
 	 *
 	 * @param column
 	 *            the column to update
@@ -424,6 +643,10 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 	 *            the associated attribute
 	 */
 	private void updateColumn(final int column, Attribute attribute) {
+		modifications.increment();
+		if (columns[column] != null) {
+			columns[column].release();
+		}
 		if (attribute == null) {
 			columns[column] = NAN_COLUMN;
 			return;
@@ -436,6 +659,8 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 			case Ontology.POLYNOMINAL:
 				if (management == DataManagement.SPEED_OPTIMIZED) {
 					columns[column] = new IntegerArrayColumn(sizeLimit);
+				} else if (management == DataManagement.OFF_HEAP) {
+					columns[column] = new IntegerOffHeapColumn(sizeLimit);
 				} else {
 					columns[column] = completable ? new IntegerAutoColumn(sizeLimit, management)
 							: new IntegerIncompleteAutoColumn(sizeLimit, management);
@@ -444,6 +669,8 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 			default:
 				if (management == DataManagement.SPEED_OPTIMIZED) {
 					columns[column] = new DoubleArrayColumn(sizeLimit);
+				} else if (management == DataManagement.OFF_HEAP) {
+					columns[column] = new DoubleOffHeapColumn(sizeLimit);
 				} else {
 					columns[column] = completable ? new DoubleAutoColumn(sizeLimit, management)
 							: new DoubleIncompleteAutoColumn(sizeLimit, management);
@@ -452,4 +679,9 @@ public class ColumnarExampleTable extends AbstractExampleTable implements Growin
 		}
 	}
 
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		modifications = new ModificationCounter();
+	}
+
 }
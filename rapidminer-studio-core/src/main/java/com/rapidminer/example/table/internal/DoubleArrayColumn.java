@@ -50,6 +50,18 @@ class DoubleArrayColumn implements Column {
 		return data[row];
 	}
 
+	@Override
+	public void get(int fromRow, double[] target, int offset, int length) {
+		System.arraycopy(data, fromRow, target, offset, length);
+	}
+
+	@Override
+	public void get(int[] rows, double[] target) {
+		for (int i = 0; i < rows.length; i++) {
+			target[i] = data[rows[i]];
+		}
+	}
+
 	@Override
 	public void set(int row, double value) {
 		data[row] = value;
@@ -65,4 +77,14 @@ class DoubleArrayColumn implements Column {
 		set(row, value);
 	}
 
+	@Override
+	public void setLast(int fromRow, double[] source, int offset, int length) {
+		System.arraycopy(source, offset, data, fromRow, length);
+	}
+
+	@Override
+	public long estimateMemoryUsage(int size) {
+		return (long) data.length * Double.BYTES;
+	}
+
 }
@@ -80,6 +80,29 @@ final class DoubleAutoColumn implements Column {
 		 */
 		abstract void setLast(int row, double value);
 
+		/**
+		 * Sets the values of the rows {@code fromRow} to {@code fromRow + length - 1} of this
+		 * chunk to the values of the source array starting at position {@code offset}, under the
+		 * same assumptions as {@link #setLast(int, double)}. Since the chunk can replace itself
+		 * while values are set, the default implementation sets every value on the current chunk
+		 * with this id.
+		 *
+		 * @param fromRow
+		 *            the first row to set
+		 * @param source
+		 *            the array containing the values
+		 * @param offset
+		 *            the first position in the source array to read from
+		 * @param length
+		 *            the number of values to set
+		 * @since 9.10.0
+		 */
+		void setLast(int fromRow, double[] source, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				chunks[id].setLast(fromRow + i, source[offset + i]);
+			}
+		}
+
 		/**
 		 * Ensures that the internal data structure can hold up to {@code size} values.
 		 *
@@ -97,6 +120,25 @@ final class DoubleAutoColumn implements Column {
 		 */
 		abstract double get(int row);
 
+		/**
+		 * Copies the values of the rows {@code fromRow} to {@code fromRow + length - 1} into the
+		 * target array starting at position {@code offset}.
+		 *
+		 * @param fromRow
+		 *            the first row to copy
+		 * @param target
+		 *            the array to copy the values into
+		 * @param offset
+		 *            the first position in the target array to write to
+		 * @param length
+		 *            the number of values to copy
+		 */
+		void get(int fromRow, double[] target, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				target[offset + i] = get(fromRow + i);
+			}
+		}
+
 		/**
 		 * Sets the value at the specified row to the given value.
 		 *
@@ -113,6 +155,23 @@ final class DoubleAutoColumn implements Column {
 		 */
 		void complete() {}
 
+		/**
+		 * Returns a chunk with the same values that needs less memory, if there is one. Called
+		 * after {@link #complete()}.
+		 *
+		 * @return the compressed chunk or this chunk
+		 * @since 9.10.0
+		 */
+		DoubleAutoChunk compress() {
+			return this;
+		}
+
+		/**
+		 * @return the estimated number of bytes used by the values of this chunk
+		 * @since 9.10.0
+		 */
+		abstract long estimateMemoryUsage();
+
 	}
 
 	private DoubleAutoChunk[] chunks = new DoubleAutoChunk[1];
@@ -141,6 +200,25 @@ final class DoubleAutoColumn implements Column {
 		return chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].get(row & AutoColumnUtils.CHUNK_MODULO_MASK);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Must not be called before {@link #complete()} was called.
+	 */
+	@Override
+	public void get(int fromRow, double[] target, int offset, int length) {
+		int row = fromRow;
+		int position = offset;
+		int end = fromRow + length;
+		while (row < end) {
+			int chunkRow = row & AutoColumnUtils.CHUNK_MODULO_MASK;
+			int chunkLength = Math.min(end - row, AutoColumnUtils.CHUNK_SIZE - chunkRow);
+			chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].get(chunkRow, target, position, chunkLength);
+			row += chunkLength;
+			position += chunkLength;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -156,6 +234,20 @@ final class DoubleAutoColumn implements Column {
 		chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].setLast(row & AutoColumnUtils.CHUNK_MODULO_MASK, value);
 	}
 
+	@Override
+	public void setLast(int fromRow, double[] source, int offset, int length) {
+		int row = fromRow;
+		int position = offset;
+		int end = fromRow + length;
+		while (row < end) {
+			int chunkRow = row & AutoColumnUtils.CHUNK_MODULO_MASK;
+			int chunkLength = Math.min(end - row, AutoColumnUtils.CHUNK_SIZE - chunkRow);
+			chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].setLast(chunkRow, source, position, chunkLength);
+			row += chunkLength;
+			position += chunkLength;
+		}
+	}
+
 	@Override
 	public void ensure(int size) {
 		ensureChunks(size);
@@ -212,10 +304,25 @@ final class DoubleAutoColumn implements Column {
 		chunks = Arrays.copyOf(chunks, newLength);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Compresses the chunks if possible, see {@link DoubleEncodedChunk}.
+	 */
 	@Override
 	public void complete() {
 		for (int i = 0; i < chunkCount; i++) {
 			chunks[i].complete();
+			chunks[i] = chunks[i].compress();
+		}
+	}
+
+	@Override
+	public long estimateMemoryUsage(int size) {
+		long bytes = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			bytes += chunks[i].estimateMemoryUsage();
 		}
+		return bytes;
 	}
 }
@@ -45,11 +45,29 @@ final class DoubleAutoDenseChunk extends DoubleAutoChunk {
 		ensure(size);
 	}
 
+	/**
+	 * Creates a completed chunk containing the given data.
+	 *
+	 * @param data
+	 *            the values of the chunk, not copied
+	 */
+	DoubleAutoDenseChunk(DoubleAutoChunk[] chunks, int id, double[] data, DataManagement management) {
+		super(id, chunks, management);
+		this.data = data;
+		ensuredSize = data.length;
+		undecided = false;
+	}
+
 	@Override
 	double get(int row) {
 		return data[row];
 	}
 
+	@Override
+	void get(int fromRow, double[] target, int offset, int length) {
+		System.arraycopy(data, fromRow, target, offset, length);
+	}
+
 	@Override
 	void set(int row, double value) {
 		data[row] = value;
@@ -78,6 +96,22 @@ final class DoubleAutoDenseChunk extends DoubleAutoChunk {
 		}
 	}
 
+	@Override
+	void setLast(int fromRow, double[] source, int offset, int length) {
+		if (!undecided || fromRow + length < AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE) {
+			System.arraycopy(source, offset, data, fromRow, length);
+			return;
+		}
+		// copy up to the sparsity check, the rest goes to the chunk that replaces this one
+		int beforeCheck = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE - fromRow;
+		System.arraycopy(source, offset, data, fromRow, beforeCheck);
+		undecided = false;
+		checkSparse();
+		if (beforeCheck < length) {
+			chunks[id].setLast(fromRow + beforeCheck, source, offset + beforeCheck, length - beforeCheck);
+		}
+	}
+
 	/**
 	 * Finds the most frequent value in the values set until now. If this value if frequent enough,
 	 * it changes to a sparse representation.
@@ -113,4 +147,18 @@ final class DoubleAutoDenseChunk extends DoubleAutoChunk {
 		undecided = false;
 	}
 
+	@Override
+	DoubleAutoChunk compress() {
+		if (data.length != ensuredSize) {
+			return this;
+		}
+		DoubleAutoChunk encoded = DoubleEncodedChunk.encode(chunks, id, data, management);
+		return encoded == null ? this : encoded;
+	}
+
+	@Override
+	long estimateMemoryUsage() {
+		return (long) data.length * Double.BYTES;
+	}
+
 }
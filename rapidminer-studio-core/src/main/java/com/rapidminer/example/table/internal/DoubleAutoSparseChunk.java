@@ -113,4 +113,9 @@ final class DoubleAutoSparseChunk extends DoubleAutoChunk {
 		chunks[id] = dense;
 	}
 
+	@Override
+	long estimateMemoryUsage() {
+		return sparse.estimateMemoryUsage();
+	}
+
 }
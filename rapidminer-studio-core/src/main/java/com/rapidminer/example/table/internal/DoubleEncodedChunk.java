@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import com.rapidminer.example.table.internal.DoubleAutoColumn.DoubleAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Super class for the compressed {@link DoubleAutoChunk}s that replace a completed
+ * {@link DoubleAutoDenseChunk} if this saves enough memory, see {@link #encode}. The values can be
+ * read by random access. Values that cannot be represented by the encoding are set after changing
+ * back to a {@link DoubleAutoDenseChunk}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+abstract class DoubleEncodedChunk extends DoubleAutoChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	/** bytes per run of a run-length encoded chunk: the value and the start row */
+	private static final int RUN_BYTES = Double.BYTES + Integer.BYTES;
+
+	/** the number of values in this chunk */
+	final int size;
+
+	/**
+	 * the dense chunk that replaced this chunk, used instead of the encoding in case this chunk is
+	 * still referenced somewhere. Volatile and only set once the dense chunk is complete, so that
+	 * concurrent readers see either the encoding or all values of the dense chunk.
+	 */
+	private volatile DoubleAutoChunk decoded;
+
+	DoubleEncodedChunk(DoubleAutoChunk[] chunks, int id, int size, DataManagement management) {
+		super(id, chunks, management);
+		this.size = size;
+	}
+
+	/**
+	 * Encodes the completed data of a dense chunk with the encoding that needs the least memory:
+	 * run-length encoding for data with few changes, a dictionary with bit-packed indices for data
+	 * with few distinct values or floats if all values can be represented as float without loss.
+	 * The encoding is only used if it needs at most {@link AutoColumnUtils#THRESHOLD_ENCODING_RATIO}
+	 * of the memory of the data and only for columns in mode {@link DataManagement#MEMORY_OPTIMIZED}
+	 * since reading encoded values is slower.
+	 *
+	 * @param chunks
+	 *            the chunk array
+	 * @param id
+	 *            the position of the chunk in the chunk array
+	 * @param data
+	 *            the data of the dense chunk, must not be changed afterwards
+	 * @param management
+	 *            the data management of the column
+	 * @return the encoded chunk or {@code null} if no encoding saves enough memory
+	 */
+	static DoubleEncodedChunk encode(DoubleAutoChunk[] chunks, int id, double[] data, DataManagement management) {
+		int size = data.length;
+		if (management != DataManagement.MEMORY_OPTIMIZED || size < AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE) {
+			// only memory-optimized columns opt in, for smaller chunks it is not worth the effort
+			return null;
+		}
+		// a dictionary with more values than this cannot save enough memory
+		ValueDictionary dictionary = new ValueDictionary((int) Math.min(AutoColumnUtils.MAXIMAL_DICTIONARY_SIZE,
+				size * AutoColumnUtils.THRESHOLD_ENCODING_RATIO));
+		boolean dictionaryFull = false;
+		boolean floats = true;
+		int runs = 1;
+		long previous = Double.doubleToLongBits(data[0]);
+		for (int i = 0; i < size; i++) {
+			double value = data[i];
+			long bits = Double.doubleToLongBits(value);
+			if (bits != previous) {
+				runs++;
+				previous = bits;
+			}
+			if (floats && !Double.isNaN(value) && (float) value != value) {
+				floats = false;
+			}
+			if (!dictionaryFull && dictionary.add(bits) < 0) {
+				dictionaryFull = true;
+			}
+		}
+
+		long runLengthBytes = (long) runs * RUN_BYTES;
+		long dictionaryBytes = dictionaryFull ? Long.MAX_VALUE
+				: (long) dictionary.size() * Double.BYTES
+						+ PackedIntArray.estimateMemoryUsage(size, PackedIntArray.bitsFor(dictionary.size() - 1));
+		long floatBytes = floats ? (long) size * Float.BYTES : Long.MAX_VALUE;
+		long best = Math.min(runLengthBytes, Math.min(dictionaryBytes, floatBytes));
+		if (best > (long) size * Double.BYTES * AutoColumnUtils.THRESHOLD_ENCODING_RATIO) {
+			return null;
+		}
+		if (best == runLengthBytes) {
+			return new DoubleRunLengthChunk(chunks, id, data, runs, management);
+		} else if (best == dictionaryBytes) {
+			return new DoubleDictionaryChunk(chunks, id, data, dictionary, management);
+		} else {
+			return new DoubleFloatChunk(chunks, id, data, management);
+		}
+	}
+
+	@Override
+	final double get(int row) {
+		DoubleAutoChunk dense = decoded;
+		return dense == null ? getEncoded(row) : dense.get(row);
+	}
+
+	@Override
+	final void get(int fromRow, double[] target, int offset, int length) {
+		DoubleAutoChunk dense = decoded;
+		if (dense == null) {
+			getEncoded(fromRow, target, offset, length);
+		} else {
+			dense.get(fromRow, target, offset, length);
+		}
+	}
+
+	@Override
+	final void set(int row, double value) {
+		if (decoded != null || !setEncoded(row, value)) {
+			decode().set(row, value);
+		}
+	}
+
+	@Override
+	final void setLast(int row, double value) {
+		decode().setLast(row, value);
+	}
+
+	@Override
+	final void ensure(int size) {
+		if (decoded != null || size != this.size) {
+			decode().ensure(size);
+		}
+	}
+
+	@Override
+	final long estimateMemoryUsage() {
+		DoubleAutoChunk dense = decoded;
+		return dense == null ? estimateEncodedMemoryUsage() : dense.estimateMemoryUsage();
+	}
+
+	/**
+	 * Replaces this chunk by a dense chunk with the same values.
+	 *
+	 * @return the dense chunk
+	 */
+	private synchronized DoubleAutoChunk decode() {
+		if (decoded == null) {
+			double[] data = new double[size];
+			getEncoded(0, data, 0, size);
+			decoded = new DoubleAutoDenseChunk(chunks, id, data, management);
+			chunks[id] = decoded;
+		}
+		return decoded;
+	}
+
+	/**
+	 * Gets the encoded value at the specified row.
+	 *
+	 * @param row
+	 *            the row that should be looked up
+	 * @return the value at the specified row
+	 */
+	abstract double getEncoded(int row);
+
+	/**
+	 * Copies the encoded values of the rows {@code fromRow} to {@code fromRow + length - 1} into the
+	 * target array starting at position {@code offset}.
+	 *
+	 * @param fromRow
+	 *            the first row to copy
+	 * @param target
+	 *            the array to copy the values into
+	 * @param offset
+	 *            the first position in the target array to write to
+	 * @param length
+	 *            the number of values to copy
+	 */
+	abstract void getEncoded(int fromRow, double[] target, int offset, int length);
+
+	/**
+	 * Sets the value at the specified row if it can be represented by the encoding.
+	 *
+	 * @param row
+	 *            the row that should be set
+	 * @param value
+	 *            the value that should be set at the row
+	 * @return {@code false} if the value cannot be set without changing the encoding
+	 */
+	abstract boolean setEncoded(int row, double value);
+
+	/**
+	 * @return the estimated number of bytes used by the encoded values
+	 */
+	abstract long estimateEncodedMemoryUsage();
+
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import com.rapidminer.example.table.internal.DoubleAutoColumn.DoubleAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * {@link DoubleEncodedChunk} that stores the values as floats. Only used if all values can be
+ * converted to float and back without loss.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class DoubleFloatChunk extends DoubleEncodedChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	private final float[] data;
+
+	DoubleFloatChunk(DoubleAutoChunk[] chunks, int id, double[] data, DataManagement management) {
+		super(chunks, id, data.length, management);
+		this.data = new float[data.length];
+		for (int i = 0; i < data.length; i++) {
+			this.data[i] = (float) data[i];
+		}
+	}
+
+	@Override
+	double getEncoded(int row) {
+		return data[row];
+	}
+
+	@Override
+	void getEncoded(int fromRow, double[] target, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			target[offset + i] = data[fromRow + i];
+		}
+	}
+
+	@Override
+	boolean setEncoded(int row, double value) {
+		float floatValue = (float) value;
+		if (floatValue != value && !Double.isNaN(value)) {
+			return false;
+		}
+		data[row] = floatValue;
+		return true;
+	}
+
+	@Override
+	long estimateEncodedMemoryUsage() {
+		return (long) data.length * Float.BYTES;
+	}
+
+}
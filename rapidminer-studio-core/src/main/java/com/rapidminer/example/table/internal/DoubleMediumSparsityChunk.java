@@ -54,6 +54,11 @@ final class DoubleMediumSparsityChunk extends AbstractMediumSparsityChunk implem
 		data = tmp;
 	}
 
+	@Override
+	public long estimateMemoryUsage() {
+		return estimateIndexMemoryUsage() + (long) data.length * Double.BYTES;
+	}
+
 	@Override
 	double getValue(int index) {
 		return data[index];
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * This implementation of {@link Column} stores double values outside of the Java heap in an
+ * {@link OffHeapStorage} and is used for non-nominal attributes in mode
+ * {@link DataManagement#OFF_HEAP}. On serialization, the values are written into the stream and a
+ * new storage is created on deserialization.
+ *
+ * @author agent
+ * @see Column
+ * @see ColumnarExampleTable
+ * @since 9.10.0
+ */
+final class DoubleOffHeapColumn implements Column {
+
+	private static final long serialVersionUID = 1L;
+
+	/** number of bytes per value */
+	private static final int VALUE_BYTES = Double.BYTES;
+
+	private transient OffHeapStorage storage;
+
+	/** the ensured number of values */
+	private int size;
+
+	/** Creates a new {@code DoubleOffHeapColumn} with a capacity for {@code size} double values. */
+	DoubleOffHeapColumn(int size) {
+		storage = new OffHeapStorage(this);
+		ensure(size);
+	}
+
+	@Override
+	public double get(int row) {
+		return storage.getDouble((long) row * VALUE_BYTES);
+	}
+
+	@Override
+	public void set(int row, double value) {
+		storage.putDouble((long) row * VALUE_BYTES, value);
+	}
+
+	@Override
+	public void setLast(int row, double value) {
+		set(row, value);
+	}
+
+	@Override
+	public void ensure(int size) {
+		storage.ensure((long) size * VALUE_BYTES);
+		if (size < this.size) {
+			// zero the values behind the new size, like Arrays.copyOf does for the array columns
+			for (int i = size; i < this.size; i++) {
+				set(i, 0);
+			}
+		}
+		this.size = size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The values are stored outside of the Java heap.
+	 */
+	@Override
+	public long estimateMemoryUsage(int size) {
+		return 0;
+	}
+
+	@Override
+	public void retain() {
+		storage.retain();
+	}
+
+	@Override
+	public void release() {
+		storage.release();
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		for (int i = 0; i < size; i++) {
+			out.writeDouble(get(i));
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		storage = new OffHeapStorage(this);
+		storage.ensure((long) size * VALUE_BYTES);
+		for (int i = 0; i < size; i++) {
+			set(i, in.readDouble());
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.util.Arrays;
+
+import com.rapidminer.example.table.internal.DoubleAutoColumn.DoubleAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Run-length encoded {@link DoubleEncodedChunk} for data with few changes between consecutive
+ * rows, e.g. sorted data. Stores the value and the first row of every run of equal values.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class DoubleRunLengthChunk extends DoubleEncodedChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	private final double[] runValues;
+
+	/** the first row of every run, ascending and starting with 0 */
+	private final int[] runStarts;
+
+	DoubleRunLengthChunk(DoubleAutoChunk[] chunks, int id, double[] data, int runs, DataManagement management) {
+		super(chunks, id, data.length, management);
+		runValues = new double[runs];
+		runStarts = new int[runs];
+		runValues[0] = data[0];
+		long previous = Double.doubleToLongBits(data[0]);
+		int run = 0;
+		for (int i = 1; i < data.length; i++) {
+			long bits = Double.doubleToLongBits(data[i]);
+			if (bits != previous) {
+				run++;
+				runValues[run] = data[i];
+				runStarts[run] = i;
+				previous = bits;
+			}
+		}
+	}
+
+	@Override
+	double getEncoded(int row) {
+		return runValues[findRun(row)];
+	}
+
+	@Override
+	void getEncoded(int fromRow, double[] target, int offset, int length) {
+		int end = fromRow + length;
+		int run = findRun(fromRow);
+		int row = fromRow;
+		while (row < end) {
+			int runEnd = run + 1 < runStarts.length ? Math.min(runStarts[run + 1], end) : end;
+			Arrays.fill(target, offset + row - fromRow, offset + runEnd - fromRow, runValues[run]);
+			row = runEnd;
+			run++;
+		}
+	}
+
+	@Override
+	boolean setEncoded(int row, double value) {
+		// only setting the same value again does not change the runs
+		return Double.doubleToLongBits(getEncoded(row)) == Double.doubleToLongBits(value);
+	}
+
+	@Override
+	long estimateEncodedMemoryUsage() {
+		return (long) runValues.length * Double.BYTES + (long) runStarts.length * Integer.BYTES;
+	}
+
+	/**
+	 * Finds the run containing the row by binary search.
+	 *
+	 * @param row
+	 *            the row to look for
+	 * @return the index of the run
+	 */
+	private int findRun(int row) {
+		int run = Arrays.binarySearch(runStarts, row);
+		return run >= 0 ? run : -run - 2;
+	}
+
+}
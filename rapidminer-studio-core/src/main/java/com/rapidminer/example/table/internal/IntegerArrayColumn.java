@@ -51,6 +51,14 @@ class IntegerArrayColumn implements Column {
 		return value == Integer.MIN_VALUE ? Double.NaN : value;
 	}
 
+	@Override
+	public void get(int fromRow, double[] target, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			int value = data[fromRow + i];
+			target[offset + i] = value == Integer.MIN_VALUE ? Double.NaN : value;
+		}
+	}
+
 	@Override
 	public void set(int row, double value) {
 		data[row] = Double.isNaN(value) ? Integer.MIN_VALUE : (int) value;
@@ -66,4 +74,22 @@ class IntegerArrayColumn implements Column {
 		set(row, value);
 	}
 
+	@Override
+	public void setLast(int fromRow, double[] source, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			double value = source[offset + i];
+			data[fromRow + i] = Double.isNaN(value) ? Integer.MIN_VALUE : (int) value;
+		}
+	}
+
+	@Override
+	public void setLast(int fromRow, int[] source, int offset, int length) {
+		System.arraycopy(source, offset, data, fromRow, length);
+	}
+
+	@Override
+	public long estimateMemoryUsage(int size) {
+		return (long) data.length * Integer.BYTES;
+	}
+
 }
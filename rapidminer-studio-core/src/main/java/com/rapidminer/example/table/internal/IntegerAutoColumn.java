@@ -80,6 +80,42 @@ final class IntegerAutoColumn implements Column {
 		 */
 		abstract void setLast(int row, double value);
 
+		/**
+		 * Sets the values of the rows {@code fromRow} to {@code fromRow + length - 1} of this
+		 * chunk to the values of the source array starting at position {@code offset}, under the
+		 * same assumptions as {@link #setLast(int, double)}. Since the chunk can replace itself
+		 * while values are set, the default implementation sets every value on the current chunk
+		 * with this id.
+		 *
+		 * @param fromRow
+		 *            the first row to set
+		 * @param source
+		 *            the array containing the values
+		 * @param offset
+		 *            the first position in the source array to read from
+		 * @param length
+		 *            the number of values to set
+		 * @since 9.10.0
+		 */
+		void setLast(int fromRow, double[] source, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				chunks[id].setLast(fromRow + i, source[offset + i]);
+			}
+		}
+
+		/**
+		 * Like {@link #setLast(int, double[], int, int)} but for integer values with
+		 * {@link AutoColumnUtils#INTEGER_NAN} for missing values.
+		 *
+		 * @since 9.10.0
+		 */
+		void setLast(int fromRow, int[] source, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				int value = source[offset + i];
+				chunks[id].setLast(fromRow + i, value == AutoColumnUtils.INTEGER_NAN ? Double.NaN : value);
+			}
+		}
+
 		/**
 		 * Ensures that the internal data structure can hold up to {@code size} values.
 		 *
@@ -97,6 +133,26 @@ final class IntegerAutoColumn implements Column {
 		 */
 		abstract double get(int row);
 
+		/**
+		 * Copies the values of the rows {@code fromRow} to {@code fromRow + length - 1} into the
+		 * target array starting at position {@code offset}.
+		 *
+		 * @param fromRow
+		 *            the first row to copy
+		 * @param target
+		 *            the array to copy the values into
+		 * @param offset
+		 *            the first position in the target array to write to
+		 * @param length
+		 *            the number of values to copy
+		 * @since 9.10.0
+		 */
+		void get(int fromRow, double[] target, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				target[offset + i] = get(fromRow + i);
+			}
+		}
+
 		/**
 		 * Sets the value at the specified row to the given value.
 		 *
@@ -112,6 +168,23 @@ final class IntegerAutoColumn implements Column {
 		 * will be made.
 		 */
 		void complete() {}
+
+		/**
+		 * Returns a chunk with the same values that needs less memory, if there is one. Called
+		 * after {@link #complete()}.
+		 *
+		 * @return the compressed chunk or this chunk
+		 * @since 9.10.0
+		 */
+		IntegerAutoChunk compress() {
+			return this;
+		}
+
+		/**
+		 * @return the estimated number of bytes used by the values of this chunk
+		 * @since 9.10.0
+		 */
+		abstract long estimateMemoryUsage();
 	}
 
 	private IntegerAutoChunk[] chunks = new IntegerAutoChunk[1];
@@ -140,6 +213,25 @@ final class IntegerAutoColumn implements Column {
 		return chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].get(row & AutoColumnUtils.CHUNK_MODULO_MASK);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Must not be called before {@link #complete()} was called.
+	 */
+	@Override
+	public void get(int fromRow, double[] target, int offset, int length) {
+		int row = fromRow;
+		int position = offset;
+		int end = fromRow + length;
+		while (row < end) {
+			int chunkRow = row & AutoColumnUtils.CHUNK_MODULO_MASK;
+			int chunkLength = Math.min(end - row, AutoColumnUtils.CHUNK_SIZE - chunkRow);
+			chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].get(chunkRow, target, position, chunkLength);
+			row += chunkLength;
+			position += chunkLength;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -155,6 +247,34 @@ final class IntegerAutoColumn implements Column {
 		chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].setLast(row & AutoColumnUtils.CHUNK_MODULO_MASK, value);
 	}
 
+	@Override
+	public void setLast(int fromRow, double[] source, int offset, int length) {
+		int row = fromRow;
+		int position = offset;
+		int end = fromRow + length;
+		while (row < end) {
+			int chunkRow = row & AutoColumnUtils.CHUNK_MODULO_MASK;
+			int chunkLength = Math.min(end - row, AutoColumnUtils.CHUNK_SIZE - chunkRow);
+			chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].setLast(chunkRow, source, position, chunkLength);
+			row += chunkLength;
+			position += chunkLength;
+		}
+	}
+
+	@Override
+	public void setLast(int fromRow, int[] source, int offset, int length) {
+		int row = fromRow;
+		int position = offset;
+		int end = fromRow + length;
+		while (row < end) {
+			int chunkRow = row & AutoColumnUtils.CHUNK_MODULO_MASK;
+			int chunkLength = Math.min(end - row, AutoColumnUtils.CHUNK_SIZE - chunkRow);
+			chunks[row >> AutoColumnUtils.CHUNK_SIZE_EXP].setLast(chunkRow, source, position, chunkLength);
+			row += chunkLength;
+			position += chunkLength;
+		}
+	}
+
 	@Override
 	public void ensure(int size) {
 		ensureChunks(size);
@@ -210,10 +330,25 @@ final class IntegerAutoColumn implements Column {
 		chunks = Arrays.copyOf(chunks, newLength);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Compresses the chunks if possible, see {@link IntegerEncodedChunk}.
+	 */
 	@Override
 	public void complete() {
 		for (int i = 0; i < chunkCount; i++) {
 			chunks[i].complete();
+			chunks[i] = chunks[i].compress();
+		}
+	}
+
+	@Override
+	public long estimateMemoryUsage(int size) {
+		long bytes = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			bytes += chunks[i].estimateMemoryUsage();
 		}
+		return bytes;
 	}
 }
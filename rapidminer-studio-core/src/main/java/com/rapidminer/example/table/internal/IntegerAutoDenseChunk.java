@@ -45,12 +45,34 @@ final class IntegerAutoDenseChunk extends IntegerAutoChunk {
 		ensure(size);
 	}
 
+	/**
+	 * Creates a completed chunk containing the given data.
+	 *
+	 * @param data
+	 *            the values of the chunk with {@link AutoColumnUtils#INTEGER_NAN} for missing
+	 *            values, not copied
+	 */
+	IntegerAutoDenseChunk(int id, IntegerAutoChunk[] chunks, int[] data, DataManagement management) {
+		super(id, chunks, management);
+		this.data = data;
+		ensuredSize = data.length;
+		undecided = false;
+	}
+
 	@Override
 	double get(int row) {
 		int value = data[row];
 		return value == AutoColumnUtils.INTEGER_NAN ? Double.NaN : value;
 	}
 
+	@Override
+	void get(int fromRow, double[] target, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			int value = data[fromRow + i];
+			target[offset + i] = value == AutoColumnUtils.INTEGER_NAN ? Double.NaN : value;
+		}
+	}
+
 	@Override
 	void set(int row, double value) {
 		data[row] = Double.isNaN(value) ? AutoColumnUtils.INTEGER_NAN : (int) value;
@@ -79,6 +101,45 @@ final class IntegerAutoDenseChunk extends IntegerAutoChunk {
 		}
 	}
 
+	@Override
+	void setLast(int fromRow, double[] source, int offset, int length) {
+		if (!undecided || fromRow + length < AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE) {
+			copy(fromRow, source, offset, length);
+			return;
+		}
+		// copy up to the sparsity check, the rest goes to the chunk that replaces this one
+		int beforeCheck = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE - fromRow;
+		copy(fromRow, source, offset, beforeCheck);
+		undecided = false;
+		checkSparse();
+		if (beforeCheck < length) {
+			chunks[id].setLast(fromRow + beforeCheck, source, offset + beforeCheck, length - beforeCheck);
+		}
+	}
+
+	private void copy(int fromRow, double[] source, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			double value = source[offset + i];
+			data[fromRow + i] = Double.isNaN(value) ? AutoColumnUtils.INTEGER_NAN : (int) value;
+		}
+	}
+
+	@Override
+	void setLast(int fromRow, int[] source, int offset, int length) {
+		if (!undecided || fromRow + length < AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE) {
+			System.arraycopy(source, offset, data, fromRow, length);
+			return;
+		}
+		// copy up to the sparsity check, the rest goes to the chunk that replaces this one
+		int beforeCheck = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE - fromRow;
+		System.arraycopy(source, offset, data, fromRow, beforeCheck);
+		undecided = false;
+		checkSparse();
+		if (beforeCheck < length) {
+			chunks[id].setLast(fromRow + beforeCheck, source, offset + beforeCheck, length - beforeCheck);
+		}
+	}
+
 	/**
 	 * Finds the most frequent value in the values set until now. If this value if frequent enough,
 	 * it changes to a sparse representation.
@@ -114,4 +175,18 @@ final class IntegerAutoDenseChunk extends IntegerAutoChunk {
 		undecided = false;
 	}
 
+	@Override
+	IntegerAutoChunk compress() {
+		if (data.length != ensuredSize) {
+			return this;
+		}
+		IntegerAutoChunk encoded = IntegerEncodedChunk.encode(id, chunks, data, management);
+		return encoded == null ? this : encoded;
+	}
+
+	@Override
+	long estimateMemoryUsage() {
+		return (long) data.length * Integer.BYTES;
+	}
+
 }
@@ -113,4 +113,9 @@ final class IntegerAutoSparseChunk extends IntegerAutoChunk {
 		chunks[id] = dense;
 	}
 
+	@Override
+	long estimateMemoryUsage() {
+		return sparse.estimateMemoryUsage();
+	}
+
 }
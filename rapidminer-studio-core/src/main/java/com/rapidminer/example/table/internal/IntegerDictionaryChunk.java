@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.util.Arrays;
+
+import com.rapidminer.example.table.internal.IntegerAutoColumn.IntegerAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Dictionary encoded {@link IntegerEncodedChunk} for data with few distinct values, e.g. nominal
+ * data with few categories. Stores the sorted distinct values and, for every row, the index of its
+ * value in a {@link PackedIntArray} using as few bits as possible.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class IntegerDictionaryChunk extends IntegerEncodedChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	/** the distinct values, sorted for the look-up when setting values */
+	private final int[] dictionary;
+
+	private final PackedIntArray indices;
+
+	IntegerDictionaryChunk(int id, IntegerAutoChunk[] chunks, int[] data, ValueDictionary values,
+			DataManagement management) {
+		super(id, chunks, data.length, management);
+		int distinct = values.size();
+		int[] unsorted = new int[distinct];
+		for (int i = 0; i < distinct; i++) {
+			unsorted[i] = (int) values.key(i);
+		}
+		dictionary = Arrays.copyOf(unsorted, distinct);
+		Arrays.sort(dictionary);
+		int[] positions = new int[distinct];
+		for (int i = 0; i < distinct; i++) {
+			positions[i] = Arrays.binarySearch(dictionary, unsorted[i]);
+		}
+		indices = new PackedIntArray(data.length, PackedIntArray.bitsFor(distinct - 1));
+		for (int i = 0; i < data.length; i++) {
+			indices.set(i, positions[values.add(data[i])]);
+		}
+	}
+
+	@Override
+	int getEncoded(int row) {
+		return dictionary[indices.get(row)];
+	}
+
+	@Override
+	boolean setEncoded(int row, int value) {
+		int index = Arrays.binarySearch(dictionary, value);
+		if (index < 0) {
+			return false;
+		}
+		indices.set(row, index);
+		return true;
+	}
+
+	@Override
+	long estimateEncodedMemoryUsage() {
+		return (long) dictionary.length * Integer.BYTES + indices.estimateMemoryUsage();
+	}
+
+}
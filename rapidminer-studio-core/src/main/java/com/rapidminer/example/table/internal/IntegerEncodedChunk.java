@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import com.rapidminer.example.table.internal.IntegerAutoColumn.IntegerAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Super class for the compressed {@link IntegerAutoChunk}s that replace a completed
+ * {@link IntegerAutoDenseChunk} if this saves enough memory, see {@link #encode}. The values can be
+ * read by random access. Values that cannot be represented by the encoding are set after changing
+ * back to an {@link IntegerAutoDenseChunk}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+abstract class IntegerEncodedChunk extends IntegerAutoChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	/** bytes per run of a run-length encoded chunk: the value and the start row */
+	private static final int RUN_BYTES = Integer.BYTES + Integer.BYTES;
+
+	/** the number of values in this chunk */
+	final int size;
+
+	/**
+	 * the dense chunk that replaced this chunk, used instead of the encoding in case this chunk is
+	 * still referenced somewhere. Volatile and only set once the dense chunk is complete, so that
+	 * concurrent readers see either the encoding or all values of the dense chunk.
+	 */
+	private volatile IntegerAutoChunk decoded;
+
+	IntegerEncodedChunk(int id, IntegerAutoChunk[] chunks, int size, DataManagement management) {
+		super(id, chunks, management);
+		this.size = size;
+	}
+
+	/**
+	 * Encodes the completed data of a dense chunk with the encoding that needs the least memory:
+	 * run-length encoding for data with few changes or a dictionary with bit-packed indices for
+	 * data with few distinct values, e.g. nominal data with few categories. The encoding is only
+	 * used if it needs at most {@link AutoColumnUtils#THRESHOLD_ENCODING_RATIO} of the memory of
+	 * the data and only for columns in mode {@link DataManagement#MEMORY_OPTIMIZED} since reading
+	 * encoded values is slower.
+	 *
+	 * @param id
+	 *            the position of the chunk in the chunk array
+	 * @param chunks
+	 *            the chunk array
+	 * @param data
+	 *            the data of the dense chunk, must not be changed afterwards
+	 * @param management
+	 *            the data management of the column
+	 * @return the encoded chunk or {@code null} if no encoding saves enough memory
+	 */
+	static IntegerEncodedChunk encode(int id, IntegerAutoChunk[] chunks, int[] data, DataManagement management) {
+		int size = data.length;
+		if (management != DataManagement.MEMORY_OPTIMIZED || size < AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE) {
+			// only memory-optimized columns opt in, for smaller chunks it is not worth the effort
+			return null;
+		}
+		// a dictionary with more values than this cannot save enough memory
+		ValueDictionary dictionary = new ValueDictionary((int) Math.min(AutoColumnUtils.MAXIMAL_DICTIONARY_SIZE,
+				size * AutoColumnUtils.THRESHOLD_ENCODING_RATIO));
+		boolean dictionaryFull = false;
+		int runs = 1;
+		int previous = data[0];
+		for (int i = 0; i < size; i++) {
+			int value = data[i];
+			if (value != previous) {
+				runs++;
+				previous = value;
+			}
+			if (!dictionaryFull && dictionary.add(value) < 0) {
+				dictionaryFull = true;
+			}
+		}
+
+		long runLengthBytes = (long) runs * RUN_BYTES;
+		long dictionaryBytes = dictionaryFull ? Long.MAX_VALUE
+				: (long) dictionary.size() * Integer.BYTES
+						+ PackedIntArray.estimateMemoryUsage(size, PackedIntArray.bitsFor(dictionary.size() - 1));
+		long best = Math.min(runLengthBytes, dictionaryBytes);
+		if (best > (long) size * Integer.BYTES * AutoColumnUtils.THRESHOLD_ENCODING_RATIO) {
+			return null;
+		}
+		if (best == runLengthBytes) {
+			return new IntegerRunLengthChunk(id, chunks, data, runs, management);
+		} else {
+			return new IntegerDictionaryChunk(id, chunks, data, dictionary, management);
+		}
+	}
+
+	@Override
+	final double get(int row) {
+		IntegerAutoChunk dense = decoded;
+		if (dense != null) {
+			return dense.get(row);
+		}
+		int value = getEncoded(row);
+		return value == AutoColumnUtils.INTEGER_NAN ? Double.NaN : value;
+	}
+
+	@Override
+	final void get(int fromRow, double[] target, int offset, int length) {
+		IntegerAutoChunk dense = decoded;
+		if (dense != null) {
+			dense.get(fromRow, target, offset, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			int value = getEncoded(fromRow + i);
+			target[offset + i] = value == AutoColumnUtils.INTEGER_NAN ? Double.NaN : value;
+		}
+	}
+
+	@Override
+	final void set(int row, double value) {
+		if (decoded != null || !setEncoded(row, Double.isNaN(value) ? AutoColumnUtils.INTEGER_NAN : (int) value)) {
+			decode().set(row, value);
+		}
+	}
+
+	@Override
+	final void setLast(int row, double value) {
+		decode().setLast(row, value);
+	}
+
+	@Override
+	final void ensure(int size) {
+		if (decoded != null || size != this.size) {
+			decode().ensure(size);
+		}
+	}
+
+	@Override
+	final long estimateMemoryUsage() {
+		IntegerAutoChunk dense = decoded;
+		return dense == null ? estimateEncodedMemoryUsage() : dense.estimateMemoryUsage();
+	}
+
+	/**
+	 * Replaces this chunk by a dense chunk with the same values.
+	 *
+	 * @return the dense chunk
+	 */
+	private synchronized IntegerAutoChunk decode() {
+		if (decoded == null) {
+			int[] data = new int[size];
+			for (int i = 0; i < size; i++) {
+				data[i] = getEncoded(i);
+			}
+			decoded = new IntegerAutoDenseChunk(id, chunks, data, management);
+			chunks[id] = decoded;
+		}
+		return decoded;
+	}
+
+	/**
+	 * Gets the encoded value at the specified row.
+	 *
+	 * @param row
+	 *            the row that should be looked up
+	 * @return the value at the specified row, {@link AutoColumnUtils#INTEGER_NAN} for missing
+	 *         values
+	 */
+	abstract int getEncoded(int row);
+
+	/**
+	 * Sets the value at the specified row if it can be represented by the encoding.
+	 *
+	 * @param row
+	 *            the row that should be set
+	 * @param value
+	 *            the value that should be set at the row, {@link AutoColumnUtils#INTEGER_NAN} for
+	 *            missing values
+	 * @return {@code false} if the value cannot be set without changing the encoding
+	 */
+	abstract boolean setEncoded(int row, int value);
+
+	/**
+	 * @return the estimated number of bytes used by the encoded values
+	 */
+	abstract long estimateEncodedMemoryUsage();
+
+}
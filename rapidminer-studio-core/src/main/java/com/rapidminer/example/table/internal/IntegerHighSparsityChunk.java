@@ -54,6 +54,11 @@ final class IntegerHighSparsityChunk extends AbstractHighSparsityChunk implement
 		data = tmp;
 	}
 
+	@Override
+	public long estimateMemoryUsage() {
+		return estimateIndexMemoryUsage() + (long) data.length * Integer.BYTES;
+	}
+
 	@Override
 	double getValue(int index) {
 		int value = data[index];
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.util.Arrays;
+
+import com.rapidminer.example.table.internal.IntegerAutoColumn.IntegerAutoChunk;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Run-length encoded {@link IntegerEncodedChunk} for data with few changes between consecutive
+ * rows, e.g. sorted data. Stores the value and the first row of every run of equal values.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class IntegerRunLengthChunk extends IntegerEncodedChunk {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int[] runValues;
+
+	/** the first row of every run, ascending and starting with 0 */
+	private final int[] runStarts;
+
+	IntegerRunLengthChunk(int id, IntegerAutoChunk[] chunks, int[] data, int runs, DataManagement management) {
+		super(id, chunks, data.length, management);
+		runValues = new int[runs];
+		runStarts = new int[runs];
+		runValues[0] = data[0];
+		int run = 0;
+		for (int i = 1; i < data.length; i++) {
+			if (data[i] != runValues[run]) {
+				run++;
+				runValues[run] = data[i];
+				runStarts[run] = i;
+			}
+		}
+	}
+
+	@Override
+	int getEncoded(int row) {
+		int run = Arrays.binarySearch(runStarts, row);
+		return runValues[run >= 0 ? run : -run - 2];
+	}
+
+	@Override
+	boolean setEncoded(int row, int value) {
+		// only setting the same value again does not change the runs
+		return getEncoded(row) == value;
+	}
+
+	@Override
+	long estimateEncodedMemoryUsage() {
+		return (long) runValues.length * Integer.BYTES + (long) runStarts.length * Integer.BYTES;
+	}
+
+}
@@ -56,4 +56,10 @@ interface IntegerSparseChunk {
 	 */
 	void ensure(int size);
 
+	/**
+	 * @return the estimated number of bytes used for the stored values and their rows
+	 * @since 9.10.0
+	 */
+	long estimateMemoryUsage();
+
 }
@@ -53,4 +53,9 @@ class NaNColumn implements Column {
 		// do nothing
 	}
 
+	@Override
+	public long estimateMemoryUsage(int size) {
+		return 0;
+	}
+
 }
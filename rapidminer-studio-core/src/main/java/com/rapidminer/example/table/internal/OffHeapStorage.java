@@ -0,0 +1,303 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.rapidminer.RapidMiner;
+import com.rapidminer.tools.CleanupHooks;
+import com.rapidminer.tools.LogService;
+import com.rapidminer.tools.ParameterService;
+import com.rapidminer.tools.TempFileTools;
+
+
+/**
+ * Storage for the off-heap {@link Column}s. The values are written into a temporary file that is
+ * mapped into memory in pages of at most {@value #PAGE_SIZE} bytes, so the data does not count
+ * towards the Java heap and the operating system can page it out if necessary. Small storages map
+ * only a power of two bytes that is doubled when the storage grows, so the file stays small for
+ * small columns.
+ * <p>
+ * The storage counts the tables holding its column, see {@link #retain()}. The temporary file is
+ * deleted as soon as the last of them {@link #release() released} it, e.g. when the column was
+ * dropped by {@link CleanableExampleTable#columnCleanupClone} and no other table shares it. For
+ * tables that are garbage collected without releasing their columns, a cleaner thread deletes the
+ * file after the owning column was garbage collected. Files that cannot be deleted yet because
+ * their mapping is still alive are retried by the {@link CleanupHooks cleanup} that runs after a
+ * process execution, and at the latest on shutdown.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class OffHeapStorage {
+
+	/** Pages of 128MB, i.e. 2^24 double or 2^25 integer values */
+	private static final int PAGE_SHIFT = 27;
+
+	/** size of a page in bytes, always a power of 2 */
+	private static final long PAGE_SIZE = 1L << PAGE_SHIFT;
+
+	private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+	/** the minimal number of bytes mapped, 64KB */
+	private static final long MIN_MAPPED_SIZE = 1L << 16;
+
+	/** default fraction of the maximal heap size above which the off-heap storage is used */
+	static final double DEFAULT_HEAP_FRACTION = 0.5;
+
+	/** temp files of columns that are no longer reachable show up in this queue */
+	private static final ReferenceQueue<Object> RELEASED_OWNERS = new ReferenceQueue<>();
+
+	/** keeps the phantom references alive until they are enqueued */
+	private static final Set<FileReference> PENDING = ConcurrentHashMap.newKeySet();
+
+	/** temp files whose deletion failed, retried on cleanup */
+	private static final Set<Path> UNDELETED = ConcurrentHashMap.newKeySet();
+
+	static {
+		Thread cleaner = new Thread(OffHeapStorage::deleteReleasedFiles, "off-heap-column-cleaner");
+		cleaner.setDaemon(true);
+		cleaner.start();
+		CleanupHooks.addCleanupHook(OffHeapStorage::retryDeletion);
+	}
+
+	/**
+	 * Phantom reference to the owner of a storage, holding the path of the temp file to delete.
+	 */
+	private static final class FileReference extends PhantomReference<Object> {
+
+		private final Path file;
+
+		private FileReference(Object owner, Path file) {
+			super(owner, RELEASED_OWNERS);
+			this.file = file;
+		}
+
+		private void release() {
+			PENDING.remove(this);
+			if (!delete(file)) {
+				UNDELETED.add(file);
+			}
+		}
+	}
+
+	private final Path file;
+
+	private final FileReference reference;
+
+	/** the number of tables holding the column of this storage */
+	private final AtomicInteger holders = new AtomicInteger(1);
+
+	/** all pages but the last have {@link #PAGE_SIZE} bytes */
+	private MappedByteBuffer[] pages = new MappedByteBuffer[0];
+
+	/** the number of mapped bytes */
+	private long capacity;
+
+	/**
+	 * Creates a new storage backed by a new temporary file that is held by one table. The file is
+	 * deleted when the storage is {@link #release() released} or after the owner was garbage
+	 * collected.
+	 *
+	 * @param owner
+	 *            the object whose lifetime determines the lifetime of the temporary file
+	 * @throws UncheckedIOException
+	 *             if the temporary file cannot be created
+	 */
+	OffHeapStorage(Object owner) {
+		try {
+			file = TempFileTools.createTempFile("rm_column_", ".offheap", false);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		reference = new FileReference(owner, file);
+		PENDING.add(reference);
+	}
+
+	/**
+	 * Registers another table holding the column of this storage, e.g. a shallow clone of the
+	 * table.
+	 */
+	void retain() {
+		holders.incrementAndGet();
+	}
+
+	/**
+	 * Signals that a table no longer holds the column of this storage. The temporary file is
+	 * deleted as soon as no table holds the column anymore, the storage must not be used
+	 * afterwards.
+	 */
+	void release() {
+		if (holders.decrementAndGet() == 0) {
+			// the mapping is freed by the garbage collector, until then the deletion might fail
+			pages = new MappedByteBuffer[0];
+			capacity = 0;
+			reference.clear();
+			reference.release();
+		}
+	}
+
+	/**
+	 * Ensures that the storage can hold at least the given number of bytes. Below
+	 * {@value #PAGE_SIZE} bytes, the mapped size is rounded up to the next power of two, above it
+	 * to full pages. The storage never shrinks.
+	 *
+	 * @param bytes
+	 *            the number of bytes to ensure
+	 * @throws UncheckedIOException
+	 *             if the temporary file cannot be mapped
+	 */
+	void ensure(long bytes) {
+		if (bytes <= capacity) {
+			return;
+		}
+		long newCapacity;
+		if (bytes < PAGE_SIZE) {
+			newCapacity = Math.max(MIN_MAPPED_SIZE, Long.highestOneBit(bytes - 1) << 1);
+		} else {
+			newCapacity = (bytes + PAGE_MASK) & ~PAGE_MASK;
+		}
+		int neededPages = (int) ((newCapacity + PAGE_MASK) >>> PAGE_SHIFT);
+		MappedByteBuffer[] newPages = Arrays.copyOf(pages, neededPages);
+		// only the first page can be mapped partially, it is mapped again with the new size
+		int firstPage = capacity < PAGE_SIZE ? 0 : pages.length;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			for (int i = firstPage; i < neededPages; i++) {
+				// mapping beyond the end of the file grows the file, the new content is all zero
+				long pageStart = i * PAGE_SIZE;
+				newPages[i] = channel.map(MapMode.READ_WRITE, pageStart, Math.min(PAGE_SIZE, newCapacity - pageStart));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		pages = newPages;
+		capacity = newCapacity;
+	}
+
+	/**
+	 * @return the number of bytes that can be stored without a call to {@link #ensure(long)}
+	 */
+	long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the temporary file backing this storage
+	 */
+	Path getFile() {
+		return file;
+	}
+
+	double getDouble(long offset) {
+		return pages[(int) (offset >>> PAGE_SHIFT)].getDouble((int) (offset & PAGE_MASK));
+	}
+
+	void putDouble(long offset, double value) {
+		pages[(int) (offset >>> PAGE_SHIFT)].putDouble((int) (offset & PAGE_MASK), value);
+	}
+
+	int getInt(long offset) {
+		return pages[(int) (offset >>> PAGE_SHIFT)].getInt((int) (offset & PAGE_MASK));
+	}
+
+	void putInt(long offset, int value) {
+		pages[(int) (offset >>> PAGE_SHIFT)].putInt((int) (offset & PAGE_MASK), value);
+	}
+
+	/**
+	 * Checks whether a table with the given estimated number of bytes should be stored off-heap
+	 * because it exceeds the fraction of the maximal heap size configured by
+	 * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OFF_HEAP_FRACTION}. A fraction of {@code 0}
+	 * disables the automatic selection.
+	 *
+	 * @param estimatedBytes
+	 *            the estimated size of the table data
+	 * @return whether the off-heap storage should be used
+	 */
+	static boolean exceedsHeapFraction(long estimatedBytes) {
+		double fraction = DEFAULT_HEAP_FRACTION;
+		String value = ParameterService.getParameterValue(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_OFF_HEAP_FRACTION);
+		if (value != null && !value.trim().isEmpty()) {
+			try {
+				fraction = Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				// keep default
+			}
+		}
+		return fraction > 0 && estimatedBytes > fraction * Runtime.getRuntime().maxMemory();
+	}
+
+	/**
+	 * Deletes the temporary files of the owners as soon as they are garbage collected. Runs in the
+	 * cleaner thread.
+	 */
+	private static void deleteReleasedFiles() {
+		while (true) {
+			try {
+				((FileReference) RELEASED_OWNERS.remove()).release();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				LogService.getRoot().log(Level.WARNING, "com.rapidminer.example.table.internal.OffHeapStorage.cleaner_failed",
+						e);
+			}
+		}
+	}
+
+	/**
+	 * Retries the deletion of temporary files that were still mapped when their owner was garbage
+	 * collected. Registered as {@link CleanupHooks cleanup hook}.
+	 */
+	private static void retryDeletion() {
+		UNDELETED.removeIf(OffHeapStorage::delete);
+	}
+
+	/**
+	 * Deletes the given temporary file.
+	 *
+	 * @return whether the file no longer exists
+	 */
+	private static boolean delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+			return true;
+		} catch (IOException e) {
+			// might still be mapped on some platforms, retried on cleanup and deleted on shutdown
+			LogService.getRoot().log(Level.FINE, "com.rapidminer.example.table.internal.OffHeapStorage.deletion_failed",
+					file);
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.io.Serializable;
+
+
+/**
+ * Array of non-negative integer values that are stored with a fixed number of bits each, packed
+ * into longs. A value may span two longs.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class PackedIntArray implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long[] words;
+	private final int bits;
+	private final long mask;
+
+	/**
+	 * Creates a new array for {@code length} values between {@code 0} and {@code 2^bits - 1}. All
+	 * values are initially {@code 0}.
+	 *
+	 * @param length
+	 *            the number of values
+	 * @param bits
+	 *            the number of bits per value, between 1 and 31
+	 */
+	PackedIntArray(int length, int bits) {
+		this.bits = bits;
+		this.mask = (1L << bits) - 1;
+		this.words = new long[wordCount(length, bits)];
+	}
+
+	/**
+	 * Returns the number of bits needed to store all values between {@code 0} and the given value.
+	 *
+	 * @param maximalValue
+	 *            the maximal value to store
+	 * @return the number of bits, at least 1
+	 */
+	static int bitsFor(int maximalValue) {
+		return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(maximalValue));
+	}
+
+	/**
+	 * @return the largest value that can be stored
+	 */
+	int maximalValue() {
+		return (int) mask;
+	}
+
+	int get(int index) {
+		long bitIndex = (long) index * bits;
+		int word = (int) (bitIndex >>> 6);
+		int offset = (int) (bitIndex & 63);
+		long value = words[word] >>> offset;
+		if (offset + bits > Long.SIZE) {
+			value |= words[word + 1] << (Long.SIZE - offset);
+		}
+		return (int) (value & mask);
+	}
+
+	void set(int index, int value) {
+		long bitIndex = (long) index * bits;
+		int word = (int) (bitIndex >>> 6);
+		int offset = (int) (bitIndex & 63);
+		long bitValue = value & mask;
+		words[word] = words[word] & ~(mask << offset) | bitValue << offset;
+		if (offset + bits > Long.SIZE) {
+			int shift = Long.SIZE - offset;
+			words[word + 1] = words[word + 1] & ~(mask >>> shift) | bitValue >>> shift;
+		}
+	}
+
+	/**
+	 * @return the estimated number of bytes used for the values
+	 */
+	long estimateMemoryUsage() {
+		return (long) words.length * Long.BYTES;
+	}
+
+	/**
+	 * Estimates the number of bytes used for the values of an array with the given length and
+	 * number of bits per value.
+	 *
+	 * @param length
+	 *            the number of values
+	 * @param bits
+	 *            the number of bits per value
+	 * @return the estimated number of bytes
+	 */
+	static long estimateMemoryUsage(int length, int bits) {
+		return (long) wordCount(length, bits) * Long.BYTES;
+	}
+
+	private static int wordCount(int length, int bits) {
+		return (int) (((long) length * bits + Long.SIZE - 1) / Long.SIZE);
+	}
+
+}
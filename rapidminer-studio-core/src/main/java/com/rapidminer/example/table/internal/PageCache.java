@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import com.rapidminer.RapidMiner;
+import com.rapidminer.tools.ParameterService;
+
+
+/**
+ * Bounds the pages held by all {@link PagedColumn}s. The pages themselves are stored in the page
+ * tables of the columns, so reading a cached page does not touch the cache. The cache only keeps
+ * track of the pages in the order they were read and is consulted when a page is added. As soon as
+ * the fraction of the maximal heap size configured by
+ * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PAGE_CACHE_FRACTION} is exceeded, the oldest pages
+ * are dropped, except for pages that were accessed since they were last considered (second chance).
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class PageCache {
+
+	/** default fraction of the maximal heap size used for cached pages */
+	static final double DEFAULT_HEAP_FRACTION = 0.1;
+
+	/** the cache shared by all paged columns */
+	static final PageCache INSTANCE = new PageCache();
+
+	/**
+	 * A cached page of a column.
+	 */
+	private static final class PageKey {
+
+		private final PagedColumn column;
+		private final int page;
+
+		private PageKey(PagedColumn column, int page) {
+			this.column = column;
+			this.page = page;
+		}
+	}
+
+	/** the cached pages in the order they were added or given a second chance */
+	private final ArrayDeque<PageKey> pages = new ArrayDeque<>();
+
+	/** the number of bytes of all cached pages */
+	private long bytes;
+
+	/**
+	 * Registers a page that was added to the page table of the column and drops other pages if the
+	 * cache exceeds its bound. The page that was just added is never dropped.
+	 *
+	 * @param column
+	 *            the column the page belongs to
+	 * @param page
+	 *            the index of the page
+	 * @param length
+	 *            the number of values of the page
+	 */
+	synchronized void added(PagedColumn column, int page, int length) {
+		pages.addLast(new PageKey(column, page));
+		column.pageAdded();
+		bytes += (long) length * Double.BYTES;
+		long limit = getLimit();
+		// every page gets at most one second chance, so the loop ends even if all pages are accessed
+		int chances = pages.size();
+		while (bytes > limit && pages.size() > 1) {
+			PageKey oldest = pages.pollFirst();
+			if (chances-- > 0 && oldest.column.clearReferenced(oldest.page)) {
+				pages.addLast(oldest);
+			} else {
+				bytes -= (long) oldest.column.drop(oldest.page) * Double.BYTES;
+			}
+		}
+	}
+
+	/**
+	 * Drops all cached pages of the column, e.g. after the column was materialized.
+	 *
+	 * @param column
+	 *            the column whose pages to drop
+	 */
+	synchronized void invalidate(PagedColumn column) {
+		Iterator<PageKey> iterator = pages.iterator();
+		while (iterator.hasNext()) {
+			PageKey key = iterator.next();
+			if (key.column == column) {
+				bytes -= (long) column.drop(key.page) * Double.BYTES;
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of bytes of all cached pages
+	 */
+	synchronized long size() {
+		return bytes;
+	}
+
+	/**
+	 * @return the maximal number of bytes for cached pages
+	 */
+	private static long getLimit() {
+		double fraction = DEFAULT_HEAP_FRACTION;
+		String value = ParameterService.getParameterValue(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_PAGE_CACHE_FRACTION);
+		if (value != null && !value.trim().isEmpty()) {
+			try {
+				fraction = Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				// keep default
+			}
+		}
+		return (long) (fraction * Runtime.getRuntime().maxMemory());
+	}
+
+}
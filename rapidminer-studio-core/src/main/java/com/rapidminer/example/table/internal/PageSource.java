@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.io.IOException;
+
+
+/**
+ * Source of the values of a column that is read page by page on first access, e.g. from a file. See
+ * {@link ColumnarExampleTable#pageColumn}. The {@link #toString()} of the source is used to name it
+ * in error messages.
+ * <p>
+ * Caution: This interface is not part of the official API.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+@FunctionalInterface
+public interface PageSource {
+
+	/**
+	 * Reads the values of the rows {@code fromRow} to {@code fromRow + length - 1} into the target
+	 * array starting at position {@code 0}. Can be called by different threads at the same time.
+	 *
+	 * @param fromRow
+	 *            the first row to read
+	 * @param target
+	 *            the array to read the values into
+	 * @param length
+	 *            the number of values to read
+	 * @throws IOException
+	 *             if reading fails
+	 */
+	void read(int fromRow, double[] target, int length) throws IOException;
+
+	/**
+	 * Releases the resources held for reading, e.g. an open file, when the column does not hold
+	 * any page of the source. The source must still be readable afterwards. Does nothing by
+	 * default.
+	 */
+	default void release() {
+		// nothing to release
+	}
+
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.WrapperOperatorRuntimeException;
+
+
+/**
+ * This implementation of {@link Column} reads its values from a {@link PageSource} on first access,
+ * one page of {@value #PAGE_SIZE} values at a time. The pages are kept in a page table of the
+ * column that is read without locking. The shared {@link PageCache} bounds the pages of all
+ * columns, so pages that were not accessed for a while are dropped and read again when needed.
+ * <p>
+ * The column is materialized into a {@link DoubleArrayColumn} as soon as a value is written or the
+ * column must shrink below the rows of the source. Growing does not allocate memory since the rows
+ * behind the rows of the source are 0. On serialization, the materialized column is written.
+ *
+ * @author agent
+ * @see Column
+ * @see ColumnarExampleTable#pageColumn
+ * @since 9.10.0
+ */
+final class PagedColumn implements Column {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int PAGE_SHIFT = 12;
+
+	/** the number of values in a page */
+	static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final transient PageSource source;
+
+	/** the pages read from the source, a page is {@code null} if it was not read or was dropped */
+	private final transient AtomicReferenceArray<double[]> pages;
+
+	/** whether a page was accessed since the cache last considered dropping it, only a hint */
+	private final transient boolean[] referenced;
+
+	/** the number of pages in the page table, guarded by the {@link PageCache} */
+	private int cachedPages;
+
+	/** the number of rows provided by the source */
+	private final int rows;
+
+	/** the capacity of the column, rows behind the rows of the source are 0 */
+	private int capacity;
+
+	/** the column holding all values after the first write, {@code null} before */
+	private volatile Column materialized;
+
+	/**
+	 * Creates a new column reading the given number of rows from the source.
+	 *
+	 * @param source
+	 *            the source of the values
+	 * @param rows
+	 *            the number of rows the source provides
+	 * @param capacity
+	 *            the number of values the column can hold, values behind the rows are 0
+	 */
+	PagedColumn(PageSource source, int rows, int capacity) {
+		this.source = source;
+		this.rows = rows;
+		this.capacity = Math.max(rows, capacity);
+		int numberOfPages = (rows + PAGE_MASK) >>> PAGE_SHIFT;
+		this.pages = new AtomicReferenceArray<>(numberOfPages);
+		this.referenced = new boolean[numberOfPages];
+	}
+
+	@Override
+	public double get(int row) {
+		Column column = materialized;
+		if (column != null) {
+			return column.get(row);
+		}
+		if (row >= rows) {
+			return 0;
+		}
+		return page(row >>> PAGE_SHIFT)[row & PAGE_MASK];
+	}
+
+	@Override
+	public void get(int fromRow, double[] target, int offset, int length) {
+		Column column = materialized;
+		if (column != null) {
+			column.get(fromRow, target, offset, length);
+			return;
+		}
+		int row = fromRow;
+		int end = fromRow + length;
+		while (row < end && row < rows) {
+			double[] page = page(row >>> PAGE_SHIFT);
+			int inPage = row & PAGE_MASK;
+			int copy = Math.min(Math.min(end, rows) - row, page.length - inPage);
+			System.arraycopy(page, inPage, target, offset + row - fromRow, copy);
+			row += copy;
+		}
+		for (; row < end; row++) {
+			target[offset + row - fromRow] = 0;
+		}
+	}
+
+	@Override
+	public void set(int row, double value) {
+		materialize().set(row, value);
+	}
+
+	@Override
+	public void setLast(int row, double value) {
+		materialize().setLast(row, value);
+	}
+
+	@Override
+	public void setLast(int fromRow, double[] source, int offset, int length) {
+		materialize().setLast(fromRow, source, offset, length);
+	}
+
+	@Override
+	public void setLast(int fromRow, int[] source, int offset, int length) {
+		materialize().setLast(fromRow, source, offset, length);
+	}
+
+	@Override
+	public void ensure(int size) {
+		Column column = materialized;
+		if (column != null) {
+			column.ensure(size);
+		} else if (size < rows) {
+			materialize().ensure(size);
+		} else {
+			synchronized (this) {
+				if (materialized == null) {
+					capacity = size;
+					return;
+				}
+			}
+			materialized.ensure(size);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The cached pages are not counted since they can be dropped at any time.
+	 */
+	@Override
+	public long estimateMemoryUsage(int size) {
+		Column column = materialized;
+		return column == null ? 0 : column.estimateMemoryUsage(size);
+	}
+
+	/**
+	 * @return whether the values were copied into a regular column
+	 */
+	boolean isMaterialized() {
+		return materialized != null;
+	}
+
+	/**
+	 * Returns the page with the given index, either from the page table or from the source.
+	 *
+	 * @throws WrapperOperatorRuntimeException
+	 *             if reading from the source fails
+	 */
+	private double[] page(int page) {
+		double[] values = pages.get(page);
+		if (values != null) {
+			// only write if necessary, the flag is shared by all reading threads
+			if (!referenced[page]) {
+				referenced[page] = true;
+			}
+			return values;
+		}
+		int fromRow = page << PAGE_SHIFT;
+		values = new double[Math.min(PAGE_SIZE, rows - fromRow)];
+		read(fromRow, values, values.length);
+		if (pages.compareAndSet(page, null, values)) {
+			PageCache.INSTANCE.added(this, page, values.length);
+			return values;
+		}
+		// another thread read the page at the same time
+		double[] other = pages.get(page);
+		return other != null ? other : values;
+	}
+
+	/**
+	 * Counts a page added to the page table. Called by the {@link PageCache} while holding its lock.
+	 */
+	void pageAdded() {
+		cachedPages++;
+	}
+
+	/**
+	 * Removes the page from the page table. Called by the {@link PageCache} while holding its lock.
+	 * The source is released as soon as no page is left.
+	 *
+	 * @param page
+	 *            the index of the page
+	 * @return the number of values of the dropped page, {@code 0} if the page was not in the table
+	 */
+	int drop(int page) {
+		double[] values = pages.getAndSet(page, null);
+		if (values == null) {
+			return 0;
+		}
+		referenced[page] = false;
+		if (--cachedPages == 0) {
+			source.release();
+		}
+		return values.length;
+	}
+
+	/**
+	 * Clears the accessed flag of the page. Called by the {@link PageCache} while holding its lock.
+	 *
+	 * @param page
+	 *            the index of the page
+	 * @return whether the page was accessed since the last call
+	 */
+	boolean clearReferenced(int page) {
+		boolean wasReferenced = referenced[page];
+		referenced[page] = false;
+		return wasReferenced;
+	}
+
+	/**
+	 * Copies all values into a new {@link DoubleArrayColumn} that is used from then on.
+	 *
+	 * @return the materialized column
+	 * @throws WrapperOperatorRuntimeException
+	 *             if reading from the source fails
+	 */
+	private Column materialize() {
+		Column column = materialized;
+		if (column == null) {
+			synchronized (this) {
+				column = materialized;
+				if (column == null) {
+					DoubleArrayColumn arrayColumn = new DoubleArrayColumn(capacity);
+					// read directly into the array, the cached pages are not needed anymore
+					double[] page = new double[Math.min(PAGE_SIZE, rows)];
+					for (int row = 0; row < rows; row += page.length) {
+						int length = Math.min(page.length, rows - row);
+						double[] cached = pages.get(row >>> PAGE_SHIFT);
+						if (cached == null) {
+							read(row, page, length);
+							cached = page;
+						}
+						arrayColumn.setLast(row, cached, 0, length);
+					}
+					materialized = column = arrayColumn;
+					PageCache.INSTANCE.invalidate(this);
+					source.release();
+				}
+			}
+		}
+		return column;
+	}
+
+	private void read(int fromRow, double[] target, int length) {
+		try {
+			source.read(fromRow, target, length);
+		} catch (IOException e) {
+			throw new WrapperOperatorRuntimeException(new UserError(null, 302, source, e.getMessage()));
+		}
+	}
+
+	/** Writes the materialized column instead of this column since the source is not serializable. */
+	private Object writeReplace() {
+		return materialize();
+	}
+
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import java.util.Arrays;
+
+
+/**
+ * Assigns consecutive indices to distinct {@code long} keys, up to a maximal number of keys. Used
+ * to build the dictionaries of dictionary encoded chunks without boxing the values. Double values
+ * are represented by {@link Double#doubleToLongBits(double)}. The hash table starts small and grows
+ * with the number of distinct keys, so data with few distinct values needs only small buffers.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ValueDictionary {
+
+	/** the initial number of slots of the hash table */
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final int maximalSize;
+	private long[] keys;
+	/** index + 1 of the key in the slot, 0 for empty slots */
+	private int[] slots;
+	/** the keys by index, its length is the number of keys that fit before the table grows */
+	private long[] keysByIndex;
+	private int mask;
+	private int size;
+
+	/**
+	 * Creates a new dictionary.
+	 *
+	 * @param maximalSize
+	 *            the maximal number of distinct keys
+	 */
+	ValueDictionary(int maximalSize) {
+		this.maximalSize = Math.max(maximalSize, 1);
+		allocate(Math.min(INITIAL_CAPACITY, Integer.highestOneBit(this.maximalSize * 2 - 1) * 2));
+		keysByIndex = new long[Math.min(this.maximalSize, keys.length / 2)];
+	}
+
+	/**
+	 * Returns the index of the key and adds the key if it is new.
+	 *
+	 * @param key
+	 *            the key to look up
+	 * @return the index of the key or {@code -1} if the key is new and the dictionary is full
+	 */
+	int add(long key) {
+		int slot = find(key);
+		if (slots[slot] == 0) {
+			if (size == maximalSize) {
+				return -1;
+			}
+			if (size == keysByIndex.length) {
+				grow();
+				slot = find(key);
+			}
+			keys[slot] = key;
+			keysByIndex[size] = key;
+			slots[slot] = ++size;
+		}
+		return slots[slot] - 1;
+	}
+
+	/**
+	 * @return the number of distinct keys
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 *            the index of the key
+	 * @return the key with the given index
+	 */
+	long key(int index) {
+		return keysByIndex[index];
+	}
+
+	/**
+	 * Doubles the number of slots, so that the table is at most half full.
+	 */
+	private void grow() {
+		allocate(keys.length * 2);
+		keysByIndex = Arrays.copyOf(keysByIndex, Math.min(maximalSize, keys.length / 2));
+		for (int i = 0; i < size; i++) {
+			int slot = find(keysByIndex[i]);
+			keys[slot] = keysByIndex[i];
+			slots[slot] = i + 1;
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		slots = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	private int find(long key) {
+		int slot = (int) (key ^ key >>> 32) * 0x9E3779B9 >>> 7 & mask;
+		while (slots[slot] != 0 && keys[slot] != key) {
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+
+}
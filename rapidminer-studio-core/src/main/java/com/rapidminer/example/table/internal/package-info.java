@@ -196,6 +196,24 @@
  * ones. The only difference is, that their dense chunks allocate always the full expected size
  * instead of only 2048 values first before the sparsity check.
  *
+ * <p>
+ * When {@link DoubleAutoColumn#complete()} is called in mode
+ * {@link DataManagement#MEMORY_OPTIMIZED}, every {@link DoubleAutoDenseChunk} with at least 2048
+ * values is replaced by a {@link DoubleEncodedChunk} if this needs at most half of the
+ * memory: a {@link DoubleRunLengthChunk} for data with few changes, e.g. sorted data, a
+ * {@link DoubleDictionaryChunk} with bit-packed indices for data with few distinct values or a
+ * {@link DoubleFloatChunk} if all values are floats. The {@link IntegerAutoColumn} uses the
+ * {@link IntegerRunLengthChunk} and the {@link IntegerDictionaryChunk}, e.g. for nominal data with
+ * few values. Setting a value that the encoding cannot represent changes the chunk back to a dense
+ * chunk. {@link ColumnarExampleTable#estimateMemoryUsage()} reports the resulting size.
+ *
+ * <p>
+ * In mode {@link DataManagement#OFF_HEAP}, the {@link DoubleOffHeapColumn} and
+ * {@link IntegerOffHeapColumn} store their values in an {@link OffHeapStorage}, i.e. in memory-mapped
+ * temporary files outside of the Java heap. This mode is chosen automatically instead of
+ * {@link DataManagement#AUTO} if the expected size set before adding the first row exceeds the
+ * configured fraction of the heap.
+ *
  * @author Gisa Schaefer
  *
  */
@@ -81,9 +81,21 @@ public abstract class ExampleSetBuilder {
 		AUTO,
 
 		/**
-		 * Decreases memory usage by compressing sparse columns as much as possible.
+		 * Decreases memory usage by compressing sparse columns as much as possible. Since 9.10.0,
+		 * completed dense data is also encoded if this saves enough memory, e.g. data with few
+		 * distinct values.
 		 */
-		MEMORY_OPTIMIZED;
+		MEMORY_OPTIMIZED,
+
+		/**
+		 * Stores the data outside of the Java heap in memory-mapped temporary files. Is selected
+		 * automatically instead of {@link #AUTO} if the expected size of the data exceeds the
+		 * fraction of the heap configured by
+		 * {@link com.rapidminer.RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OFF_HEAP_FRACTION}.
+		 *
+		 * @since 9.10.0
+		 */
+		OFF_HEAP;
 	}
 
 	/** all the attributes in the example set */
@@ -579,7 +579,9 @@ public class MainFrame extends ApplicationFrame implements WindowListener {
 
 	public void validateProcess(final boolean force) {
 		if (force || getProcessState() != Process.PROCESS_STATE_RUNNING) {
-			metaDataUpdateQueue.validate(getProcess(), force || VALIDATE_AUTOMATICALLY_ACTION.isSelected());
+			// validations after edits only transform the meta data affected by the edits and the meta data of
+			// operators reading data from outside of the process
+			metaDataUpdateQueue.validate(getProcess(), force || VALIDATE_AUTOMATICALLY_ACTION.isSelected(), !force);
 		} else {
 			processModel.fireProcessUpdated();
 		}
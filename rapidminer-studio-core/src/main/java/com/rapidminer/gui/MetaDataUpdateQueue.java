@@ -69,6 +69,20 @@ public class MetaDataUpdateQueue extends UpdateQueue {
 	 *            if false, process will be validated only if validate automatically is selected.
 	 */
 	public void validate(final Process process, final boolean force) {
+		validate(process, force, false);
+	}
+
+	/**
+	 * Enqueues a tasks to validate the given process.
+	 *
+	 * @param force
+	 *            if false, process will be validated only if validate automatically is selected.
+	 * @param incremental
+	 *            if true, only the meta data of modified operators and the operators downstream of them is
+	 *            transformed, see {@link com.rapidminer.operator.Operator#checkAllIncrementally()}
+	 * @since 9.10.0
+	 */
+	public void validate(final Process process, final boolean force, final boolean incremental) {
 		execute(new ProgressThread(VALIDATE_PROCESS_KEY) {
 
 			@Override
@@ -79,7 +93,11 @@ public class MetaDataUpdateQueue extends UpdateQueue {
 				if (force) {
 					checker = new MDGenerationChecker();
 					MD_GENERATION_CHECKERS.computeIfAbsent(process, p -> new ArrayList<>()).add(checker);
-					process.getRootOperator().checkAll();
+					if (incremental) {
+						process.getRootOperator().checkAllIncrementally();
+					} else {
+						process.getRootOperator().checkAll();
+					}
 					if (checker.needsRevalidation()) {
 						// trigger new validation cycle if at least one long running MD generation was found
 						new ProgressThread(REVALIDATE_PROCESS_KEY) {
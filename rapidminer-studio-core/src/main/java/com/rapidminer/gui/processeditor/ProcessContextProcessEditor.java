@@ -24,10 +24,12 @@ import java.util.List;
 import javax.swing.JPanel;
 
 import com.rapidminer.Process;
+import com.rapidminer.ProcessContext;
 import com.rapidminer.gui.properties.OperatorPropertyPanel;
 import com.rapidminer.gui.tools.ResourceDockKey;
 import com.rapidminer.gui.tools.ViewToolBar;
 import com.rapidminer.operator.Operator;
+import com.rapidminer.tools.Observer;
 import com.vlsolutions.swing.docking.DockKey;
 import com.vlsolutions.swing.docking.Dockable;
 
@@ -45,6 +47,21 @@ public class ProcessContextProcessEditor extends JPanel implements ProcessEditor
 
 	private final ProcessContextEditor editor = new ProcessContextEditor(null, null);
 
+	private Process process;
+
+	private ProcessContext context;
+
+	/**
+	 * The macros of the context and its input locations, which provide the meta data of the inner sources of the root
+	 * operator, are not parameters of any operator, so incremental validations would miss their changes.
+	 */
+	private final Observer<ProcessContext> contextObserver = (observable, arg) -> {
+		Process current = process;
+		if (current != null) {
+			current.getRootOperator().invalidateMetaData();
+		}
+	};
+
 	public ProcessContextProcessEditor() {
 		super(null);
 		setLayout(new BorderLayout());
@@ -55,11 +72,29 @@ public class ProcessContextProcessEditor extends JPanel implements ProcessEditor
 
 	@Override
 	public void processChanged(Process process) {
+		this.process = process;
+		observeContext(process != null ? process.getContext() : null);
 		editor.setProcess(process, null);
 	}
 
 	@Override
-	public void processUpdated(Process process) {}
+	public void processUpdated(Process process) {
+		if (process == this.process && process.getContext() != context) {
+			observeContext(process.getContext());
+			process.getRootOperator().invalidateMetaData();
+		}
+	}
+
+	/** Moves the {@link #contextObserver} to the given context. */
+	private void observeContext(ProcessContext newContext) {
+		if (context != null) {
+			context.removeObserver(contextObserver);
+		}
+		context = newContext;
+		if (context != null) {
+			context.addObserver(contextObserver, false);
+		}
+	}
 
 	@Override
 	public void setSelection(List<Operator> selection) {}
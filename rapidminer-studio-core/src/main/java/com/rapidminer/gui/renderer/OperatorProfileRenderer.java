@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.gui.renderer;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import javax.swing.BorderFactory;
+import javax.swing.JScrollPane;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeCellRenderer;
+
+import com.rapidminer.gui.look.Colors;
+import com.rapidminer.gui.tools.ExtendedJScrollPane;
+import com.rapidminer.operator.IOContainer;
+import com.rapidminer.operator.execution.OperatorProfile;
+import com.rapidminer.report.Reportable;
+import com.rapidminer.tools.Tools;
+
+
+/**
+ * Shows the {@link OperatorProfile#getTree() aggregated tree} of an {@link OperatorProfile}. Every node is
+ * underlaid with a bar whose length is proportional to its share of the elapsed time of the root, so that the
+ * expensive branches of the process stand out like in a flame graph.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class OperatorProfileRenderer extends NonGraphicalRenderer {
+
+	/** Paints the share of the elapsed time behind the node label. */
+	private static final class ProfileCellRenderer extends DefaultTreeCellRenderer {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long rootNanos;
+
+		private double share;
+
+		private ProfileCellRenderer(long rootNanos) {
+			this.rootNanos = rootNanos;
+			setBackgroundNonSelectionColor(null);
+		}
+
+		@Override
+		public Component getTreeCellRendererComponent(JTree tree, Object value, boolean selected, boolean expanded,
+													  boolean leaf, int row, boolean hasFocus) {
+			super.getTreeCellRendererComponent(tree, value, selected, expanded, leaf, row, hasFocus);
+			Object userObject = ((DefaultMutableTreeNode) value).getUserObject();
+			if (userObject instanceof OperatorProfile.Node) {
+				OperatorProfile.Node node = (OperatorProfile.Node) userObject;
+				share = rootNanos > 0 ? (double) node.getWallNanos() / rootNanos : 0;
+				setText(createLabel(node, share));
+			}
+			return this;
+		}
+
+		@Override
+		public void paintComponent(Graphics g) {
+			g.setColor(Colors.TEXT_HIGHLIGHT_BACKGROUND);
+			g.fillRect(0, 0, (int) (getWidth() * share), getHeight());
+			super.paintComponent(g);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "Operator Tree";
+	}
+
+	@Override
+	public Component getVisualizationComponent(Object renderable, IOContainer ioContainer) {
+		OperatorProfile.Node root = ((OperatorProfile) renderable).getTree();
+		JTree tree = new JTree(createTreeNode(root));
+		tree.setCellRenderer(new ProfileCellRenderer(root.getWallNanos()));
+		tree.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+		tree.setBackground(Colors.WHITE);
+		for (int i = 0; i < tree.getRowCount(); i++) {
+			tree.expandRow(i);
+		}
+		JScrollPane scrollPane = new ExtendedJScrollPane(tree);
+		scrollPane.setBorder(null);
+		return scrollPane;
+	}
+
+	@Override
+	public Reportable createReportable(Object renderable, IOContainer ioContainer) {
+		return new DefaultReadable(renderable.toString());
+	}
+
+	/**
+	 * Creates the swing tree node for the profile node and its children.
+	 */
+	private static DefaultMutableTreeNode createTreeNode(OperatorProfile.Node node) {
+		DefaultMutableTreeNode treeNode = new DefaultMutableTreeNode(node);
+		for (OperatorProfile.Node child : node.getChildren()) {
+			treeNode.add(createTreeNode(child));
+		}
+		return treeNode;
+	}
+
+	/**
+	 * Creates the label showing the times, the allocated memory and the number of executions of the node.
+	 */
+	private static String createLabel(OperatorProfile.Node node, double share) {
+		StringBuilder label = new StringBuilder(node.getName());
+		label.append("  ").append(Tools.formatDuration(node.getWallNanos() / 1_000_000));
+		label.append(" (").append(Tools.formatPercent(share)).append(')');
+		label.append(", cpu ").append(Tools.formatDuration(node.getCpuNanos() / 1_000_000));
+		label.append(", allocated ").append(Tools.formatBytes(node.getAllocatedBytes()));
+		if (node.getExecutions() > 0) {
+			label.append(", ").append(node.getExecutions()).append(node.getExecutions() == 1 ? " execution" :
+					" executions");
+		}
+		return label.toString();
+	}
+}
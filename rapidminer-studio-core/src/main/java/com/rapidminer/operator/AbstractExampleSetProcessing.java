@@ -19,6 +19,7 @@
 package com.rapidminer.operator;
 
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.set.ViewComposition;
 import com.rapidminer.example.table.DataRowFactory;
 import com.rapidminer.example.table.DataRowReader;
 import com.rapidminer.example.table.ExampleTable;
@@ -137,7 +138,8 @@ public abstract class AbstractExampleSetProcessing extends Operator {
 		// we apply on the materialized data, because writing can't take place in views anyway.
 		ExampleSet result = apply(applySet);
 		originalOutput.deliver(inputExampleSet);
-		exampleSetOutput.deliver(result);
+		// deep view chains that were read often are cheaper to hand on as a fresh table
+		exampleSetOutput.deliver(ViewComposition.materializeIfCheaper(result));
 	}
 
 	/**
@@ -20,6 +20,7 @@ package com.rapidminer.operator;
 
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.example.set.HeaderExampleSet;
+import com.rapidminer.operator.learner.meta.MetaModel;
 
 
 /**
@@ -74,6 +75,18 @@ public abstract class AbstractModel extends ResultObjectAdapter implements Model
 		return this.headerExampleSet;
 	}
 
+	/**
+	 * {@inheritDoc} The default implementation counts the nominal mappings of the training header.
+	 * Subclasses should add the size of their model data, {@link MetaModel}s the estimates of their
+	 * inner models.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		return headerExampleSet == null ? 0 : headerExampleSet.estimateMemoryBytes();
+	}
+
 	@Override
 	public ExampleSet apply(ExampleSet testObject, Operator operator) throws OperatorException {
 		if (operator != null) {
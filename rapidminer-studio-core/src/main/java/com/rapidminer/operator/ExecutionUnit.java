@@ -38,6 +38,7 @@ import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import com.rapidminer.Process;
@@ -100,6 +101,12 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 	private Vector<Operator> operators = new Vector<>();
 	private Vector<Operator> executionOrder;
 
+	/** Counts the changes of operators and connections, see {@link #invalidateTopologicalOrder()}. */
+	private final AtomicLong topologyModificationCount = new AtomicLong();
+
+	/** The cached topological order, see {@link #getTopologicalOrder()}. */
+	private volatile TopologicalOrder topologicalOrder;
+
 	/**
 	 * Container for user data.
 	 */
@@ -113,6 +120,8 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 	private final Observer<Port> delegatingPortObserver = new DelegatingObserver<>(this, this);
 	private final Observer<Operator> delegatingOperatorObserver = new DelegatingObserver<>(this,
 			this);
+	/** Invalidates the meta data of the enclosing operator if the inner ports change. */
+	private final Observer<Port> innerPortObserver = (observable, arg) -> getEnclosingOperator().invalidateMetaData();
 
 	public ExecutionUnit(OperatorChain enclosingOperator, String name) {
 		this.name = name;
@@ -122,6 +131,8 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		this.enclosingOperator = enclosingOperator;
 		innerInputPorts.addObserver(delegatingPortObserver, false);
 		innerOutputPorts.addObserver(delegatingPortObserver, false);
+		innerInputPorts.addObserver(innerPortObserver, false);
+		innerOutputPorts.addObserver(innerPortObserver, false);
 		int index = 0;
 		do {
 			char c = name.charAt(index);
@@ -248,6 +259,8 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		if (process != null && registerWithProcess) {
 			operator.registerOperator(process);
 		}
+		invalidateTopologicalOrder();
+		operator.invalidateMetaData();
 		fireUpdate(this);
 		operator.addObserver(delegatingOperatorObserver, false);
 		operator.clear(Port.CLEAR_ALL);
@@ -258,6 +271,8 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 
 	private void unregister(Operator operator) {
 		operator.removeObserver(delegatingOperatorObserver);
+		invalidateTopologicalOrder();
+		getEnclosingOperator().invalidateMetaData();
 	}
 
 	/**
@@ -288,6 +303,18 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		getInnerSources().clear(clearFlags);
 	}
 
+	/** The topological order together with the modification count it was computed for. */
+	private static final class TopologicalOrder {
+
+		private final long modificationCount;
+		private final List<Operator> operators;
+
+		private TopologicalOrder(long modificationCount, List<Operator> operators) {
+			this.modificationCount = modificationCount;
+			this.operators = operators;
+		}
+	}
+
 	/** Helper class to count the number of dependencies of an operator. */
 	private static class EdgeCounter {
 
@@ -372,8 +399,33 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		return sorted;
 	}
 
+	/**
+	 * Marks the cached topological order as outdated. Called whenever operators are added, removed or moved and whenever
+	 * the ports or connections of the contained operators change.
+	 *
+	 * @since 9.10.0
+	 */
+	void invalidateTopologicalOrder() {
+		topologyModificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns the result of {@link #topologicalSort()}, which is only computed again after
+	 * {@link #invalidateTopologicalOrder()} was called.
+	 */
+	private List<Operator> getTopologicalOrder() {
+		long modificationCount = topologyModificationCount.get();
+		TopologicalOrder order = topologicalOrder;
+		if (order == null || order.modificationCount != modificationCount) {
+			// if the graph changes during sorting, the order is stored for the old count and sorted again next time
+			order = new TopologicalOrder(modificationCount, Collections.unmodifiableList(topologicalSort()));
+			topologicalOrder = order;
+		}
+		return order.operators;
+	}
+
 	protected void updateExecutionOrder() {
-		this.executionOrder = topologicalSort();
+		this.executionOrder = new Vector<>(getTopologicalOrder());
 		if (!this.executionOrder.equals(operators)) {
 			if (operators.size() != executionOrder.size()) {
 				// we have a circle. without a check, operator vanishes.
@@ -387,14 +439,36 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		}
 	}
 
+	/**
+	 * Transforms the meta data of the contained operators in topological order. During an
+	 * {@link Operator#checkAllIncrementally() incremental pass}, only the operators that were modified or whose port
+	 * meta data changed are transformed, and the transformation stops as soon as the pass is cancelled.
+	 */
 	public void transformMetaData() {
-		List<Operator> sorted = topologicalSort();
+		MetaDataPass pass = MetaDataPass.current();
+		List<Operator> sorted = getTopologicalOrder();
+		if (pass == null) {
+			for (Operator op : getOperators()) {
+				op.clear(Port.CLEAR_META_DATA_ERRORS);
+			}
+		}
 		for (Operator op : sorted) {
-			op.transformMetaData();
+			if (pass != null) {
+				if (pass.isCancelled()) {
+					return;
+				}
+				if (!op.isMetaDataTransformationRequired()) {
+					continue;
+				}
+			}
+			op.transformAndRememberMetaData();
 		}
 		if (sorted.size() != operators.size()) {
 			List<Operator> remainder = new LinkedList<>(operators);
 			remainder.removeAll(sorted);
+			for (Operator nodeInCircle : remainder) {
+				nodeInCircle.clearOwnMetaDataErrors();
+			}
 			for (Operator nodeInCircle : remainder) {
 				for (OutputPort outputPort : nodeInCircle.getOutputPorts().getAllPorts()) {
 					InputPort destination = outputPort.getDestination();
@@ -933,6 +1007,7 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 				newIndex--;
 			}
 			operators.add(newIndex, op);
+			invalidateTopologicalOrder();
 			if (process != null) {
 				process.fireOperatorAdded(op);
 			}
@@ -951,6 +1026,7 @@ public class ExecutionUnit extends AbstractObservable<ExecutionUnit> {
 		for (Operator op : movedOperators) {
 			this.operators.add(index++, op);
 		}
+		invalidateTopologicalOrder();
 		updateExecutionOrder();
 		fireUpdate();
 	}
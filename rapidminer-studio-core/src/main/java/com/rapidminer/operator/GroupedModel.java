@@ -295,4 +295,9 @@ public class GroupedModel extends AbstractModel implements Iterable<Model>, Meta
 		}
 		return true;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -116,4 +116,17 @@ public interface IOObject extends Serializable {
 	default void setAllUserData(Map<String, Object> userDataMap) {
 		// does nothing, overwritten by {@link AbstractIOObject}
 	}
+
+	/**
+	 * Estimates the number of bytes this object occupies on the Java heap. The estimate is used to
+	 * decide how many copies of the object can be processed in parallel and is reported in the
+	 * process log when the object is delivered at a port. Data shared with other objects is
+	 * counted completely.
+	 *
+	 * @return the estimated number of bytes or {@code -1} if unknown
+	 * @since 9.10.0
+	 */
+	default long estimateMemoryBytes() {
+		return -1;
+	}
 }
@@ -74,6 +74,21 @@ public class IOObjectCollection<T extends IOObject> extends ResultObjectAdapter
 		return copy;
 	}
 
+	/**
+	 * {@inheritDoc} The estimate is the sum of the estimates of the children, children with an
+	 * unknown size are not counted.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		long bytes = 0;
+		for (T ioo : objects) {
+			bytes += Math.max(0, ioo.estimateMemoryBytes());
+		}
+		return bytes;
+	}
+
 	@Override
 	public String toResultString() {
 		StringBuilder b = new StringBuilder();
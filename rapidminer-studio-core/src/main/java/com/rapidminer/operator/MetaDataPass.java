@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * An incremental meta data pass as started by {@link Operator#checkAllIncrementally()}. While a pass is running on a
+ * thread, {@link ExecutionUnit#transformMetaData()} only transforms the operators that were modified or whose port
+ * meta data changed since their last transformation. The pass is cancelled as soon as the process is modified by
+ * another thread, since its result would be outdated anyway.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class MetaDataPass {
+
+	private static final ThreadLocal<MetaDataPass> CURRENT = new ThreadLocal<>();
+
+	private final AtomicLong modificationCount;
+	private final long startCount;
+
+	private MetaDataPass(AtomicLong modificationCount) {
+		this.modificationCount = modificationCount;
+		this.startCount = modificationCount.get();
+	}
+
+	/**
+	 * @return the pass running on the current thread or {@code null} if meta data is transformed completely
+	 */
+	static MetaDataPass current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Runs the transformation as an incremental pass on the current thread.
+	 *
+	 * @param modificationCount
+	 *            the counter of modifications of the process that cancel the pass
+	 * @param transformation
+	 *            the meta data transformation
+	 * @return {@code true} if the pass was completed, {@code false} if it was cancelled
+	 */
+	static boolean run(AtomicLong modificationCount, Runnable transformation) {
+		MetaDataPass pass = new MetaDataPass(modificationCount);
+		MetaDataPass previous = CURRENT.get();
+		CURRENT.set(pass);
+		try {
+			transformation.run();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+		return !pass.isCancelled();
+	}
+
+	/**
+	 * @return whether the process was modified by another thread since the pass was started
+	 */
+	boolean isCancelled() {
+		return modificationCount.get() != startCount;
+	}
+}
@@ -41,6 +41,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -66,6 +67,8 @@ import com.rapidminer.io.process.XMLTools;
 import com.rapidminer.operator.ProcessSetupError.Severity;
 import com.rapidminer.operator.annotation.ResourceConsumer;
 import com.rapidminer.operator.annotation.ResourceConsumptionEstimator;
+import com.rapidminer.operator.execution.OperatorResultCache;
+import com.rapidminer.operator.execution.ParallelUnitExecutor;
 import com.rapidminer.operator.nio.model.AbstractDataResultSetReader;
 import com.rapidminer.operator.ports.DeliveringPortManager;
 import com.rapidminer.operator.ports.InputPort;
@@ -268,6 +271,9 @@ public abstract class Operator extends AbstractObservable<Operator>
 	/** Parameters for this Operator. */
 	private Parameters parameters = null;
 
+	/** The parameter values after macro resolution. */
+	private final ParameterValueCache parameterValueCache = new ParameterValueCache();
+
 	/**
 	 * The values for this operator. The current value of a Value can be asked by the
 	 * ProcessLogOperator.
@@ -304,6 +310,27 @@ public abstract class Operator extends AbstractObservable<Operator>
 	 */
 	private boolean dirtynessWasPropagated = false;
 
+	/**
+	 * Counts the modifications of this operator and its inner operators that invalidate the meta data, see
+	 * {@link #invalidateMetaData()}.
+	 */
+	private final AtomicLong metaDataModificationCount = new AtomicLong();
+
+	/**
+	 * The value of {@link #metaDataModificationCount} at the last complete meta data transformation or -1 if the meta
+	 * data must be transformed again in any case.
+	 */
+	private volatile long transformedModificationCount = -1;
+
+	/** The meta data at the ports of this operator after the last meta data transformation. */
+	private volatile MetaData[] transformedMetaData;
+
+	/**
+	 * Counts the modifications of the operators below this root that were not made by a running meta data pass. Only
+	 * used for the root operator, see {@link #checkAllIncrementally()}.
+	 */
+	private final AtomicLong processModificationCount = new AtomicLong();
+
 	private transient final Logger logger = Logger.getLogger(Operator.class.getName());
 
 	private transient final LoggingHandler logService = new WrapperLoggingHandler(logger);
@@ -341,6 +368,8 @@ public abstract class Operator extends AbstractObservable<Operator>
 		outputPorts = createOutputPorts(portOwner);
 		inputPorts.addObserver(delegatingPortObserver, false);
 		outputPorts.addObserver(delegatingPortObserver, false);
+		inputPorts.addObserver(connectionObserver, false);
+		outputPorts.addObserver(connectionObserver, false);
 		makeDirtyOnUpdate(inputPorts);
 
 		addValue(new ValueDouble("applycount", "The number of times the operator was applied.", false) {
@@ -624,6 +653,7 @@ public abstract class Operator extends AbstractObservable<Operator>
 	public void setEnabled(boolean enabled) {
 		if (this.enabled != enabled) {
 			this.enabled = enabled;
+			invalidateMetaData();
 			fireUpdate(this);
 		}
 	}
@@ -658,6 +688,18 @@ public abstract class Operator extends AbstractObservable<Operator>
 		return applyCountAtLastExecution;
 	}
 
+	/**
+	 * Sets the apply count of the last execution to the number of times this operator was applied so
+	 * far. Used to reset a clone created by {@link #cloneOperator(String, boolean)} for parallel
+	 * execution, which shares this number with its original, before it is reused for another
+	 * parallel task. Operator chains reset their inner operators as well.
+	 *
+	 * @since 9.10.0
+	 */
+	public void resetApplyCount() {
+		applyCountAtLastExecution = applyCount.get();
+	}
+
 	// --------------------------------------------------------------------------------
 
 	/**
@@ -987,7 +1029,10 @@ public abstract class Operator extends AbstractObservable<Operator>
 			startTime = loopStartTime = System.currentTimeMillis();
 			startCpuTime = getThreadCpuTime();
 			if (process != null) {
-				process.setCurrentOperator(this);
+				// operators running in parallel would overwrite each other
+				if (!ParallelUnitExecutor.isExecutingParallelStage()) {
+					process.setCurrentOperator(this);
+				}
 				process.getRootOperator().processStartedOperator(this);
 			}
 
@@ -1017,10 +1062,17 @@ public abstract class Operator extends AbstractObservable<Operator>
 			getProgress().setTotal(OperatorProgress.NO_PROGRESS);
 
 			getOutputPorts().clear(Port.CLEAR_DATA);
+			OperatorResultCache.Statistics cacheStatistics = process != null ? process.getResultCacheStatistics() : null;
+			String cacheKey = cacheStatistics != null ? OperatorResultCache.getInstance().createKey(this) : null;
 			try {
 				isRunning = true;
 				fireUpdate();
-				doWork();
+				if (cacheKey == null || !OperatorResultCache.getInstance().deliverCached(this, cacheKey, cacheStatistics)) {
+					doWork();
+					if (cacheKey != null) {
+						OperatorResultCache.getInstance().store(this, cacheKey);
+					}
+				}
 				getLogger().fine("Completed application " + applyCount.get() + " of operator " + getName());
 			} catch (ProcessStoppedRuntimeException | ExecutionAbortedException e) {
 				// Convert unchecked exception to checked exception (unchecked exception might be
@@ -1330,6 +1382,7 @@ public abstract class Operator extends AbstractObservable<Operator>
 			// if not loaded already: do now
 			parameters = new Parameters(getParameterTypes());
 			parameters.addObserver(delegatingParameterObserver, false);
+			parameters.addObserver(metaDataObserver, false);
 
 			makeDirtyOnUpdate(parameters);
 		}
@@ -1366,12 +1419,15 @@ public abstract class Operator extends AbstractObservable<Operator>
 		if (this.parameters != parameters) {
 			if (this.parameters != null) {
 				this.parameters.removeObserver(delegatingParameterObserver);
+				this.parameters.removeObserver(metaDataObserver);
 				this.parameters.removeObserver(dirtyObserver);
 			}
 			if (parameters != null) {
 				parameters.addObserver(delegatingParameterObserver, false);
+				parameters.addObserver(metaDataObserver, false);
 				makeDirtyOnUpdate(parameters);
 			}
+			invalidateMetaData();
 		}
 		this.parameters = parameters;
 	}
@@ -1404,7 +1460,20 @@ public abstract class Operator extends AbstractObservable<Operator>
 	@Override
 	public String getParameter(String key) throws UndefinedParameterError {
 		try {
-			return replaceMacros(getParameters().getParameter(key), key);
+			String rawValue = getParameters().getParameter(key);
+			Process process = getProcess();
+			if (rawValue == null || process == null) {
+				return rawValue;
+			}
+			MacroHandler macroHandler = process.getMacroHandler();
+			OperatorVersion compatibilityLevel = getCompatibilityLevel();
+			String value = parameterValueCache.get(key, rawValue, macroHandler, compatibilityLevel);
+			if (value == null) {
+				long modificationCount = macroHandler.getModificationCount();
+				value = replaceMacros(rawValue, key);
+				parameterValueCache.put(key, rawValue, macroHandler, compatibilityLevel, modificationCount, value);
+			}
+			return value;
 		} catch (UndefinedParameterError e) {
 			e.setOperator(this);
 			throw e;
@@ -1439,33 +1508,40 @@ public abstract class Operator extends AbstractObservable<Operator>
 	/** Returns a single named parameter and casts it to int. */
 	@Override
 	public int getParameterAsInt(String key) throws UndefinedParameterError {
-		return getParameterAsIntNumber(key, Integer::valueOf, Integer::intValue);
+		return getParameterAsIntNumber(key, Integer.class, Integer::valueOf, Integer::intValue);
 	}
 
 	/** Returns a single named parameter and casts it to long. */
 	@Override
 	public long getParameterAsLong(String key) throws UndefinedParameterError {
-		return getParameterAsIntNumber(key, Long::valueOf, Long::valueOf);
+		return getParameterAsIntNumber(key, Long.class, Long::valueOf, Long::valueOf);
 	}
 
-	private <N extends Number> N getParameterAsIntNumber(String key,
+	private <N extends Number> N getParameterAsIntNumber(String key, Class<N> numberClass,
 														 Function<String, N> transformer,
 														 Function<Integer, N> caster) throws UndefinedParameterError{
-		ParameterType type = this.getParameters().getParameterType(key);
 		String value = getParameter(key);
+		N number = parameterValueCache.getTypedValue(key, value, numberClass);
+		if (number != null) {
+			return number;
+		}
+		ParameterType type = this.getParameters().getParameterType(key);
 		if (type instanceof ParameterTypeCategory) {
 			try {
-				return transformer.apply(value);
+				number = transformer.apply(value);
 			} catch (NumberFormatException e) {
 				ParameterTypeCategory categoryType = (ParameterTypeCategory) type;
-				return caster.apply(categoryType.getIndex(value));
+				number = caster.apply(categoryType.getIndex(value));
+			}
+		} else {
+			try {
+				number = transformer.apply(value);
+			} catch (NumberFormatException e) {
+				throw new UndefinedParameterError(key, this, "Expected long but found '" + value + "'.");
 			}
 		}
-		try {
-			return transformer.apply(value);
-		} catch (NumberFormatException e) {
-			throw new UndefinedParameterError(key, this, "Expected long but found '" + value + "'.");
-		}
+		parameterValueCache.putTypedValue(key, value, number);
+		return number;
 	}
 
 	/** Returns a single named parameter and casts it to double. */
@@ -1475,8 +1551,14 @@ public abstract class Operator extends AbstractObservable<Operator>
 		if (value == null) {
 			throw new UndefinedParameterError(key, this);
 		}
+		Double number = parameterValueCache.getTypedValue(key, value, Double.class);
+		if (number != null) {
+			return number;
+		}
 		try {
-			return Double.valueOf(value);
+			number = Double.valueOf(value);
+			parameterValueCache.putTypedValue(key, value, number);
+			return number;
 		} catch (NumberFormatException e) {
 			throw new UndefinedParameterError(key, this, "Expected real number but found '" + value + "'.");
 		}
@@ -1905,6 +1987,29 @@ public abstract class Operator extends AbstractObservable<Operator>
 		updateExecutionOrder();
 	}
 
+	/**
+	 * As {@link #checkAll()}, but keeps the meta data and only transforms the meta data of the operators that were
+	 * modified (see {@link #invalidateMetaData()}) or whose port meta data changed since their last transformation,
+	 * i.e. the modified operators and the operators downstream of them. The pass is abandoned as soon as the process is
+	 * modified by another thread, since a newer pass will follow anyway.
+	 *
+	 * @return {@code false} if the pass was abandoned
+	 * @since 9.10.0
+	 */
+	public boolean checkAllIncrementally() {
+		Operator root = getRoot();
+		root.clear(Port.CLEAR_SIMPLE_ERRORS);
+		if (isEnabled()) {
+			checkOperator();
+			if (!MetaDataPass.run(root.processModificationCount, root::transformMetaData)) {
+				return false;
+			}
+			propagateDirtyness();
+		}
+		updateExecutionOrder();
+		return true;
+	}
+
 	/** As check all, but does not check the meta data for performance reasons. */
 	public void checkAllExcludingMetaData() {
 		getRoot().clear(Port.CLEAR_METADATA | Port.CLEAR_SIMPLE_ERRORS);
@@ -2135,6 +2240,16 @@ public abstract class Operator extends AbstractObservable<Operator>
 	/** Sets the dirty flag on any update. */
 	@SuppressWarnings("rawtypes")
 	private final Observer dirtyObserver = (observable, arg) -> makeDirty();
+	/** Invalidates the meta data on any parameter change. */
+	private final Observer<String> metaDataObserver = (observable, arg) -> invalidateMetaData();
+	/** Invalidates the meta data and the topological order of the enclosing subprocess on any port change. */
+	private final Observer<Port> connectionObserver = (observable, arg) -> {
+		ExecutionUnit unit = enclosingExecutionUnit;
+		if (unit != null) {
+			unit.invalidateTopologicalOrder();
+		}
+		invalidateMetaData();
+	};
 	private ExecutionUnit enclosingExecutionUnit;
 
 	/**
@@ -2254,7 +2369,12 @@ public abstract class Operator extends AbstractObservable<Operator>
 	 * the meta data on the input Ports to be already calculated.
 	 */
 	public void transformMetaData() {
-		clear(Port.CLEAR_META_DATA_ERRORS);
+		if (MetaDataPass.current() == null) {
+			clear(Port.CLEAR_META_DATA_ERRORS);
+		} else {
+			// the inner operators keep their errors unless they are transformed again
+			clearOwnMetaDataErrors();
+		}
 		if (!isEnabled()) {
 			return;
 		}
@@ -2262,6 +2382,102 @@ public abstract class Operator extends AbstractObservable<Operator>
 		getTransformer().transformMetaData();
 	}
 
+	/**
+	 * Clears the meta data errors of the ports of this operator, but not of the ports of inner operators.
+	 */
+	void clearOwnMetaDataErrors() {
+		getInputPorts().clear(Port.CLEAR_META_DATA_ERRORS);
+		getOutputPorts().clear(Port.CLEAR_META_DATA_ERRORS);
+	}
+
+	/**
+	 * Transforms the meta data via {@link #transformMetaData()} and remembers the state it was transformed for, see
+	 * {@link #isMetaDataTransformationRequired()}.
+	 */
+	void transformAndRememberMetaData() {
+		long modificationCount = metaDataModificationCount.get();
+		int errors = errorList.size();
+		transformMetaData();
+		MetaDataPass pass = MetaDataPass.current();
+		// errors added by the transformation are cleared before the next pass, so they must be added again
+		boolean complete = errorList.size() == errors && (pass == null || !pass.isCancelled());
+		transformedMetaData = getPortMetaData();
+		transformedModificationCount = complete ? modificationCount : -1;
+	}
+
+	/**
+	 * Returns whether the meta data of this operator must be transformed again. This is the case if the operator was
+	 * modified since its last transformation or if the meta data at one of its ports is not the one at the last
+	 * transformation, e.g. because a predecessor delivered new meta data or the meta data was cleared.
+	 */
+	boolean isMetaDataTransformationRequired() {
+		MetaData[] transformed = transformedMetaData;
+		if (transformed == null || transformedModificationCount != metaDataModificationCount.get()
+				|| isMetaDataTransformationAlwaysRequired()) {
+			return true;
+		}
+		MetaData[] current = getPortMetaData();
+		if (current.length != transformed.length) {
+			return true;
+		}
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] != transformed[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the meta data of this operator must be transformed by every {@link #checkAllIncrementally()
+	 * incremental pass}, even if neither the operator nor the meta data at its ports changed. This is the case for
+	 * operators whose meta data depends on data outside of the process, e.g. files or repository entries that can
+	 * change without an edit of the process. Operators downstream are only transformed again if the meta data
+	 * delivered by this operator changes.
+	 *
+	 * @return {@code false} by default
+	 * @since 9.10.0
+	 */
+	protected boolean isMetaDataTransformationAlwaysRequired() {
+		return false;
+	}
+
+	/**
+	 * @return the meta data at the input ports followed by the meta data at the output ports
+	 */
+	private MetaData[] getPortMetaData() {
+		List<InputPort> inputs = getInputPorts().getAllPorts();
+		List<OutputPort> outputs = getOutputPorts().getAllPorts();
+		MetaData[] metaData = new MetaData[inputs.size() + outputs.size()];
+		int index = 0;
+		for (InputPort input : inputs) {
+			metaData[index++] = input.getRawMetaData();
+		}
+		for (OutputPort output : outputs) {
+			metaData[index++] = output.getRawMetaData();
+		}
+		return metaData;
+	}
+
+	/**
+	 * Marks the meta data of this operator and its enclosing operators as outdated, so that it is transformed again by
+	 * the next {@link #checkAllIncrementally() incremental pass}. This happens automatically when parameters, ports or
+	 * connections change. Operators whose meta data depends on other state must call this method when that state
+	 * changes. A running incremental pass of the process is cancelled unless this method is called by the pass itself.
+	 *
+	 * @since 9.10.0
+	 */
+	public void invalidateMetaData() {
+		Operator root = this;
+		for (Operator operator = this; operator != null; operator = operator.getParent()) {
+			operator.metaDataModificationCount.incrementAndGet();
+			root = operator;
+		}
+		if (MetaDataPass.current() == null) {
+			root.processModificationCount.incrementAndGet();
+		}
+	}
+
 	/**
 	 * By default, all ports will be auto-connected by
 	 * {@link ExecutionUnit#autoWire(CompatibilityLevel, boolean, boolean)}. Optional outputs were
@@ -560,6 +560,23 @@ public abstract class OperatorChain extends Operator {
 		}
 	}
 
+	@Override
+	public void resetApplyCount() {
+		super.resetApplyCount();
+		for (Operator operator : getImmediateChildren()) {
+			operator.resetApplyCount();
+		}
+	}
+
+	@Override
+	void clearOwnMetaDataErrors() {
+		super.clearOwnMetaDataErrors();
+		for (ExecutionUnit executionUnit : subprocesses) {
+			executionUnit.getInnerSinks().clear(Port.CLEAR_META_DATA_ERRORS);
+			executionUnit.getInnerSources().clear(Port.CLEAR_META_DATA_ERRORS);
+		}
+	}
+
 	@Override
 	public void assumePreconditionsSatisfied() {
 		super.assumePreconditionsSatisfied();
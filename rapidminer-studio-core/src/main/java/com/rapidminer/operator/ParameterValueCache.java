@@ -0,0 +1,267 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.rapidminer.MacroHandler;
+
+
+/**
+ * Remembers the parameter values of an {@link Operator} after macro resolution, together with their typed values,
+ * so that operators asking for the same parameter again and again, e.g. in loops, do not resolve macros and parse
+ * numbers each time.
+ * <p>
+ * Every raw parameter value is compiled once into a {@link Template} of its referenced macros. A resolved value
+ * stays valid while the raw value, the compatibility level of the operator and the values of the referenced macros
+ * are unchanged. Whether any macro changed is detected via {@link MacroHandler#getModificationCount()}, so only the
+ * referenced macros are compared after a macro was changed. Values referencing predefined macros like %{a} or %{t},
+ * which change without the macro handler noticing, are never cached; the cache only remembers that they are not
+ * cacheable, so that they are not compiled again on every access.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ParameterValueCache {
+
+	/**
+	 * The macros referenced by a raw parameter value.
+	 */
+	static final class Template {
+
+		private static final String[] NO_MACROS = new String[0];
+
+		private final String[] macros;
+		private final boolean cacheable;
+
+		private Template(String[] macros, boolean cacheable) {
+			this.macros = macros;
+			this.cacheable = cacheable;
+		}
+
+		/**
+		 * Finds the keys of the macros referenced by the value like
+		 * {@link MacroHandler#resolveMacros(String, String)}.
+		 *
+		 * @param value
+		 *            the raw parameter value
+		 * @return the template
+		 */
+		static Template compile(String value) {
+			int start = value.indexOf(Operator.MACRO_STRING_START);
+			if (start < 0) {
+				return new Template(NO_MACROS, true);
+			}
+			List<String> macros = new ArrayList<>();
+			boolean cacheable = true;
+			int position = 0;
+			while (start >= 0) {
+				int end = value.indexOf(Operator.MACRO_STRING_END, start + 2);
+				if (end < 0) {
+					break;
+				}
+				String macro = value.substring(start + 2, end);
+				macros.add(macro);
+				cacheable &= !MacroHandler.isPredefinedMacro(macro);
+				position = end + 1;
+				start = value.indexOf(Operator.MACRO_STRING_START, position);
+			}
+			return new Template(macros.toArray(NO_MACROS), cacheable);
+		}
+
+		/**
+		 * @return the keys of the referenced macros
+		 */
+		String[] getMacros() {
+			return macros;
+		}
+
+		/**
+		 * @return whether the value only depends on the macros of the macro handler
+		 */
+		boolean isCacheable() {
+			return cacheable;
+		}
+	}
+
+	/**
+	 * A resolved parameter value together with everything it was resolved from, or a marker for a raw value whose
+	 * template is not cacheable.
+	 */
+	private static final class Entry {
+
+		private final String rawValue;
+		private final Template template;
+		private final MacroHandler macroHandler;
+		private final OperatorVersion compatibilityLevel;
+		private final long modificationCount;
+		private final String[] macroValues;
+		private final String value;
+		private final Object typedValue;
+
+		private Entry(String rawValue, Template template, MacroHandler macroHandler,
+					  OperatorVersion compatibilityLevel, long modificationCount, String[] macroValues, String value,
+					  Object typedValue) {
+			this.rawValue = rawValue;
+			this.template = template;
+			this.macroHandler = macroHandler;
+			this.compatibilityLevel = compatibilityLevel;
+			this.modificationCount = modificationCount;
+			this.macroValues = macroValues;
+			this.value = value;
+			this.typedValue = typedValue;
+		}
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the marker for a raw value that references predefined macros.
+	 */
+	private static Entry notCacheable(String rawValue, Template template) {
+		return new Entry(rawValue, template, null, null, -1, null, null, null);
+	}
+
+	/**
+	 * Returns the resolved value of the parameter if it is still valid.
+	 *
+	 * @param key
+	 *            the parameter key
+	 * @param rawValue
+	 *            the current value of the parameter before macro resolution
+	 * @param macroHandler
+	 *            the macro handler of the process of the operator
+	 * @param compatibilityLevel
+	 *            the current compatibility level of the operator
+	 * @return the resolved value or {@code null} if it must be resolved again
+	 */
+	String get(String key, String rawValue, MacroHandler macroHandler, OperatorVersion compatibilityLevel) {
+		Entry entry = entries.get(key);
+		if (entry == null || !entry.template.isCacheable() || entry.macroHandler != macroHandler
+				|| !entry.rawValue.equals(rawValue) || !Objects.equals(entry.compatibilityLevel, compatibilityLevel)) {
+			return null;
+		}
+		long modificationCount = macroHandler.getModificationCount();
+		if (entry.modificationCount != modificationCount) {
+			String[] macros = entry.template.getMacros();
+			for (int i = 0; i < macros.length; i++) {
+				if (!Objects.equals(entry.macroValues[i], macroHandler.getMacro(macros[i]))) {
+					return null;
+				}
+			}
+			// the referenced macros are unchanged, so the check is not necessary until the next change
+			entries.replace(key, entry, new Entry(entry.rawValue, entry.template, macroHandler,
+					entry.compatibilityLevel, modificationCount, entry.macroValues, entry.value, entry.typedValue));
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Remembers the resolved value of the parameter. Nothing is remembered if the value references predefined or
+	 * undefined macros or if the values of the referenced macros contain macros themselves.
+	 *
+	 * @param key
+	 *            the parameter key
+	 * @param rawValue
+	 *            the value of the parameter before macro resolution
+	 * @param macroHandler
+	 *            the macro handler used for the resolution
+	 * @param compatibilityLevel
+	 *            the compatibility level of the operator
+	 * @param modificationCount
+	 *            the modification count of the macro handler before the resolution
+	 * @param value
+	 *            the resolved value
+	 */
+	void put(String key, String rawValue, MacroHandler macroHandler, OperatorVersion compatibilityLevel,
+			 long modificationCount, String value) {
+		if (rawValue == null || value == null) {
+			return;
+		}
+		Entry old = entries.get(key);
+		boolean sameRawValue = old != null && old.rawValue.equals(rawValue);
+		if (sameRawValue && !old.template.isCacheable()) {
+			return;
+		}
+		Template template = sameRawValue ? old.template : Template.compile(rawValue);
+		if (!template.isCacheable()) {
+			entries.put(key, notCacheable(rawValue, template));
+			return;
+		}
+		String[] macros = template.getMacros();
+		String[] macroValues = new String[macros.length];
+		for (int i = 0; i < macros.length; i++) {
+			macroValues[i] = macroHandler.getMacro(macros[i]);
+			if (macroValues[i] == null || macroValues[i].contains(Operator.MACRO_STRING_START)) {
+				entries.remove(key);
+				return;
+			}
+		}
+		if (macroHandler.getModificationCount() != modificationCount) {
+			// a macro changed during the resolution
+			entries.remove(key);
+			return;
+		}
+		entries.put(key, new Entry(rawValue, template, macroHandler, compatibilityLevel, modificationCount,
+				macroValues, value, null));
+	}
+
+	/**
+	 * Returns the typed value remembered for the resolved value of the parameter.
+	 *
+	 * @param key
+	 *            the parameter key
+	 * @param value
+	 *            the resolved value as returned by {@link #get}
+	 * @param type
+	 *            the expected type
+	 * @return the typed value or {@code null} if there is none of the type for this resolved value
+	 */
+	<T> T getTypedValue(String key, String value, Class<T> type) {
+		Entry entry = entries.get(key);
+		if (entry == null || entry.value != value || !type.isInstance(entry.typedValue)) {
+			return null;
+		}
+		return type.cast(entry.typedValue);
+	}
+
+	/**
+	 * Remembers the typed value for the resolved value of the parameter. Nothing is remembered if the resolved value
+	 * is not the one remembered for the parameter.
+	 *
+	 * @param key
+	 *            the parameter key
+	 * @param value
+	 *            the resolved value as returned by {@link #get}
+	 * @param typedValue
+	 *            the value parsed from the resolved value
+	 */
+	void putTypedValue(String key, String value, Object typedValue) {
+		Entry entry = entries.get(key);
+		if (entry == null || entry.value != value) {
+			return;
+		}
+		entries.replace(key, entry, new Entry(entry.rawValue, entry.template, entry.macroHandler,
+				entry.compatibilityLevel, entry.modificationCount, entry.macroValues, entry.value, typedValue));
+	}
+}
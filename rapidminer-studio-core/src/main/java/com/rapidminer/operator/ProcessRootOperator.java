@@ -59,6 +59,8 @@ import com.rapidminer.repository.IOObjectEntry;
 import com.rapidminer.repository.RepositoryException;
 import com.rapidminer.repository.RepositoryLocation;
 import com.rapidminer.repository.RepositoryLocationType;
+import com.rapidminer.studio.concurrency.internal.ProcessTaskQueue;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.I18N;
 import com.rapidminer.tools.ListenerTools;
 import com.rapidminer.tools.LogService;
@@ -98,6 +100,12 @@ public final class ProcessRootOperator extends OperatorChain implements Connecti
 
 	public static final String PARAMETER_RANDOM_SEED = "random_seed";
 
+	/** @since 9.10.0 */
+	public static final String PARAMETER_PROCESS_PRIORITY = "process_priority";
+
+	/** @since 9.10.0 */
+	public static final String PARAMETER_MAXIMAL_PARALLEL_TASKS = "maximal_parallel_tasks";
+
 	public static final String PARAMETER_SEND_MAIL = "send_mail";
 
 	public static final String[] PARAMETER_SEND_MAIL_OPTIONS = { "always", "never", "for_long_processes" };
@@ -293,9 +301,22 @@ public final class ProcessRootOperator extends OperatorChain implements Connecti
 	 */
 	@Override
 	public void processStarts() throws OperatorException {
+		applySchedulingSettings();
 		ListenerTools.informAllAndThrow(x -> super.processStarts(), getListenerListCopy(), l -> l.processStarts(process));
 	}
 
+	/**
+	 * Hands the process priority and the maximal number of parallel tasks over to the task queue of the process, so
+	 * that the shared thread pool schedules the tasks of this process accordingly.
+	 */
+	private void applySchedulingSettings() throws UndefinedParameterError {
+		ProcessTaskQueue queue = ProcessTaskQueue.of(Resources.getConcurrencyContext(this));
+		if (queue != null) {
+			queue.setPriority(getParameterAsInt(PARAMETER_PROCESS_PRIORITY));
+			queue.setMaximalParallelism(getParameterAsInt(PARAMETER_MAXIMAL_PARALLEL_TASKS));
+		}
+	}
+
 	/** Counts the step and notifies all process listeners. */
 	public void processStartedOperator(Operator op) {
 		ListenerTools.informAllAndThrow(getListenerListCopy(), (Consumer<ProcessListener>) l -> l.processStartedOperator(process, op));
@@ -440,6 +461,13 @@ public final class ProcessRootOperator extends OperatorChain implements Connecti
 				"Global random seed for random generators (-1 for initialization by system time).", Integer.MIN_VALUE,
 				Integer.MAX_VALUE, seed));
 
+		types.add(new ParameterTypeInt(PARAMETER_PROCESS_PRIORITY,
+				"Weight of this process when the threads for parallel execution are shared with other running processes.",
+				1, Integer.MAX_VALUE, ProcessTaskQueue.DEFAULT_PRIORITY));
+		types.add(new ParameterTypeInt(PARAMETER_MAXIMAL_PARALLEL_TASKS,
+				"Maximal number of tasks of this process running in parallel (0 for no limit besides the number of threads).",
+				0, Integer.MAX_VALUE, 0));
+
 		types.add(new ParameterTypeCategory(PARAMETER_SEND_MAIL, "Send email upon completion of the proces.",
 				PARAMETER_SEND_MAIL_OPTIONS, PARAMETER_SEND_MAIL_NEVER));
 		NonEqualTypeCondition sendMailCondition = new NonEqualTypeCondition(this, PARAMETER_SEND_MAIL,
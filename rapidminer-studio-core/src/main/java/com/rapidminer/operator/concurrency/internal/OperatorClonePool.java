@@ -0,0 +1,525 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.concurrency.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.rapidminer.MacroHandler;
+import com.rapidminer.Process;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorChain;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.operator.ProcessStoppedException;
+import com.rapidminer.operator.ports.InputPort;
+import com.rapidminer.operator.ports.Port;
+import com.rapidminer.parameter.ParameterType;
+import com.rapidminer.parameter.ParameterTypeBoolean;
+import com.rapidminer.studio.concurrency.internal.AdaptiveBatching;
+import com.rapidminer.studio.concurrency.internal.ConcurrencyExecutionService;
+import com.rapidminer.studio.concurrency.internal.ConcurrencyExecutionServiceProvider;
+import com.rapidminer.studio.concurrency.internal.MemoryBudget;
+import com.rapidminer.studio.internal.Resources;
+
+
+/**
+ * Executes the iterations of a parallel operator on reusable clones of the operator. Instead of cloning the
+ * operator with all its subprocesses for every iteration, at most as many tasks as the concurrency context permits
+ * are running at the same time and every clone is reused for the next task as soon as the result of its previous task
+ * was collected. A loop over many small iterations therefore creates at most
+ * {@link #getCapacity()} clones. The tasks are collected in the order they finish and a new task is started right
+ * away, while the results are buffered until they can be handed on in the order of the iterations.
+ * <p>
+ * The granularity of the tasks is adapted by {@link AdaptiveBatching}: as soon as the first iterations are measured,
+ * short consecutive iterations are merged into one task that runs them one after another on the same clone, and fewer
+ * tasks are running at the same time if their results do not fit into the memory budget of the process.
+ * <p>
+ * A clone is reset between its tasks: its ports and those of its inner operators are cleared, it is detached from the
+ * background process of its previous task, so that {@link ConcurrencyExecutionService#prepareOperatorTask} can set up
+ * a new background process for the next one, and the apply counts of the clone and its inner operators are reset by
+ * {@link Operator#resetApplyCount()}. Before every iteration, the macros of the process are re-applied to the
+ * background process, so that macros defined by a previous iteration on the same clone do not leak into the next
+ * one. Like the operators of a sequential loop, the clones keep their parameters between iterations, so a pool must
+ * only be used during a single execution of the original operator.
+ * <p>
+ * The pool is not thread-safe: the tasks are created and their results are handled on the calling thread.
+ *
+ * @param <T>
+ *            the type of the operator
+ * @author agent
+ * @since 9.10.0
+ */
+public final class OperatorClonePool<T extends Operator> {
+
+	/**
+	 * The parameter name for &quot;This parameter enables the parallel execution of the iterations of this
+	 * operator.&quot; Offered by the operators using a pool, see {@link #createParallelExecutionParameter()}.
+	 */
+	public static final String PARAMETER_ENABLE_PARALLEL_EXECUTION = "enable_parallel_execution";
+
+	/**
+	 * how many tasks per running task may be held, running or finished, so that a slow task does not stall the
+	 * others while the results waiting for it stay bounded
+	 */
+	private static final int HELD_TASKS_PER_RUNNING_TASK = 2;
+
+	/** how long to wait for a finished task before checking for cancelled tasks and a stopped process */
+	private static final long WAIT_MILLIS = 100;
+
+	/**
+	 * Creates the task of an iteration.
+	 *
+	 * @param <T>
+	 *            the type of the operator
+	 * @param <V>
+	 *            the type of the result
+	 */
+	@FunctionalInterface
+	public interface TaskFactory<T extends Operator, V> {
+
+		/**
+		 * Creates the task of the iteration. Called on the calling thread in the order of the iterations, so that
+		 * random numbers can be drawn and shared state can be accessed here. The tasks of several iterations may be
+		 * created for the same clone before the first of them runs, so changes of the clone belong into the task.
+		 *
+		 * @param clone
+		 *            the clone the iteration runs on
+		 * @param iteration
+		 *            the index of the iteration
+		 * @return the task executing the iteration on the clone
+		 */
+		Callable<V> createTask(T clone, int iteration) throws OperatorException;
+	}
+
+	/**
+	 * Processes the result of an iteration.
+	 *
+	 * @param <V>
+	 *            the type of the result
+	 */
+	@FunctionalInterface
+	public interface ResultHandler<V> {
+
+		/**
+		 * Processes the result of the iteration. Called on the calling thread in the order of the iterations, even if
+		 * later iterations finished earlier.
+		 *
+		 * @param iteration
+		 *            the index of the iteration
+		 * @param result
+		 *            the result of its task
+		 * @return whether the remaining iterations should be executed
+		 */
+		boolean handle(int iteration, V result) throws OperatorException;
+	}
+
+	/**
+	 * The results of the iterations of a task together with their run time.
+	 */
+	private static final class Chunk<V> {
+
+		private final List<V> results;
+		private final long nanos;
+
+		private Chunk(List<V> results, long nanos) {
+			this.results = results;
+			this.nanos = nanos;
+		}
+
+		/**
+		 * Runs the tasks one after another and reports the index of the first iteration when finished.
+		 */
+		private static <V> Chunk<V> run(List<Callable<V>> tasks, int first, Completions completions) throws Exception {
+			try {
+				long start = System.nanoTime();
+				List<V> results = new ArrayList<>(tasks.size());
+				for (Callable<V> task : tasks) {
+					results.add(task.call());
+				}
+				return new Chunk<>(results, System.nanoTime() - start);
+			} finally {
+				completions.finished.add(first);
+			}
+		}
+	}
+
+	/**
+	 * A submitted task together with the clone it runs on.
+	 */
+	private static final class RunningTask<T, V> {
+
+		private final T clone;
+		private final Future<Chunk<V>> future;
+
+		private RunningTask(T clone, Future<Chunk<V>> future) {
+			this.clone = clone;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * The indices of the first iterations of the finished tasks. The waiting for them is managed, so that a worker
+	 * thread of a pool that waits here can be compensated.
+	 */
+	private static final class Completions implements ForkJoinPool.ManagedBlocker {
+
+		private final BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+		private Integer next;
+
+		/**
+		 * Waits a short time for the next finished task.
+		 *
+		 * @return the index of the first iteration of the task or {@code null} if none finished in time
+		 */
+		private Integer poll() throws InterruptedException {
+			ForkJoinPool.managedBlock(this);
+			Integer first = next;
+			next = null;
+			return first;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (next == null) {
+				next = finished.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			if (next == null) {
+				next = finished.poll();
+			}
+			return next != null;
+		}
+	}
+
+	private final T original;
+	private final int capacity;
+	private final AdaptiveBatching batching;
+	private final ConcurrencyExecutionService service;
+	private final Deque<T> idle = new ArrayDeque<>();
+	private int created;
+
+	/**
+	 * Creates a pool for the given operator with a capacity of the parallelism of its concurrency context.
+	 *
+	 * @param original
+	 *            the operator to clone
+	 */
+	public OperatorClonePool(T original) {
+		this(original, new AdaptiveBatching(Resources.getConcurrencyContext(original)));
+	}
+
+	/**
+	 * Creates a pool for the given operator.
+	 *
+	 * @param original
+	 *            the operator to clone
+	 * @param capacity
+	 *            the maximal number of tasks running at the same time
+	 */
+	public OperatorClonePool(T original, int capacity) {
+		this(original, new AdaptiveBatching(capacity, MemoryBudget.of(Resources.getConcurrencyContext(original))));
+	}
+
+	private OperatorClonePool(T original, AdaptiveBatching batching) {
+		this(original, batching, ConcurrencyExecutionServiceProvider.INSTANCE.getService());
+	}
+
+	/**
+	 * Creates a pool executing its tasks via the given service. Used for testing.
+	 */
+	OperatorClonePool(T original, AdaptiveBatching batching, ConcurrencyExecutionService service) {
+		this.original = original;
+		this.batching = batching;
+		this.capacity = batching.getParallelism();
+		this.service = service;
+	}
+
+	/**
+	 * @return the maximal number of tasks running at the same time and thereby of created clones
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of clones created so far
+	 */
+	public int getNumberOfClones() {
+		return created;
+	}
+
+	/**
+	 * @return the parameter type of {@link #PARAMETER_ENABLE_PARALLEL_EXECUTION}, enabled by default
+	 */
+	public static ParameterType createParallelExecutionParameter() {
+		return new ParameterTypeBoolean(PARAMETER_ENABLE_PARALLEL_EXECUTION,
+				"This parameter enables the parallel execution of the iterations of this operator. Please disable the parallel execution if you run into memory problems.",
+				true, true);
+	}
+
+	/**
+	 * Checks whether the iterations of the chain should be executed in parallel by a pool. This is not the case if
+	 * there are less than two iterations, if the user disabled {@link #PARAMETER_ENABLE_PARALLEL_EXECUTION}, if the
+	 * concurrency service is not available, if the concurrency context or the {@link MemoryBudget} of the process do
+	 * not permit parallel tasks or if there is a breakpoint inside the chain.
+	 *
+	 * @param chain
+	 *            the operator chain offering {@link #PARAMETER_ENABLE_PARALLEL_EXECUTION}
+	 * @param iterations
+	 *            the number of iterations
+	 * @return whether the iterations should be executed in parallel
+	 */
+	public static boolean isParallelizable(OperatorChain chain, int iterations) {
+		if (iterations < 2 || !ConcurrencyExecutionServiceProvider.INSTANCE.isInitialized()
+				|| !chain.getParameterAsBoolean(PARAMETER_ENABLE_PARALLEL_EXECUTION)) {
+			return false;
+		}
+		ConcurrencyContext context = Resources.getConcurrencyContext(chain);
+		if (!MemoryBudget.permitsParallelExecution(context)) {
+			return false;
+		}
+		for (Operator operator : chain.getAllInnerOperators()) {
+			if (operator.isEnabled() && operator.hasBreakpoint()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Executes the iterations on the clones of this pool via the {@link ConcurrencyExecutionService} and hands their
+	 * results to the handler in the order of the iterations. The sizes of the results are estimated by
+	 * {@link AdaptiveBatching#estimateResultBytes(Object)}.
+	 *
+	 * @param iterations
+	 *            the number of iterations
+	 * @param factory
+	 *            creates the tasks
+	 * @param handler
+	 *            processes the results
+	 * @see #execute(int, TaskFactory, ResultHandler, Function)
+	 */
+	public <V> void execute(int iterations, TaskFactory<T, V> factory, ResultHandler<V> handler)
+			throws OperatorException {
+		execute(iterations, factory, handler, Function.identity());
+	}
+
+	/**
+	 * Executes the iterations on the clones of this pool via the {@link ConcurrencyExecutionService} and hands their
+	 * results to the handler in the order of the iterations. The tasks are collected as they finish, so a slow task
+	 * does not keep the other clones idle. The side effects are synchronized for the task containing the last
+	 * iteration. As soon as the handler asks to stop or fails, the outstanding tasks are cancelled. If an iteration
+	 * fails, the error is thrown when the task containing it is collected.
+	 * <p>
+	 * The sizes of the results are estimated by {@link AdaptiveBatching#estimateResultBytes(Object)} from the objects
+	 * they hold, not counting the example tables they share with the input of the original operator. Until the first
+	 * tasks are measured, the results of an iteration are assumed to be as large as that input.
+	 *
+	 * @param iterations
+	 *            the number of iterations
+	 * @param factory
+	 *            creates the tasks
+	 * @param handler
+	 *            processes the results
+	 * @param resultObjects
+	 *            returns the objects held by a result, e.g. a list of {@link IOObject}s
+	 */
+	public <V> void execute(int iterations, TaskFactory<T, V> factory, ResultHandler<V> handler,
+			Function<? super V, ?> resultObjects) throws OperatorException {
+		List<IOObject> input = new ArrayList<>();
+		for (InputPort port : original.getInputPorts().getAllPorts()) {
+			input.add(port.getAnyDataOrNull());
+		}
+		batching.setInput(input);
+		// the running tasks and the results waiting for earlier iterations by the index of their first iteration
+		Map<Integer, RunningTask<T, V>> running = new HashMap<>();
+		Map<Integer, List<V>> finished = new HashMap<>();
+		Completions completions = new Completions();
+		int submitted = 0;
+		int handled = 0;
+		try {
+			while (true) {
+				int size = batching.getIterationsPerTask(iterations - submitted);
+				int limit = Math.min(capacity, batching.getTasksInFlight(size));
+				while (submitted < iterations && running.size() < limit
+						&& running.size() + finished.size() < HELD_TASKS_PER_RUNNING_TASK * limit) {
+					T clone = acquire();
+					Map<String, String> macros = getMacros(original.getProcess());
+					int first = submitted;
+					List<Callable<V>> tasks = new ArrayList<>(size);
+					for (int i = 0; i < size; i++) {
+						Callable<V> task = factory.createTask(clone, submitted++);
+						tasks.add(() -> {
+							restoreMacros(clone, macros);
+							return task.call();
+						});
+					}
+					Future<Chunk<V>> future = service.submitOperatorTask(original,
+							service.prepareOperatorTask(original.getProcess(), clone, original.getApplyCount(),
+									submitted == iterations, () -> Chunk.run(tasks, first, completions)));
+					running.put(first, new RunningTask<>(clone, future));
+					size = batching.getIterationsPerTask(iterations - submitted);
+					limit = Math.min(capacity, batching.getTasksInFlight(size));
+				}
+
+				// hand on the buffered results that are next in the order of the iterations
+				List<V> results;
+				while ((results = finished.remove(handled)) != null) {
+					for (V result : results) {
+						if (!handler.handle(handled++, result)) {
+							return;
+						}
+					}
+				}
+				if (handled >= iterations) {
+					return;
+				}
+
+				Integer first = awaitFinished(completions, running);
+				RunningTask<T, V> task = first == null ? null : running.remove(first);
+				if (task == null) {
+					continue;
+				}
+				Chunk<V> chunk = service.collectResults(original, Collections.singletonList(task.future)).get(0);
+				release(task.clone);
+				long bytes = 0;
+				for (V result : chunk.results) {
+					bytes += batching.estimateResultBytes(resultObjects.apply(result));
+				}
+				batching.record(chunk.results.size(), chunk.nanos, bytes);
+				finished.put(first, chunk.results);
+			}
+		} finally {
+			for (RunningTask<T, V> task : running.values()) {
+				task.future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Waits a short time for a task to finish. Tasks that were cancelled from outside or failed before they started
+	 * never report to the completions, so they are looked up directly if no task finished in time.
+	 *
+	 * @return the index of the first iteration of the finished task or {@code null} if none finished in time
+	 */
+	private <V> Integer awaitFinished(Completions completions, Map<Integer, RunningTask<T, V>> running)
+			throws ProcessStoppedException {
+		Integer first;
+		try {
+			first = completions.poll();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProcessStoppedException(original);
+		}
+		if (first != null) {
+			return first;
+		}
+		original.checkForStop();
+		for (Map.Entry<Integer, RunningTask<T, V>> entry : running.entrySet()) {
+			if (entry.getValue().future.isDone()) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns an idle clone or creates a new one.
+	 */
+	private T acquire() {
+		T clone = idle.poll();
+		if (clone == null) {
+			@SuppressWarnings("unchecked")
+			T newClone = (T) original.cloneOperator(original.getName(), true);
+			created++;
+			clone = newClone;
+		} else if (clone.getExecutionUnit() != null) {
+			// detach from the background process of the previous task
+			clone.remove();
+		}
+		clone.resetApplyCount();
+		return clone;
+	}
+
+	/**
+	 * @return the macros defined in the process
+	 */
+	private static Map<String, String> getMacros(Process process) {
+		Map<String, String> macros = new HashMap<>();
+		if (process != null) {
+			MacroHandler macroHandler = process.getMacroHandler();
+			for (Iterator<String> names = macroHandler.getDefinedMacroNames(); names.hasNext();) {
+				String name = names.next();
+				macros.put(name, macroHandler.getMacro(name));
+			}
+		}
+		return macros;
+	}
+
+	/**
+	 * Re-applies the given macros to the background process of the clone. Macros defined by previous iterations are
+	 * removed and only changed macros are set, so that cached parameter values stay valid.
+	 */
+	private void restoreMacros(T clone, Map<String, String> macros) {
+		Process process = clone.getProcess();
+		if (process == null || process == original.getProcess()) {
+			return;
+		}
+		MacroHandler macroHandler = process.getMacroHandler();
+		for (Iterator<String> names = macroHandler.getDefinedMacroNames(); names.hasNext();) {
+			String name = names.next();
+			if (!macros.containsKey(name)) {
+				macroHandler.removeMacro(name);
+			}
+		}
+		for (Map.Entry<String, String> macro : macros.entrySet()) {
+			if (!Objects.equals(macroHandler.getMacro(macro.getKey()), macro.getValue())) {
+				macroHandler.addMacro(macro.getKey(), macro.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Clears the data of the clone and its inner operators and makes it available for the next iteration.
+	 */
+	private void release(T clone) {
+		clone.clear(Port.CLEAR_DATA);
+		idle.push(clone);
+	}
+}
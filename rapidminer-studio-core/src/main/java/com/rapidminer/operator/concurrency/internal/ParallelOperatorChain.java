@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.example.utils.ExampleSets;
 import com.rapidminer.operator.ExecutionUnit;
@@ -33,6 +34,7 @@ import com.rapidminer.operator.OperatorVersion;
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.studio.concurrency.internal.MemoryBudget;
 import com.rapidminer.studio.internal.Resources;
 
 
@@ -56,14 +58,15 @@ public abstract class ParallelOperatorChain extends OperatorChain {
 	}
 
 	/**
-	 * This method checks whether the user has disabled the parallel execution or whether there are
-	 * breakpoints inside the subprocess. In boths situations the process needs to be executed
-	 * synchronously.
+	 * This method checks whether the user has disabled the parallel execution, whether there are
+	 * breakpoints inside the subprocess or whether the {@link MemoryBudget} of the process is
+	 * exhausted. In these situations the process needs to be executed synchronously.
 	 *
 	 * @return
 	 */
 	protected boolean checkParallelizability() {
-		if(Resources.getConcurrencyContext(this).getParallelism() == 1) {
+		ConcurrencyContext context = Resources.getConcurrencyContext(this);
+		if (!MemoryBudget.permitsParallelExecution(context)) {
 			return false;
 		}
 
@@ -0,0 +1,406 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.table.AttributeFactory;
+import com.rapidminer.example.utils.ExampleSetBuilder;
+import com.rapidminer.example.utils.ExampleSets;
+import com.rapidminer.operator.ResultObjectAdapter;
+import com.rapidminer.tools.Ontology;
+import com.rapidminer.tools.Tools;
+
+
+/**
+ * The measurements of the operator executions recorded by an {@link OperatorProfiler}. Contains one {@link Record}
+ * per operator execution, i.e. per operator and apply count, and can aggregate them into a tree of the operator
+ * hierarchy, see {@link #getTree()}. The profile can be transformed into an {@link ExampleSet} via
+ * {@link #createExampleSet()} and into JSON via {@link #toJson()}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class OperatorProfile extends ResultObjectAdapter {
+
+	private static final long serialVersionUID = 1L;
+
+	/** value of the time and memory measurements that are not supported by the JVM */
+	public static final long UNKNOWN = -1;
+
+	/**
+	 * The measurements of one execution of an operator. Times and allocated bytes are measured on the thread executing
+	 * the operator and include the nested operators of operator chains but not the work that the operator delegates to
+	 * other threads. Rows and columns are summed up over the example sets and tables at the ports.
+	 */
+	public static final class Record implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String operatorName;
+		private final String operatorKey;
+		private final List<String> path;
+		private final int applyCount;
+		private final long startTime;
+		private final long wallNanos;
+		private final long cpuNanos;
+		private final long allocatedBytes;
+		private final long inputRows;
+		private final long inputColumns;
+		private final long outputRows;
+		private final long outputColumns;
+		private final long conversions;
+
+		/**
+		 * Creates a new record.
+		 *
+		 * @param operatorName
+		 *            the name of the operator
+		 * @param operatorKey
+		 *            the key of the operator description
+		 * @param path
+		 *            the names of the enclosing operators, starting with the outermost, and of the operator
+		 * @param applyCount
+		 *            the apply count of the operator after the execution
+		 * @param startTime
+		 *            the start of the execution in milliseconds since the epoch
+		 * @param wallNanos
+		 *            the elapsed time in nanoseconds
+		 * @param cpuNanos
+		 *            the cpu time of the executing thread in nanoseconds or {@link #UNKNOWN}
+		 * @param allocatedBytes
+		 *            the bytes allocated by the executing thread or {@link #UNKNOWN}
+		 * @param inputRows
+		 *            the number of rows of the input data
+		 * @param inputColumns
+		 *            the number of columns of the input data
+		 * @param outputRows
+		 *            the number of rows of the output data
+		 * @param outputColumns
+		 *            the number of columns of the output data
+		 * @param conversions
+		 *            the number of data conversions performed by the executing thread
+		 */
+		public Record(String operatorName, String operatorKey, List<String> path, int applyCount, long startTime,
+					  long wallNanos, long cpuNanos, long allocatedBytes, long inputRows, long inputColumns,
+					  long outputRows, long outputColumns, long conversions) {
+			this.operatorName = operatorName;
+			this.operatorKey = operatorKey;
+			this.path = Collections.unmodifiableList(new ArrayList<>(path));
+			this.applyCount = applyCount;
+			this.startTime = startTime;
+			this.wallNanos = wallNanos;
+			this.cpuNanos = cpuNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.inputRows = inputRows;
+			this.inputColumns = inputColumns;
+			this.outputRows = outputRows;
+			this.outputColumns = outputColumns;
+			this.conversions = conversions;
+		}
+
+		public String getOperatorName() {
+			return operatorName;
+		}
+
+		public String getOperatorKey() {
+			return operatorKey;
+		}
+
+		/**
+		 * @return the names of the enclosing operators and of the operator, separated by {@code /}
+		 */
+		public String getPath() {
+			return String.join("/", path);
+		}
+
+		public int getApplyCount() {
+			return applyCount;
+		}
+
+		public long getStartTime() {
+			return startTime;
+		}
+
+		public long getWallNanos() {
+			return wallNanos;
+		}
+
+		public long getCpuNanos() {
+			return cpuNanos;
+		}
+
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		public long getInputRows() {
+			return inputRows;
+		}
+
+		public long getInputColumns() {
+			return inputColumns;
+		}
+
+		public long getOutputRows() {
+			return outputRows;
+		}
+
+		public long getOutputColumns() {
+			return outputColumns;
+		}
+
+		public long getConversions() {
+			return conversions;
+		}
+	}
+
+	/**
+	 * A node of the aggregated operator tree. Contains the summed up measurements of all executions of the operators
+	 * with the same path. The measurements of a node include those of its children.
+	 */
+	public static final class Node implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String name;
+		private final Map<String, Node> children = new LinkedHashMap<>();
+		private int executions;
+		private long wallNanos;
+		private long cpuNanos;
+		private long allocatedBytes;
+		private long conversions;
+
+		private Node(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of executions of the operator, {@code 0} for nodes that only group their children
+		 */
+		public int getExecutions() {
+			return executions;
+		}
+
+		public long getWallNanos() {
+			return wallNanos;
+		}
+
+		/**
+		 * @return the elapsed time not spent in the children
+		 */
+		public long getSelfWallNanos() {
+			long self = wallNanos;
+			for (Node child : children.values()) {
+				self -= child.wallNanos;
+			}
+			return Math.max(0, self);
+		}
+
+		public long getCpuNanos() {
+			return cpuNanos;
+		}
+
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		public long getConversions() {
+			return conversions;
+		}
+
+		/**
+		 * @return the children sorted by descending elapsed time
+		 */
+		public List<Node> getChildren() {
+			List<Node> sorted = new ArrayList<>(children.values());
+			sorted.sort((a, b) -> Long.compare(b.wallNanos, a.wallNanos));
+			return sorted;
+		}
+
+		/**
+		 * Adds the record to this node, which must be the node of the record path.
+		 */
+		private void add(Record record) {
+			executions++;
+			wallNanos += record.wallNanos;
+			cpuNanos = addKnown(cpuNanos, record.cpuNanos);
+			allocatedBytes = addKnown(allocatedBytes, record.allocatedBytes);
+			conversions += record.conversions;
+		}
+
+		/**
+		 * Adds the measurements of the children to nodes without executions of their own, e.g. the root of a profile
+		 * whose outermost operator has not finished yet.
+		 */
+		private void sumUpChildren() {
+			for (Node child : children.values()) {
+				child.sumUpChildren();
+			}
+			if (executions == 0) {
+				for (Node child : children.values()) {
+					wallNanos += child.wallNanos;
+					cpuNanos = addKnown(cpuNanos, child.cpuNanos);
+					allocatedBytes = addKnown(allocatedBytes, child.allocatedBytes);
+					conversions += child.conversions;
+				}
+			}
+		}
+
+		private static long addKnown(long sum, long value) {
+			return value == UNKNOWN ? sum : sum + value;
+		}
+	}
+
+	private final List<Record> records;
+
+	/**
+	 * Creates a profile of the given records.
+	 *
+	 * @param records
+	 *            the records in the order in which the operators finished
+	 */
+	public OperatorProfile(List<Record> records) {
+		this.records = Collections.unmodifiableList(new ArrayList<>(records));
+	}
+
+	/**
+	 * @return the records in the order in which the operators finished
+	 */
+	public List<Record> getRecords() {
+		return records;
+	}
+
+	/**
+	 * Aggregates the records by their path into a tree. The root has the name of the first path element if all
+	 * records share it, otherwise it is an unnamed node grouping all of them.
+	 *
+	 * @return the root of the aggregated tree
+	 */
+	public Node getTree() {
+		Node root = new Node("");
+		for (Record record : records) {
+			Node node = root;
+			for (String name : record.path) {
+				node = node.children.computeIfAbsent(name, Node::new);
+			}
+			node.add(record);
+		}
+		root.sumUpChildren();
+		if (root.children.size() == 1) {
+			return root.children.values().iterator().next();
+		}
+		return root;
+	}
+
+	/**
+	 * Creates an example set with one example per record.
+	 *
+	 * @return the records as example set
+	 */
+	public ExampleSet createExampleSet() {
+		Attribute operator = AttributeFactory.createAttribute("operator", Ontology.NOMINAL);
+		Attribute key = AttributeFactory.createAttribute("operator key", Ontology.NOMINAL);
+		Attribute path = AttributeFactory.createAttribute("path", Ontology.NOMINAL);
+		List<Attribute> attributes = new ArrayList<>();
+		attributes.add(operator);
+		attributes.add(key);
+		attributes.add(path);
+		attributes.add(AttributeFactory.createAttribute("apply count", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("start", Ontology.DATE_TIME));
+		attributes.add(AttributeFactory.createAttribute("wall time [ms]", Ontology.REAL));
+		attributes.add(AttributeFactory.createAttribute("cpu time [ms]", Ontology.REAL));
+		attributes.add(AttributeFactory.createAttribute("allocated bytes", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("input rows", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("input columns", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("output rows", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("output columns", Ontology.INTEGER));
+		attributes.add(AttributeFactory.createAttribute("conversions", Ontology.INTEGER));
+
+		ExampleSetBuilder builder = ExampleSets.from(attributes).withExpectedSize(records.size());
+		for (Record record : records) {
+			builder.addRow(new double[]{operator.getMapping().mapString(record.operatorName),
+					key.getMapping().mapString(record.operatorKey), path.getMapping().mapString(record.getPath()),
+					record.applyCount, record.startTime, record.wallNanos / 1e6, toMillis(record.cpuNanos),
+					orMissing(record.allocatedBytes), record.inputRows, record.inputColumns, record.outputRows,
+					record.outputColumns, record.conversions});
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Writes the records and the aggregated tree as JSON.
+	 *
+	 * @return the JSON representation of this profile
+	 * @throws JsonProcessingException
+	 *             if the serialization fails
+	 */
+	public String toJson() throws JsonProcessingException {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("records", records);
+		json.put("tree", getTree());
+		return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(json);
+	}
+
+	@Override
+	public String getName() {
+		return "Operator Profile";
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		appendNode(builder, getTree(), 0);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends one line per node with its elapsed time, cpu time and allocated bytes, indented by its depth.
+	 */
+	private static void appendNode(StringBuilder builder, Node node, int depth) {
+		builder.append(Tools.indent(depth)).append(node.name).append(": ").append(Tools.formatDuration(node.wallNanos / 1_000_000));
+		builder.append(", cpu ").append(Tools.formatDuration(node.cpuNanos / 1_000_000));
+		builder.append(", allocated ").append(Tools.formatBytes(node.allocatedBytes));
+		builder.append(", executions ").append(node.executions).append(Tools.getLineSeparator());
+		for (Node child : node.getChildren()) {
+			appendNode(builder, child, depth + 1);
+		}
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos == UNKNOWN ? Double.NaN : nanos / 1e6;
+	}
+
+	private static double orMissing(long value) {
+		return value == UNKNOWN ? Double.NaN : value;
+	}
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.rapidminer.RapidMiner;
+import com.rapidminer.adaption.belt.AtPortConverter;
+import com.rapidminer.adaption.belt.IOTable;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.Operator;
+
+
+/**
+ * A {@link ProcessFlowFilter} that measures every operator execution of a process: the elapsed time, the cpu time
+ * and the allocated bytes of the executing thread, the rows and columns of the example sets and tables at the input
+ * and output ports, and the number of data conversions at the ports. The measurements are available as
+ * {@link OperatorProfile} via {@link #getProfile()}.
+ * <p>
+ * A profiler is added to a process when it starts if
+ * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS} is enabled, otherwise nothing is measured.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class OperatorProfiler implements ProcessFlowFilter {
+
+	private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static final boolean CPU_TIME_SUPPORTED = THREAD_BEAN.isCurrentThreadCpuTimeSupported();
+
+	/** the bean providing the allocated bytes, {@code null} if the JVM does not support it */
+	private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+	/** The measurements of an operator that is running. */
+	private static final class Measurement {
+
+		private final long startTime = System.currentTimeMillis();
+		private final long startNanos = System.nanoTime();
+		private final long startCpu = getCpuTime();
+		private final long startAllocated = getAllocatedBytes();
+		private final long startConversions = AtPortConverter.getConversionsOfCurrentThread();
+		private final long[] inputSize;
+
+		private Measurement(List<FlowData> input) {
+			inputSize = countRowsAndColumns(input);
+		}
+
+		private OperatorProfile.Record finish(Operator operator, List<FlowData> output) {
+			long wall = System.nanoTime() - startNanos;
+			long cpu = startCpu == OperatorProfile.UNKNOWN ? OperatorProfile.UNKNOWN : getCpuTime() - startCpu;
+			long allocated = startAllocated == OperatorProfile.UNKNOWN ? OperatorProfile.UNKNOWN :
+					getAllocatedBytes() - startAllocated;
+			long conversions = AtPortConverter.getConversionsOfCurrentThread() - startConversions;
+			long[] outputSize = countRowsAndColumns(output);
+			String key = operator.getOperatorDescription() != null ? operator.getOperatorDescription().getKey() :
+					operator.getClass().getSimpleName();
+			return new OperatorProfile.Record(operator.getName(), key, getPath(operator), operator.getApplyCount(),
+					startTime, wall, cpu, allocated, inputSize[0], inputSize[1], outputSize[0], outputSize[1],
+					conversions);
+		}
+	}
+
+	/** the measurements of the running operators */
+	private final Map<Operator, Measurement> running = new ConcurrentHashMap<>();
+
+	/** the records of the finished operators */
+	private final List<OperatorProfile.Record> records = new ArrayList<>();
+
+	@Override
+	public void preOperator(Operator previousOperator, Operator nextOperator, List<FlowData> input) {
+		running.put(nextOperator, new Measurement(input));
+	}
+
+	@Override
+	public void postOperator(Operator previousOperator, Operator nextOperator, List<FlowData> output) {
+		Measurement measurement = running.remove(previousOperator);
+		if (measurement == null) {
+			return;
+		}
+		OperatorProfile.Record record = measurement.finish(previousOperator, output);
+		synchronized (records) {
+			records.add(record);
+		}
+	}
+
+	/**
+	 * Returns the measurements of all operators that finished so far.
+	 *
+	 * @return the current profile
+	 */
+	public OperatorProfile getProfile() {
+		synchronized (records) {
+			return new OperatorProfile(records);
+		}
+	}
+
+	/**
+	 * Returns the names of the enclosing operators, starting with the outermost, and of the operator.
+	 */
+	private static List<String> getPath(Operator operator) {
+		LinkedList<String> path = new LinkedList<>();
+		for (Operator current = operator; current != null; current = current.getParent()) {
+			path.addFirst(current.getName());
+		}
+		return path;
+	}
+
+	/**
+	 * Sums up the rows and columns of the example sets and tables in the flow data.
+	 */
+	private static long[] countRowsAndColumns(List<FlowData> data) {
+		long[] size = new long[2];
+		for (FlowData flowData : data) {
+			IOObject object = flowData.getData();
+			if (object instanceof ExampleSet) {
+				ExampleSet exampleSet = (ExampleSet) object;
+				size[0] += exampleSet.size();
+				size[1] += exampleSet.getAttributes().allSize();
+			} else if (object instanceof IOTable) {
+				IOTable table = (IOTable) object;
+				size[0] += table.getTable().height();
+				size[1] += table.getTable().width();
+			}
+		}
+		return size;
+	}
+
+	private static long getCpuTime() {
+		return CPU_TIME_SUPPORTED ? THREAD_BEAN.getCurrentThreadCpuTime() : OperatorProfile.UNKNOWN;
+	}
+
+	private static long getAllocatedBytes() {
+		return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) :
+				OperatorProfile.UNKNOWN;
+	}
+
+	private static com.sun.management.ThreadMXBean getAllocationBean() {
+		if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+			if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+				return bean;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,854 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+import com.rapidminer.RapidMiner;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.AttributeRole;
+import com.rapidminer.example.Example;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.set.AbstractExampleSet;
+import com.rapidminer.example.table.ExampleTable;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorChain;
+import com.rapidminer.operator.OperatorDescription;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.features.selection.AttributeWeightSelection;
+import com.rapidminer.operator.io.RepositorySource;
+import com.rapidminer.operator.ports.InputPort;
+import com.rapidminer.operator.ports.OutputPort;
+import com.rapidminer.operator.preprocessing.filter.ChangeAttributeName;
+import com.rapidminer.operator.preprocessing.filter.ChangeAttributeRole;
+import com.rapidminer.operator.preprocessing.filter.ExampleFilter;
+import com.rapidminer.operator.preprocessing.filter.ExampleRangeFilter;
+import com.rapidminer.operator.preprocessing.filter.MissingValueReplenishment;
+import com.rapidminer.operator.preprocessing.filter.NominalToNumeric;
+import com.rapidminer.operator.preprocessing.filter.RemoveDuplicates;
+import com.rapidminer.operator.preprocessing.filter.Sorting;
+import com.rapidminer.operator.preprocessing.filter.attributes.AttributeFilter;
+import com.rapidminer.operator.preprocessing.join.ExampleSetJoin;
+import com.rapidminer.operator.preprocessing.normalization.Normalization;
+import com.rapidminer.operator.preprocessing.transformation.aggregation.AggregationOperator;
+import com.rapidminer.operator.tools.IOObjectSerializer;
+import com.rapidminer.parameter.ParameterService;
+import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.repository.IOObjectEntry;
+import com.rapidminer.repository.RepositoryException;
+import com.rapidminer.repository.RepositoryLocation;
+import com.rapidminer.tools.FileSystemService;
+import com.rapidminer.tools.LogService;
+import com.rapidminer.tools.RandomGenerator;
+import com.rapidminer.tools.Tools;
+import com.rapidminer.tools.belt.BeltTools;
+
+
+/**
+ * Caches the results of deterministic operators, so that an operator that runs again with the same parameters and
+ * the same inputs delivers the results of the earlier execution instead of computing them again. Caching is enabled
+ * via {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE}.
+ * <p>
+ * The key of an execution combines a description of the operator (its key, class, version, compatibility level and
+ * ports), its parameter values after macro resolution, the fingerprints of the objects at its input ports and, for
+ * operators reading data from outside of the process, the {@link ExternalState} of that data, e.g. the date and size
+ * of a repository entry. The fingerprint of an example set is the hash of its attributes, annotations and values,
+ * the fingerprint of other objects is the hash of their serialization. Objects delivered by cached executions are
+ * fingerprinted by the key of the execution instead, so that a chain of cached operators does not need to hash its
+ * intermediate results. Fingerprints are only reused while the example set, its view on the rows and its table are
+ * unmodified, see {@link AbstractExampleSet#getMappingModificationCount(ExampleSet)}.
+ * <p>
+ * The results are stored serialized, in a memory tier bounded by
+ * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_MEMORY} and in a disk tier in the temporary folder
+ * of RapidMiner bounded by {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_DISK}. Both tiers drop
+ * the results that were not used for the longest time first. Every hit delivers new copies of the results.
+ * <p>
+ * Only operators that are registered via {@link #registerDeterministicOperator} are cached, and only if they do not
+ * use the global random generator. Operator chains are never cached.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class OperatorResultCache {
+
+	/**
+	 * Provides the state of the data that an operator reads from outside of its input ports, e.g. from the
+	 * repository. The state becomes part of the key of the execution.
+	 */
+	@FunctionalInterface
+	public interface ExternalState {
+
+		/**
+		 * Returns a description of the external data read by the operator that changes whenever the data changes.
+		 *
+		 * @param operator
+		 *            the operator about to be executed
+		 * @return the state of the external data
+		 * @throws OperatorException
+		 *             if the state cannot be determined, then the execution is not cached
+		 */
+		String getState(Operator operator) throws OperatorException;
+	}
+
+	/**
+	 * Counts the hits and misses of the cache for a process run.
+	 */
+	public static final class Statistics {
+
+		private final LongAdder memoryHits = new LongAdder();
+		private final LongAdder diskHits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		/**
+		 * @return the number of executions whose results were found in memory
+		 */
+		public long getMemoryHits() {
+			return memoryHits.sum();
+		}
+
+		/**
+		 * @return the number of executions whose results were found on disk
+		 */
+		public long getDiskHits() {
+			return diskHits.sum();
+		}
+
+		/**
+		 * @return the number of cacheable executions whose results were not found
+		 */
+		public long getMisses() {
+			return misses.sum();
+		}
+
+		@Override
+		public String toString() {
+			long memory = getMemoryHits();
+			long disk = getDiskHits();
+			return (memory + disk) + " hits (" + memory + " from memory, " + disk + " from disk), " + getMisses()
+					+ " misses";
+		}
+	}
+
+	/**
+	 * Weak reference that compares its referents by identity.
+	 */
+	private static final class IdentityKey extends WeakReference<Object> {
+
+		private final int hash;
+
+		private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey) obj).get();
+		}
+	}
+
+	/**
+	 * A fingerprint together with the state of the object it was computed for. The state does not reference the
+	 * object or its table, so that remembering the fingerprint does not keep them alive.
+	 */
+	private static final class Fingerprint {
+
+		private final String value;
+		private final List<Object> state;
+
+		private Fingerprint(String value, List<Object> state) {
+			this.value = value;
+			this.state = state;
+		}
+	}
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private static final String CACHE_FOLDER = "operator_results";
+
+	private static final String FILE_SUFFIX = ".cache";
+
+	private static final long MEGABYTE = 1024L * 1024;
+
+	/** marks outputs without data in the serialized results */
+	private static final int NO_DATA = -1;
+
+	private static final ExternalState NO_EXTERNAL_STATE = operator -> "";
+
+	private static final Map<Class<? extends Operator>, ExternalState> DETERMINISTIC_OPERATORS =
+			new ConcurrentHashMap<>();
+
+	private static final OperatorResultCache INSTANCE = new OperatorResultCache();
+
+	static {
+		registerDeterministicOperator(RepositorySource.class, OperatorResultCache::getRepositoryEntryState);
+		registerDeterministicOperator(AttributeFilter.class);
+		registerDeterministicOperator(AttributeWeightSelection.class);
+		registerDeterministicOperator(ExampleFilter.class);
+		registerDeterministicOperator(ExampleRangeFilter.class);
+		registerDeterministicOperator(ChangeAttributeName.class);
+		registerDeterministicOperator(ChangeAttributeRole.class);
+		registerDeterministicOperator(MissingValueReplenishment.class);
+		registerDeterministicOperator(NominalToNumeric.class);
+		registerDeterministicOperator(Normalization.class);
+		registerDeterministicOperator(RemoveDuplicates.class);
+		registerDeterministicOperator(Sorting.class);
+		registerDeterministicOperator(AggregationOperator.class);
+		registerDeterministicOperator(ExampleSetJoin.class);
+	}
+
+	/** the serialized results in the memory tier, in access order */
+	private final LinkedHashMap<String, byte[][]> memory = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long memoryBytes;
+
+	/** the sizes of the files in the disk tier, in access order, {@code null} until the folder was read */
+	private LinkedHashMap<String, Long> disk;
+
+	private long diskBytes;
+
+	/** the fingerprints of objects seen so far */
+	private final Map<IdentityKey, Fingerprint> fingerprints = new HashMap<>();
+
+	private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+
+	private OperatorResultCache() {}
+
+	/**
+	 * @return the cache shared by all processes
+	 */
+	public static OperatorResultCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @return whether caching is enabled via {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE}
+	 */
+	public static boolean isEnabled() {
+		return Tools.booleanValue(
+				ParameterService.getParameterValue(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE), false);
+	}
+
+	/**
+	 * Registers an operator class whose instances (including instances of subclasses) deliver the same results
+	 * whenever they are executed with the same parameters and inputs.
+	 *
+	 * @param operatorClass
+	 *            the operator class to register
+	 */
+	public static void registerDeterministicOperator(Class<? extends Operator> operatorClass) {
+		registerDeterministicOperator(operatorClass, NO_EXTERNAL_STATE);
+	}
+
+	/**
+	 * Registers an operator class whose instances (including instances of subclasses) deliver the same results
+	 * whenever they are executed with the same parameters, inputs and external data.
+	 *
+	 * @param operatorClass
+	 *            the operator class to register
+	 * @param externalState
+	 *            provides the state of the data the operators read from outside of their input ports
+	 */
+	public static void registerDeterministicOperator(Class<? extends Operator> operatorClass,
+													 ExternalState externalState) {
+		if (operatorClass == null) {
+			throw new IllegalArgumentException("operatorClass must not be null");
+		}
+		if (externalState == null) {
+			throw new IllegalArgumentException("externalState must not be null");
+		}
+		DETERMINISTIC_OPERATORS.put(operatorClass, externalState);
+	}
+
+	/**
+	 * Creates the key of the upcoming execution of the operator.
+	 *
+	 * @param operator
+	 *            the operator about to be executed, with its inputs at its input ports
+	 * @return the key or {@code null} if the execution cannot be cached
+	 */
+	public String createKey(Operator operator) {
+		ExternalState externalState = getExternalState(operator);
+		if (externalState == null) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			update(digest, describe(operator));
+			for (String key : new TreeSet<>(operator.getParameters().getKeys())) {
+				update(digest, key);
+				update(digest, getParameter(operator, key));
+			}
+			for (InputPort port : operator.getInputPorts().getAllPorts()) {
+				update(digest, port.getName());
+				IOObject data = port.getAnyDataOrNull();
+				update(digest, data == null ? "" : getFingerprint(data));
+			}
+			update(digest, externalState.getState(operator));
+			return toHex(digest.digest());
+		} catch (OperatorException | IOException | NoSuchAlgorithmException e) {
+			operator.getLogger().log(Level.FINE, e, () -> "Cannot cache the results of " + operator.getName());
+			return null;
+		}
+	}
+
+	/**
+	 * Delivers the results cached for the key to the output ports of the operator.
+	 *
+	 * @param operator
+	 *            the operator about to be executed
+	 * @param key
+	 *            the key created by {@link #createKey(Operator)}
+	 * @param statistics
+	 *            the statistics to count the hit or miss in
+	 * @return whether results were delivered, otherwise the operator must be executed
+	 */
+	public boolean deliverCached(Operator operator, String key, Statistics statistics) {
+		byte[][] results;
+		synchronized (memory) {
+			results = memory.get(key);
+		}
+		boolean fromMemory = results != null;
+		if (results == null) {
+			results = readFromDisk(key);
+		}
+		List<OutputPort> ports = operator.getOutputPorts().getAllPorts();
+		if (results == null || results.length != ports.size()) {
+			statistics.misses.increment();
+			return false;
+		}
+		IOObject[] objects = new IOObject[results.length];
+		try {
+			for (int i = 0; i < results.length; i++) {
+				if (results[i] != null) {
+					objects[i] = (IOObject) IOObjectSerializer.getInstance()
+							.deserialize(new ByteArrayInputStream(results[i]), BeltTools.getContext(operator));
+				}
+			}
+		} catch (IOException | ClassCastException e) {
+			operator.getLogger().log(Level.FINE, e, () -> "Cannot read the cached results of " + operator.getName());
+			remove(key);
+			statistics.misses.increment();
+			return false;
+		}
+		if (!fromMemory) {
+			putInMemory(key, results);
+		}
+		for (int i = 0; i < objects.length; i++) {
+			if (objects[i] != null) {
+				rememberFingerprint(objects[i], key + ':' + i);
+				ports.get(i).deliver(objects[i]);
+			}
+		}
+		(fromMemory ? statistics.memoryHits : statistics.diskHits).increment();
+		operator.getLogger().fine(() -> "Delivering cached results of " + operator.getName() + ".");
+		return true;
+	}
+
+	/**
+	 * Stores the results at the output ports of the operator after its execution.
+	 *
+	 * @param operator
+	 *            the executed operator
+	 * @param key
+	 *            the key created by {@link #createKey(Operator)} before the execution
+	 */
+	public void store(Operator operator, String key) {
+		List<OutputPort> ports = operator.getOutputPorts().getAllPorts();
+		byte[][] results = new byte[ports.size()][];
+		try {
+			for (int i = 0; i < results.length; i++) {
+				IOObject data = ports.get(i).getAnyDataOrNull();
+				if (data != null) {
+					results[i] = IOObjectSerializer.getInstance().serializeToBuffer(data);
+				}
+			}
+		} catch (IOException e) {
+			operator.getLogger().log(Level.FINE, e, () -> "Cannot cache the results of " + operator.getName());
+			return;
+		}
+		for (int i = 0; i < results.length; i++) {
+			IOObject data = ports.get(i).getAnyDataOrNull();
+			if (data != null) {
+				rememberFingerprint(data, key + ':' + i);
+			}
+		}
+		putInMemory(key, results);
+		writeToDisk(key, results);
+	}
+
+	/**
+	 * Removes all results from memory and disk.
+	 */
+	public void clear() {
+		synchronized (memory) {
+			memory.clear();
+			memoryBytes = 0;
+		}
+		synchronized (this) {
+			if (disk != null) {
+				for (String key : new ArrayList<>(disk.keySet())) {
+					deleteFile(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the external state provider of the operator or {@code null} if it is not deterministic.
+	 */
+	private static ExternalState getExternalState(Operator operator) {
+		if (operator instanceof OperatorChain) {
+			return null;
+		}
+		ExternalState externalState = null;
+		for (Map.Entry<Class<? extends Operator>, ExternalState> entry : DETERMINISTIC_OPERATORS.entrySet()) {
+			if (entry.getKey().isInstance(operator)) {
+				externalState = entry.getValue();
+				break;
+			}
+		}
+		if (externalState == null) {
+			return null;
+		}
+		if (operator.getParameters().getKeys().contains(RandomGenerator.PARAMETER_USE_LOCAL_RANDOM_SEED)) {
+			try {
+				if (!operator.getParameterAsBoolean(RandomGenerator.PARAMETER_USE_LOCAL_RANDOM_SEED)) {
+					return null;
+				}
+			} catch (UndefinedParameterError e) {
+				return null;
+			}
+		}
+		return externalState;
+	}
+
+	/**
+	 * Describes the operator like its signature: key, class, provider version, compatibility level and ports.
+	 */
+	private static String describe(Operator operator) {
+		StringBuilder builder = new StringBuilder();
+		OperatorDescription description = operator.getOperatorDescription();
+		builder.append(description.getKey()).append('|').append(operator.getClass().getName());
+		if (description.getProvider() != null) {
+			builder.append('|').append(description.getProvider().getVersion());
+		}
+		builder.append('|').append(operator.getCompatibilityLevel());
+		for (InputPort port : operator.getInputPorts().getAllPorts()) {
+			builder.append("|in:").append(port.getName());
+		}
+		for (OutputPort port : operator.getOutputPorts().getAllPorts()) {
+			builder.append("|out:").append(port.getName());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the parameter value after macro resolution or an empty string if it is undefined.
+	 */
+	private static String getParameter(Operator operator, String key) throws UserError {
+		try {
+			String value = operator.getParameter(key);
+			return value == null ? "" : value;
+		} catch (UndefinedParameterError e) {
+			return "";
+		}
+	}
+
+	/**
+	 * The state of a Retrieve operator: the absolute location, the date and the size of its entry.
+	 */
+	private static String getRepositoryEntryState(Operator operator) throws OperatorException {
+		try {
+			RepositoryLocation location = operator.getParameterAsRepositoryLocationData(
+					RepositorySource.PARAMETER_REPOSITORY_ENTRY, IOObjectEntry.class);
+			IOObjectEntry entry = location.locateData();
+			if (entry == null) {
+				throw new UserError(operator, 312, location, "entry does not exist");
+			}
+			return entry.getLocation().getAbsoluteLocation() + '|' + entry.getDate() + '|' + entry.getSize();
+		} catch (RepositoryException e) {
+			throw new UserError(operator, e, 312,
+					operator.getParameterAsString(RepositorySource.PARAMETER_REPOSITORY_ENTRY), e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns the remembered fingerprint of the object if it is still valid, otherwise the hash of its values for
+	 * example sets or the hash of its serialization for other objects.
+	 */
+	String getFingerprint(IOObject object) throws IOException, NoSuchAlgorithmException {
+		List<Object> state = createState(object);
+		if (state != null) {
+			synchronized (fingerprints) {
+				expungeReleased();
+				Fingerprint fingerprint = fingerprints.get(new IdentityKey(object, null));
+				if (fingerprint != null && fingerprint.state.equals(state)) {
+					return fingerprint.value;
+				}
+			}
+		}
+		MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		if (object instanceof ExampleSet) {
+			updateWithValues(digest, (ExampleSet) object);
+			String value = toHex(digest.digest());
+			rememberFingerprint(object, value);
+			return value;
+		}
+		IOObjectSerializer.getInstance().serialize(new OutputStream() {
+
+			@Override
+			public void write(int b) {
+				digest.update((byte) b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				digest.update(b, off, len);
+			}
+		}, object);
+		String value = toHex(digest.digest());
+		rememberFingerprint(object, value);
+		return value;
+	}
+
+	/**
+	 * Remembers the fingerprint of the object as long as it is not modified.
+	 */
+	private void rememberFingerprint(IOObject object, String value) {
+		List<Object> state = createState(object);
+		if (state == null) {
+			return;
+		}
+		synchronized (fingerprints) {
+			expungeReleased();
+			fingerprints.put(new IdentityKey(object, released), new Fingerprint(value, state));
+		}
+	}
+
+	/**
+	 * Hashes the attributes with their roles and nominal mappings, the annotations and the values of the example set
+	 * without serializing it.
+	 */
+	private static void updateWithValues(MessageDigest digest, ExampleSet exampleSet) {
+		List<Attribute> attributes = new ArrayList<>();
+		Iterator<AttributeRole> roles = exampleSet.getAttributes().allAttributeRoles();
+		while (roles.hasNext()) {
+			AttributeRole role = roles.next();
+			Attribute attribute = role.getAttribute();
+			attributes.add(attribute);
+			update(digest, Objects.toString(role.getSpecialName(), "") + '|' + attribute.getName() + '|'
+					+ attribute.getValueType());
+			if (attribute.isNominal()) {
+				update(digest, String.join("|", attribute.getMapping().getValues()));
+			}
+		}
+		update(digest, new TreeMap<>(exampleSet.getAnnotations()).toString());
+		ByteBuffer buffer = ByteBuffer.allocate(Math.max(1, attributes.size()) * Double.BYTES);
+		for (Example example : exampleSet) {
+			buffer.clear();
+			for (Attribute attribute : attributes) {
+				buffer.putDouble(example.getValue(attribute));
+			}
+			digest.update(buffer.array(), 0, buffer.position());
+		}
+	}
+
+	/**
+	 * The state of an example set consists of the identity of its table, the modification counts of its table and
+	 * of its view on the rows of the table, its size, its attributes and its annotations. Returns {@code null} for
+	 * other objects, which might be modified without notice (e.g. performance vectors or collections), and for example
+	 * sets that do not keep track of their modifications, so that their fingerprints are computed again on every use.
+	 */
+	private static List<Object> createState(IOObject object) {
+		if (!(object instanceof ExampleSet)) {
+			return null;
+		}
+		ExampleSet exampleSet = (ExampleSet) object;
+		ExampleTable table = exampleSet.getExampleTable();
+		if (table == null) {
+			return null;
+		}
+		long tableModifications = table.getModificationCount();
+		long mappingModifications = AbstractExampleSet.getMappingModificationCount(exampleSet);
+		if (tableModifications < 0 || mappingModifications < 0) {
+			return null;
+		}
+		List<Object> state = new ArrayList<>();
+		state.add(System.identityHashCode(table));
+		state.add(tableModifications);
+		state.add(mappingModifications);
+		state.add(exampleSet.size());
+		Iterator<AttributeRole> roles = exampleSet.getAttributes().allAttributeRoles();
+		while (roles.hasNext()) {
+			AttributeRole role = roles.next();
+			Attribute attribute = role.getAttribute();
+			state.add(Objects.toString(role.getSpecialName(), ""));
+			state.add(attribute.getName());
+			state.add(attribute.getTableIndex());
+			state.add(System.identityHashCode(attribute.getLastTransformation()));
+			if (attribute.isNominal()) {
+				state.add(attribute.getMapping().size());
+				state.add(attribute.getMapping().getValues().hashCode());
+			}
+		}
+		state.add(new TreeMap<>(exampleSet.getAnnotations()));
+		return state;
+	}
+
+	private void expungeReleased() {
+		Reference<?> reference;
+		while ((reference = released.poll()) != null) {
+			fingerprints.remove(reference);
+		}
+	}
+
+	private void putInMemory(String key, byte[][] results) {
+		long limit = getLimit(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_MEMORY, 512);
+		long size = sizeOf(results);
+		if (size > limit) {
+			return;
+		}
+		synchronized (memory) {
+			byte[][] old = memory.put(key, results);
+			if (old != null) {
+				memoryBytes -= sizeOf(old);
+			}
+			memoryBytes += size;
+			Iterator<byte[][]> iterator = memory.values().iterator();
+			while (memoryBytes > limit && iterator.hasNext()) {
+				memoryBytes -= sizeOf(iterator.next());
+				iterator.remove();
+			}
+		}
+	}
+
+	private void remove(String key) {
+		synchronized (memory) {
+			byte[][] old = memory.remove(key);
+			if (old != null) {
+				memoryBytes -= sizeOf(old);
+			}
+		}
+		synchronized (this) {
+			if (getDiskEntries() != null) {
+				deleteFile(key);
+			}
+		}
+	}
+
+	private byte[][] readFromDisk(String key) {
+		Path file;
+		synchronized (this) {
+			LinkedHashMap<String, Long> entries = getDiskEntries();
+			if (entries == null || entries.get(key) == null) {
+				return null;
+			}
+			file = getFolder().resolve(key + FILE_SUFFIX);
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			byte[][] results = new byte[in.readInt()][];
+			for (int i = 0; i < results.length; i++) {
+				int length = in.readInt();
+				if (length != NO_DATA) {
+					results[i] = new byte[length];
+					in.readFully(results[i]);
+				}
+			}
+			file.toFile().setLastModified(System.currentTimeMillis());
+			return results;
+		} catch (IOException e) {
+			LogService.getRoot().log(Level.FINE, e, () -> "Cannot read cached operator results from " + file);
+			synchronized (this) {
+				deleteFile(key);
+			}
+			return null;
+		}
+	}
+
+	private void writeToDisk(String key, byte[][] results) {
+		long limit = getLimit(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_DISK, 4096);
+		long size = sizeOf(results);
+		if (size > limit) {
+			return;
+		}
+		Path folder;
+		synchronized (this) {
+			if (getDiskEntries() == null) {
+				return;
+			}
+			folder = getFolder();
+		}
+		Path file = folder.resolve(key + FILE_SUFFIX);
+		try {
+			Path temp = Files.createTempFile(folder, key, null);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(results.length);
+				for (byte[] result : results) {
+					out.writeInt(result == null ? NO_DATA : result.length);
+					if (result != null) {
+						out.write(result);
+					}
+				}
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LogService.getRoot().log(Level.FINE, e, () -> "Cannot write cached operator results to " + file);
+			return;
+		}
+		synchronized (this) {
+			Long old = disk.put(key, size);
+			if (old != null) {
+				diskBytes -= old;
+			}
+			diskBytes += size;
+			Iterator<String> iterator = new ArrayList<>(disk.keySet()).iterator();
+			while (diskBytes > limit && iterator.hasNext()) {
+				deleteFile(iterator.next());
+			}
+		}
+	}
+
+	/**
+	 * Returns the files of the disk tier, reading the folder on first access. Returns {@code null} if the disk tier
+	 * is disabled or the folder is not available.
+	 */
+	private LinkedHashMap<String, Long> getDiskEntries() {
+		if (getLimit(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_OPERATOR_RESULT_CACHE_DISK, 4096) == 0) {
+			return null;
+		}
+		if (disk == null) {
+			File[] files;
+			try {
+				Files.createDirectories(getFolder());
+				files = getFolder().toFile().listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+			} catch (IOException | RuntimeException e) {
+				LogService.getRoot().log(Level.FINE, e, () -> "Cannot access the operator result cache folder");
+				return null;
+			}
+			disk = new LinkedHashMap<>(16, 0.75f, true);
+			diskBytes = 0;
+			if (files != null) {
+				Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+				for (File file : files) {
+					String name = file.getName();
+					disk.put(name.substring(0, name.length() - FILE_SUFFIX.length()), file.length());
+					diskBytes += file.length();
+				}
+			}
+		}
+		return disk;
+	}
+
+	private void deleteFile(String key) {
+		Long size = disk.remove(key);
+		if (size != null) {
+			diskBytes -= size;
+		}
+		try {
+			Files.deleteIfExists(getFolder().resolve(key + FILE_SUFFIX));
+		} catch (IOException e) {
+			LogService.getRoot().log(Level.FINE, e, () -> "Cannot delete cached operator results " + key);
+		}
+	}
+
+	private static Path getFolder() {
+		return FileSystemService.getUserRapidMinerDir().toPath()
+				.resolve(FileSystemService.RAPIDMINER_INTERNAL_CACHE_TEMP_FULL).resolve(CACHE_FOLDER);
+	}
+
+	private static long getLimit(String property, int defaultMegabytes) {
+		String value = ParameterService.getParameterValue(property);
+		try {
+			return value == null ? defaultMegabytes * MEGABYTE : Math.max(0, Long.parseLong(value)) * MEGABYTE;
+		} catch (NumberFormatException e) {
+			return defaultMegabytes * MEGABYTE;
+		}
+	}
+
+	private static long sizeOf(byte[][] results) {
+		long size = 0;
+		for (byte[] result : results) {
+			size += result == null ? 0 : result.length;
+		}
+		return size;
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = Objects.toString(value, "").getBytes(StandardCharsets.UTF_8);
+		digest.update((byte) (bytes.length >>> 24));
+		digest.update((byte) (bytes.length >>> 16));
+		digest.update((byte) (bytes.length >>> 8));
+		digest.update((byte) bytes.length);
+		digest.update(bytes);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return builder.toString();
+	}
+}
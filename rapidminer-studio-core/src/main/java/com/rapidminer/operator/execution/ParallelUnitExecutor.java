@@ -0,0 +1,383 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.rapidminer.Process;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.operator.DataMacroDefinitionOperator;
+import com.rapidminer.operator.ExecutionUnit;
+import com.rapidminer.operator.FileEchoOperator;
+import com.rapidminer.operator.IOConsumeOperator;
+import com.rapidminer.operator.IOPublishToAppOperator;
+import com.rapidminer.operator.IORecallfromAppOperator;
+import com.rapidminer.operator.IORetrievalOperator;
+import com.rapidminer.operator.IOStorageOperator;
+import com.rapidminer.operator.MacroConstructionOperator;
+import com.rapidminer.operator.MacroDefinitionOperator;
+import com.rapidminer.operator.MemoryCleanUp;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorChain;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.operator.ScriptingOperator;
+import com.rapidminer.operator.SingleMacroDefinitionOperator;
+import com.rapidminer.operator.collections.CollectionIterationOperator;
+import com.rapidminer.operator.features.weighting.ProcessLog2AttributeWeights;
+import com.rapidminer.operator.filesystem.CopyFileOperator;
+import com.rapidminer.operator.filesystem.CreateDirectoryOperator;
+import com.rapidminer.operator.filesystem.DeleteFileOperator;
+import com.rapidminer.operator.filesystem.MoveFileOperator;
+import com.rapidminer.operator.filesystem.RenameFileOperator;
+import com.rapidminer.operator.io.AbstractStreamWriter;
+import com.rapidminer.operator.io.AbstractWriter;
+import com.rapidminer.operator.io.ExcelExampleSetWriter;
+import com.rapidminer.operator.io.ResultWriter;
+import com.rapidminer.operator.macros.UnsetMacroOperator;
+import com.rapidminer.operator.meta.AbstractFileIterator;
+import com.rapidminer.operator.meta.AbstractIteratingOperatorChain;
+import com.rapidminer.operator.meta.AbstractRepositoryIterator;
+import com.rapidminer.operator.meta.ExampleIterator;
+import com.rapidminer.operator.meta.ExceptionHandling;
+import com.rapidminer.operator.meta.FeatureIterator;
+import com.rapidminer.operator.meta.ValueIteration;
+import com.rapidminer.operator.meta.ValueSubgroupIteration;
+import com.rapidminer.operator.nio.file.WriteFileOperator;
+import com.rapidminer.operator.ports.InputPort;
+import com.rapidminer.operator.ports.OutputPort;
+import com.rapidminer.operator.postprocessing.RecallChooser;
+import com.rapidminer.operator.tools.SendMailOperator;
+import com.rapidminer.operator.util.annotations.ExtractAnnotation;
+import com.rapidminer.operator.visualization.ClearProcessLog;
+import com.rapidminer.operator.visualization.Data2Log;
+import com.rapidminer.operator.visualization.Macro2Log;
+import com.rapidminer.operator.visualization.ProcessLog2ExampleSet;
+import com.rapidminer.operator.visualization.ProcessLogOperator;
+import com.rapidminer.studio.internal.Resources;
+
+
+/**
+ * Executes an {@link ExecutionUnit} by running operators that do not depend on each other concurrently on the
+ * {@link ConcurrencyContext} of the process.
+ * <p>
+ * The operators are grouped into stages: an operator is placed into the first stage after the stages of all
+ * operators of the unit that are connected to its input ports. The operators of one stage are executed in parallel,
+ * the stages one after another. Operators with side effects on the process or outside of it, e.g. operators that
+ * define macros, remember or recall objects, log values, run scripts or write, copy, move or delete files, and
+ * operators with breakpoints are executed alone in their
+ * stage, and all operators before them in the execution order of the unit are finished before them while all
+ * operators after them are started afterwards. Operator chains are treated this way if they have such an operator
+ * inside. Additional operator classes with side effects can be registered via {@link #registerSequentialOperator}.
+ * <p>
+ * The process flow events are fired for every operator with the same previous and next operator as in the
+ * sequential execution of the {@link SimpleUnitExecutor}, but they are fired one after another. If the process has
+ * no context with a parallelism greater than one or all stages consist of a single operator, the unit is executed
+ * like by the {@link SimpleUnitExecutor}. Instances of this class can be shared.
+ * <p>
+ * The operators of a parallel stage, including their inner operators, do not set themselves as
+ * {@link Process#getCurrentOperator() current operator} of the process, see {@link #isExecutingParallelStage()}. If
+ * an operator of a parallel stage fails, it becomes the current operator.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class ParallelUnitExecutor implements UnitExecutor {
+
+	/** operator classes (including subclasses) that have side effects and must be executed in order */
+	private static final Set<Class<? extends Operator>> SEQUENTIAL_OPERATORS = new CopyOnWriteArraySet<>();
+
+	static {
+		// macros
+		registerSequentialOperator(MacroDefinitionOperator.class);
+		registerSequentialOperator(SingleMacroDefinitionOperator.class);
+		registerSequentialOperator(DataMacroDefinitionOperator.class);
+		registerSequentialOperator(MacroConstructionOperator.class);
+		registerSequentialOperator(UnsetMacroOperator.class);
+		registerSequentialOperator(ExtractAnnotation.class);
+		// loops and other chains defining macros for their subprocesses
+		registerSequentialOperator(AbstractIteratingOperatorChain.class);
+		registerSequentialOperator(AbstractFileIterator.class);
+		registerSequentialOperator(AbstractRepositoryIterator.class);
+		registerSequentialOperator(CollectionIterationOperator.class);
+		registerSequentialOperator(ExampleIterator.class);
+		registerSequentialOperator(FeatureIterator.class);
+		registerSequentialOperator(ValueIteration.class);
+		registerSequentialOperator(ValueSubgroupIteration.class);
+		registerSequentialOperator(ExceptionHandling.class);
+		// remember and recall
+		registerSequentialOperator(IOStorageOperator.class);
+		registerSequentialOperator(IORetrievalOperator.class);
+		registerSequentialOperator(IORecallfromAppOperator.class);
+		registerSequentialOperator(IOPublishToAppOperator.class);
+		registerSequentialOperator(RecallChooser.class);
+		// logging
+		registerSequentialOperator(ProcessLogOperator.class);
+		registerSequentialOperator(ClearProcessLog.class);
+		registerSequentialOperator(Data2Log.class);
+		registerSequentialOperator(Macro2Log.class);
+		registerSequentialOperator(ProcessLog2ExampleSet.class);
+		registerSequentialOperator(ProcessLog2AttributeWeights.class);
+		// writing files and repository entries
+		registerSequentialOperator(AbstractWriter.class);
+		registerSequentialOperator(AbstractStreamWriter.class);
+		registerSequentialOperator(ExcelExampleSetWriter.class);
+		registerSequentialOperator(ResultWriter.class);
+		registerSequentialOperator(WriteFileOperator.class);
+		registerSequentialOperator(FileEchoOperator.class);
+		// changing the file system
+		registerSequentialOperator(CopyFileOperator.class);
+		registerSequentialOperator(CreateDirectoryOperator.class);
+		registerSequentialOperator(DeleteFileOperator.class);
+		registerSequentialOperator(MoveFileOperator.class);
+		registerSequentialOperator(RenameFileOperator.class);
+		// others
+		registerSequentialOperator(ScriptingOperator.class);
+		registerSequentialOperator(SendMailOperator.class);
+		registerSequentialOperator(IOConsumeOperator.class);
+		registerSequentialOperator(MemoryCleanUp.class);
+	}
+
+	/** whether the current thread executes an operator of a parallel stage */
+	private static final ThreadLocal<Boolean> EXECUTING_PARALLEL_STAGE = new ThreadLocal<>();
+
+	private final SimpleUnitExecutor sequentialExecutor = new SimpleUnitExecutor();
+
+	/**
+	 * Registers an operator class whose instances (including instances of subclasses) have side effects on the
+	 * process, e.g. on its macros, and must therefore be executed in their order in the unit and not in parallel to
+	 * other operators.
+	 *
+	 * @param operatorClass
+	 *            the operator class to register
+	 */
+	public static void registerSequentialOperator(Class<? extends Operator> operatorClass) {
+		if (operatorClass == null) {
+			throw new IllegalArgumentException("operatorClass must not be null");
+		}
+		SEQUENTIAL_OPERATORS.add(operatorClass);
+	}
+
+	/**
+	 * Checks whether the current thread executes an operator of a stage that runs in parallel to other operators, or
+	 * an inner operator of such an operator. These operators must not change the state of the process that refers to
+	 * a single executing operator, like the {@link Process#setCurrentOperator current operator}.
+	 *
+	 * @return whether the current thread executes an operator of a parallel stage
+	 */
+	public static boolean isExecutingParallelStage() {
+		return EXECUTING_PARALLEL_STAGE.get() != null;
+	}
+
+	@Override
+	public void execute(ExecutionUnit unit) throws OperatorException {
+		Operator enclosingOperator = unit.getEnclosingOperator();
+		Process process = enclosingOperator.getProcess();
+		if (process == null) {
+			sequentialExecutor.execute(unit);
+			return;
+		}
+		ConcurrencyContext context = Resources.getConcurrencyContext(enclosingOperator);
+		if (context == null || context.getParallelism() < 2) {
+			sequentialExecutor.execute(unit);
+			return;
+		}
+
+		List<Operator> operators = new ArrayList<>();
+		Enumeration<Operator> opEnum = unit.getOperatorEnumeration();
+		while (opEnum.hasMoreElements()) {
+			operators.add(opEnum.nextElement());
+		}
+		List<List<Integer>> stages = createStages(operators);
+		if (stages.size() == operators.size()) {
+			// nothing to parallelize
+			sequentialExecutor.execute(unit);
+			return;
+		}
+
+		Logger logger = enclosingOperator.getLogger();
+		if (logger.isLoggable(Level.FINE)) {
+			logger.fine("Executing subprocess " + enclosingOperator.getName() + "." + unit.getName()
+					+ " in parallel. Execution order is: " + operators + ", stages are: " + stages);
+		}
+		Object eventLock = new Object();
+		for (List<Integer> stage : stages) {
+			if (stage.size() == 1) {
+				executeOperator(process, operators, stage.get(0), eventLock);
+				continue;
+			}
+			List<Callable<Void>> tasks = new ArrayList<>(stage.size());
+			AtomicReference<Operator> failedOperator = new AtomicReference<>();
+			for (Integer index : stage) {
+				tasks.add(() -> {
+					// the task might run in the calling thread if that is a pool thread itself
+					Boolean previous = EXECUTING_PARALLEL_STAGE.get();
+					EXECUTING_PARALLEL_STAGE.set(Boolean.TRUE);
+					try {
+						executeOperator(process, operators, index, eventLock);
+					} catch (Exception | Error e) {
+						failedOperator.compareAndSet(null, operators.get(index));
+						throw e;
+					} finally {
+						if (previous == null) {
+							EXECUTING_PARALLEL_STAGE.remove();
+						}
+					}
+					return null;
+				});
+			}
+			try {
+				context.call(tasks);
+			} catch (ExecutionException e) {
+				if (failedOperator.get() != null && !isExecutingParallelStage()) {
+					process.setCurrentOperator(failedOperator.get());
+				}
+				Throwable cause = e.getCause();
+				if (cause instanceof OperatorException) {
+					throw (OperatorException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				} else {
+					throw new OperatorException(cause.getMessage(), cause);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Executes the operator at the given index and fires the process flow events with the neighbors in the execution
+	 * order as previous and next operator.
+	 */
+	private static void executeOperator(Process process, List<Operator> operators, int index, Object eventLock)
+			throws OperatorException {
+		Operator operator = operators.get(index);
+		Operator lastOperator = index > 0 ? operators.get(index - 1) : null;
+		Operator nextOperator = index < operators.size() - 1 ? operators.get(index + 1) : null;
+
+		// fire event that we are about to start the operator
+		synchronized (eventLock) {
+			SimpleUnitExecutor.fireBeforeOperator(process, lastOperator, operator);
+		}
+
+		operator.execute();
+
+		// fire event that we finished the operator
+		synchronized (eventLock) {
+			SimpleUnitExecutor.fireAfterOperator(process, operator, nextOperator);
+		}
+		operator.freeMemory();
+	}
+
+	/**
+	 * Groups the indices of the operators, which are in execution order, into stages that can be executed one after
+	 * another where the operators of one stage do not depend on each other.
+	 */
+	static List<List<Integer>> createStages(List<Operator> operators) {
+		Map<Operator, Integer> stageOfOperator = new HashMap<>();
+		List<List<Integer>> stages = new ArrayList<>();
+		// the first stage operators can be placed into, all stages before end with a sequential operator
+		int firstFreeStage = 0;
+		for (int i = 0; i < operators.size(); i++) {
+			Operator operator = operators.get(i);
+			int stage;
+			if (isSequential(operator)) {
+				stage = stages.size();
+				firstFreeStage = stage + 1;
+			} else {
+				stage = firstFreeStage;
+				for (Operator predecessor : getPredecessors(operator)) {
+					Integer predecessorStage = stageOfOperator.get(predecessor);
+					if (predecessorStage != null) {
+						stage = Math.max(stage, predecessorStage + 1);
+					}
+				}
+			}
+			if (stage == stages.size()) {
+				stages.add(new ArrayList<>());
+			}
+			stages.get(stage).add(i);
+			stageOfOperator.put(operator, stage);
+		}
+		return stages;
+	}
+
+	/**
+	 * Returns the operators that are connected to the input ports of the given operator. This can contain the
+	 * enclosing operator for connections to the inner sources.
+	 */
+	private static List<Operator> getPredecessors(Operator operator) {
+		if (operator.getInputPorts() == null) {
+			return Collections.emptyList();
+		}
+		List<Operator> predecessors = new ArrayList<>();
+		for (InputPort inputPort : operator.getInputPorts().getAllPorts()) {
+			OutputPort source = inputPort.getSource();
+			if (source != null) {
+				predecessors.add(source.getPorts().getOwner().getOperator());
+			}
+		}
+		return predecessors;
+	}
+
+	/**
+	 * Checks whether the operator has a breakpoint or side effects, or contains an operator with side effects.
+	 */
+	static boolean isSequential(Operator operator) {
+		if (hasSideEffects(operator)) {
+			return true;
+		}
+		if (operator instanceof OperatorChain) {
+			for (Operator inner : ((OperatorChain) operator).getAllInnerOperators()) {
+				if (hasSideEffects(inner)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the operator has a breakpoint or is an instance of a registered sequential operator class.
+	 */
+	private static boolean hasSideEffects(Operator operator) {
+		if (operator.hasBreakpoint()) {
+			return true;
+		}
+		for (Class<? extends Operator> sequentialClass : SEQUENTIAL_OPERATORS) {
+			if (sequentialClass.isInstance(operator)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -56,22 +56,7 @@ public class SimpleUnitExecutor implements UnitExecutor {
 		while (operator != null) {
 
 			// fire event that we are about to start the next operator
-			if (process != null) {
-				// gather input data for connected ports
-				List<FlowData> input = new LinkedList<>();
-				if (operator.getInputPorts() != null) {
-					for (InputPort inputPort : operator.getInputPorts().getAllPorts()) {
-						if (inputPort.isConnected()) {
-							IOObject data = inputPort.getRawData();
-							if (data != null) {
-								data = FlowCleaner.INSTANCE.checkCleanup(data, inputPort);
-								input.add(new FlowData(data, inputPort));
-							}
-						}
-					}
-				}
-				process.fireProcessFlowBeforeOperator(lastOperator, operator, input);
-			}
+			fireBeforeOperator(process, lastOperator, operator);
 
 			// execute the operator
 			operator.execute();
@@ -80,24 +65,57 @@ public class SimpleUnitExecutor implements UnitExecutor {
 			operator = opEnum.hasMoreElements() ? opEnum.nextElement() : null;
 
 			// fire event that we finished last operator
-			if (process != null) {
-				// gather output data for connected ports
-				List<FlowData> output = new LinkedList<>();
-				if (lastOperator.getOutputPorts() != null) {
-					for (OutputPort outputPort : lastOperator.getOutputPorts().getAllPorts()) {
-						if (outputPort.isConnected()) {
-							IOObject data = outputPort.getRawData();
-							if (data != null) {
-								output.add(new FlowData(data, outputPort));
-							}
-						}
+			fireAfterOperator(process, lastOperator, operator);
+			lastOperator.freeMemory();
+		}
+
+	}
+
+	/**
+	 * Gathers the input data of the connected ports of the operator and fires the event that the operator is about
+	 * to start. Does nothing if the process is {@code null}.
+	 */
+	static void fireBeforeOperator(Process process, Operator lastOperator, Operator operator) throws OperatorException {
+		if (process == null) {
+			return;
+		}
+		// gather input data for connected ports
+		List<FlowData> input = new LinkedList<>();
+		if (operator.getInputPorts() != null) {
+			for (InputPort inputPort : operator.getInputPorts().getAllPorts()) {
+				if (inputPort.isConnected()) {
+					IOObject data = inputPort.getRawData();
+					if (data != null) {
+						data = FlowCleaner.INSTANCE.checkCleanup(data, inputPort);
+						input.add(new FlowData(data, inputPort));
 					}
 				}
-				process.fireProcessFlowAfterOperator(lastOperator, operator, output);
 			}
-			lastOperator.freeMemory();
 		}
+		process.fireProcessFlowBeforeOperator(lastOperator, operator, input);
+	}
 
+	/**
+	 * Gathers the output data of the connected ports of the operator and fires the event that the operator finished.
+	 * Does nothing if the process is {@code null}.
+	 */
+	static void fireAfterOperator(Process process, Operator lastOperator, Operator operator) throws OperatorException {
+		if (process == null) {
+			return;
+		}
+		// gather output data for connected ports
+		List<FlowData> output = new LinkedList<>();
+		if (lastOperator.getOutputPorts() != null) {
+			for (OutputPort outputPort : lastOperator.getOutputPorts().getAllPorts()) {
+				if (outputPort.isConnected()) {
+					IOObject data = outputPort.getRawData();
+					if (data != null) {
+						output.add(new FlowData(data, outputPort));
+					}
+				}
+			}
+		}
+		process.fireProcessFlowAfterOperator(lastOperator, operator, output);
 	}
 
 }
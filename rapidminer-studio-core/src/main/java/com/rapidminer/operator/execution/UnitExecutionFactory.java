@@ -29,12 +29,26 @@ import com.rapidminer.operator.ExecutionUnit;
  */
 public abstract class UnitExecutionFactory {
 
-	private static UnitExecutionFactory instance = new SimpleUnitExecutionFactory();
+	private static volatile UnitExecutionFactory instance = new ParallelUnitExecutionFactory();
 
 	public static UnitExecutionFactory getInstance() {
 		return instance;
 	}
 
+	/**
+	 * Replaces the factory used to create the executors for all {@link ExecutionUnit}s.
+	 *
+	 * @param factory
+	 *            the new factory
+	 * @since 9.10.0
+	 */
+	public static void setInstance(UnitExecutionFactory factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("factory must not be null");
+		}
+		instance = factory;
+	}
+
 	public UnitExecutor getExecutor(ExecutionUnit unit) {
 		return instance.getExecutor(unit);
 	}
@@ -30,6 +30,7 @@ import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.ParameterTypeDouble;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
+import com.rapidminer.studio.internal.Resources;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -82,7 +83,7 @@ public class RemoveUselessFeatures extends AbstractFeatureSelection {
 
 	@Override
 	public ExampleSet apply(ExampleSet exampleSet) throws OperatorException {
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 
 		double numericalMinDeviation = getParameterAsDouble(PARAMETER_NUMERICAL_MIN_DEVIATION);
 		double nominalSingleValueUpper = getParameterAsDouble(PARAMETER_NOMINAL_SINGLE_VALUE_UPPER);
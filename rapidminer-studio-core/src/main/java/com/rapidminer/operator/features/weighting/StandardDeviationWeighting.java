@@ -29,6 +29,7 @@ import com.rapidminer.operator.OperatorDescription;
 import com.rapidminer.operator.OperatorException;
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeCategory;
+import com.rapidminer.studio.internal.Resources;
 
 
 /**
@@ -63,7 +64,7 @@ public class StandardDeviationWeighting extends AbstractWeighting {
 
 	@Override
 	protected AttributeWeights calculateWeights(ExampleSet exampleSet) throws OperatorException {
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 
 		int normalization = getParameterAsInt(PARAMETER_NORMALIZE);
 		AttributeWeights weights = new AttributeWeights();
@@ -219,6 +219,18 @@ public abstract class AbstractReader<T extends IOObject> extends Operator {
 		return getDefaultMetaData();
 	}
 
+	/**
+	 * Readers always transform their meta data again, since the data they read can change without an edit of the
+	 * process.
+	 *
+	 * @return {@code true}
+	 * @since 9.10.0
+	 */
+	@Override
+	protected boolean isMetaDataTransformationAlwaysRequired() {
+		return true;
+	}
+
 	/**
 	 * Returns a basic {@link MetaData} object that can be used as a stand-in even if invalid parameters are chosen.
 	 * This method should return immediately and is not suitable for long running operations.
@@ -0,0 +1,252 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.io;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import com.rapidminer.Process;
+import com.rapidminer.RapidMiner;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.ports.metadata.ExampleSetMetaData;
+import com.rapidminer.operator.ports.metadata.MetaData;
+import com.rapidminer.operator.ports.metadata.table.TableMetaData;
+import com.rapidminer.repository.IOObjectEntry;
+import com.rapidminer.repository.RepositoryException;
+import com.rapidminer.studio.concurrency.internal.MemoryBudget;
+import com.rapidminer.studio.internal.Resources;
+import com.rapidminer.tools.ParameterService;
+import com.rapidminer.tools.Tools;
+import com.rapidminer.tools.belt.BeltTools;
+
+
+/**
+ * Loads the data of the {@link RepositorySource Retrieve} operators of a {@link Process} in the background as soon as
+ * the process starts, so that the operators do not wait for the repository one after the other. Only the enabled
+ * Retrieve operators at the top level of the process are considered, in their execution order, and only if their
+ * repository location can be resolved at the start of the process, i.e. it is static or only uses macros that are
+ * already set.
+ * <p>
+ * Entries are only prefetched as long as their estimated sizes fit into the memory available in the {@link
+ * MemoryBudget} of the process at its start. When the operator executes, it takes
+ * the prefetched data via {@link #take} if the location, the columns to load and the stored entry did not change in
+ * the meantime, otherwise it reads the entry itself. All loads are cancelled when the process stops.
+ * <p>
+ * Prefetching can be disabled via {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PREFETCH_REPOSITORY_DATA}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class RepositoryPrefetcher {
+
+	/** the data of a single Retrieve operator that is loaded in the background */
+	private static final class Prefetch {
+
+		private final IOObjectEntry entry;
+		private final String location;
+		private final long date;
+		private final long size;
+		private final Set<String> columns;
+		private Future<IOObject> future;
+
+		private Prefetch(IOObjectEntry entry, Set<String> columns) {
+			this.entry = entry;
+			this.location = entry.getLocation().getAbsoluteLocation();
+			this.date = entry.getDate();
+			this.size = entry.getSize();
+			this.columns = columns;
+		}
+
+		/**
+		 * Checks whether the operator would still read the same data.
+		 */
+		private boolean matches(IOObjectEntry entry, Set<String> columns) {
+			return location.equals(entry.getLocation().getAbsoluteLocation()) && date == entry.getDate()
+					&& size == entry.getSize() && Objects.equals(this.columns, columns);
+		}
+	}
+
+	private final Process process;
+
+	private final Map<RepositorySource, Prefetch> prefetches = new ConcurrentHashMap<>();
+
+	private volatile boolean cancelled;
+
+	private RepositoryPrefetcher(Process process) {
+		this.process = process;
+	}
+
+	/**
+	 * Starts loading the data of the Retrieve operators of the process in the background.
+	 *
+	 * @param process
+	 * 		the process that starts
+	 * @return the prefetcher or {@code null} if prefetching is disabled or there is nothing to prefetch
+	 */
+	public static RepositoryPrefetcher start(Process process) {
+		if (!Tools.booleanValue(ParameterService.getParameterValue(
+				RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_PREFETCH_REPOSITORY_DATA), true)) {
+			return null;
+		}
+		RepositoryPrefetcher prefetcher = new RepositoryPrefetcher(process);
+		return prefetcher.prefetch() ? prefetcher : null;
+	}
+
+	/**
+	 * Takes the data prefetched for the operator. Waits until the loading has finished if necessary.
+	 *
+	 * @param operator
+	 * 		the executing Retrieve operator
+	 * @param entry
+	 * 		the entry the operator reads
+	 * @param columns
+	 * 		the columns the operator reads, {@code null} for all columns
+	 * @return the prefetched data or {@code null} if there is none or it is outdated or loading it failed, in which
+	 * case the operator must read the data itself
+	 */
+	IOObject take(RepositorySource operator, IOObjectEntry entry, Set<String> columns) {
+		Prefetch prefetch = prefetches.remove(operator);
+		if (prefetch == null) {
+			return null;
+		}
+		if (!prefetch.matches(entry, columns)) {
+			prefetch.future.cancel(true);
+			process.getLogger().log(Level.FINE, "com.rapidminer.operator.io.RepositoryPrefetcher.outdated",
+					operator.getName());
+			return null;
+		}
+		try {
+			return prefetch.future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | CancellationException e) {
+			// the operator reads the entry again and reports the error if it persists
+			process.getLogger().log(Level.FINE, "com.rapidminer.operator.io.RepositoryPrefetcher.failed",
+					new Object[]{operator.getName(), e.getCause() != null ? e.getCause() : e});
+			return null;
+		}
+	}
+
+	/**
+	 * Cancels all loads that are still running and drops all prefetched data.
+	 */
+	public void cancel() {
+		cancelled = true;
+		for (Prefetch prefetch : prefetches.values()) {
+			prefetch.future.cancel(true);
+		}
+		prefetches.clear();
+	}
+
+	/**
+	 * Submits the loads for all Retrieve operators at the top level of the process whose data fits into the memory
+	 * budget.
+	 *
+	 * @return whether any load was submitted
+	 */
+	private boolean prefetch() {
+		Map<RepositorySource, Prefetch> candidates = new LinkedHashMap<>();
+		ConcurrencyContext context = Resources.getConcurrencyContext(process.getRootOperator());
+		MemoryBudget budget = MemoryBudget.of(context);
+		long available = budget.getAvailableBytes();
+		for (Operator operator : process.getRootOperator().getSubprocess(0).getEnabledOperators()) {
+			// subclasses might read their data differently
+			if (operator.getClass() != RepositorySource.class
+					|| operator.getParameterAsBoolean(RepositorySource.PARAMETER_READ_ON_DEMAND)) {
+				continue;
+			}
+			RepositorySource source = (RepositorySource) operator;
+			try {
+				IOObjectEntry entry = source.getRepositoryEntry();
+				long bytes = estimateBytes(entry);
+				if (bytes > available) {
+					process.getLogger().log(Level.FINE, "com.rapidminer.operator.io.RepositoryPrefetcher.skipped_memory",
+							new Object[]{source.getName(), Tools.formatBytes(bytes)});
+					continue;
+				}
+				available -= bytes;
+				candidates.put(source, new Prefetch(entry, source.getColumnsToLoad()));
+			} catch (RepositoryException | UserError e) {
+				// the location cannot be resolved yet, the operator reports any problem when it executes
+			}
+		}
+		if (candidates.isEmpty()) {
+			return false;
+		}
+
+		List<Callable<IOObject>> loads = new ArrayList<>(candidates.size());
+		for (Map.Entry<RepositorySource, Prefetch> candidate : candidates.entrySet()) {
+			RepositorySource source = candidate.getKey();
+			Prefetch prefetch = candidate.getValue();
+			process.getLogger().log(Level.FINE, "com.rapidminer.operator.io.RepositoryPrefetcher.prefetching",
+					new Object[]{prefetch.location, source.getName()});
+			loads.add(() -> {
+				if (cancelled) {
+					throw new CancellationException();
+				}
+				return prefetch.entry.retrieveData(null, prefetch.columns, BeltTools.getContext(source));
+			});
+		}
+		// the loads share the threads of the process with its operators
+		List<Future<IOObject>> futures = context.submit(loads);
+		int index = 0;
+		for (Map.Entry<RepositorySource, Prefetch> candidate : candidates.entrySet()) {
+			candidate.getValue().future = futures.get(index++);
+			prefetches.put(candidate.getKey(), candidate.getValue());
+		}
+		return true;
+	}
+
+	/**
+	 * Estimates the number of bytes the data of the entry needs in memory from its meta data or, if that does not
+	 * tell the size, from the stored size.
+	 */
+	private static long estimateBytes(IOObjectEntry entry) throws RepositoryException {
+		MetaData metaData = entry.retrieveMetaData();
+		if (metaData instanceof ExampleSetMetaData) {
+			ExampleSetMetaData emd = (ExampleSetMetaData) metaData;
+			Integer rows = emd.getNumberOfExamples().getNumber();
+			if (rows != null) {
+				return (long) rows * emd.getAllAttributes().size() * Double.BYTES;
+			}
+		} else if (metaData instanceof TableMetaData) {
+			TableMetaData tmd = (TableMetaData) metaData;
+			Integer rows = tmd.height().getNumber();
+			if (rows != null) {
+				return (long) rows * tmd.labels().size() * Double.BYTES;
+			}
+		}
+		return Math.max(0, entry.getSize());
+	}
+
+}
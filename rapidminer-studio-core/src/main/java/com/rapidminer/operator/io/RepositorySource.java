@@ -18,13 +18,23 @@
  */
 package com.rapidminer.operator.io;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
+import com.rapidminer.Process;
+import com.rapidminer.adaption.belt.IOTable;
+import com.rapidminer.belt.table.Table;
 import com.rapidminer.connection.ConnectionInformationContainerIOObject;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
 import com.rapidminer.gui.tools.ProgressThread;
 import com.rapidminer.operator.Annotations;
 import com.rapidminer.operator.IOObject;
@@ -35,9 +45,18 @@ import com.rapidminer.operator.ProcessSetupError.Severity;
 import com.rapidminer.operator.SimpleProcessSetupError;
 import com.rapidminer.operator.UserError;
 import com.rapidminer.operator.UserSetupError;
+import com.rapidminer.operator.ports.MetaDataChangeListener;
+import com.rapidminer.operator.ports.metadata.AttributeMetaData;
+import com.rapidminer.operator.ports.metadata.ExampleSetMetaData;
 import com.rapidminer.operator.ports.metadata.MetaData;
+import com.rapidminer.operator.ports.metadata.table.FromTableMetaDataConverter;
+import com.rapidminer.operator.ports.metadata.table.TableMetaData;
+import com.rapidminer.operator.ports.metadata.table.TableMetaDataBuilder;
 import com.rapidminer.operator.ports.quickfix.ParameterSettingQuickFix;
+import com.rapidminer.parameter.MetaDataProvider;
 import com.rapidminer.parameter.ParameterType;
+import com.rapidminer.parameter.ParameterTypeAttributes;
+import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.ParameterTypeRepositoryLocation;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.repository.IOObjectEntry;
@@ -45,6 +64,8 @@ import com.rapidminer.repository.RepositoryEntryNotFoundException;
 import com.rapidminer.repository.RepositoryEntryWrongTypeException;
 import com.rapidminer.repository.RepositoryException;
 import com.rapidminer.repository.RepositoryLocation;
+import com.rapidminer.tools.Ontology;
+import com.rapidminer.tools.belt.BeltTools;
 import com.rapidminer.tools.usagestats.ActionStatisticsCollector;
 
 
@@ -56,6 +77,20 @@ public class RepositorySource extends AbstractReader<IOObject> {
 
 	public static final String PARAMETER_REPOSITORY_ENTRY = "repository_entry";
 
+	/**
+	 * Parameter for the columns to read from a stored data table. If it is empty, all columns are read.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PARAMETER_COLUMNS_TO_LOAD = "columns_to_load";
+
+	/**
+	 * Parameter whether the values of a stored data table are only read when they are accessed.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final String PARAMETER_READ_ON_DEMAND = "read_on_demand";
+
 	/**
 	 * Map from Exception to i18n key.
 	 *
@@ -88,7 +123,7 @@ public class RepositorySource extends AbstractReader<IOObject> {
 		try {
 			MetaData metaData = entry.retrieveMetaData();
 			if (metaData != null) {
-				metaData = metaData.clone();
+				metaData = projectMetaData(metaData.clone(), getColumnsToLoad());
 				metaData.getAnnotations().setAnnotation(Annotations.KEY_SOURCE, entry.getLocation().toString());
 			}
 			return metaData;
@@ -180,7 +215,18 @@ public class RepositorySource extends AbstractReader<IOObject> {
 	public IOObject read() throws OperatorException {
 		try {
 			IOObjectEntry repositoryEntry = getRepositoryEntry();
-			final IOObject data = repositoryEntry.retrieveData(null);
+			Set<String> columns = getColumnsToLoad();
+			IOObject retrieved;
+			if (getParameterAsBoolean(PARAMETER_READ_ON_DEMAND)) {
+				retrieved = repositoryEntry.retrieveDataOnDemand(null, columns);
+			} else {
+				retrieved = takePrefetched(repositoryEntry, columns);
+				if (retrieved == null) {
+					retrieved = repositoryEntry.retrieveData(null, columns, BeltTools.getContext(this));
+				}
+			}
+			// entries that cannot read single columns deliver all of them, so the projection is checked again
+			final IOObject data = project(retrieved, columns);
 			data.getAnnotations().setAnnotation(Annotations.KEY_SOURCE, repositoryEntry.getLocation().toString());
 			logConnection(data);
 			return data;
@@ -197,9 +243,109 @@ public class RepositorySource extends AbstractReader<IOObject> {
 		type.setExpert(false);
 		type.setPrimary(true);
 		types.add(type);
+		types.add(new ParameterTypeAttributes(PARAMETER_COLUMNS_TO_LOAD, "The columns to read from a stored data " +
+				"table. Only these columns are loaded into memory. If empty, all columns are read.",
+				new EntryMetaDataProvider(), true, Ontology.ATTRIBUTE_VALUE));
+		types.add(new ParameterTypeBoolean(PARAMETER_READ_ON_DEMAND, "If checked, the values of a stored data table " +
+				"are read only when they are accessed and only the recently used parts are kept in memory. Useful " +
+				"to explore very large data tables.", false, true));
 		return types;
 	}
 
+	/**
+	 * Returns the columns specified by the parameter {@value #PARAMETER_COLUMNS_TO_LOAD}.
+	 *
+	 * @return the names of the columns to read or {@code null} if all columns should be read
+	 */
+	Set<String> getColumnsToLoad() throws UndefinedParameterError {
+		String value = getParameterAsString(PARAMETER_COLUMNS_TO_LOAD);
+		if (value == null || value.trim().isEmpty()) {
+			return null;
+		}
+		return new LinkedHashSet<>(Arrays.asList(value.split(ParameterTypeAttributes.ATTRIBUTE_SEPARATOR_REGEX)));
+	}
+
+	/**
+	 * Takes the data loaded in the background by the {@link RepositoryPrefetcher} of the process.
+	 *
+	 * @return the prefetched data or {@code null} if the data must be read
+	 */
+	private IOObject takePrefetched(IOObjectEntry entry, Set<String> columns) {
+		Process process = getProcess();
+		RepositoryPrefetcher prefetcher = process != null ? process.getRepositoryPrefetcher() : null;
+		return prefetcher != null ? prefetcher.take(this, entry, columns) : null;
+	}
+
+	/**
+	 * Removes all columns that are not part of the projection from the data table. Other objects are returned as they
+	 * are.
+	 *
+	 * @param data
+	 * 		the retrieved data
+	 * @param columns
+	 * 		the names of the columns to keep, {@code null} to keep all
+	 * @return the data with only the given columns
+	 */
+	static IOObject project(IOObject data, Set<String> columns) {
+		if (columns == null) {
+			return data;
+		}
+		if (data instanceof ExampleSet) {
+			ExampleSet exampleSet = (ExampleSet) data;
+			List<Attribute> removed = new ArrayList<>();
+			exampleSet.getAttributes().allAttributes().forEachRemaining(attribute -> {
+				if (!columns.contains(attribute.getName())) {
+					removed.add(attribute);
+				}
+			});
+			if (removed.isEmpty()) {
+				return data;
+			}
+			ExampleSet projected = (ExampleSet) exampleSet.clone();
+			for (Attribute attribute : removed) {
+				projected.getAttributes().remove(attribute);
+			}
+			return projected;
+		} else if (data instanceof IOTable) {
+			Table table = ((IOTable) data).getTable();
+			if (columns.containsAll(table.labels())) {
+				return data;
+			}
+			IOTable projected = new IOTable(table.columns(table.labels().stream().filter(columns::contains)
+					.collect(Collectors.toList())));
+			projected.getAnnotations().addAll(data.getAnnotations());
+			projected.setSource(data.getSource());
+			return projected;
+		}
+		return data;
+	}
+
+	/**
+	 * Removes all columns that are not part of the projection from the (already cloned) meta data.
+	 */
+	private static MetaData projectMetaData(MetaData metaData, Set<String> columns) {
+		if (columns == null) {
+			return metaData;
+		}
+		if (metaData instanceof ExampleSetMetaData) {
+			ExampleSetMetaData emd = (ExampleSetMetaData) metaData;
+			for (AttributeMetaData amd : new ArrayList<>(emd.getAllAttributes())) {
+				if (!columns.contains(amd.getName())) {
+					emd.removeAttribute(amd);
+				}
+			}
+		} else if (metaData instanceof TableMetaData) {
+			TableMetaDataBuilder builder = new TableMetaDataBuilder((TableMetaData) metaData);
+			for (String label : new ArrayList<>(builder.labels())) {
+				if (!columns.contains(label)) {
+					builder.remove(label);
+				}
+			}
+			return builder.build();
+		}
+		return metaData;
+	}
+
 	/**
 	 * Logs if the data is a connection.
 	 */
@@ -230,6 +376,36 @@ public class RepositorySource extends AbstractReader<IOObject> {
 		return entry;
 	}
 
+	/**
+	 * Provides the complete meta data of the selected entry for the selection of the columns to load.
+	 */
+	private final class EntryMetaDataProvider implements MetaDataProvider {
+
+		@Override
+		public MetaData getMetaData() {
+			try {
+				MetaData metaData = getRepositoryEntry().retrieveMetaData();
+				if (metaData instanceof TableMetaData) {
+					// the attribute selection expects example set meta data
+					return FromTableMetaDataConverter.convert((TableMetaData) metaData);
+				}
+				return metaData;
+			} catch (RepositoryException | UserError e) {
+				return null;
+			}
+		}
+
+		@Override
+		public void addMetaDataChangeListener(MetaDataChangeListener l) {
+			// nothing to do: the meta data is read from the entry on request
+		}
+
+		@Override
+		public void removeMetaDataChangeListener(MetaDataChangeListener l) {
+			// nothing to do: the meta data is read from the entry on request
+		}
+	}
+
 	private RepositoryLocation getRepositoryLocation(boolean failIfDuplicateIOObjectExists) throws UserError {
 		RepositoryLocation location = getParameterAsRepositoryLocationData(PARAMETER_REPOSITORY_ENTRY, IOObjectEntry.class);
 		// we do not allow to use the Retrieve operator when there is more than 1 IOObject entry with the same name (prefix)
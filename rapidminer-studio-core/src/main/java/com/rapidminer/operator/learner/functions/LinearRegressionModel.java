@@ -144,6 +144,23 @@ public class LinearRegressionModel extends PredictionModel {
 		return exampleSet;
 	}
 
+	/**
+	 * {@inheritDoc} Adds the coefficients and statistics of the regression.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		long values = length(coefficients) + length(standardErrors) + length(tolerances)
+				+ length(standardizedCoefficients) + length(tStatistics) + length(pValues);
+		return super.estimateMemoryBytes() + values * Double.BYTES
+				+ (selectedAttributes == null ? 0 : selectedAttributes.length);
+	}
+
+	private static int length(double[] array) {
+		return array == null ? 0 : array.length;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer result = new StringBuffer();
@@ -266,4 +266,9 @@ public class AdaBoostModel extends PredictionModel implements MetaModel {
 		}
 		return names;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -124,4 +124,9 @@ public class AdditiveRegressionModel extends PredictionModel implements MetaMode
 	public List<Model> getModels() {
 		return Arrays.asList(residualModels);
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -209,4 +209,9 @@ public class BaggingModel extends PredictionModel implements MetaModel {
 	public List<Model> getModels() {
 		return models;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -586,4 +586,9 @@ public class BayBoostModel extends PredictionModel implements MetaModel {
 		}
 		return models;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
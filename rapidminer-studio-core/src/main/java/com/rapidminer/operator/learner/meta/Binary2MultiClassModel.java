@@ -360,4 +360,9 @@ public class Binary2MultiClassModel extends PredictionModel implements MetaModel
 	public List<Model> getModels() {
 		return Arrays.asList(models);
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -151,4 +151,8 @@ public class ConfidenceVoteModel extends SimplePredictionModel implements MetaMo
 		return getLabel().getMapping().getIndex(bestClasses.get(bestClassIndex));
 	}
 
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
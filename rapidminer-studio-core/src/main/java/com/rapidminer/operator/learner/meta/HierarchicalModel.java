@@ -192,4 +192,9 @@ public class HierarchicalModel extends PredictionModel implements MetaModel {
 	public List<Model> getModels() {
 		return Arrays.asList();
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -261,4 +261,9 @@ public class HierarchicalMultiClassModel extends PredictionModel implements Meta
 		}
 		return names;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -187,4 +187,8 @@ public class MetaCostModel extends PredictionModel implements MetaModel {
 		return Arrays.asList(models);
 	}
 
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
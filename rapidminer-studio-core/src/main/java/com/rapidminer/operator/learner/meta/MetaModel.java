@@ -36,4 +36,22 @@ public interface MetaModel {
 
 	public List<String> getModelNames();
 
+	/**
+	 * Sums up the {@link Model#estimateMemoryBytes()} of the inner models of the given meta model.
+	 *
+	 * @param metaModel
+	 *            the meta model
+	 * @return the estimated number of bytes of the inner models
+	 * @since 9.10.0
+	 */
+	static long estimateInnerModelBytes(MetaModel metaModel) {
+		long bytes = 0;
+		for (Model model : metaModel.getModels()) {
+			if (model != null) {
+				bytes += Math.max(0, model.estimateMemoryBytes());
+			}
+		}
+		return bytes;
+	}
+
 }
@@ -139,4 +139,9 @@ public class MultiModelByRegression extends PredictionModel implements MetaModel
 	public List<Model> getModels() {
 		return Arrays.asList(models);
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -347,4 +347,9 @@ public class SDEnsemble extends PredictionModel implements MetaModel {
 		}
 		return models;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -145,4 +145,9 @@ public class SimpleVoteModel extends SimplePredictionModel implements MetaModel
 	public List<? extends Model> getModels() {
 		return baseModels;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -221,4 +221,9 @@ public class StackingModel extends PredictionModel implements MetaModel {
 		models.add(stackingModel);
 		return models;
 	}
+
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
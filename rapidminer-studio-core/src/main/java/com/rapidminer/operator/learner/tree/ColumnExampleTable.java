@@ -25,7 +25,6 @@ import java.util.concurrent.ExecutionException;
 
 import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.example.Attribute;
-import com.rapidminer.example.Example;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.example.Statistics;
 import com.rapidminer.example.table.NominalMapping;
@@ -177,15 +176,7 @@ public class ColumnExampleTable {
 	 * @param operator
 	 */
 	private void populate(ExampleSet exampleSet, Operator operator) {
-		int row = 0;
-		for (Example example : exampleSet) {
-			if (row % CHECK_FOR_STOP_INTERVAL == 0 && operator != null) {
-				Resources.getConcurrencyContext(operator).checkStatus();
-			}
-			fillInRow(example, row);
-			row++;
-		}
-
+		fillInRows(exampleSet, 0, numberOfExamples, operator != null ? Resources.getConcurrencyContext(operator) : null);
 	}
 
 	/**
@@ -218,14 +209,7 @@ public class ColumnExampleTable {
 
 				@Override
 				public Void call() {
-					Example example;
-					for (int row = startRow; row < endRow; row++) {
-						if ((row - startRow) % CHECK_FOR_STOP_INTERVAL == 0) {
-							context.checkStatus();
-						}
-						example = exampleSet.getExample(row);
-						fillInRow(example, row);
-					}
+					fillInRows(exampleSet, startRow, endRow, context);
 					return null;
 				}
 
@@ -247,35 +231,56 @@ public class ColumnExampleTable {
 	}
 
 	/**
-	 * Fills the example in specified row of all attribute columns.
+	 * Fills the rows from startRow (inclusive) to endRow (exclusive) of all attribute columns. The
+	 * values are read column-wise in blocks of {@link #CHECK_FOR_STOP_INTERVAL} rows via
+	 * {@link ExampleSet#readColumn(Attribute, int, double[], int, int)}.
 	 *
-	 * @param example
-	 * @param row
+	 * @param exampleSet
+	 *            the example set to read from
+	 * @param startRow
+	 *            the first row to fill
+	 * @param endRow
+	 *            the row after the last row to fill
+	 * @param context
+	 *            the context to check for stop, can be {@code null}
 	 */
-	private void fillInRow(Example example, int row) {
-		int column = 0;
-		for (Attribute attribute : regularNominalAttributes) {
-			double value = example.getValue(attribute);
-			if (Double.isNaN(value)) {
-				value = attribute.getMapping().size();
+	private void fillInRows(ExampleSet exampleSet, int startRow, int endRow, ConcurrencyContext context) {
+		double[] buffer = new double[Math.min(CHECK_FOR_STOP_INTERVAL, endRow - startRow)];
+		for (int from = startRow; from < endRow; from += CHECK_FOR_STOP_INTERVAL) {
+			if (context != null) {
+				context.checkStatus();
+			}
+			int length = Math.min(CHECK_FOR_STOP_INTERVAL, endRow - from);
+
+			int column = 0;
+			for (Attribute attribute : regularNominalAttributes) {
+				exampleSet.readColumn(attribute, from, buffer, 0, length);
+				byte missing = (byte) attribute.getMapping().size();
+				byte[] target = nominalColumnTable[column];
+				for (int i = 0; i < length; i++) {
+					double value = buffer[i];
+					target[from + i] = Double.isNaN(value) ? missing : (byte) value;
+				}
+				column++;
+			}
+			if (label.isNominal()) {
+				exampleSet.readColumn(label, from, buffer, 0, length);
+				for (int i = 0; i < length; i++) {
+					labelColumn[from + i] = (int) buffer[i];
+				}
+			} else {
+				exampleSet.readColumn(label, from, numericalLabelColumn, from, length);
 			}
-			nominalColumnTable[column][row] = (byte) value;
-			column++;
-		}
-		if (label.isNominal()) {
-			labelColumn[row] = (int) example.getValue(label);
-		} else {
-			numericalLabelColumn[row] = example.getValue(label);
-		}
 
-		column = 0;
-		for (Attribute attribute : regularNumericalAttributes) {
-			numericalColumnTable[column][row] = example.getValue(attribute);
-			column++;
-		}
+			column = 0;
+			for (Attribute attribute : regularNumericalAttributes) {
+				exampleSet.readColumn(attribute, from, numericalColumnTable[column], from, length);
+				column++;
+			}
 
-		if (weight != null) {
-			weightColumn[row] = example.getValue(weight);
+			if (weight != null) {
+				exampleSet.readColumn(weight, from, weightColumn, from, length);
+			}
 		}
 	}
 
@@ -98,4 +98,8 @@ public class ConfigurableRandomForestModel extends SimplePredictionModel impleme
 		return model.toString();
 	}
 
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + MetaModel.estimateInnerModelBytes(this);
+	}
 }
@@ -108,6 +108,26 @@ public class TreeModel extends TreePredictionModel {
 		}
 	}
 
+	/**
+	 * {@inheritDoc} Adds an estimate for the nodes of the tree.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public long estimateMemoryBytes() {
+		return super.estimateMemoryBytes() + estimateMemoryBytes(root);
+	}
+
+	private static long estimateMemoryBytes(Tree node) {
+		// the node with its child list and counter map, the edge and split condition pointing to it
+		long bytes = 256 + 64L * node.getCounterMap().size();
+		Iterator<Edge> childIterator = node.childIterator();
+		while (childIterator.hasNext()) {
+			bytes += estimateMemoryBytes(childIterator.next().getChild());
+		}
+		return bytes;
+	}
+
 	@Override
 	public String toString() {
 		return this.root.toString();
@@ -24,6 +24,7 @@ import com.rapidminer.tools.LoggingHandler;
 import com.rapidminer.tools.RandomGenerator;
 import com.rapidminer.tools.math.optimization.ec.es.ESOptimization;
 import com.rapidminer.tools.math.optimization.ec.es.Individual;
+import com.rapidminer.tools.math.optimization.ec.es.Population;
 
 
 /**
@@ -58,6 +59,13 @@ public class ESParameterOptimization extends ESOptimization {
 		return operator.setParametersAndEvaluate(individual);
 	}
 
+	/** Evaluates the whole generation in parallel if possible before the results are processed one by one. */
+	@Override
+	protected void evaluateAll(Population population) throws OperatorException {
+		operator.evaluateInParallel(population);
+		super.evaluateAll(population);
+	}
+
 	@Override
 	public void nextIteration() throws OperatorException {
 		this.operator.inApplyLoop();
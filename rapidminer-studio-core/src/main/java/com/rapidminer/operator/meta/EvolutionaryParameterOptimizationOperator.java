@@ -18,8 +18,11 @@
  */
 package com.rapidminer.operator.meta;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.OperatorDescription;
@@ -37,6 +40,7 @@ import com.rapidminer.tools.RandomGenerator;
 import com.rapidminer.tools.math.optimization.ec.es.ESOptimization;
 import com.rapidminer.tools.math.optimization.ec.es.Individual;
 import com.rapidminer.tools.math.optimization.ec.es.OptimizationValueType;
+import com.rapidminer.tools.math.optimization.ec.es.Population;
 
 
 /**
@@ -86,6 +90,9 @@ public class EvolutionaryParameterOptimizationOperator extends ParameterOptimiza
 	/** The parameter types. */
 	private OptimizationValueType[] types;
 
+	/** The individuals evaluated in parallel, adopted when the optimizer evaluates them. */
+	private final Map<Individual, Candidate> evaluatedIndividuals = new IdentityHashMap<>();
+
 	public EvolutionaryParameterOptimizationOperator(OperatorDescription description) {
 		super(description);
 		addValue(new ValueDouble("best", "best performance ever") {
@@ -126,6 +133,7 @@ public class EvolutionaryParameterOptimizationOperator extends ParameterOptimiza
 
 	@Override
 	public void doWork() throws OperatorException {
+		evaluatedIndividuals.clear();
 
 		// check parameter values list
 		List<ParameterValues> parameterValuesList = parseParameterValues(getParameterList("parameters"));
@@ -230,18 +238,64 @@ public class EvolutionaryParameterOptimizationOperator extends ParameterOptimiza
 	}
 
 	public PerformanceVector setParametersAndEvaluate(Individual individual) throws OperatorException {
+		Candidate candidate = evaluatedIndividuals.remove(individual);
+		if (candidate != null) {
+			return adopt(candidate);
+		}
+		String[] values = getParameterValues(individual);
+		for (int j = 0; j < values.length; j++) {
+			operators[j].getParameters().setParameter(parameters[j], values[j]);
+			getLogger().fine(operators[j] + "." + parameters[j] + " = " + values[j]);
+		}
+		return getPerformanceVector();
+	}
+
+	/**
+	 * Evaluates the individuals of the population which have no fitness yet in parallel if possible. The results
+	 * are adopted when {@link #setParametersAndEvaluate(Individual)} is called for the individuals.
+	 *
+	 * @param population
+	 *            the population to evaluate
+	 * @since 9.10.0
+	 */
+	void evaluateInParallel(Population population) throws OperatorException {
+		List<Individual> individuals = new ArrayList<>();
+		// same order as in ESOptimization#evaluateAll(Population)
+		for (int i = population.getNumberOfIndividuals() - 1; i >= 0; i--) {
+			if (population.get(i).getFitness() == null) {
+				individuals.add(population.get(i));
+			}
+		}
+		if (!checkParallelizability(individuals.size(), operators)) {
+			return;
+		}
+		List<String[]> candidates = new ArrayList<>(individuals.size());
+		for (Individual individual : individuals) {
+			candidates.add(getParameterValues(individual));
+		}
+		evaluateCandidatesInParallel(operators, parameters, candidates, (index, candidate) -> {
+			evaluatedIndividuals.put(individuals.get(index), candidate);
+			return true;
+		});
+	}
+
+	/** Converts the values of the individual to parameter values. */
+	private String[] getParameterValues(Individual individual) {
 		double[] currentValues = individual.getValues();
+		String[] values = new String[currentValues.length];
 		for (int j = 0; j < currentValues.length; j++) {
-			String value;
 			if (types[j].equals(OptimizationValueType.VALUE_TYPE_DOUBLE)) {
-				value = currentValues[j] + "";
+				values[j] = currentValues[j] + "";
 			} else {
-				value = (int) Math.round(currentValues[j]) + "";
+				values[j] = (int) Math.round(currentValues[j]) + "";
 			}
-			operators[j].getParameters().setParameter(parameters[j], value);
-			getLogger().fine(operators[j] + "." + parameters[j] + " = " + value);
 		}
-		return getPerformanceVector();
+		return values;
+	}
+
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
 	}
 
 	@Override
@@ -18,6 +18,7 @@
  */
 package com.rapidminer.operator.meta;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -146,6 +147,48 @@ public class GridSearchParameterOptimizationOperator extends ParameterOptimizati
 		}
 	}
 
+	/**
+	 * @return the values of the current parameter combination
+	 * @since 9.10.0
+	 */
+	protected String[] getCurrentValues() {
+		String[] currentValues = new String[parameters.length];
+		for (int j = 0; j < parameters.length; j++) {
+			currentValues[j] = values[j][currentIndex[j]];
+		}
+		return currentValues;
+	}
+
+	/**
+	 * Advances to the next parameter combination.
+	 *
+	 * @return {@code false} if all combinations were visited, the current combination is the first one again then
+	 * @since 9.10.0
+	 */
+	protected boolean nextCombination() {
+		int k = 0;
+		while (!(++currentIndex[k] < values[k].length)) {
+			currentIndex[k] = 0;
+			k++;
+			if (k >= currentIndex.length) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the values of all parameter combinations in the order of the grid search
+	 * @since 9.10.0
+	 */
+	protected List<String[]> getAllCombinations() {
+		List<String[]> combinations = new ArrayList<>(numberOfCombinations);
+		do {
+			combinations.add(getCurrentValues());
+		} while (nextCombination());
+		return combinations;
+	}
+
 	@Override
 	public double getCurrentBestPerformance() {
 		if (best != null) {
@@ -173,32 +216,36 @@ public class GridSearchParameterOptimizationOperator extends ParameterOptimizati
 
 		int counter = 1;
 		best = null;
+		if (checkParallelizability(numberOfCombinations, operators)) {
+			List<String[]> combinations = getAllCombinations();
+			evaluateCandidatesInParallel(operators, parameters, combinations, (index, candidate) -> {
+				PerformanceVector performance = adopt(candidate);
+				if (performance != null && (best == null || performance.compareTo(best.getPerformance()) > 0)) {
+					best = new ParameterSet(operators, parameters, combinations.get(index), performance);
+					passResultsThrough();
+				}
+				if (index < numberOfCombinations - 1) {
+					inApplyLoop();
+					getProgress().setCompleted(index + 2);
+				}
+				return true;
+			});
+			deliver(best);
+			getProgress().complete();
+			return;
+		}
 		while (true) {
 			getLogger().fine("Using parameter set " + counter + " / " + numberOfCombinations + ":");
 			PerformanceVector performance = computeCurrentPerformance();
 			// entering if-block if and only if performance != null, because without a performance
 			// we can not say that this is the optimal set
 			if (performance != null && (best == null || performance.compareTo(best.getPerformance()) > 0)) {
-				String[] bestValues = new String[parameters.length];
-				for (int j = 0; j < parameters.length; j++) {
-					bestValues[j] = values[j][currentIndex[j]];
-				}
-				best = new ParameterSet(operators, parameters, bestValues, performance);
+				best = new ParameterSet(operators, parameters, getCurrentValues(), performance);
 				passResultsThrough();
 			}
 
 			// next parameter values
-			int k = 0;
-			boolean ok = true;
-			while (!(++currentIndex[k] < values[k].length)) {
-				currentIndex[k] = 0;
-				k++;
-				if (k >= currentIndex.length) {
-					ok = false;
-					break;
-				}
-			}
-			if (!ok) {
+			if (!nextCombination()) {
 				break;
 			}
 
@@ -210,4 +257,9 @@ public class GridSearchParameterOptimizationOperator extends ParameterOptimizati
 		deliver(best);
 		getProgress().complete();
 	}
+
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rapidminer.Process;
+import com.rapidminer.datatable.DataTable;
+import com.rapidminer.datatable.DataTableRow;
+import com.rapidminer.datatable.SimpleDataTable;
+import com.rapidminer.datatable.SimpleDataTableRow;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.utils.ExampleSets;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.ports.PortPairExtender;
+
+
+/**
+ * Utility methods for optimizing operator chains which evaluate their candidates, e.g. parameter combinations, in
+ * parallel via an {@link com.rapidminer.operator.concurrency.internal.OperatorClonePool}. The rows logged by the
+ * clones, e.g. by a {@link com.rapidminer.operator.visualization.ProcessLogOperator} inside the subprocess, are taken
+ * from the background processes of the clones so that they can be added to the log of the process in the order of
+ * the candidates.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ParallelCandidates {
+
+	private ParallelCandidates() {
+		throw new AssertionError("Utility class must not be instantiated");
+	}
+
+	/**
+	 * Creates copies of the data at the outer input ports of the extender that can be handed to several clones at the
+	 * same time, see {@link #copyInput(List)}.
+	 *
+	 * @param inputExtender
+	 *            the extender passing the input of the chain to its subprocess
+	 * @return the copies, {@code null} for ports without data
+	 * @throws UserError
+	 *             if the data at a port cannot be read
+	 */
+	static List<IOObject> copyInput(PortPairExtender inputExtender) throws UserError {
+		List<IOObject> input = new ArrayList<>();
+		for (PortPairExtender.PortPair pair : inputExtender.getManagedPairs()) {
+			input.add(pair.getInputPort().getDataOrNull(IOObject.class));
+		}
+		return copyInput(input);
+	}
+
+	/**
+	 * Creates copies of the input data that can be handed to several clones at the same time. Example sets are
+	 * copied via {@link ExampleSets#createThreadSafeCopy(ExampleSet)}, so the copies for the single clones can be
+	 * created cheaply by {@link #copyInput(List)} again.
+	 *
+	 * @param input
+	 *            the input data, may contain {@code null}
+	 * @return the copies
+	 */
+	static List<IOObject> copyInput(List<IOObject> input) {
+		List<IOObject> copies = new ArrayList<>(input.size());
+		for (IOObject object : input) {
+			if (object instanceof ExampleSet) {
+				copies.add(ExampleSets.createThreadSafeCopy((ExampleSet) object));
+			} else {
+				copies.add(object == null ? null : object.copy());
+			}
+		}
+		return copies;
+	}
+
+	/**
+	 * Delivers the input to the inner sources of the extender of a clone.
+	 *
+	 * @param inputExtender
+	 *            the extender of the clone passing the input of the chain to its subprocess
+	 * @param input
+	 *            the copies of the input for the clone
+	 */
+	static void deliverInput(PortPairExtender inputExtender, List<IOObject> input) {
+		List<PortPairExtender.PortPair> pairs = inputExtender.getManagedPairs();
+		for (int i = 0; i < pairs.size() && i < input.size(); i++) {
+			pairs.get(i).getOutputPort().deliver(input.get(i));
+		}
+	}
+
+	/**
+	 * Removes the data tables from the given process and returns them. Called inside the task of a clone so that
+	 * the logged rows are not synchronized with the parent process in the order in which the clones finish.
+	 *
+	 * @param process
+	 *            the background process of a clone
+	 * @return the data tables logged by the clone
+	 */
+	static List<SimpleDataTable> takeDataTables(Process process) {
+		List<SimpleDataTable> tables = new ArrayList<>();
+		for (DataTable table : new ArrayList<>(process.getDataTables())) {
+			if (table instanceof SimpleDataTable) {
+				tables.add((SimpleDataTable) table);
+				process.deleteDataTable(table.getName());
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * Adds the rows of the data tables taken from a clone to the data tables of the same name in the given process.
+	 * Missing tables are created, nominal values are mapped to the indices of the target tables.
+	 *
+	 * @param tables
+	 *            the tables taken by {@link #takeDataTables(Process)}
+	 * @param process
+	 *            the process of the evaluating operator
+	 */
+	static void addDataTables(List<SimpleDataTable> tables, Process process) {
+		for (SimpleDataTable table : tables) {
+			DataTable target = process.getDataTable(table.getName());
+			if (target == null) {
+				target = new SimpleDataTable(table.getName(), table.getColumnNames());
+				process.addDataTable(target);
+			}
+			if (target.getNumberOfColumns() != table.getNumberOfColumns()) {
+				continue;
+			}
+			for (DataTableRow row : table) {
+				double[] values = new double[table.getNumberOfColumns()];
+				for (int column = 0; column < values.length; column++) {
+					values[column] = row.getValue(column);
+					if (table.isNominal(column) && !Double.isNaN(values[column])) {
+						values[column] = target.mapString(column, table.mapIndex(column, (int) values[column]));
+					}
+				}
+				target.add(new SimpleDataTableRow(values, row.getId()));
+			}
+		}
+	}
+}
@@ -18,12 +18,14 @@
  */
 package com.rapidminer.operator.meta;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 import com.rapidminer.RapidMiner;
+import com.rapidminer.datatable.SimpleDataTable;
 import com.rapidminer.gui.properties.ConfigureParameterOptimizationDialogCreator;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.Operator;
@@ -34,6 +36,7 @@ import com.rapidminer.operator.OperatorVersion;
 import com.rapidminer.operator.ProcessSetupError.Severity;
 import com.rapidminer.operator.SimpleProcessSetupError;
 import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.concurrency.internal.OperatorClonePool;
 import com.rapidminer.operator.performance.PerformanceVector;
 import com.rapidminer.operator.ports.InputPort;
 import com.rapidminer.operator.ports.PortPairExtender;
@@ -97,11 +100,79 @@ public abstract class ParameterIteratingOperatorChain extends OperatorChain impl
 	public static final int ERROR_FAIL = 0;
 	public static final int ERROR_IGNORE = 1;
 
+	/**
+	 * The result of a candidate evaluated on a clone of the operator, e.g. by
+	 * {@link ParameterIteratingOperatorChain#evaluateCandidatesInParallel} or by the parallel iterations of the
+	 * {@link RandomOptimizationChain}.
+	 *
+	 * @since 9.10.0
+	 */
+	protected static final class Candidate {
+
+		private final PerformanceVector performance;
+		private final List<IOObject> results;
+		private final List<SimpleDataTable> dataTables;
+
+		/**
+		 * Creates the result of a candidate and takes the rows logged during its evaluation from the background
+		 * process of the clone, see {@link ParallelCandidates#takeDataTables(com.rapidminer.Process)}.
+		 */
+		Candidate(PerformanceVector performance, List<IOObject> results, Operator clone) {
+			this.performance = performance;
+			this.results = results;
+			this.dataTables = ParallelCandidates.takeDataTables(clone.getProcess());
+		}
+
+		/**
+		 * @return the performance of the candidate, may be {@code null} if errors are ignored
+		 */
+		PerformanceVector getPerformance() {
+			return performance;
+		}
+
+		/**
+		 * @return the results at the inner sinks
+		 */
+		List<IOObject> getResults() {
+			return results;
+		}
+
+		/**
+		 * @return the tables logged during the evaluation, see
+		 *         {@link ParallelCandidates#addDataTables(List, com.rapidminer.Process)}
+		 */
+		List<SimpleDataTable> getDataTables() {
+			return dataTables;
+		}
+	}
+
+	/**
+	 * Processes the result of a candidate evaluated by
+	 * {@link ParameterIteratingOperatorChain#evaluateCandidatesInParallel}.
+	 *
+	 * @since 9.10.0
+	 */
+	@FunctionalInterface
+	protected interface CandidateHandler {
+
+		/**
+		 * @param index
+		 *            the index of the candidate
+		 * @param candidate
+		 *            the result of the candidate, see {@link ParameterIteratingOperatorChain#adopt(Candidate)}
+		 * @return whether the remaining candidates should be evaluated
+		 */
+		boolean handle(int index, Candidate candidate) throws OperatorException;
+	}
+
 	private final PortPairExtender inputExtender = new PortPairExtender("input", getInputPorts(), getSubprocess(0)
 			.getInnerSources());
 	private final InputPort performanceInnerSink = getSubprocess(0).getInnerSinks().createPort("performance");
 	private final PortPairExtender innerSinkExtender;
 
+	/** The results of the adopted candidate, passed through instead of the data at the inner sinks. */
+	private List<IOObject> adoptedResults;
+
 	public ParameterIteratingOperatorChain(OperatorDescription description) {
 		this(description, "Subprocess");
 	}
@@ -262,8 +333,17 @@ public abstract class ParameterIteratingOperatorChain extends OperatorChain impl
 	 * performance criteria which is returned.
 	 */
 	protected PerformanceVector getPerformanceVector() throws OperatorException {
+		adoptedResults = null;
+		inputExtender.passDataThrough();
+		return executeAndGetPerformance();
+	}
+
+	/**
+	 * Executes the subprocess on the data at the inner sources and returns the performance vector, handling errors as
+	 * specified by {@link #PARAMETER_ERROR_HANDLING}.
+	 */
+	private PerformanceVector executeAndGetPerformance() throws OperatorException {
 		try {
-			inputExtender.passDataThrough();
 			executeSubprocess();
 			if (isPerformanceRequired()) {
 				return getPerformanceInnerSink().getData(PerformanceVector.class);
@@ -291,9 +371,123 @@ public abstract class ParameterIteratingOperatorChain extends OperatorChain impl
 		return innerSinkExtender.getData(IOObject.class);
 	}
 
-	/** Passes data from the inner sinks to the output ports. */
+	/**
+	 * Passes data from the inner sinks to the output ports. If the current candidate was evaluated in parallel, its
+	 * results are passed instead.
+	 */
 	public void passResultsThrough() {
-		innerSinkExtender.passDataThrough();
+		if (adoptedResults == null) {
+			innerSinkExtender.passDataThrough();
+			return;
+		}
+		List<PortPairExtender.PortPair> pairs = innerSinkExtender.getManagedPairs();
+		for (int i = 0; i < pairs.size() && i < adoptedResults.size(); i++) {
+			pairs.get(i).getOutputPort().deliver(adoptedResults.get(i));
+		}
+	}
+
+	/**
+	 * Whether the candidates of this operator can be evaluated in parallel. If so, the parameter
+	 * {@link OperatorClonePool#PARAMETER_ENABLE_PARALLEL_EXECUTION} is added. Returns {@code false} by default.
+	 *
+	 * @since 9.10.0
+	 */
+	protected boolean supportsParallelExecution() {
+		return false;
+	}
+
+	/**
+	 * Checks whether the given number of candidates can be evaluated in parallel by
+	 * {@link #evaluateCandidatesInParallel}. This is not the case if parallel execution is not supported, if
+	 * {@link OperatorClonePool#isParallelizable(OperatorChain, int)} does not permit it or if one of the operators
+	 * whose parameters are set is not part of the subprocess.
+	 *
+	 * @param candidates
+	 *            the number of candidates
+	 * @param operators
+	 *            the operators whose parameters are set for the candidates
+	 * @return whether the candidates can be evaluated in parallel
+	 * @since 9.10.0
+	 */
+	protected boolean checkParallelizability(int candidates, Operator[] operators) {
+		if (!supportsParallelExecution() || !OperatorClonePool.isParallelizable(this, candidates)) {
+			return false;
+		}
+		// the parameters are set on the clones of the operators inside the cloned subprocess
+		List<Operator> innerOperators = getSubprocess(0).getAllInnerOperators();
+		for (Operator operator : operators) {
+			if (!innerOperators.contains(operator)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Evaluates the candidates in parallel on the reused clones of an {@link OperatorClonePool}, with the parameters
+	 * of the clone set to the values of the candidate. The results are handed to the handler in the order of the
+	 * candidates. As soon as the handler returns {@code false}, the outstanding evaluations are cancelled. Errors in
+	 * the subprocess are handled as
+	 * specified by {@link #PARAMETER_ERROR_HANDLING}.
+	 *
+	 * @param operators
+	 *            the operators whose parameters are set, must be part of the subprocess
+	 * @param parameters
+	 *            the keys of the parameters
+	 * @param candidates
+	 *            the parameter values of every candidate
+	 * @param handler
+	 *            processes the results
+	 * @since 9.10.0
+	 */
+	protected void evaluateCandidatesInParallel(Operator[] operators, String[] parameters, List<String[]> candidates,
+			CandidateHandler handler) throws OperatorException {
+		List<IOObject> sharedInput = ParallelCandidates.copyInput(inputExtender);
+		new OperatorClonePool<>(this).<Candidate> execute(candidates.size(), (copy, index) -> {
+			String[] values = candidates.get(index);
+			List<IOObject> copyInput = ParallelCandidates.copyInput(sharedInput);
+			return () -> copy.evaluateCandidate(operators, parameters, values, copyInput);
+		}, handler::handle, Candidate::getResults);
+	}
+
+	/**
+	 * Evaluates a candidate on this clone. Called by {@link #evaluateCandidatesInParallel}.
+	 */
+	private Candidate evaluateCandidate(Operator[] operators, String[] parameters, String[] values,
+			List<IOObject> input) throws OperatorException {
+		List<Operator> innerOperators = getSubprocess(0).getAllInnerOperators();
+		for (int j = 0; j < operators.length; j++) {
+			for (Operator operator : innerOperators) {
+				if (operator.getName().equals(operators[j].getName())) {
+					operator.getParameters().setParameter(parameters[j], values[j]);
+					getLogger().fine(operator + "." + parameters[j] + " = " + values[j]);
+					break;
+				}
+			}
+		}
+		ParallelCandidates.deliverInput(inputExtender, input);
+		PerformanceVector performance = executeAndGetPerformance();
+		List<IOObject> results = new ArrayList<>();
+		for (PortPairExtender.PortPair pair : innerSinkExtender.getManagedPairs()) {
+			results.add(pair.getInputPort().getDataOrNull(IOObject.class));
+		}
+		return new Candidate(performance, results, this);
+	}
+
+	/**
+	 * Adopts the result of a candidate evaluated in parallel as if it was evaluated by {@link #getPerformanceVector()}
+	 * : the rows logged during its evaluation are added to the process and {@link #passResultsThrough()} passes its
+	 * results until the next candidate is evaluated. Must be called in the order of the candidates.
+	 *
+	 * @param candidate
+	 *            the result of the candidate
+	 * @return the performance of the candidate, may be {@code null} if errors are ignored
+	 * @since 9.10.0
+	 */
+	protected PerformanceVector adopt(Candidate candidate) {
+		ParallelCandidates.addDataTables(candidate.getDataTables(), getProcess());
+		adoptedResults = candidate.getResults();
+		return candidate.getPerformance();
 	}
 
 	@Override
@@ -313,6 +507,9 @@ public abstract class ParameterIteratingOperatorChain extends OperatorChain impl
 				ERROR_HANDLING_METHOD, ERROR_FAIL, false);
 		type.registerDependencyCondition(new AboveOperatorVersionCondition(this, CHANGE_6_0_3_ERROR_HANDLING));
 		types.add(type);
+		if (supportsParallelExecution()) {
+			types.add(OperatorClonePool.createParallelExecutionParameter());
+		}
 
 		return types;
 	}
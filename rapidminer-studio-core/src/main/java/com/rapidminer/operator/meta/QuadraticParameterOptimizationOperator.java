@@ -117,21 +117,29 @@ public class QuadraticParameterOptimizationOperator extends GridSearchParameterO
 
 		// init operator progress (+ 1 for work after loop)
 		getProgress().setTotal(allParameters.length + 1);
-		while (true) {
+		if (checkParallelizability(numberOfCombinations, operators)) {
+			List<String[]> combinations = getAllCombinations();
+			evaluateCandidatesInParallel(operators, parameters, combinations, (index, candidate) -> {
+				PerformanceVector performance = adopt(candidate);
+				allParameters[index] = new ParameterSet(operators, parameters, combinations.get(index), performance);
+				if (best == null || performance.compareTo(best.getPerformance()) > 0) {
+					best = allParameters[index];
+					// the index of every parameter is the respective digit of the mixed radix candidate index
+					int remainder = index;
+					for (int j = 0; j < numberOfParameters; j++) {
+						bestIndex[j] = remainder % values[j].length;
+						remainder /= values[j].length;
+					}
+				}
+				getProgress().step();
+				return true;
+			});
+		}
+		// evaluate the combinations one after another unless they were evaluated in parallel
+		while (paramIndex < allParameters.length && allParameters[paramIndex] == null) {
 			getLogger().fine("Using parameter set");
-			// set all parameter values
-			for (int j = 0; j < operators.length; j++) {
-				operators[j].getParameters().setParameter(parameters[j], values[j][currentIndex[j]]);
-				getLogger().fine(operators[j] + "." + parameters[j] + " = " + values[j][currentIndex[j]]);
-			}
-
-			PerformanceVector performance = getPerformanceVector();
-
-			String[] currentValues = new String[parameters.length];
-			for (int j = 0; j < parameters.length; j++) {
-				currentValues[j] = values[j][currentIndex[j]];
-			}
-			allParameters[paramIndex] = new ParameterSet(operators, parameters, currentValues, performance);
+			PerformanceVector performance = computeCurrentPerformance();
+			allParameters[paramIndex] = new ParameterSet(operators, parameters, getCurrentValues(), performance);
 
 			if (best == null || performance.compareTo(best.getPerformance()) > 0) {
 				best = allParameters[paramIndex];
@@ -144,17 +152,7 @@ public class QuadraticParameterOptimizationOperator extends GridSearchParameterO
 			getProgress().step();
 
 			// next parameter values
-			int k = 0;
-			boolean ok = true;
-			while (!(++currentIndex[k] < values[k].length)) {
-				currentIndex[k] = 0;
-				k++;
-				if (k >= currentIndex.length) {
-					ok = false;
-					break;
-				}
-			}
-			if (!ok) {
+			if (!nextCombination()) {
 				break;
 			}
 
@@ -385,6 +383,11 @@ public class QuadraticParameterOptimizationOperator extends GridSearchParameterO
 		getProgress().complete();
 	}
 
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
+
 	@Override
 	public List<ParameterType> getParameterTypes() {
 		List<ParameterType> types = super.getParameterTypes();
@@ -25,6 +25,8 @@ import com.rapidminer.operator.OperatorDescription;
 import com.rapidminer.operator.OperatorException;
 import com.rapidminer.operator.SimpleOperatorChain;
 import com.rapidminer.operator.ValueDouble;
+import com.rapidminer.operator.concurrency.internal.OperatorClonePool;
+import com.rapidminer.operator.meta.ParameterIteratingOperatorChain.Candidate;
 import com.rapidminer.operator.performance.PerformanceVector;
 import com.rapidminer.operator.ports.InputPort;
 import com.rapidminer.operator.ports.OutputPort;
@@ -57,6 +59,10 @@ public class RandomOptimizationChain extends SimpleOperatorChain {
 	private double bestPerformanceValue = 0.0;
 	private double avgPerformanceValue = 0.0;
 
+	private double perfSum;
+	private List<IOObject> bestResult;
+	private PerformanceVector bestPerformance;
+
 	private final InputPort innerPerformanceSink = getSubprocess(0).getInnerSinks().createPort("performance vector",
 			PerformanceVector.class);
 	private final OutputPort performanceOutput = getOutputPorts().createPort("performance");
@@ -107,41 +113,98 @@ public class RandomOptimizationChain extends SimpleOperatorChain {
 		getProgress().setTotal(maxIterations);
 		getProgress().setCheckForStop(false);
 
-		double perfSum = 0.0;
-		List<IOObject> bestResult = null;
-		PerformanceVector bestPerformance = null;
-		for (iterationValue = 0; iterationValue < maxIterations; iterationValue++) {
+		perfSum = 0.0;
+		bestResult = null;
+		bestPerformance = null;
+		if (OperatorClonePool.isParallelizable(this, maxIterations)) {
+			performIterationsInParallel(maxIterations, stoptime);
+		} else {
+			for (iterationValue = 0; iterationValue < maxIterations; iterationValue++) {
 
-			// executing sub process
-			super.doWork();
+				// executing sub process
+				super.doWork();
 
-			PerformanceVector performanceVector = innerPerformanceSink.getData(PerformanceVector.class);
-			if (bestPerformance == null) {
-				bestPerformance = performanceVector;
-				bestResult = outputExtender.getData(IOObject.class);
-			} else {
-				if (performanceVector.getMainCriterion().compareTo(bestPerformance.getMainCriterion()) == 1) {
-					bestPerformance = performanceVector;
-					bestResult = outputExtender.getData(IOObject.class);
+				PerformanceVector performanceVector = innerPerformanceSink.getData(PerformanceVector.class);
+				if (!processIteration(performanceVector, outputExtender.getData(IOObject.class), stoptime)) {
+					break;
 				}
+
+				inApplyLoop();
+				getProgress().step();
 			}
-			this.bestPerformanceValue = bestPerformance.getMainCriterion().getFitness();
+		}
 
-			perfSum = perfSum + performanceVector.getMainCriterion().getAverage();
-			avgPerformanceValue = perfSum / iterationValue;
+		List<IOObject> result = bestResult;
+		PerformanceVector performance = bestPerformance;
+		// freeing memory
+		bestResult = null;
+		bestPerformance = null;
+		outputExtender.deliver(result);
+		performanceOutput.deliver(performance);
+		getProgress().complete();
+	}
 
-			if (java.lang.System.currentTimeMillis() > stoptime) {
-				log("Runtime exceeded in iteration " + iterationValue + ".");
-				break;
+	/**
+	 * Remembers the results of the current iteration if its performance is the best so far.
+	 *
+	 * @return {@code false} if the timeout is exceeded
+	 */
+	private boolean processIteration(PerformanceVector performanceVector, List<IOObject> results, long stoptime) {
+		if (bestPerformance == null) {
+			bestPerformance = performanceVector;
+			bestResult = results;
+		} else {
+			if (performanceVector.getMainCriterion().compareTo(bestPerformance.getMainCriterion()) == 1) {
+				bestPerformance = performanceVector;
+				bestResult = results;
 			}
+		}
+		this.bestPerformanceValue = bestPerformance.getMainCriterion().getFitness();
+
+		perfSum = perfSum + performanceVector.getMainCriterion().getAverage();
+		avgPerformanceValue = perfSum / iterationValue;
+
+		if (java.lang.System.currentTimeMillis() > stoptime) {
+			log("Runtime exceeded in iteration " + iterationValue + ".");
+			return false;
+		}
+		return true;
+	}
 
+	/**
+	 * Executes the iterations in parallel on the reused clones of an {@link OperatorClonePool}. The results are
+	 * processed in the order of the iterations and the outstanding iterations are cancelled as soon as the timeout is
+	 * exceeded.
+	 */
+	private void performIterationsInParallel(int maxIterations, long stoptime) throws OperatorException {
+		List<IOObject> sharedInput = ParallelCandidates.copyInput(inputExtender);
+		new OperatorClonePool<>(this).<Candidate> execute(maxIterations, (copy, index) -> {
+			List<IOObject> copyInput = ParallelCandidates.copyInput(sharedInput);
+			return () -> {
+				copy.iterationValue = index;
+				return copy.runIteration(copyInput);
+			};
+		}, (index, iteration) -> {
+			iterationValue = index;
+			ParallelCandidates.addDataTables(iteration.getDataTables(), getProcess());
+			if (!processIteration(iteration.getPerformance(), iteration.getResults(), stoptime)) {
+				return false;
+			}
 			inApplyLoop();
 			getProgress().step();
-		}
+			return true;
+		}, Candidate::getResults);
+	}
 
-		outputExtender.deliver(bestResult);
-		performanceOutput.deliver(bestPerformance);
-		getProgress().complete();
+	/**
+	 * Executes the subprocess on the given input. Called on a clone by {@link #performIterationsInParallel}.
+	 */
+	private Candidate runIteration(List<IOObject> input) throws OperatorException {
+		clearAllInnerSinks();
+		ParallelCandidates.deliverInput(inputExtender, input);
+		getSubprocess(0).execute();
+		return new Candidate(innerPerformanceSink.getData(PerformanceVector.class),
+				outputExtender.getData(IOObject.class), this);
 	}
 
 	@Override
@@ -155,6 +218,7 @@ public class RandomOptimizationChain extends SimpleOperatorChain {
 		ParameterType type = new ParameterTypeInt(PARAMETER_TIMEOUT, "Timeout in minutes", 1, Integer.MAX_VALUE, 1);
 		type.registerDependencyCondition(new BooleanParameterCondition(this, PARAMETER_ENABLE_TIMEOUT, true, true));
 		types.add(type);
+		types.add(OperatorClonePool.createParallelExecutionParameter());
 
 		return types;
 	}
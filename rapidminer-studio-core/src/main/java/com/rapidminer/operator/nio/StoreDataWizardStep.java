@@ -93,7 +93,7 @@ public final class StoreDataWizardStep extends RepositoryLocationSelectionWizard
 						}
 
 						state.getTranslator().clearErrors();
-						final ExampleSet exampleSet = state.readNow(resultSet, false, getProgressListener());
+						final ExampleSet exampleSet = state.readForStorage(resultSet, getProgressListener());
 
 						try {
 							RepositoryManager.getInstance(null).store(exampleSet, location, null);
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Date;
@@ -36,12 +37,14 @@ import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.gui.tools.dialogs.wizards.dataimport.csv.LineReader;
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.OperatorException;
 import com.rapidminer.operator.ProcessStoppedException;
 import com.rapidminer.operator.UserError;
 import com.rapidminer.operator.nio.model.ParsingError.ErrorCode;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.CSVParseException;
 import com.rapidminer.tools.LineParser;
 import com.rapidminer.tools.LogService;
@@ -62,6 +65,7 @@ public class CSVResultSet implements DataResultSet {
 	private static final int MAX_LOG_COUNT = 100;
 	private CSVResultSetConfiguration configuration;
 	private LineReader reader;
+	private ParallelLineReader parallelReader;
 	private LineParser parser;
 
 	private String[] next;
@@ -175,12 +179,16 @@ public class CSVResultSet implements DataResultSet {
 
 		in = cleanInputStream(in);
 
-		reader = new LineReader(in, configuration.getEncoding());
 		parser = new LineParser(configuration);
+		parallelReader = createParallelReader(in);
+		if (parallelReader == null) {
+			reader = new LineReader(in, configuration.getEncoding());
+		}
 
 		try {
-			if (operator != null && reader.getSize() > 0L) {
-				multiplier = reader.getSize() / 100L;
+			long size = parallelReader == null ? reader.getSize() : parallelReader.getSize();
+			if (operator != null && size > 0L) {
+				multiplier = size / 100L;
 				lineCounter = 0;
 				operator.getProgress().setCheckForStop(false);
 				operator.getProgress().setTotal(100);
@@ -217,6 +225,37 @@ public class CSVResultSet implements DataResultSet {
 		}
 	}
 
+	/**
+	 * Creates a {@link ParallelLineReader} if the data is read by an operator from a local file that
+	 * is large enough and the configuration allows parallel reading.
+	 *
+	 * @param in
+	 *            the cleaned input stream
+	 * @return the parallel reader or {@code null} if the file should be read sequentially
+	 * @since 9.10.0
+	 */
+	private ParallelLineReader createParallelReader(InputStream in) {
+		if (operator == null || !configuration.isParallelReading() || !(in instanceof FileInputStream)
+				|| !ParallelLineReader.isSupported(configuration.getEncoding())) {
+			return null;
+		}
+		ConcurrencyContext context = Resources.getConcurrencyContext(operator);
+		if (context.getParallelism() < 2) {
+			return null;
+		}
+		try {
+			FileChannel channel = ((FileInputStream) in).getChannel();
+			if (channel.size() < ParallelLineReader.MINIMAL_FILE_SIZE) {
+				return null;
+			}
+			// the position is behind a skipped byte order mark
+			return new ParallelLineReader(channel, channel.position(), configuration, context);
+		} catch (IOException e) {
+			// read sequentially
+			return null;
+		}
+	}
+
 	/**
 	 * Initialize the settings for numColumns, columnNames and valueTypes from the configuration. Uses {@link CSVResultSet#openStream()}
 	 * to get the {@link InputStream}.
@@ -504,15 +543,34 @@ public class CSVResultSet implements DataResultSet {
 
 	private void readNext() throws IOException {
 		do {
-			String line = reader == null ? null : reader.readLine();
-			if (line == null) {
-				next = null;
-				return;
+			String line;
+			String[] parsed = null;
+			CSVParseException parseException = null;
+			if (parallelReader != null) {
+				// the lines were already parsed in parallel
+				if (!parallelReader.next()) {
+					next = null;
+					return;
+				}
+				line = parallelReader.getLine();
+				parsed = parallelReader.getParsed();
+				parseException = parallelReader.getParseException();
+			} else {
+				line = reader == null ? null : reader.readLine();
+				if (line == null) {
+					next = null;
+					return;
+				}
+				try {
+					parsed = parser.parse(line);
+				} catch (CSVParseException e) {
+					parseException = e;
+				}
 			}
-			try {
-				next = parser.parse(line);
+			if (parseException == null) {
+				next = parsed;
 				if (operator != null && ++lineCounter % 1000 == 0) {
-					long position = reader == null ? -1L : reader.getPosition();
+					long position = getPosition();
 					if (position > 0) {
 						int currentProgress = (int) (position / multiplier);
 						if (currentProgress != operator.getProgress().getCompleted()) {
@@ -527,10 +585,11 @@ public class CSVResultSet implements DataResultSet {
 				if (next != null) { // no comment read
 					break;
 				}
-			} catch (CSVParseException e) {
-				ParsingError parsingError = new ParsingError(currentRow, -1, ErrorCode.FILE_SYNTAX_ERROR, line, e);
+			} else {
+				ParsingError parsingError = new ParsingError(currentRow, -1, ErrorCode.FILE_SYNTAX_ERROR, line,
+						parseException);
 				getErrors().add(parsingError);
-				String warning = "Could not parse line " + currentRow + " in input: " + e.toString();
+				String warning = "Could not parse line " + currentRow + " in input: " + parseException.toString();
 				if (logCount < MAX_LOG_COUNT) {
 					if (operator != null) {
 						operator.logWarning(warning);
@@ -553,6 +612,16 @@ public class CSVResultSet implements DataResultSet {
 		} while (true);
 	}
 
+	/**
+	 * @return the byte position of the reader or {@code -1} if unknown
+	 */
+	private long getPosition() throws IOException {
+		if (parallelReader != null) {
+			return parallelReader.getPosition();
+		}
+		return reader == null ? -1L : reader.getPosition();
+	}
+
 	/**
 	 * Gets the next rows parts using the given {@link LineParser}
 	 *
@@ -643,15 +712,20 @@ public class CSVResultSet implements DataResultSet {
 
 	@Override
 	public void close() throws OperatorException {
-		if (reader == null) {
+		if (reader == null && parallelReader == null) {
 			return;
 		}
 		try {
-			reader.close();
+			if (parallelReader != null) {
+				parallelReader.close();
+			} else {
+				reader.close();
+			}
 		} catch (IOException e) {
 			throw new UserError(operator, 321, e, configuration.getCsvFile(), e.toString());
 		} finally {
 			reader = null;
+			parallelReader = null;
 		}
 	}
 
@@ -65,6 +65,7 @@ public class CSVResultSetConfiguration implements DataResultSetFactory {
 	private boolean trimLines = false;
 	private boolean hasHeaderRow = true;
 	private boolean trimValuesForParsing = true;
+	private boolean parallelReading = true;
 
 	private String columnSeparators = ";";
 
@@ -292,6 +293,27 @@ public class CSVResultSetConfiguration implements DataResultSetFactory {
 		this.trimValuesForParsing = trimValuesForParsing;
 	}
 
+	/**
+	 * Whether large local files may be read and parsed in parallel when read by an operator.
+	 *
+	 * @return {@code true} if parallel reading is allowed
+	 * @since 9.10.0
+	 */
+	public boolean isParallelReading() {
+		return parallelReading;
+	}
+
+	/**
+	 * Set whether large local files may be read and parsed in parallel when read by an operator.
+	 *
+	 * @param parallelReading
+	 * 		{@code true} if parallel reading is allowed
+	 * @since 9.10.0
+	 */
+	public void setParallelReading(boolean parallelReading) {
+		this.parallelReading = parallelReading;
+	}
+
 	@Override
 	public String getResourceName() {
 		return getCsvFile();
@@ -55,6 +55,8 @@ import com.rapidminer.example.Attribute;
 import com.rapidminer.example.AttributeTypeException;
 import com.rapidminer.example.Attributes;
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.Statistics;
+import com.rapidminer.example.set.AbstractExampleSet;
 import com.rapidminer.example.table.AttributeFactory;
 import com.rapidminer.example.table.DataRow;
 import com.rapidminer.example.table.DataRowFactory;
@@ -149,7 +151,39 @@ public class DataResultSetTranslator {
 		cancelLoadingRequested = false;
 		try {
 			isReading = true;
-			return readInternal(dataResultSet, configuration, previewOnly, listener);
+			return readInternal(dataResultSet, configuration, previewOnly, false, listener);
+		} finally {
+			isReading = false;
+			if (listener != null) {
+				listener.complete();
+			}
+		}
+	}
+
+	/**
+	 * Translates the complete ResultDataSet to an ExampleSet like {@link #read} for storing it in the
+	 * repository afterwards. The attribute statistics needed for the header of the stored data are
+	 * counted on the fly, so storing the result needs no further pass over the data before it is
+	 * written. As for {@link #read}, the complete data is held in memory until it is stored.
+	 *
+	 * @param dataResultSet
+	 * 		the data to translate
+	 * @param configuration
+	 * 		the configuration to use for the translation
+	 * @param listener
+	 * 		the progress listener to use, can be {@code null}
+	 * @return the data result set as an {@link ExampleSet} with precalculated statistics
+	 * @throws OperatorException
+	 * 		if the translation fails
+	 * @since 9.10.0
+	 */
+	public ExampleSet readForStorage(DataResultSet dataResultSet, DataResultSetTranslationConfiguration configuration,
+									 ProgressListener listener) throws OperatorException {
+		shouldStop = false;
+		cancelLoadingRequested = false;
+		try {
+			isReading = true;
+			return readInternal(dataResultSet, configuration, false, true, listener);
 		} finally {
 			isReading = false;
 			if (listener != null) {
@@ -192,8 +226,13 @@ public class DataResultSetTranslator {
 		}
 	}
 
+	/**
+	 * Reads the dataResultSet into an {@link ExampleSet}. If forStorage is {@code true}, the attribute statistics are
+	 * counted while reading, see {@link #readForStorage}.
+	 */
 	private ExampleSet readInternal(DataResultSet dataResultSet, DataResultSetTranslationConfiguration configuration,
-									boolean previewOnly, ProgressListener listener) throws OperatorException {
+									boolean previewOnly, boolean forStorage, ProgressListener listener)
+			throws OperatorException {
 		int maxRows = previewOnly ? ImportWizardUtils.getPreviewLength() : -1;
 		boolean isFaultTolerant = configuration.isFaultTolerant();
 		int[] attributeColumns = configuration.getSelectedIndices();
@@ -233,6 +272,10 @@ public class DataResultSetTranslator {
 				}
 			}
 		}
+		List<List<Statistics>> statistics = null;
+		if (forStorage) {
+			statistics = com.rapidminer.example.Tools.startCountingStatistics(attributes);
+		}
 
 		DataRowFactory factory = new DataRowFactory(datamanagement, '.');
 		int maxAnnotatedRow = configuration.getLastAnnotatedRowIndex();
@@ -300,29 +343,33 @@ public class DataResultSetTranslator {
 				DataRow row = factory.create(attributes.length);
 				int attributeIndex = 0;
 				for (Attribute attribute : attributes) {
+					double value;
 					// check for missing
 					if (dataResultSet.isMissing(attributeColumns[attributeIndex])) {
-						row.set(attribute, Double.NaN);
+						value = Double.NaN;
 					} else {
 						switch (attribute.getValueType()) {
 							case Ontology.INTEGER:
-								row.set(attribute, getOrParseNumber(configuration, dataResultSet, exampleIndex,
-										attributeColumns[attributeIndex], isFaultTolerant));
-								break;
 							case Ontology.NUMERICAL:
 							case Ontology.REAL:
-								row.set(attribute, getOrParseNumber(configuration, dataResultSet, exampleIndex,
-										attributeColumns[attributeIndex], isFaultTolerant));
+								value = getOrParseNumber(configuration, dataResultSet, exampleIndex,
+										attributeColumns[attributeIndex], isFaultTolerant);
 								break;
 							case Ontology.DATE_TIME:
 							case Ontology.TIME:
 							case Ontology.DATE:
-								row.set(attribute, getOrParseDate(configuration, dataResultSet, exampleIndex,
-										attributeColumns[attributeIndex], isFaultTolerant));
+								value = getOrParseDate(configuration, dataResultSet, exampleIndex,
+										attributeColumns[attributeIndex], isFaultTolerant);
 								break;
 							default:
-								row.set(attribute, getStringIndex(attribute, dataResultSet, exampleIndex,
-										attributeColumns[attributeIndex], isFaultTolerant));
+								value = getStringIndex(attribute, dataResultSet, exampleIndex,
+										attributeColumns[attributeIndex], isFaultTolerant);
+						}
+					}
+					row.set(attribute, value);
+					if (statistics != null) {
+						for (Statistics attributeStatistics : statistics.get(attributeIndex)) {
+							attributeStatistics.count(value, 1);
 						}
 					}
 					attributeIndex++;
@@ -372,6 +419,15 @@ public class DataResultSetTranslator {
 			attributeNames.add(attribute.getName());
 		}
 
+		if (statistics != null && exampleSet instanceof AbstractExampleSet) {
+			// the statistics are registered under the final attribute names
+			AbstractExampleSet abstractExampleSet = (AbstractExampleSet) exampleSet;
+			attributeIndex = 0;
+			for (Attribute attribute : allAttributes) {
+				abstractExampleSet.setAttributeStatistics(attribute, statistics.get(attributeIndex++));
+			}
+		}
+
 		return exampleSet;
 	}
 
@@ -0,0 +1,334 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.nio.model;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.tools.CSVParseException;
+import com.rapidminer.tools.LineParser;
+
+
+/**
+ * Reads the lines of a local file in parallel for the {@link CSVResultSet}. The file is split into
+ * byte ranges of about {@value #RANGE_SIZE} bytes that end directly behind a line feed. Each range
+ * is memory-mapped, decoded and parsed with its own {@link LineParser} in a task of the
+ * {@link ConcurrencyContext}, while the caller consumes the lines of the finished ranges in file
+ * order. At most twice as many ranges as the parallelism of the context are read ahead.
+ * <p>
+ * Lines are separated like by {@link java.io.BufferedReader#readLine()}, i.e. by line feed,
+ * carriage return or both. Since the {@link LineParser} never continues quoted values on the next
+ * line, splitting at line feeds respects all record boundaries. The ranges can only be determined
+ * on the bytes if line feed and carriage return are encoded as single bytes that are not part of
+ * other characters, see {@link #isSupported(Charset)}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ParallelLineReader implements AutoCloseable {
+
+	/** files smaller than this are read sequentially */
+	static final long MINIMAL_FILE_SIZE = 64L << 20;
+
+	/** the size of the byte ranges parsed by one task */
+	static final int RANGE_SIZE = 8 << 20;
+
+	/** size of the buffer used to search for the end of a line */
+	private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * The decoded and parsed lines of one byte range.
+	 */
+	private static final class Range {
+
+		private final String[] lines;
+		private final String[][] parsed;
+		private final CSVParseException[] exceptions;
+		private final long end;
+
+		private Range(String[] lines, String[][] parsed, CSVParseException[] exceptions, long end) {
+			this.lines = lines;
+			this.parsed = parsed;
+			this.exceptions = exceptions;
+			this.end = end;
+		}
+	}
+
+	private final FileChannel channel;
+	private final long size;
+	private final CSVResultSetConfiguration configuration;
+	private final ConcurrencyContext context;
+	private final int rangeSize;
+	private final int window;
+
+	private final ArrayDeque<Future<Range>> pending = new ArrayDeque<>();
+	private long scheduledUntil;
+
+	private Range current;
+	private int index;
+	private long position;
+
+	/**
+	 * Creates a reader for the file of the given channel starting at the given byte position and
+	 * starts reading ahead.
+	 *
+	 * @param channel
+	 *            the channel of the file, closed by {@link #close()}
+	 * @param start
+	 *            the byte position of the first line, e.g. behind a byte order mark
+	 * @param configuration
+	 *            the configuration for the encoding and the {@link LineParser}s
+	 * @param context
+	 *            the context to parse the ranges in
+	 * @throws IOException
+	 *             if the file size cannot be read
+	 */
+	ParallelLineReader(FileChannel channel, long start, CSVResultSetConfiguration configuration,
+			ConcurrencyContext context) throws IOException {
+		this(channel, start, configuration, context, RANGE_SIZE);
+	}
+
+	/**
+	 * Creates a reader with the given range size, see
+	 * {@link #ParallelLineReader(FileChannel, long, CSVResultSetConfiguration, ConcurrencyContext)}.
+	 */
+	ParallelLineReader(FileChannel channel, long start, CSVResultSetConfiguration configuration,
+			ConcurrencyContext context, int rangeSize) throws IOException {
+		this.channel = channel;
+		this.size = channel.size();
+		this.configuration = configuration;
+		this.context = context;
+		this.rangeSize = rangeSize;
+		this.window = 2 * Math.max(1, context.getParallelism());
+		this.scheduledUntil = start;
+		this.position = start;
+		schedule();
+	}
+
+	/**
+	 * Checks whether the byte ranges of files with the given encoding can be found by searching
+	 * for line feed bytes. This is the case for encodings like UTF-8, US-ASCII and the ISO-8859
+	 * and Windows code pages, but not for UTF-16.
+	 *
+	 * @param encoding
+	 *            the encoding of the file
+	 * @return whether the encoding is supported
+	 */
+	static boolean isSupported(Charset encoding) {
+		return encoding.canEncode() && Arrays.equals("\n".getBytes(encoding), new byte[] { '\n' })
+				&& Arrays.equals("\r".getBytes(encoding), new byte[] { '\r' });
+	}
+
+	/**
+	 * Moves to the next line.
+	 *
+	 * @return {@code false} if there are no more lines
+	 * @throws IOException
+	 *             if reading a range failed
+	 */
+	boolean next() throws IOException {
+		index++;
+		while (current == null || index >= current.lines.length) {
+			Future<Range> future = pending.poll();
+			if (future == null) {
+				current = null;
+				return false;
+			}
+			current = get(future);
+			position = current.end;
+			index = 0;
+			schedule();
+		}
+		return true;
+	}
+
+	/**
+	 * @return the current line
+	 */
+	String getLine() {
+		return current.lines[index];
+	}
+
+	/**
+	 * @return the result of {@link LineParser#parse(String)} for the current line, {@code null}
+	 *         for comments, empty lines or if parsing failed
+	 */
+	String[] getParsed() {
+		return current.parsed[index];
+	}
+
+	/**
+	 * @return the exception thrown when parsing the current line or {@code null}
+	 */
+	CSVParseException getParseException() {
+		return current.exceptions[index];
+	}
+
+	/**
+	 * @return the byte position behind the range of the current line
+	 */
+	long getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return the size of the file in bytes
+	 */
+	long getSize() {
+		return size;
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (Future<Range> future : pending) {
+			future.cancel(true);
+		}
+		pending.clear();
+		current = null;
+		channel.close();
+	}
+
+	/**
+	 * Submits the next ranges until the window is full or the end of the file is reached.
+	 */
+	private void schedule() throws IOException {
+		while (pending.size() < window && scheduledUntil < size) {
+			final long start = scheduledUntil;
+			final long end = findLineEnd(start + rangeSize);
+			Callable<Range> task = () -> read(start, end);
+			pending.add(context.submit(Collections.singletonList(task)).get(0));
+			scheduledUntil = end;
+		}
+	}
+
+	/**
+	 * Finds the position behind the first line feed at or after the given position.
+	 *
+	 * @return the position behind the line feed or the file size if there is none
+	 */
+	private long findLineEnd(long from) throws IOException {
+		long position = from;
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		while (position < size) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				if (buffer.get(i) == '\n') {
+					return position + i + 1;
+				}
+			}
+			position += read;
+		}
+		return size;
+	}
+
+	/**
+	 * Maps, decodes and parses the lines between the given byte positions.
+	 */
+	private Range read(long start, long end) throws IOException {
+		MappedByteBuffer bytes = channel.map(MapMode.READ_ONLY, start, end - start);
+		// same replacement of malformed input as by the InputStreamReader of the sequential reader
+		CharBuffer chars = configuration.getEncoding().newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE).decode(bytes);
+		String[] lines = splitLines(chars);
+
+		LineParser parser;
+		try {
+			parser = new LineParser(configuration);
+		} catch (OperatorException e) {
+			throw new IOException(e);
+		}
+		String[][] parsed = new String[lines.length][];
+		CSVParseException[] exceptions = new CSVParseException[lines.length];
+		for (int i = 0; i < lines.length; i++) {
+			try {
+				parsed[i] = parser.parse(lines[i]);
+			} catch (CSVParseException e) {
+				exceptions[i] = e;
+			}
+		}
+		return new Range(lines, parsed, exceptions, end);
+	}
+
+	/**
+	 * Splits the characters into lines like {@link java.io.BufferedReader#readLine()}.
+	 */
+	private static String[] splitLines(CharBuffer chars) {
+		List<String> lines = new ArrayList<>();
+		int length = chars.length();
+		int lineStart = 0;
+		int i = 0;
+		while (i < length) {
+			char c = chars.get(i);
+			if (c == '\n' || c == '\r') {
+				lines.add(chars.subSequence(lineStart, i).toString());
+				if (c == '\r' && i + 1 < length && chars.get(i + 1) == '\n') {
+					i++;
+				}
+				lineStart = i + 1;
+			}
+			i++;
+		}
+		if (lineStart < length) {
+			lines.add(chars.subSequence(lineStart, length).toString());
+		}
+		return lines.toArray(new String[0]);
+	}
+
+	/**
+	 * Waits for the range of the future.
+	 */
+	private static Range get(Future<Range> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+}
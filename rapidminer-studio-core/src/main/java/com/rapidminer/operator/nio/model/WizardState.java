@@ -79,6 +79,24 @@ public class WizardState {
 		}
 	}
 
+	/**
+	 * Reads the complete data result set for storing it in the repository, see
+	 * {@link DataResultSetTranslator#readForStorage}. Only the attribute statistics are computed
+	 * while reading, the data itself is held in memory until it is stored.
+	 *
+	 * @since 9.10.0
+	 */
+	public ExampleSet readForStorage(DataResultSet dataResultSet, ProgressListener progressListener)
+			throws OperatorException {
+		LogService.getRoot().log(Level.INFO, "com.rapidminer.operator.nio.model.WizardState.reading_example_set");
+		final DataResultSetTranslator translator = getTranslator();
+		try {
+			return translator.readForStorage(dataResultSet, getTranslationConfiguration(), progressListener);
+		} finally {
+			translator.close();
+		}
+	}
+
 	public int getNumberOfPreviewRows() {
 		return maxRows;
 	}
@@ -18,11 +18,15 @@
  */
 package com.rapidminer.operator.ports.impl;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import com.rapidminer.Process;
 import com.rapidminer.adaption.belt.AtPortConverter;
 import com.rapidminer.adaption.belt.IOTable;
 import com.rapidminer.operator.DebugMode;
 import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.WrappedGeneralModel;
 import com.rapidminer.operator.OperatorException;
 import com.rapidminer.operator.WrapperOperatorRuntimeException;
@@ -31,6 +35,7 @@ import com.rapidminer.operator.ports.OutputPort;
 import com.rapidminer.operator.ports.OutputPorts;
 import com.rapidminer.operator.ports.Ports;
 import com.rapidminer.operator.ports.metadata.MetaData;
+import com.rapidminer.tools.Tools;
 import com.rapidminer.tools.belt.BeltTools;
 
 
@@ -66,6 +71,7 @@ public class OutputPortImpl extends AbstractOutputPort {
 			if (object.getSource() == null && getPorts().getOwner().getOperator() != null) {
 				object.setSource(getPorts().getOwner().getOperator().getName());
 			}
+			logEstimatedSize(object);
 		}
 
 		// delivering data
@@ -87,4 +93,23 @@ public class OutputPortImpl extends AbstractOutputPort {
 
 	}
 
+	/**
+	 * Reports the estimated memory size of the delivered object in the process log.
+	 */
+	private void logEstimatedSize(IOObject object) {
+		Operator operator = getPorts().getOwner().getOperator();
+		if (operator == null) {
+			return;
+		}
+		Logger logger = operator.getLogger();
+		if (!logger.isLoggable(Level.FINE)) {
+			return;
+		}
+		long bytes = object.estimateMemoryBytes();
+		if (bytes >= 0) {
+			logger.log(Level.FINE, "com.rapidminer.operator.ports.impl.OutputPortImpl.delivered_size",
+					new Object[] { getSpec(), object.getClass().getSimpleName(), Tools.formatBytes(bytes) });
+		}
+	}
+
 }
@@ -19,8 +19,6 @@
 package com.rapidminer.operator.ports.metadata;
 
 import com.rapidminer.operator.ExecutionUnit;
-import com.rapidminer.operator.Operator;
-import com.rapidminer.operator.ports.Port;
 
 
 /**
@@ -41,9 +39,7 @@ public class SubprocessTransformRule implements MDTransformationRule {
 
 	@Override
 	public void transformMD() {
-		for (Operator op : subprocess.getAllInnerOperators()) {
-			op.clear(Port.CLEAR_META_DATA_ERRORS);
-		}
+		// the subprocess clears the errors of the operators it transforms
 		subprocess.transformMetaData();
 	}
 }
@@ -40,6 +40,7 @@ import com.rapidminer.operator.preprocessing.RemoveUnusedNominalValuesModel.Mapp
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.Ontology;
 
 
@@ -82,7 +83,7 @@ public class RemoveUnusedNominalValuesOperator extends PreprocessingOperator {
 
 		Map<String, MappingTranslation> translations = new HashMap<>();
 
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 		for (Attribute attribute : exampleSet.getAttributes()) {
 
 			if (attribute.isNominal()) {
@@ -45,6 +45,7 @@ import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
 import com.rapidminer.parameter.conditions.EqualTypeCondition;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.Ontology;
 import com.rapidminer.tools.OperatorResourceConsumptionHandler;
 
@@ -118,7 +119,7 @@ public class AbsoluteDiscretization extends AbstractDiscretizationOperator {
 	public PreprocessingModel createPreprocessingModel(ExampleSet exampleSet) throws OperatorException {
 		DiscretizationModel model = new DiscretizationModel(exampleSet);
 
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 		// calculating number of bins
 		int sizeOfBins = getParameterAsInt(PARAMETER_SIZE_OF_BINS);
 		int numberOfBins = exampleSet.size() / sizeOfBins;
@@ -47,6 +47,7 @@ import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
 import com.rapidminer.parameter.conditions.EqualTypeCondition;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.Ontology;
 import com.rapidminer.tools.OperatorResourceConsumptionHandler;
 
@@ -112,7 +113,7 @@ public class BinDiscretization extends AbstractDiscretizationOperator {
 	public PreprocessingModel createPreprocessingModel(ExampleSet exampleSet) throws OperatorException {
 		DiscretizationModel model = new DiscretizationModel(exampleSet);
 
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 		int numberOfBins = getParameterAsInt(PARAMETER_NUMBER_OF_BINS);
 		HashMap<Attribute, double[]> ranges = new HashMap<Attribute, double[]>();
 
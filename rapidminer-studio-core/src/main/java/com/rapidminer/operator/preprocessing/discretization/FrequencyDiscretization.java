@@ -48,6 +48,7 @@ import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
 import com.rapidminer.parameter.conditions.EqualTypeCondition;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.Ontology;
 import com.rapidminer.tools.OperatorResourceConsumptionHandler;
 
@@ -126,7 +127,7 @@ public class FrequencyDiscretization extends AbstractDiscretizationOperator {
 						"number of bins must be smaller than number of examples (here: " + exampleSet.size() + ")");
 			}
 		} else {
-			exampleSet.recalculateAllAttributeStatistics();
+			exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 		}
 
 		for (Attribute currentAttribute : exampleSet.getAttributes()) {
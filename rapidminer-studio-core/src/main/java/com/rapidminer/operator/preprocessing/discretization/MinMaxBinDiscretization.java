@@ -38,6 +38,7 @@ import com.rapidminer.parameter.ParameterTypeDouble;
 import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
 import com.rapidminer.parameter.conditions.EqualTypeCondition;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.OperatorResourceConsumptionHandler;
 
 
@@ -85,7 +86,7 @@ public class MinMaxBinDiscretization extends AbstractDiscretizationOperator {
 	public PreprocessingModel createPreprocessingModel(ExampleSet exampleSet) throws OperatorException {
 		DiscretizationModel model = new DiscretizationModel(exampleSet);
 
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 		int numberOfBins = getParameterAsInt(PARAMETER_NUMBER_OF_BINS);
 		HashMap<Attribute, double[]> ranges = new HashMap<Attribute, double[]>();
 
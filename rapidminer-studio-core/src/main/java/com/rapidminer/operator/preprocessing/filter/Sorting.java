@@ -18,6 +18,8 @@
  */
 package com.rapidminer.operator.preprocessing.filter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.rapidminer.example.Attribute;
@@ -32,6 +34,9 @@ import com.rapidminer.operator.preprocessing.AbstractDataProcessing;
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeAttribute;
 import com.rapidminer.parameter.ParameterTypeCategory;
+import com.rapidminer.parameter.ParameterTypeList;
+import com.rapidminer.parameter.ParameterTypeStringCategory;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.OperatorResourceConsumptionHandler;
 
 
@@ -41,6 +46,10 @@ import com.rapidminer.tools.OperatorResourceConsumptionHandler;
  * sorted according to the natural order of the values of this attribute either in increasing or in
  * decreasing direction.
  * </p>
+ * <p>
+ * Additional attributes with their own directions can be specified. They are used in the given
+ * order to sort examples which have equal values for all previous attributes.
+ * </p>
  *
  * @author Ingo Mierswa
  * @deprecated since 9.5, use MultiSorting from the blending extension instead
@@ -57,6 +66,12 @@ public class Sorting extends AbstractDataProcessing {
 	/** The parameter name for &quot;Indicates the direction of the sorting.&quot; */
 	public static final String PARAMETER_SORTING_DIRECTION = "sorting_direction";
 
+	/**
+	 * The parameter name for &quot;Additional attributes with sorting directions used for examples
+	 * with equal values.&quot;
+	 */
+	public static final String PARAMETER_ADDITIONAL_ATTRIBUTES = "additional_attributes";
+
 	public Sorting(OperatorDescription description) {
 		super(description);
 
@@ -73,7 +88,23 @@ public class Sorting extends AbstractDataProcessing {
 			throw new AttributeNotFoundError(this, PARAMETER_ATTRIBUTE_NAME, getParameterAsString(PARAMETER_ATTRIBUTE_NAME));
 		}
 
-		ExampleSet result = new SortedExampleSet(exampleSet, sortingAttribute, sortingDirection, getProgress());
+		List<Attribute> sortingAttributes = new ArrayList<>();
+		List<Integer> sortingDirections = new ArrayList<>();
+		sortingAttributes.add(sortingAttribute);
+		sortingDirections.add(sortingDirection);
+		List<String> directionNames = Arrays.asList(SortedExampleSet.SORTING_DIRECTIONS);
+		for (String[] pair : getParameterList(PARAMETER_ADDITIONAL_ATTRIBUTES)) {
+			Attribute attribute = exampleSet.getAttributes().get(pair[0]);
+			if (attribute == null) {
+				throw new AttributeNotFoundError(this, PARAMETER_ADDITIONAL_ATTRIBUTES, pair[0]);
+			}
+			sortingAttributes.add(attribute);
+			sortingDirections.add(Math.max(directionNames.indexOf(pair[1]), SortedExampleSet.INCREASING));
+		}
+
+		ExampleSet result = new SortedExampleSet(exampleSet, sortingAttributes,
+				sortingDirections.stream().mapToInt(Integer::intValue).toArray(), Resources.getConcurrencyContext(this),
+				getProgress());
 
 		return result;
 	}
@@ -86,6 +117,14 @@ public class Sorting extends AbstractDataProcessing {
 				false));
 		types.add(new ParameterTypeCategory(PARAMETER_SORTING_DIRECTION, "Indicates the direction of the sorting.",
 				SortedExampleSet.SORTING_DIRECTIONS, SortedExampleSet.INCREASING, false));
+		ParameterTypeStringCategory direction = new ParameterTypeStringCategory("direction",
+				"Indicates the direction of the sorting for this attribute.", SortedExampleSet.SORTING_DIRECTIONS,
+				SortedExampleSet.SORTING_DIRECTIONS[SortedExampleSet.INCREASING], false);
+		types.add(new ParameterTypeList(PARAMETER_ADDITIONAL_ATTRIBUTES,
+				"Additional attributes used for sorting examples with equal values for all previous attributes.",
+				new ParameterTypeAttribute("attribute", "The additional attribute used for the sorting.",
+						getExampleSetInputPort(), false),
+				direction, false));
 		return types;
 	}
 
@@ -31,6 +31,7 @@ import com.rapidminer.parameter.ParameterTypeCategory;
 import com.rapidminer.parameter.ParameterTypeList;
 import com.rapidminer.parameter.ParameterTypeStringCategory;
 import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.studio.internal.Resources;
 import com.rapidminer.tools.Ontology;
 
 import java.util.Arrays;
@@ -89,7 +90,7 @@ public abstract class ValueReplenishment extends PreprocessingOperator {
 
 	@Override
 	public PreprocessingModel createPreprocessingModel(ExampleSet exampleSet) throws OperatorException {
-		exampleSet.recalculateAllAttributeStatistics();
+		exampleSet.recalculateAllAttributeStatistics(Resources.getConcurrencyContext(this));
 
 		int defaultFunction = getParameterAsInt(PARAMETER_DEFAULT);
 		List<String[]> functionList = getParameterList(PARAMETER_COLUMNS);
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import com.rapidminer.belt.execution.Context;
+
 
 /**
  * De/serializes the body of a stream, i.e. the part without the header (MAGIC_NUMBER plus type id).
@@ -33,4 +35,24 @@ public interface BodySerializer {
 	public Object deserialize(InputStream in) throws IOException;
 
 	public void serialize(Object object, OutputStream out) throws IOException;
+
+	/**
+	 * Deserializes the body, using the context for parallel work if supported. The default implementation ignores
+	 * the context.
+	 *
+	 * @since 9.10.0
+	 */
+	default Object deserialize(InputStream in, Context context) throws IOException {
+		return deserialize(in);
+	}
+
+	/**
+	 * Serializes the object, using the context for parallel work if supported. The default implementation ignores
+	 * the context.
+	 *
+	 * @since 9.10.0
+	 */
+	default void serialize(Object object, OutputStream out, Context context) throws IOException {
+		serialize(object, out);
+	}
 }
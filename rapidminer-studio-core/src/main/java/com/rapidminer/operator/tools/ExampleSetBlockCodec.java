@@ -0,0 +1,347 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.rapidminer.operator.tools.ExampleSetToStream.ColumnType;
+
+
+/**
+ * Encodes and decodes the blocks of the columnar stream format {@link ExampleSetToStream#VERSION_4}. A block holds the
+ * values of a fixed number of rows in column-major order. Every column of a block starts with an encoding byte
+ * followed by the values:
+ * <ul>
+ * <li>{@link #ENCODING_DOUBLE}: the values as doubles</li>
+ * <li>{@link #ENCODING_DELTA}: a boolean whether there are missing values, if so a bitmap of the missing rows, and
+ * then the zig-zag variable-length encoded differences between consecutive non-missing values. Used for integral
+ * values, e.g. of integer and date-time columns.</li>
+ * <li>{@link #ENCODING_INDEX_BYTE}, {@link #ENCODING_INDEX_SHORT}, {@link #ENCODING_INDEX_INT}: nominal indices of
+ * the given width, missing values are {@code -1}.</li>
+ * </ul>
+ * A block is stored as its raw length, its stored length and the stored bytes. If the stored length is smaller than
+ * the raw length, the bytes are compressed by a {@link Deflater}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class ExampleSetBlockCodec {
+
+	static final byte ENCODING_DOUBLE = 0;
+	static final byte ENCODING_DELTA = 1;
+	static final byte ENCODING_INDEX_BYTE = 2;
+	static final byte ENCODING_INDEX_SHORT = 3;
+	static final byte ENCODING_INDEX_INT = 4;
+
+	/** the number of values in a block is about {@value} */
+	private static final int VALUES_PER_BLOCK = 1 << 20;
+
+	/** the maximal number of rows in a block */
+	private static final int MAX_BLOCK_ROWS = 1 << 16;
+
+	/** integral values up to this absolute value are exactly representable as double */
+	private static final double MAX_EXACT_INTEGER = 1L << 53;
+
+	private ExampleSetBlockCodec() {
+		throw new AssertionError("Utility class");
+	}
+
+	/**
+	 * Returns the number of rows of a block such that a block holds about {@value #VALUES_PER_BLOCK} values.
+	 *
+	 * @param columns
+	 * 		the number of columns
+	 * @return the number of rows per block
+	 */
+	static int getBlockRows(int columns) {
+		return Math.max(1, Math.min(MAX_BLOCK_ROWS, VALUES_PER_BLOCK / Math.max(1, columns)));
+	}
+
+	/**
+	 * Encodes the values of a block.
+	 *
+	 * @param values
+	 * 		the values of the block by column
+	 * @param rows
+	 * 		the number of rows of the block
+	 * @param columnTypes
+	 * 		the column types of the columns
+	 * @param compress
+	 * 		whether to compress the block if that makes it smaller
+	 * @return the raw length followed by the stored bytes, see {@link #getRawLength(byte[])}
+	 * @throws IOException
+	 * 		if encoding fails
+	 */
+	static byte[] encode(double[][] values, int rows, ColumnType[] columnTypes, boolean compress) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (int column = 0; column < columnTypes.length; column++) {
+			double[] columnValues = values[column];
+			switch (columnTypes[column]) {
+				case NOMINAL_BYTE:
+					out.writeByte(ENCODING_INDEX_BYTE);
+					for (int i = 0; i < rows; i++) {
+						out.writeByte(Double.isNaN(columnValues[i]) ? -1 : (byte) columnValues[i]);
+					}
+					break;
+				case NOMINAL_SHORT:
+					out.writeByte(ENCODING_INDEX_SHORT);
+					for (int i = 0; i < rows; i++) {
+						out.writeShort(Double.isNaN(columnValues[i]) ? -1 : (short) columnValues[i]);
+					}
+					break;
+				case NOMINAL_INTEGER:
+					out.writeByte(ENCODING_INDEX_INT);
+					for (int i = 0; i < rows; i++) {
+						out.writeInt(Double.isNaN(columnValues[i]) ? -1 : (int) columnValues[i]);
+					}
+					break;
+				default:
+					if (isIntegral(columnValues, rows)) {
+						out.writeByte(ENCODING_DELTA);
+						writeDelta(out, columnValues, rows);
+					} else {
+						out.writeByte(ENCODING_DOUBLE);
+						for (int i = 0; i < rows; i++) {
+							out.writeDouble(columnValues[i]);
+						}
+					}
+					break;
+			}
+		}
+		out.flush();
+		byte[] raw = bytes.toByteArray();
+		byte[] stored = compress ? deflate(raw) : null;
+		if (stored == null) {
+			stored = raw;
+		}
+		ByteBuffer block = ByteBuffer.allocate(2 * Integer.BYTES + stored.length);
+		block.putInt(raw.length).putInt(stored.length).put(stored);
+		return block.array();
+	}
+
+	/**
+	 * Decodes the values of a block.
+	 *
+	 * @param rawLength
+	 * 		the length of the uncompressed block
+	 * @param stored
+	 * 		the stored bytes of the block
+	 * @param rows
+	 * 		the number of rows of the block
+	 * @param columns
+	 * 		the number of columns
+	 * @return the values of the block by column
+	 * @throws IOException
+	 * 		if the block is corrupt
+	 */
+	static double[][] decode(int rawLength, byte[] stored, int rows, int columns) throws IOException {
+		ByteBuffer in = ByteBuffer.wrap(stored.length < rawLength ? inflate(stored, rawLength) : stored);
+		double[][] values = new double[columns][rows];
+		try {
+			for (int column = 0; column < columns; column++) {
+				double[] columnValues = values[column];
+				byte encoding = in.get();
+				switch (encoding) {
+					case ENCODING_DOUBLE:
+						in.asDoubleBuffer().get(columnValues);
+						in.position(in.position() + rows * Double.BYTES);
+						break;
+					case ENCODING_DELTA:
+						readDelta(in, columnValues, rows);
+						break;
+					case ENCODING_INDEX_BYTE:
+						for (int i = 0; i < rows; i++) {
+							byte value = in.get();
+							columnValues[i] = value == -1 ? Double.NaN : value;
+						}
+						break;
+					case ENCODING_INDEX_SHORT:
+						for (int i = 0; i < rows; i++) {
+							short value = in.getShort();
+							columnValues[i] = value == -1 ? Double.NaN : value;
+						}
+						break;
+					case ENCODING_INDEX_INT:
+						for (int i = 0; i < rows; i++) {
+							int value = in.getInt();
+							columnValues[i] = value == -1 ? Double.NaN : value;
+						}
+						break;
+					default:
+						throw new IOException("Unknown column encoding: " + encoding);
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Block ends unexpectedly", e);
+		}
+		return values;
+	}
+
+	/**
+	 * Checks whether all non-missing values are integers that are exactly representable as double.
+	 */
+	private static boolean isIntegral(double[] values, int rows) {
+		for (int i = 0; i < rows; i++) {
+			double value = values[i];
+			if (!Double.isNaN(value) && (value != Math.rint(value) || Math.abs(value) > MAX_EXACT_INTEGER
+					|| value == 0 && Double.doubleToRawLongBits(value) != 0)) {
+				// -0.0 would be read as 0.0
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the missing bitmap and the differences of the non-missing integral values.
+	 */
+	private static void writeDelta(DataOutputStream out, double[] values, int rows) throws IOException {
+		byte[] missing = null;
+		for (int i = 0; i < rows; i++) {
+			if (Double.isNaN(values[i])) {
+				if (missing == null) {
+					missing = new byte[(rows + 7) >>> 3];
+				}
+				missing[i >>> 3] |= 1 << (i & 7);
+			}
+		}
+		out.writeBoolean(missing != null);
+		if (missing != null) {
+			out.write(missing);
+		}
+		long previous = 0;
+		for (int i = 0; i < rows; i++) {
+			if (!Double.isNaN(values[i])) {
+				long value = (long) values[i];
+				writeVarLong(out, value - previous);
+				previous = value;
+			}
+		}
+	}
+
+	/**
+	 * Reads the values written by {@link #writeDelta}.
+	 */
+	private static void readDelta(ByteBuffer in, double[] values, int rows) {
+		byte[] missing = null;
+		if (in.get() != 0) {
+			missing = new byte[(rows + 7) >>> 3];
+			in.get(missing);
+		}
+		long previous = 0;
+		for (int i = 0; i < rows; i++) {
+			if (missing != null && (missing[i >>> 3] & (1 << (i & 7))) != 0) {
+				values[i] = Double.NaN;
+			} else {
+				previous += readVarLong(in);
+				values[i] = previous;
+			}
+		}
+	}
+
+	/**
+	 * Writes the value zig-zag encoded with 7 bits per byte, so that small positive and negative values take few
+	 * bytes.
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		long zigZag = (value << 1) ^ (value >> 63);
+		while ((zigZag & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+			zigZag >>>= 7;
+		}
+		out.writeByte((int) zigZag);
+	}
+
+	/**
+	 * Reads a value written by {@link #writeVarLong}.
+	 */
+	private static long readVarLong(ByteBuffer in) {
+		long zigZag = 0;
+		int shift = 0;
+		byte current;
+		do {
+			current = in.get();
+			zigZag |= (long) (current & 0x7F) << shift;
+			shift += 7;
+		} while ((current & 0x80) != 0);
+		return (zigZag >>> 1) ^ -(zigZag & 1);
+	}
+
+	/**
+	 * Compresses the bytes.
+	 *
+	 * @return the compressed bytes or {@code null} if compressing does not make the bytes smaller
+	 */
+	private static byte[] deflate(byte[] raw) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			byte[] buffer = new byte[raw.length];
+			int length = 0;
+			while (!deflater.finished() && length < buffer.length) {
+				length += deflater.deflate(buffer, length, buffer.length - length);
+			}
+			if (!deflater.finished() || length >= raw.length) {
+				return null;
+			}
+			byte[] compressed = new byte[length];
+			System.arraycopy(buffer, 0, compressed, 0, length);
+			return compressed;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Decompresses the bytes.
+	 *
+	 * @throws IOException
+	 * 		if the compressed bytes are corrupt
+	 */
+	private static byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] raw = new byte[rawLength];
+			int length = 0;
+			while (length < rawLength) {
+				int inflated = inflater.inflate(raw, length, rawLength - length);
+				if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("Compressed block ends unexpectedly");
+				}
+				length += inflated;
+			}
+			return raw;
+		} catch (DataFormatException e) {
+			throw new IOException("Compressed block is corrupt", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
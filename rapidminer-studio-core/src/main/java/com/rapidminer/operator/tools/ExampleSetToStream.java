@@ -32,19 +32,25 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.AttributeRole;
 import com.rapidminer.example.Example;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.example.Tools;
+import com.rapidminer.example.set.SimpleExampleSet;
 import com.rapidminer.example.table.AttributeFactory;
 import com.rapidminer.example.table.DoubleSparseArrayDataRow;
 import com.rapidminer.example.table.NominalMapping;
 import com.rapidminer.example.table.PolynominalMapping;
 import com.rapidminer.example.table.SparseDataRow;
+import com.rapidminer.example.table.internal.ColumnarExampleTable;
 import com.rapidminer.example.utils.ExampleSetBuilder;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
 import com.rapidminer.example.utils.ExampleSets;
 import com.rapidminer.operator.Annotations;
 import com.rapidminer.tools.LogService;
@@ -73,6 +79,16 @@ public class ExampleSetToStream {
 	 */
 	public static final int VERSION_3 = 3;
 
+	/**
+	 * Stores the data column-major in blocks of rows with per-column encodings and optional compression, see
+	 * {@link ExampleSetBlockCodec}. Sparse example sets are stored like dense ones. Not the current version since
+	 * older versions cannot read it, it is only written if selected via
+	 * {@link SerializationType#STREAMED_EXAMPLE_SET_COLUMNAR}.
+	 *
+	 * @since 9.10.0
+	 */
+	public static final int VERSION_4 = 4;
+
 	/**
 	 * Current version of the stream protocol. To add a new version: - Add a constant here, and
 	 * redirect the constant CURRENT_VERSION to the new constant. - Add SVN revision to the comment
@@ -117,7 +133,7 @@ public class ExampleSetToStream {
 
 	public ExampleSetToStream(final int version) {
 		this.version = version;
-		if (version != CURRENT_VERSION) {
+		if (version < CURRENT_VERSION) {
 			LogService.getRoot().log(Level.FINE,
 					"com.rapidminer.operator.tools.ExampleSetToStream.using_deprecated_version", version);
 		}
@@ -125,12 +141,37 @@ public class ExampleSetToStream {
 
 	/** Writes header and data of the example set to the stream. */
 	public void write(final ExampleSet exampleSet, final OutputStream outputStream) throws IOException {
+		write(exampleSet, outputStream, null);
+	}
+
+	/**
+	 * Writes header and data of the example set to the stream. For {@link #VERSION_4} and above, the blocks are
+	 * encoded in parallel if the context allows it.
+	 *
+	 * @param exampleSet
+	 * 		the example set to write
+	 * @param outputStream
+	 * 		the stream to write to
+	 * @param context
+	 * 		the context to use for parallel encoding, can be {@code null}
+	 * @throws IOException
+	 * 		if writing fails
+	 * @since 9.10.0
+	 */
+	public void write(final ExampleSet exampleSet, final OutputStream outputStream, final Context context)
+			throws IOException {
 		DataOutputStream out = new DataOutputStream(outputStream);
 		List<AttributeRole> allRoles = new LinkedList<>();
 		Iterator<AttributeRole> i = exampleSet.getAttributes().allAttributeRoles();
 		while (i.hasNext()) {
 			allRoles.add(i.next());
 		}
+		if (version >= VERSION_4) {
+			writeHeader(exampleSet.getAnnotations(), allRoles, out, false);
+			writeBlocks(exampleSet, out, allRoles, context);
+			out.flush();
+			return;
+		}
 		boolean sparse = false;
 		// TODO: Remove ugly instanceof check
 		if ((exampleSet.size() > 0) && (exampleSet.getExample(0).getDataRow() instanceof SparseDataRow)) {
@@ -141,6 +182,47 @@ public class ExampleSetToStream {
 		out.flush();
 	}
 
+	/**
+	 * Writes the number of examples and the number of rows per block followed by the blocks as encoded by
+	 * {@link ExampleSetBlockCodec#encode}. The values of as many blocks as the context allows are gathered and then
+	 * encoded in parallel.
+	 */
+	private void writeBlocks(final ExampleSet exampleSet, final DataOutputStream out,
+			final List<AttributeRole> allRoles, final Context context) throws IOException {
+		int size = exampleSet.size();
+		ColumnType[] columnTypes = convertToColumnTypes(allRoles);
+		Attribute[] attributes = new Attribute[allRoles.size()];
+		int index = 0;
+		for (AttributeRole role : allRoles) {
+			attributes[index++] = role.getAttribute();
+		}
+		int blockRows = ExampleSetBlockCodec.getBlockRows(attributes.length);
+		out.writeInt(size);
+		out.writeInt(blockRows);
+
+		int batchSize = getBatchSize(context);
+		Iterator<Example> examples = exampleSet.iterator();
+		int row = 0;
+		while (row < size) {
+			List<Callable<byte[]>> tasks = new ArrayList<>();
+			for (int block = 0; block < batchSize && row < size; block++) {
+				int rows = Math.min(blockRows, size - row);
+				double[][] values = new double[attributes.length][rows];
+				for (int i = 0; i < rows; i++) {
+					Example example = examples.next();
+					for (int column = 0; column < attributes.length; column++) {
+						values[column][i] = example.getValue(attributes[column]);
+					}
+				}
+				tasks.add(() -> ExampleSetBlockCodec.encode(values, rows, columnTypes, true));
+				row += rows;
+			}
+			for (byte[] block : call(context, tasks)) {
+				out.write(block);
+			}
+		}
+	}
+
 	/**
 	 * Writes nominals and integers as integer, all others as double. All values are prefixed by a
 	 * boolean indicating whether the following value is missing, in which case the latter is not
@@ -219,6 +301,23 @@ public class ExampleSetToStream {
 
 	/** Reads an example set as written by {@link #write(ExampleSet, OutputStream)}. */
 	public ExampleSet read(final InputStream inputStream) throws IOException {
+		return read(inputStream, null);
+	}
+
+	/**
+	 * Reads an example set as written by {@link #write(ExampleSet, OutputStream, Context)}. For {@link #VERSION_4}
+	 * and above, the blocks are decoded in parallel if the context allows it.
+	 *
+	 * @param inputStream
+	 * 		the stream to read from
+	 * @param context
+	 * 		the context to use for parallel decoding, can be {@code null}
+	 * @return the example set
+	 * @throws IOException
+	 * 		if reading fails
+	 * @since 9.10.0
+	 */
+	public ExampleSet read(final InputStream inputStream, final Context context) throws IOException {
 		DataInputStream in = new DataInputStream(inputStream);
 
 		// Extract Header information
@@ -233,6 +332,9 @@ public class ExampleSetToStream {
 
 		// Create example table
 		int size = in.readInt();
+		if (version >= VERSION_4) {
+			return finishExampleSet(readBlocks(in, allAttributes, size, context), allAttributeRoles, header);
+		}
 		ExampleSetBuilder builder = ExampleSets.from(allAttributes).withExpectedSize(size);
 
 		// Read data
@@ -256,9 +358,15 @@ public class ExampleSetToStream {
 			}
 		}
 
-		// Create example set
-		ExampleSet exampleSet = builder.build();
-		// finally, set special attributes
+		return finishExampleSet(builder.build(), allAttributeRoles, header);
+	}
+
+	/**
+	 * Sets the special attributes and annotations of the header.
+	 */
+	private static ExampleSet finishExampleSet(ExampleSet exampleSet, List<AttributeRole> allAttributeRoles,
+			Header header) {
+		// set special attributes
 		for (AttributeRole role : allAttributeRoles) {
 			if (role.isSpecial()) {
 				Attribute att = exampleSet.getAttributes().get(role.getAttribute().getName());
@@ -269,6 +377,93 @@ public class ExampleSetToStream {
 		return exampleSet;
 	}
 
+	/**
+	 * Reads the blocks written by {@link #writeBlocks} into a new table. As many blocks as the context allows are
+	 * read and then decoded in parallel. The decoded values are copied column by column into the table.
+	 */
+	private static ExampleSet readBlocks(final DataInputStream in, final List<Attribute> attributes, final int size,
+			final Context context) throws IOException {
+		int columns = attributes.size();
+		int blockRows = in.readInt();
+		if (blockRows <= 0) {
+			throw new IOException("Illegal number of rows per block: " + blockRows);
+		}
+		ColumnarExampleTable table = new ColumnarExampleTable(attributes, DataManagement.AUTO, true);
+		table.setExpectedSize(size);
+		table.addBlankRows(size);
+		int batchSize = getBatchSize(context);
+		int row = 0;
+		while (row < size) {
+			int batchStart = row;
+			List<Callable<double[][]>> tasks = new ArrayList<>();
+			List<Integer> blockSizes = new ArrayList<>();
+			for (int block = 0; block < batchSize && row < size; block++) {
+				int rows = Math.min(blockRows, size - row);
+				int rawLength = in.readInt();
+				int storedLength = in.readInt();
+				if (rawLength < 0 || storedLength < 0 || storedLength > rawLength) {
+					throw new IOException("Illegal block length: " + storedLength + " of " + rawLength);
+				}
+				byte[] stored = new byte[storedLength];
+				in.readFully(stored);
+				tasks.add(() -> ExampleSetBlockCodec.decode(rawLength, stored, rows, columns));
+				blockSizes.add(rows);
+				row += rows;
+			}
+			List<double[][]> blocks = call(context, tasks);
+			int blockStart = batchStart;
+			for (int block = 0; block < blocks.size(); block++) {
+				double[][] values = blocks.get(block);
+				int rows = blockSizes.get(block);
+				for (int column = 0; column < columns; column++) {
+					table.fillColumn(attributes.get(column), blockStart, values[column], 0, rows);
+				}
+				blockStart += rows;
+			}
+		}
+		table.complete();
+		return new SimpleExampleSet(table, attributes, null);
+	}
+
+	/**
+	 * @return the number of blocks to encode or decode at once
+	 */
+	private static int getBatchSize(Context context) {
+		return context == null ? 1 : Math.max(1, context.getParallelism());
+	}
+
+	/**
+	 * Calls the tasks in the context or, if there is no context or only one task, in the current thread.
+	 */
+	private static <T> List<T> call(Context context, List<Callable<T>> tasks) throws IOException {
+		if (context == null || tasks.size() < 2) {
+			List<T> results = new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				try {
+					results.add(task.call());
+				} catch (IOException | RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+			}
+			return results;
+		}
+		try {
+			return context.call(tasks);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
 	/**
 	 * Reads meta data information as written by {@link #writeHeader(List, DataOutputStream)}. TODO:
 	 * This must return an ExampleSetHeader including the roles and the sparse flag.
@@ -495,6 +690,7 @@ public class ExampleSetToStream {
 				break;
 			case VERSION_2:
 			case VERSION_3:
+			case VERSION_4:
 				byte[] bytes = value.getBytes(STRING_CHARSET);
 				out.writeInt(bytes.length);
 				out.write(bytes);
@@ -510,6 +706,7 @@ public class ExampleSetToStream {
 				return in.readUTF();
 			case VERSION_2:
 			case VERSION_3:
+			case VERSION_4:
 				int length = in.readInt();
 				byte[] bytes = new byte[length];
 				in.readFully(bytes);
@@ -28,9 +28,12 @@ import java.io.InvalidObjectException;
 import java.io.OutputStream;
 import java.util.Arrays;
 
+import com.rapidminer.RapidMiner;
 import com.rapidminer.adaption.belt.TableViewingTools;
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.belt.table.BeltConverter;
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.tools.ParameterService;
 
 
 /**
@@ -50,6 +53,19 @@ public class IOObjectSerializer {
 
 	/** Serializes the object with a default type appropriate for the given object. */
 	public void serialize(OutputStream out, Object object) throws IOException {
+		serialize(out, object, (Context) null);
+	}
+
+	/**
+	 * Serializes the object with a default type appropriate for the given object, using the context for parallel
+	 * encoding if the type supports it. Example sets are only written in the columnar format that supports parallel
+	 * encoding if {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_COLUMNAR_SERIALIZATION} is enabled.
+	 *
+	 * @param context
+	 * 		the context for parallel work, can be {@code null}
+	 * @since 9.10.0
+	 */
+	public void serialize(OutputStream out, Object object, Context context) throws IOException {
 		try {
 			object = TableViewingTools.replaceTableObject(object);
 		} catch (BeltConverter.ConversionException e) {
@@ -58,11 +74,14 @@ public class IOObjectSerializer {
 		}
 		SerializationType type;
 		if (object instanceof ExampleSet) {
-			type = SerializationType.STREAMED_EXAMPLE_SET_DENSE_CURRENT_VERSION;
+			type = Boolean.parseBoolean(ParameterService.getParameterValue(
+					RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_COLUMNAR_SERIALIZATION))
+					? SerializationType.STREAMED_EXAMPLE_SET_COLUMNAR
+					: SerializationType.STREAMED_EXAMPLE_SET_DENSE_CURRENT_VERSION;
 		} else {
 			type = SerializationType.JAVA_BINARY;
 		}
-		serialize(out, object, type);
+		serialize(out, object, type, context);
 	}
 
 	public void writeHeader(OutputStream out, SerializationType serializationType) throws IOException {
@@ -80,6 +99,21 @@ public class IOObjectSerializer {
 		out.flush();
 	}
 
+	/**
+	 * Serializes the object to the stream, using the given serialization type and the context for parallel encoding
+	 * if the type supports it.
+	 *
+	 * @param context
+	 * 		the context for parallel work, can be {@code null}
+	 * @since 9.10.0
+	 */
+	public void serialize(OutputStream out, Object object, SerializationType serializationType, Context context)
+			throws IOException {
+		writeHeader(out, serializationType);
+		serializationType.getBodySerializer().serialize(object, out, context);
+		out.flush();
+	}
+
 	public SerializationType deserializeHeader(InputStream in) throws IOException {
 		byte[] magicRead = new byte[MAGIC_NUMBER.length];
 		int offset = 0;
@@ -96,7 +130,7 @@ public class IOObjectSerializer {
 		}
 		DataInputStream din = new DataInputStream(in);
 		int typeIndex = din.readInt();
-		if ((typeIndex < 0) || (typeIndex > SerializationType.values().length)) {
+		if ((typeIndex < 0) || (typeIndex >= SerializationType.values().length)) {
 			throw new IOException("Illegal serialization type: " + typeIndex);
 		}
 		return SerializationType.values()[typeIndex];
@@ -107,8 +141,20 @@ public class IOObjectSerializer {
 	 * {@link #serialize(OutputStream, Object, SerializationType)}.
 	 */
 	public Object deserialize(InputStream in) throws IOException {
+		return deserialize(in, null);
+	}
+
+	/**
+	 * Deserializes an object serialized by {@link #serialize(OutputStream, Object, SerializationType)}, using the
+	 * context for parallel decoding if the serialization type supports it.
+	 *
+	 * @param context
+	 * 		the context for parallel work, can be {@code null}
+	 * @since 9.10.0
+	 */
+	public Object deserialize(InputStream in, Context context) throws IOException {
 		SerializationType type = deserializeHeader(in);
-		return type.getBodySerializer().deserialize(in);
+		return type.getBodySerializer().deserialize(in, context);
 	}
 
 	/** Serializes the object into a byte buffer. */
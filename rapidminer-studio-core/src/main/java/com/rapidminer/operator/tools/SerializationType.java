@@ -115,7 +115,16 @@ public enum SerializationType {
 
 	STREAMED_EXAMPLE_SET_DENSE_2(new StreamedExampleSetBodySerializer(ExampleSetToStream.VERSION_2)),
 
-	STREAMED_EXAMPLE_SET_DENSE_3(new StreamedExampleSetBodySerializer(ExampleSetToStream.VERSION_3));
+	STREAMED_EXAMPLE_SET_DENSE_3(new StreamedExampleSetBodySerializer(ExampleSetToStream.VERSION_3)),
+
+	/**
+	 * Column-major blocks with per-column encodings and compression. Cannot be read by versions before 9.10.0, so
+	 * it is only used by default if {@link com.rapidminer.RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_COLUMNAR_SERIALIZATION}
+	 * is enabled.
+	 *
+	 * @since 9.10.0
+	 */
+	STREAMED_EXAMPLE_SET_COLUMNAR(new StreamedExampleSetBodySerializer(ExampleSetToStream.VERSION_4));
 
 	public static SerializationType STREAMED_EXAMPLE_SET_DENSE_CURRENT_VERSION = STREAMED_EXAMPLE_SET_DENSE_3;
 
@@ -18,6 +18,7 @@
  */
 package com.rapidminer.operator.tools;
 
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.ExampleSet;
 
 import java.io.IOException;
@@ -40,13 +41,23 @@ public class StreamedExampleSetBodySerializer implements BodySerializer {
 
 	@Override
 	public Object deserialize(InputStream in) throws IOException {
-		return new ExampleSetToStream(version).read(in);
+		return deserialize(in, null);
+	}
+
+	@Override
+	public Object deserialize(InputStream in, Context context) throws IOException {
+		return new ExampleSetToStream(version).read(in, context);
 	}
 
 	@Override
 	public void serialize(Object object, OutputStream out) throws IOException {
+		serialize(object, out, null);
+	}
+
+	@Override
+	public void serialize(Object object, OutputStream out, Context context) throws IOException {
 		if (object instanceof ExampleSet) {
-			new ExampleSetToStream(version).write((ExampleSet) object, out);
+			new ExampleSetToStream(version).write((ExampleSet) object, out, context);
 		} else {
 			throw new IOException("Serialization type " + SerializationType.STREAMED_EXAMPLE_SET_DENSE
 					+ " only available for ExampleSets.");
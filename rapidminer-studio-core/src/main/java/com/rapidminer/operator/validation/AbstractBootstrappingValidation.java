@@ -33,6 +33,7 @@ import com.rapidminer.parameter.ParameterTypeDouble;
 import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.tools.RandomGenerator;
+import com.rapidminer.tools.container.Pair;
 
 
 /**
@@ -83,6 +84,16 @@ public abstract class AbstractBootstrappingValidation extends ValidationChain {
 
 		// start bootstrapping loop
 		RandomGenerator random = RandomGenerator.getRandomGenerator(this);
+		if (checkParallelizability(number)) {
+			// the mappings are drawn one after another as in the sequential loop
+			getProgress().setTotal(number);
+			performIterationsInParallel(inputSet, number, (exampleSet, run) -> {
+				int[] mapping = createMapping(inputSet, (int) Math.round(inputSet.size() * sampleRatio), random);
+				ExampleSet trainingSet = new MappedExampleSet(exampleSet, mapping, true);
+				return new Pair<>(trainingSet, new MappedExampleSet(exampleSet, mapping, false));
+			});
+			return;
+		}
 		for (iteration = 0; iteration < number; iteration++) {
 			int[] mapping = createMapping(inputSet, (int) Math.round(inputSet.size() * sampleRatio), random);
 			MappedExampleSet trainingSet = new MappedExampleSet(inputSet, mapping, true);
@@ -95,6 +106,16 @@ public abstract class AbstractBootstrappingValidation extends ValidationChain {
 		// end loop
 	}
 
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
+
+	@Override
+	protected void iterationProcessed(int iteration) {
+		this.iteration = iteration;
+	}
+
 	@Override
 	protected MDInteger getTestSetSize(MDInteger originalSize) throws UndefinedParameterError {
 		return originalSize.multiply(1d - getParameterAsDouble(PARAMETER_SAMPLE_RATIO));
@@ -23,6 +23,7 @@ import java.util.List;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.Attributes;
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.set.MappedExampleSet;
 import com.rapidminer.example.set.SplittedExampleSet;
 import com.rapidminer.operator.OperatorCapability;
 import com.rapidminer.operator.OperatorDescription;
@@ -34,6 +35,7 @@ import com.rapidminer.operator.visualization.ProcessLogOperator;
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.tools.container.Pair;
 
 
 /**
@@ -118,6 +120,16 @@ public class BatchXValidation extends ValidationChain {
 		}
 		getProgress().setCheckForStop(false);
 
+		if (checkParallelizability(splittedES.getNumberOfSubsets())) {
+			performIterationsInParallel(inputSet, splittedES.getNumberOfSubsets(), (exampleSet, batch) -> {
+				splittedES.selectAllSubsetsBut(batch);
+				ExampleSet trainingSet = new MappedExampleSet(exampleSet, splittedES.getMappingCopy(), true, false);
+				splittedES.selectSingleSubset(batch);
+				ExampleSet testSet = new MappedExampleSet(exampleSet, splittedES.getMappingCopy(), true, false);
+				return new Pair<>(trainingSet, testSet);
+			});
+			return;
+		}
 		for (iteration = 0; iteration < splittedES.getNumberOfSubsets(); iteration++) {
 			splittedES.selectAllSubsetsBut(iteration);
 			learn(splittedES);
@@ -147,6 +159,16 @@ public class BatchXValidation extends ValidationChain {
 		return types;
 	}
 
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
+
+	@Override
+	protected void iterationProcessed(int iteration) {
+		this.iteration = iteration;
+	}
+
 	@Override
 	public boolean supportsCapability(OperatorCapability capability) {
 		return true;
@@ -34,6 +34,7 @@ import com.rapidminer.parameter.ParameterTypeDouble;
 import com.rapidminer.parameter.ParameterTypeInt;
 import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.tools.RandomGenerator;
+import com.rapidminer.tools.container.Pair;
 
 
 /**
@@ -108,6 +109,20 @@ public class BootstrappingValidation extends ValidationChain {
 		}
 		getProgress().setCheckForStop(false);
 
+		if (checkParallelizability(number)) {
+			// the mappings are drawn one after another as in the sequential loop
+			performIterationsInParallel(inputSet, number, (exampleSet, run) -> {
+				int[] mapping;
+				if (useWeights && inputSet.getAttributes().getWeight() != null) {
+					mapping = MappedExampleSet.createWeightedBootstrappingMapping(inputSet, size, random);
+				} else {
+					mapping = MappedExampleSet.createBootstrappingMapping(inputSet, size, random);
+				}
+				ExampleSet trainingSet = new MappedExampleSet(exampleSet, mapping, true);
+				return new Pair<>(trainingSet, new MappedExampleSet(exampleSet, mapping, false));
+			});
+			return;
+		}
 		for (iteration = 0; iteration < number; iteration++) {
 			int[] mapping = null;
 			if (useWeights && inputSet.getAttributes().getWeight() != null) {
@@ -154,6 +169,16 @@ public class BootstrappingValidation extends ValidationChain {
 		return types;
 	}
 
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
+
+	@Override
+	protected void iterationProcessed(int iteration) {
+		this.iteration = iteration;
+	}
+
 	@Override
 	public boolean supportsCapability(OperatorCapability capability) {
 		return true;
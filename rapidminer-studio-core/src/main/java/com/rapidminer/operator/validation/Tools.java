@@ -138,7 +138,16 @@ public class Tools {
 	 * the second or later iteration) builds the average. Null inputs are ignored.
 	 */
 	public static void buildAverages(InputPort inputPort, OutputPort outputPort) throws OperatorException {
-		AverageVector performance = inputPort.getDataOrNull(AverageVector.class);
+		buildAverages(inputPort.getDataOrNull(AverageVector.class), outputPort);
+	}
+
+	/**
+	 * Copies the vector to the output if the output is still null, otherwise builds the average with the vector at the
+	 * output. Null vectors are ignored.
+	 *
+	 * @since 9.10.0
+	 */
+	public static void buildAverages(AverageVector performance, OutputPort outputPort) throws OperatorException {
 		if (performance == null) {
 			return;
 		}
@@ -18,16 +18,19 @@
  */
 package com.rapidminer.operator.validation;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.utils.ExampleSets;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.Model;
 import com.rapidminer.operator.OperatorChain;
 import com.rapidminer.operator.OperatorDescription;
 import com.rapidminer.operator.OperatorException;
 import com.rapidminer.operator.ValueDouble;
+import com.rapidminer.operator.concurrency.internal.OperatorClonePool;
 import com.rapidminer.operator.learner.CapabilityProvider;
 import com.rapidminer.operator.learner.PredictionModel;
 import com.rapidminer.operator.performance.PerformanceCriterion;
@@ -48,6 +51,7 @@ import com.rapidminer.operator.ports.metadata.SubprocessTransformRule;
 import com.rapidminer.parameter.ParameterType;
 import com.rapidminer.parameter.ParameterTypeBoolean;
 import com.rapidminer.parameter.UndefinedParameterError;
+import com.rapidminer.tools.container.Pair;
 import com.rapidminer.tools.math.AverageVector;
 
 
@@ -68,6 +72,27 @@ public abstract class ValidationChain extends OperatorChain implements Capabilit
 	 */
 	public static final String PARAMETER_CREATE_COMPLETE_MODEL = "create_complete_model";
 
+	/**
+	 * Creates the training and the test set of an iteration for {@link #performIterationsInParallel}.
+	 *
+	 * @since 9.10.0
+	 */
+	@FunctionalInterface
+	protected interface IterationSplit {
+
+		/**
+		 * Creates the training set and the test set of the given iteration as views of the given example set. The
+		 * iterations are created one after another in ascending order.
+		 *
+		 * @param exampleSet
+		 *            a thread-safe copy of the input example set with the same examples in the same order
+		 * @param iteration
+		 *            the iteration, starting at 0
+		 * @return the training set and the test set
+		 */
+		Pair<ExampleSet, ExampleSet> createSets(ExampleSet exampleSet, int iteration) throws OperatorException;
+	}
+
 	// input
 	protected final InputPort trainingSetInput = getInputPorts().createPort("training", ExampleSet.class);
 
@@ -326,6 +351,15 @@ public abstract class ValidationChain extends OperatorChain implements Capabilit
 	 * the confidence attributes in case of classification learning.
 	 */
 	protected final void evaluate(ExampleSet testSet) throws OperatorException {
+		applyEvaluator(testSet);
+		Tools.buildAverages(applyProcessPerformancePortExtender);
+	}
+
+	/**
+	 * Executes the second subprocess on the test set as described in {@link #evaluate(ExampleSet)} but leaves the
+	 * results at the inner sinks.
+	 */
+	private void applyEvaluator(ExampleSet testSet) throws OperatorException {
 		Attribute predictedBefore = testSet.getAttributes().getPredictedLabel();
 
 		applyProcessExampleSetOutput.deliver(testSet);
@@ -334,8 +368,6 @@ public abstract class ValidationChain extends OperatorChain implements Capabilit
 
 		executeEvaluator();
 
-		Tools.buildAverages(applyProcessPerformancePortExtender);
-
 		Attribute predictedAfter = testSet.getAttributes().getPredictedLabel();
 		// remove predicted label and confidence attributes if there is a new prediction which is
 		// not equal to an old one
@@ -345,6 +377,91 @@ public abstract class ValidationChain extends OperatorChain implements Capabilit
 		}
 	}
 
+	/**
+	 * Returns whether the subclass runs more than one iteration and supports
+	 * {@link #performIterationsInParallel}. Only then the parameter
+	 * {@value OperatorClonePool#PARAMETER_ENABLE_PARALLEL_EXECUTION} is offered. The default implementation returns {@code false}.
+	 *
+	 * @since 9.10.0
+	 */
+	protected boolean supportsParallelExecution() {
+		return false;
+	}
+
+	/**
+	 * Checks whether the given number of iterations can run in parallel, see
+	 * {@link OperatorClonePool#isParallelizable(OperatorChain, int)}.
+	 *
+	 * @param iterations
+	 *            the number of iterations
+	 * @return whether {@link #performIterationsInParallel} should be used
+	 * @since 9.10.0
+	 */
+	protected boolean checkParallelizability(int iterations) {
+		return supportsParallelExecution() && OperatorClonePool.isParallelizable(this, iterations);
+	}
+
+	/**
+	 * Runs the iterations of the validation in parallel on the reused clones of an {@link OperatorClonePool}. Every
+	 * iteration learns on the training set and evaluates on the test set created by the given split, just like
+	 * {@link #learn(ExampleSet)} followed by {@link #evaluate(ExampleSet)}. The results of the iterations are averaged
+	 * in the order of the iterations, so the averages do not depend on the order in which the iterations finish.
+	 *
+	 * @param inputSet
+	 *            the input example set
+	 * @param iterations
+	 *            the number of iterations
+	 * @param split
+	 *            creates the training and the test set of every iteration
+	 * @since 9.10.0
+	 */
+	protected void performIterationsInParallel(ExampleSet inputSet, int iterations, IterationSplit split)
+			throws OperatorException {
+		ExampleSet exampleSet = ExampleSets.createThreadSafeCopy(inputSet);
+		List<PortPairExtender.PortPair> pairs = applyProcessPerformancePortExtender.getManagedPairs();
+		new OperatorClonePool<>(this).<List<AverageVector>> execute(iterations, (copy, iteration) -> {
+			Pair<ExampleSet, ExampleSet> sets = split.createSets(exampleSet, iteration);
+			return () -> copy.runIteration(sets.getFirst(), sets.getSecond());
+		}, (iteration, results) -> {
+			iterationProcessed(iteration);
+			for (int i = 0; i < pairs.size() && i < results.size(); i++) {
+				Tools.buildAverages(results.get(i), pairs.get(i).getOutputPort());
+			}
+			inApplyLoop();
+			getProgress().step();
+			return true;
+		});
+	}
+
+	/**
+	 * Called by {@link #performIterationsInParallel} on the thread of the process whenever the results of an
+	 * iteration are processed, in the order of the iterations. Subclasses can update the value of their current
+	 * iteration here. Does nothing by default.
+	 *
+	 * @param iteration
+	 *            the iteration, starting at 0
+	 * @since 9.10.0
+	 */
+	protected void iterationProcessed(int iteration) {
+		// nothing to do by default
+	}
+
+	/**
+	 * Learns on the training set and evaluates on the test set. Called on a clone of the operator by
+	 * {@link #performIterationsInParallel}.
+	 *
+	 * @return the averagable results at the inner sinks of the second subprocess
+	 */
+	private List<AverageVector> runIteration(ExampleSet trainingSet, ExampleSet testSet) throws OperatorException {
+		learn(trainingSet);
+		applyEvaluator(testSet);
+		List<AverageVector> results = new ArrayList<>();
+		for (PortPairExtender.PortPair pair : applyProcessPerformancePortExtender.getManagedPairs()) {
+			results.add(pair.getInputPort().getDataOrNull(AverageVector.class));
+		}
+		return results;
+	}
+
 	@Override
 	public List<ParameterType> getParameterTypes() {
 		List<ParameterType> types = super.getParameterTypes();
@@ -353,6 +470,9 @@ public abstract class ValidationChain extends OperatorChain implements Capabilit
 		type.setDeprecated();
 		type.setExpert(false);
 		types.add(type);
+		if (supportsParallelExecution()) {
+			types.add(OperatorClonePool.createParallelExecutionParameter());
+		}
 		return types;
 	}
 }
@@ -21,6 +21,7 @@ package com.rapidminer.operator.validation;
 import java.util.List;
 
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.set.MappedExampleSet;
 import com.rapidminer.example.set.SplittedExampleSet;
 import com.rapidminer.operator.OperatorCapability;
 import com.rapidminer.operator.OperatorDescription;
@@ -43,6 +44,7 @@ import com.rapidminer.parameter.UndefinedParameterError;
 import com.rapidminer.parameter.conditions.BooleanParameterCondition;
 import com.rapidminer.parameter.conditions.EqualTypeCondition;
 import com.rapidminer.tools.RandomGenerator;
+import com.rapidminer.tools.container.Pair;
 
 
 /**
@@ -167,6 +169,16 @@ public class XValidation extends ValidationChain {
 		}
 		getProgress().setCheckForStop(false);
 
+		if (checkParallelizability(number)) {
+			performIterationsInParallel(inputSet, number, (exampleSet, fold) -> {
+				splittedES.selectAllSubsetsBut(fold);
+				ExampleSet trainingSet = new MappedExampleSet(exampleSet, splittedES.getMappingCopy(), true, false);
+				splittedES.selectSingleSubset(fold);
+				ExampleSet testSet = new MappedExampleSet(exampleSet, splittedES.getMappingCopy(), true, false);
+				return new Pair<>(trainingSet, testSet);
+			});
+			return;
+		}
 		for (iteration = 0; iteration < number; iteration++) {
 			performIteration(splittedES, iteration);
 		}
@@ -234,6 +246,16 @@ public class XValidation extends ValidationChain {
 		return types;
 	}
 
+	@Override
+	protected boolean supportsParallelExecution() {
+		return true;
+	}
+
+	@Override
+	protected void iterationProcessed(int iteration) {
+		this.iteration = iteration;
+	}
+
 	@Override
 	public OperatorVersion[] getIncompatibleVersionChanges() {
 		return new OperatorVersion[] { SplittedExampleSet.VERSION_SAMPLING_CHANGED };
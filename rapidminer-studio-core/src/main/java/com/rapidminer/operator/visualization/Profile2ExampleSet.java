@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.visualization;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import com.rapidminer.RapidMiner;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorDescription;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.operator.UserError;
+import com.rapidminer.operator.execution.OperatorProfile;
+import com.rapidminer.operator.execution.OperatorProfiler;
+import com.rapidminer.operator.ports.DummyPortPairExtender;
+import com.rapidminer.operator.ports.OutputPort;
+import com.rapidminer.operator.ports.PortPairExtender;
+import com.rapidminer.operator.ports.metadata.ExampleSetMetaData;
+import com.rapidminer.operator.ports.metadata.GenerateNewMDRule;
+import com.rapidminer.parameter.ParameterType;
+import com.rapidminer.parameter.ParameterTypeFile;
+
+
+/**
+ * This operator delivers the measurements of the operators that finished so far in the current process run as an
+ * ExampleSet and as {@link OperatorProfile}. Optionally, the profile is written to a JSON file. Requires operator
+ * profiling to be enabled via {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_PROFILE_OPERATORS}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class Profile2ExampleSet extends Operator {
+
+	public static final String PARAMETER_JSON_FILE = "json_file";
+
+	private final OutputPort exampleSetOutput = getOutputPorts().createPort("example set");
+	private final OutputPort profileOutput = getOutputPorts().createPort("profile");
+	private final PortPairExtender dummyPorts = new DummyPortPairExtender("through", getInputPorts(), getOutputPorts());
+
+	public Profile2ExampleSet(OperatorDescription description) {
+		super(description);
+		ExampleSetMetaData newEMD = new ExampleSetMetaData();
+		newEMD.attributesAreSuperset();
+		newEMD.setNumberOfExamples(0);
+		newEMD.getNumberOfExamples().increaseByUnknownAmount();
+		getTransformer().addRule(new GenerateNewMDRule(exampleSetOutput, newEMD));
+		getTransformer().addRule(new GenerateNewMDRule(profileOutput, OperatorProfile.class));
+
+		dummyPorts.start();
+
+		getTransformer().addRule(dummyPorts.makePassThroughRule());
+	}
+
+	@Override
+	public void doWork() throws OperatorException {
+		OperatorProfiler profiler = getProcess().getOperatorProfiler();
+		if (profiler == null) {
+			throw new UserError(this, "operator_profiling_disabled");
+		}
+		OperatorProfile profile = profiler.getProfile();
+
+		if (isParameterSet(PARAMETER_JSON_FILE)) {
+			File file = getParameterAsFile(PARAMETER_JSON_FILE, true);
+			try {
+				Files.write(file.toPath(), profile.toJson().getBytes(StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new UserError(this, 303, file.getName(), e.getMessage());
+			}
+		}
+
+		exampleSetOutput.deliver(profile.createExampleSet());
+		profileOutput.deliver(profile);
+		dummyPorts.passDataThrough();
+	}
+
+	@Override
+	public List<ParameterType> getParameterTypes() {
+		List<ParameterType> types = super.getParameterTypes();
+		types.add(new ParameterTypeFile(PARAMETER_JSON_FILE,
+				"The file into which the profile is written as JSON (empty: no file is written).", "json", true));
+		return types;
+	}
+}
@@ -18,6 +18,9 @@
  */
 package com.rapidminer.repository;
 
+import java.util.Set;
+
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.ports.metadata.MetaData;
@@ -40,6 +43,47 @@ public interface IOObjectEntry extends DataEntry {
 
 	IOObject retrieveData(ProgressListener l) throws RepositoryException;
 
+	/**
+	 * Retrieves the data, reading only the given columns if the data is a data table. Entries that can read single
+	 * columns of their stored table override this so that the data of all other columns is never loaded and the
+	 * columns are decoded in parallel in the given context. The default implementation retrieves the complete data
+	 * sequentially, so callers must be prepared to receive more columns than requested.
+	 *
+	 * @param l
+	 * 		the progress listener, can be {@code null}
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} to read all columns
+	 * @param context
+	 * 		the context to decode the columns in, can be {@code null} for sequential decoding
+	 * @return the data, containing at least the requested columns that are stored in this entry
+	 * @throws RepositoryException
+	 * 		if retrieving the data fails
+	 * @since 9.10.0
+	 */
+	default IOObject retrieveData(ProgressListener l, Set<String> columns, Context context)
+			throws RepositoryException {
+		return retrieveData(l);
+	}
+
+	/**
+	 * Retrieves the data, reading only the given columns if the data is a data table. Entries that store data tables
+	 * in a suitable format override this to return an example set whose values are only read from the storage when
+	 * they are accessed. The default implementation retrieves the data as {@link #retrieveData(ProgressListener, Set,
+	 * Context)} does.
+	 *
+	 * @param l
+	 * 		the progress listener, can be {@code null}
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} to read all columns
+	 * @return the data, containing at least the requested columns that are stored in this entry
+	 * @throws RepositoryException
+	 * 		if retrieving the data fails
+	 * @since 9.10.0
+	 */
+	default IOObject retrieveDataOnDemand(ProgressListener l, Set<String> columns) throws RepositoryException {
+		return retrieveData(l, columns, null);
+	}
+
 	MetaData retrieveMetaData() throws RepositoryException;
 
 	/**
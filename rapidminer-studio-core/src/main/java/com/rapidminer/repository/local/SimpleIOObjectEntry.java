@@ -30,8 +30,11 @@ import java.io.OutputStream;
 import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Set;
 
 import com.rapidminer.adaption.belt.TableViewingTools;
+import com.rapidminer.belt.execution.Context;
+import com.rapidminer.example.ExampleSet;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.ports.metadata.MetaData;
@@ -90,6 +93,28 @@ public class SimpleIOObjectEntry extends SimpleDataEntry implements IOObjectEntr
 
 	@Override
 	public IOObject retrieveData(ProgressListener l) throws RepositoryException {
+		return retrieveData(l, (Context) null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Stored example sets are decoded in parallel in the given context by
+	 * {@link #readDataFromFile(FileInputStream, Context)}, all columns are read.
+	 */
+	@Override
+	public IOObject retrieveData(ProgressListener l, Set<String> columns, Context context) throws RepositoryException {
+		Class<? extends IOObject> objectClass = context == null || context.getParallelism() < 2 ? null : getObjectClass();
+		if (objectClass == null || !ExampleSet.class.isAssignableFrom(objectClass)) {
+			return retrieveData(l);
+		}
+		return retrieveData(l, context);
+	}
+
+	/**
+	 * Reads the data file with {@link #readDataFromFile(FileInputStream, Context)}.
+	 */
+	private IOObject retrieveData(ProgressListener l, Context context) throws RepositoryException {
 		if (l != null) {
 			l.setTotal(100);
 			l.setCompleted(10);
@@ -97,7 +122,7 @@ public class SimpleIOObjectEntry extends SimpleDataEntry implements IOObjectEntr
 		File dataFile = getDataFile();
 		if (dataFile.exists()) {
 			try (FileInputStream fis = new FileInputStream(dataFile)) {
-				return readDataFromFile(fis);
+				return readDataFromFile(fis, context);
 			} catch (Exception e) {
 				throw new RepositoryException("Cannot load data from '" + dataFile + "': " + e, e);
 			}
@@ -119,6 +144,26 @@ public class SimpleIOObjectEntry extends SimpleDataEntry implements IOObjectEntr
 		}
 	}
 
+	/**
+	 * Read the actual IOObject from the given {@link FileInputStream}, using the context for parallel decoding if
+	 * possible. Without a context, this delegates to {@link #readDataFromFile(FileInputStream)}, so subclasses
+	 * changing how the file is read must override both methods.
+	 *
+	 * @param context
+	 * 		the context for parallel work, can be {@code null}
+	 * @throws IOException
+	 * 		if an error occurs
+	 * @since 9.10.0
+	 */
+	protected IOObject readDataFromFile(FileInputStream fis, Context context) throws IOException {
+		if (context == null) {
+			return readDataFromFile(fis);
+		}
+		try (BufferedInputStream in = new BufferedInputStream(fis)) {
+			return (IOObject) IOObjectSerializer.getInstance().deserialize(in, context);
+		}
+	}
+
 	@Override
 	public MetaData retrieveMetaData() throws RepositoryException {
 		if (metaData != null) {
@@ -22,8 +22,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.AccessMode;
 import java.nio.file.Path;
+import java.util.Set;
 
 import com.rapidminer.adaption.belt.TableViewingTools;
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.operator.IOObject;
 import com.rapidminer.operator.Operator;
@@ -69,6 +71,53 @@ public class BasicExampleSetEntry extends AbstractIOObjectEntry<ExampleSet> {
         return Hdf5ExampleSetReader.read(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the datasets of the requested columns are read from the hdf5 file and they are decoded in parallel if the
+     * context allows it.
+     *
+     * @since 9.10.0
+     */
+    @Override
+    public IOObject retrieveData(ProgressListener l, Set<String> columns, Context context)
+            throws RepositoryException {
+        if (columns == null && (context == null || context.getParallelism() < 2)) {
+            return retrieveData(l);
+        }
+        if (l != null) {
+            l.setTotal(100);
+            l.setCompleted(10);
+        }
+        try {
+            Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.READ);
+            return Hdf5ExampleSetReader.read(filePath, columns, context);
+        } catch (IOException e) {
+            throw new RepositoryException("Cannot load data from '" + getName() + "': " + e, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Columns of fixed width values are read page by page from the hdf5 file when they are accessed.
+     *
+     * @since 9.10.0
+     */
+    @Override
+    public IOObject retrieveDataOnDemand(ProgressListener l, Set<String> columns) throws RepositoryException {
+        if (l != null) {
+            l.setTotal(100);
+            l.setCompleted(10);
+        }
+        try {
+            Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.READ);
+            return Hdf5ExampleSetReader.readOnDemand(filePath, columns);
+        } catch (IOException e) {
+            throw new RepositoryException("Cannot load data from '" + getName() + "': " + e, e);
+        }
+    }
+
     @Override
     protected void write(ExampleSet exampleSet) throws IOException, RepositoryImmutableException {
         Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.WRITE);
@@ -22,9 +22,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.AccessMode;
 import java.nio.file.Path;
+import java.util.Set;
 
 import com.rapidminer.adaption.belt.IODataTable;
 import com.rapidminer.adaption.belt.IOTable;
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.gui.processeditor.results.DisplayContext;
 import com.rapidminer.operator.IOObject;
@@ -34,7 +36,9 @@ import com.rapidminer.operator.ports.metadata.MetaData;
 import com.rapidminer.operator.ports.metadata.table.TableMetaData;
 import com.rapidminer.repository.RepositoryException;
 import com.rapidminer.storage.hdf5.ExampleSetHdf5Writer;
+import com.rapidminer.storage.hdf5.Hdf5ExampleSetReader;
 import com.rapidminer.storage.hdf5.Hdf5TableReader;
+import com.rapidminer.storage.hdf5.HdfReaderException;
 import com.rapidminer.storage.hdf5.IOTableHdf5Writer;
 import com.rapidminer.tools.ProgressListener;
 import com.rapidminer.versioning.repository.DataSummary;
@@ -71,6 +75,56 @@ public class BasicIODataTableEntry extends AbstractIOObjectEntry<IODataTable> {
 		return Hdf5TableReader.read(filePath, new DisplayContext());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only the datasets of the requested columns are read from the hdf5 file and they are decoded in parallel if the
+	 * context allows it.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public IOObject retrieveData(ProgressListener l, Set<String> columns, Context context)
+			throws RepositoryException {
+		if (columns == null && (context == null || context.getParallelism() < 2)) {
+			return retrieveData(l);
+		}
+		if (l != null) {
+			l.setTotal(100);
+			l.setCompleted(10);
+		}
+		try {
+			Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.READ);
+			return Hdf5TableReader.read(filePath, context == null ? new DisplayContext() : context, columns);
+		} catch (IOException e) {
+			throw new RepositoryException("Cannot load data from '" + getName() + "': " + e, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Columns of fixed width values are read page by page from the hdf5 file when they are accessed. Tables that
+	 * cannot be represented as an {@link ExampleSet} are read completely.
+	 *
+	 * @since 9.10.0
+	 */
+	@Override
+	public IOObject retrieveDataOnDemand(ProgressListener l, Set<String> columns) throws RepositoryException {
+		if (l != null) {
+			l.setTotal(100);
+			l.setCompleted(10);
+		}
+		try {
+			Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.READ);
+			return Hdf5ExampleSetReader.readOnDemand(filePath, columns);
+		} catch (HdfReaderException e) {
+			return retrieveData(l, columns, null);
+		} catch (IOException e) {
+			throw new RepositoryException("Cannot load data from '" + getName() + "': " + e, e);
+		}
+	}
+
 	@Override
 	protected void write(IODataTable data) throws IOException, RepositoryImmutableException {
 		Path filePath = getRepositoryAdapter().getRealPath(this, AccessMode.WRITE);
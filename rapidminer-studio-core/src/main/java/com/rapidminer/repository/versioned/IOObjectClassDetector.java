@@ -134,6 +134,7 @@ public enum IOObjectClassDetector {
 				case STREAMED_EXAMPLE_SET_DENSE:
 				case STREAMED_EXAMPLE_SET_DENSE_2:
 				case STREAMED_EXAMPLE_SET_DENSE_3:
+				case STREAMED_EXAMPLE_SET_COLUMNAR:
 					return ExampleSet.class;
 				case JAVA_BINARY:
 					return ClassFromSerializationReader.readClass(in, IOObject.class);
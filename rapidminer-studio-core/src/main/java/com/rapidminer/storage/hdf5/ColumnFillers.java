@@ -24,7 +24,6 @@ import static com.rapidminer.storage.hdf5.ExampleSetHdf5Writer.NANOS_PER_MILLISE
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
@@ -46,7 +45,9 @@ import io.jhdf.object.datatype.StringData;
 
 
 /**
- * Utility class that supplies different {@link IntToDoubleFunction}s to use them in the {@link Hdf5DatasetReader}.
+ * Utility class that supplies different {@link IntToDoubleFunction}s and {@link ChunkDecoder}s to use them in the
+ * {@link Hdf5DatasetReader}. Fixed width numeric data and category indices are decoded chunk-wise by {@link #fillChunked}, the per value
+ * functions are used for String data and for adding nanoseconds.
  *
  * @author Gisa Meier
  * @since 9.7.0
@@ -68,234 +69,214 @@ enum ColumnFillers {
 	}
 
 	/**
-	 * Abstract super class for other column fillers.
+	 * Decodes a chunk of fixed width values from a byte buffer into double values.
+	 *
+	 * @since 9.10.0
 	 */
-	private abstract static class ColumnFiller implements IntToDoubleFunction {
-
-		final CustomDataInput channel;
-		ByteBuffer byteBuffer;
-
-		private ColumnFiller(CustomDataInput channel, int width) {
-			this.channel = channel;
-			try {
-				byteBuffer = channel.next(width);
-			} catch (EOFException e) {
-				throw new HdfReaderException(HdfReaderException.Reason.INCONSISTENT_FILE, "end of file reached while" +
-						" reading the first row");
-			} catch (IOException e) {
-				throw new IORuntimeException(e);
-			}
-		}
-
-		@Override
-		public double applyAsDouble(int i) {
-			try {
-				ensureBuffer();
-				return read();
-			} catch (EOFException e) {
-				throw new HdfReaderException(HdfReaderException.Reason.INCONSISTENT_FILE, "end of file reached while" +
-						" reading row " + i);
-			} catch (IOException e) {
-				throw new IORuntimeException(e);
-			}
-		}
-
-		protected abstract double read();
-
-		protected abstract void ensureBuffer() throws IOException;
+	@FunctionalInterface
+	interface ChunkDecoder {
+
+		/**
+		 * Decodes {@code length} values starting at the position of the source into the target array starting at
+		 * index {@code 0}. The position of the source is not changed.
+		 *
+		 * @param source
+		 * 		the buffer to decode from, containing at least {@code length} values
+		 * @param target
+		 * 		the array to decode into
+		 * @param length
+		 * 		the number of values to decode
+		 */
+		void decode(ByteBuffer source, double[] target, int length);
 	}
 
 	/**
-	 * Column filler that reads int data from a channel and converts it to double values.
+	 * Decodes a chunk of fixed width category indices from a byte buffer into int values, using
+	 * {@link ColumnarExampleTable#MISSING_INTEGER} for missing values.
+	 *
+	 * @since 9.10.0
 	 */
-	private static class IntegerColumnFiller extends ColumnFiller {
-
-		private IntBuffer buffer;
-
-		private IntegerColumnFiller(CustomDataInput channel) {
-			super(channel, 4);
-			buffer = byteBuffer.asIntBuffer();
-		}
-
-
-		@Override
-		protected double read() {
-			return buffer.get();
-		}
-
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 4);
-				byteBuffer = channel.next(4);
-				buffer = byteBuffer.asIntBuffer();
-			}
-		}
+	@FunctionalInterface
+	interface IndexDecoder {
+
+		/**
+		 * Decodes {@code length} indices starting at the position of the source into the target array starting at
+		 * index {@code 0}. The position of the source is not changed.
+		 *
+		 * @param source
+		 * 		the buffer to decode from, containing at least {@code length} values
+		 * @param target
+		 * 		the array to decode into
+		 * @param length
+		 * 		the number of values to decode
+		 */
+		void decode(ByteBuffer source, int[] target, int length);
 	}
 
-	/**
-	 * Column filler that reads long data from a channel and converts it to double values, mapping {@link
-	 * Long#MAX_VALUE} to {@link Double#NaN}.
-	 */
-	private static class LongColumnFiller extends ColumnFiller {
+	/** the maximal number of values decoded at once by {@link #fillChunked} */
+	static final int CHUNK_SIZE = 1 << 12;
 
-		private LongBuffer buffer;
+	/** Decodes double values. */
+	static final ChunkDecoder DOUBLE_DECODER = (source, target, length) -> source.asDoubleBuffer().get(target, 0,
+			length);
 
-		private LongColumnFiller(CustomDataInput channel) {
-			super(channel, 8);
-			buffer = byteBuffer.asLongBuffer();
+	/** Decodes float values. */
+	static final ChunkDecoder FLOAT_DECODER = (source, target, length) -> {
+		FloatBuffer buffer = source.asFloatBuffer();
+		for (int i = 0; i < length; i++) {
+			target[i] = buffer.get();
 		}
+	};
 
-		@Override
-		protected double read() {
-			long value = buffer.get();
-			return value == Long.MAX_VALUE ? Double.NaN : value;
+	/** Decodes int values. */
+	static final ChunkDecoder INT_DECODER = (source, target, length) -> {
+		IntBuffer buffer = source.asIntBuffer();
+		for (int i = 0; i < length; i++) {
+			target[i] = buffer.get();
 		}
+	};
 
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 8);
-				byteBuffer = channel.next(8);
-				buffer = byteBuffer.asLongBuffer();
-			}
+	/** Decodes long values, mapping {@link Long#MAX_VALUE} to {@link Double#NaN}. */
+	static final ChunkDecoder LONG_DECODER = (source, target, length) -> {
+		LongBuffer buffer = source.asLongBuffer();
+		for (int i = 0; i < length; i++) {
+			long value = buffer.get();
+			target[i] = value == Long.MAX_VALUE ? Double.NaN : value;
 		}
-	}
+	};
 
 	/**
-	 * Column filler that reads double data from a channel.
+	 * Decodes int category indices by converting {@code 0} to {@link Double#NaN} and decreasing the other values by
+	 * {@code 1}.
 	 */
-	private static class DoubleColumnFiller extends ColumnFiller {
-
-		private DoubleBuffer buffer;
-
-		private DoubleColumnFiller(CustomDataInput channel) {
-			super(channel, 8);
-			buffer = byteBuffer.asDoubleBuffer();
-		}
-
-		@Override
-		protected double read() {
-			return buffer.get();
-		}
-
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 8);
-				byteBuffer = channel.next(8);
-				buffer = byteBuffer.asDoubleBuffer();
-			}
+	static final ChunkDecoder INT_INDEX_DECODER = (source, target, length) -> {
+		IntBuffer buffer = source.asIntBuffer();
+		for (int i = 0; i < length; i++) {
+			int value = buffer.get();
+			target[i] = value == 0 ? Double.NaN : value - 1;
 		}
-	}
+	};
 
 	/**
-	 * Column filler that reads float data from a channel and converts it to double values.
+	 * Decodes short category indices by converting {@code 0} to {@link Double#NaN} and decreasing the other values by
+	 * {@code 1}.
 	 */
-	private static class FloatColumnFiller extends ColumnFiller {
-
-		private FloatBuffer buffer;
-
-		private FloatColumnFiller(CustomDataInput channel) {
-			super(channel, 4);
-			buffer = byteBuffer.asFloatBuffer();
-		}
-
-		@Override
-		protected double read() {
-			return buffer.get();
-		}
-
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 4);
-				byteBuffer = channel.next(4);
-				buffer = byteBuffer.asFloatBuffer();
-			}
+	static final ChunkDecoder SHORT_INDEX_DECODER = (source, target, length) -> {
+		ShortBuffer buffer = source.asShortBuffer();
+		for (int i = 0; i < length; i++) {
+			short value = buffer.get();
+			target[i] = value == 0 ? Double.NaN : value - 1;
 		}
-	}
+	};
 
 	/**
-	 * Column filler that reads int category indices data from a channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Decodes byte category indices by converting {@code 0} to {@link Double#NaN} and decreasing the other values by
+	 * {@code 1}.
 	 */
-	private static class IntIndexColumnFiller extends ColumnFiller {
-
-		private IntBuffer buffer;
-
-		private IntIndexColumnFiller(CustomDataInput channel) {
-			super(channel, 4);
-			buffer = byteBuffer.asIntBuffer();
+	static final ChunkDecoder BYTE_INDEX_DECODER = (source, target, length) -> {
+		int start = source.position();
+		for (int i = 0; i < length; i++) {
+			byte value = source.get(start + i);
+			target[i] = value == 0 ? Double.NaN : value - 1;
 		}
+	};
 
-		@Override
-		protected double read() {
+	/**
+	 * Decodes int category indices by converting {@code 0} to {@link ColumnarExampleTable#MISSING_INTEGER} and
+	 * decreasing the other values by {@code 1}.
+	 */
+	static final IndexDecoder INT_INDEX_INTEGER_DECODER = (source, target, length) -> {
+		IntBuffer buffer = source.asIntBuffer();
+		for (int i = 0; i < length; i++) {
 			int value = buffer.get();
-			return value == 0 ? Double.NaN : value - 1;
+			target[i] = value == 0 ? ColumnarExampleTable.MISSING_INTEGER : value - 1;
 		}
+	};
 
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 4);
-				byteBuffer = channel.next(4);
-				buffer = byteBuffer.asIntBuffer();
-			}
+	/**
+	 * Decodes short category indices by converting {@code 0} to {@link ColumnarExampleTable#MISSING_INTEGER} and
+	 * decreasing the other values by {@code 1}.
+	 */
+	static final IndexDecoder SHORT_INDEX_INTEGER_DECODER = (source, target, length) -> {
+		ShortBuffer buffer = source.asShortBuffer();
+		for (int i = 0; i < length; i++) {
+			short value = buffer.get();
+			target[i] = value == 0 ? ColumnarExampleTable.MISSING_INTEGER : value - 1;
 		}
-	}
+	};
 
 	/**
-	 * Column filler that reads short category indices data from a channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Decodes byte category indices by converting {@code 0} to {@link ColumnarExampleTable#MISSING_INTEGER} and
+	 * decreasing the other values by {@code 1}.
 	 */
-	private static class ShortIndexColumnFiller extends ColumnFiller {
-
-		private ShortBuffer buffer;
-
-		private ShortIndexColumnFiller(CustomDataInput channel) {
-			super(channel, 2);
-			buffer = byteBuffer.asShortBuffer();
+	static final IndexDecoder BYTE_INDEX_INTEGER_DECODER = (source, target, length) -> {
+		int start = source.position();
+		for (int i = 0; i < length; i++) {
+			byte value = source.get(start + i);
+			target[i] = value == 0 ? ColumnarExampleTable.MISSING_INTEGER : value - 1;
 		}
+	};
 
-		@Override
-		protected double read() {
-			short value = buffer.get();
-			return value == 0 ? Double.NaN : value - 1;
+	/**
+	 * Decodes long values representing seconds to double values representing milli-seconds. {@link Long#MAX_VALUE}
+	 * is converted to {@link Double#NaN}.
+	 */
+	static final ChunkDecoder LONG_DATE_DECODER = (source, target, length) -> {
+		LongBuffer buffer = source.asLongBuffer();
+		for (int i = 0; i < length; i++) {
+			long value = buffer.get();
+			target[i] = value == Long.MAX_VALUE ? Double.NaN : value * MILLISECONDS_PER_SECOND;
 		}
+	};
 
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 2);
-				byteBuffer = channel.next(2);
-				buffer = byteBuffer.asShortBuffer();
-			}
+	/**
+	 * Decodes long values representing nanos of the day to double values representing milli-seconds. {@link
+	 * Long#MAX_VALUE} is converted to {@link Double#NaN}.
+	 */
+	static final ChunkDecoder LONG_TIME_DECODER = (source, target, length) -> {
+		LongBuffer buffer = source.asLongBuffer();
+		for (int i = 0; i < length; i++) {
+			long value = buffer.get();
+			target[i] = value == Long.MAX_VALUE ? Double.NaN : BeltConverter.nanoOfDayToLegacyTime(value);
 		}
-	}
+	};
 
 	/**
-	 * Column filler that reads byte category indices data from a channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Abstract super class for other column fillers.
 	 */
-	private static class ByteIndexColumnFiller extends ColumnFiller {
+	private abstract static class ColumnFiller implements IntToDoubleFunction {
 
-		private ByteIndexColumnFiller(CustomDataInput channel) {
-			super(channel, 1);
-		}
+		final CustomDataInput channel;
+		ByteBuffer byteBuffer;
 
-		@Override
-		protected double read() {
-			byte byteValue = byteBuffer.get();
-			return byteValue == 0 ? Double.NaN : byteValue - 1;
+		private ColumnFiller(CustomDataInput channel, int width) {
+			this.channel = channel;
+			try {
+				byteBuffer = channel.next(width);
+			} catch (EOFException e) {
+				throw new HdfReaderException(HdfReaderException.Reason.INCONSISTENT_FILE, "end of file reached while" +
+						" reading the first row");
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
 		}
 
 		@Override
-		protected void ensureBuffer() throws IOException {
-			if (byteBuffer.remaining() < 1) {
-				byteBuffer = channel.next(1);
+		public double applyAsDouble(int i) {
+			try {
+				ensureBuffer();
+				return read();
+			} catch (EOFException e) {
+				throw new HdfReaderException(HdfReaderException.Reason.INCONSISTENT_FILE, "end of file reached while" +
+						" reading row " + i);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
 			}
 		}
+
+		protected abstract double read();
+
+		protected abstract void ensureBuffer() throws IOException;
 	}
 
 	/**
@@ -386,64 +367,6 @@ enum ColumnFillers {
 	}
 
 
-	/**
-	 * Column filler that reads long data from the channel representing seconds and converts it to double values
-	 * representing milli-seconds. {@link Long#MAX_VALUE} will be converted to {@link Double#NaN}.
-	 */
-	private static class LongDateColumnFiller extends ColumnFiller {
-
-		private LongBuffer buffer;
-
-		private LongDateColumnFiller(CustomDataInput channel) {
-			super(channel, 8);
-			buffer = byteBuffer.asLongBuffer();
-		}
-
-		@Override
-		protected double read() {
-			long value = buffer.get();
-			return value == Long.MAX_VALUE ? Double.NaN : value * MILLISECONDS_PER_SECOND;
-		}
-
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 8);
-				byteBuffer = channel.next(8);
-				buffer = byteBuffer.asLongBuffer();
-			}
-		}
-	}
-
-	/**
-	 * Column filler that reads long data from the channel representing nanos of the day and converts it to double
-	 * values representing milli-seconds. {@link Long#MAX_VALUE} will be converted to {@link Double#NaN}.
-	 */
-	private static final class LongTimeColumnFiller extends ColumnFiller {
-
-		private LongBuffer buffer;
-
-		private LongTimeColumnFiller(CustomDataInput channel) {
-			super(channel, 8);
-			buffer = byteBuffer.asLongBuffer();
-		}
-
-		@Override
-		protected double read() {
-			long value = buffer.get();
-			return value == Long.MAX_VALUE ? Double.NaN : BeltConverter.nanoOfDayToLegacyTime(value);
-		}
-
-		@Override
-		protected void ensureBuffer() throws IOException {
-			if (buffer.remaining() < 1) {
-				byteBuffer.position(byteBuffer.position() + buffer.position() * 8);
-				byteBuffer = channel.next(8);
-				buffer = byteBuffer.asLongBuffer();
-			}
-		}
-	}
-
 	/**
 	 * Column filler that reads long int from the channel representing nanoseconds and converts it to double values
 	 * representing milli-seconds. It then adds the new milli-seconds to the existing milliseconds for the attribute in
@@ -479,39 +402,124 @@ enum ColumnFillers {
 	}
 
 	/**
-	 * Gets a column filler that reads int category indices data from the channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Fills the column of the attribute with the values read from the channel. The values are decoded chunk-wise by
+	 * the decoder and copied into the table with {@link ColumnarExampleTable#fillColumn(Attribute, int, double[], int,
+	 * int)}.
 	 *
 	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
+	 * 		the channel to read from, positioned at the start of the data
+	 * @param valueBytes
+	 * 		the number of bytes per value
+	 * @param decoder
+	 * 		the decoder for the values
+	 * @param table
+	 * 		the table to fill
+	 * @param attribute
+	 * 		the attribute whose column is filled
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		if the end of the file is reached before all rows are read
+	 * @since 9.10.0
 	 */
-	static IntIndexColumnFiller getIntIndexColumnFiller(CustomDataInput channel) {
-		return new IntIndexColumnFiller(channel);
+	static void fillChunked(CustomDataInput channel, int valueBytes, ChunkDecoder decoder, ColumnarExampleTable table,
+							Attribute attribute) throws IOException {
+		int rows = table.size();
+		double[] chunk = new double[Math.min(CHUNK_SIZE, rows)];
+		int row = 0;
+		while (row < rows) {
+			ByteBuffer byteBuffer = next(channel, valueBytes, row);
+			int length = Math.min(Math.min(rows - row, chunk.length), byteBuffer.remaining() / valueBytes);
+			decoder.decode(byteBuffer, chunk, length);
+			byteBuffer.position(byteBuffer.position() + length * valueBytes);
+			table.fillColumn(attribute, row, chunk, 0, length);
+			row += length;
+		}
 	}
 
 	/**
-	 * Gets a column filler that reads short category indices data from the channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Fills the column of the nominal attribute with the category indices read from the channel. The indices are
+	 * decoded chunk-wise by the decoder and copied into the table with {@link ColumnarExampleTable#fillColumn(Attribute,
+	 * int, int[], int, int)}, so the integer columns of nominal attributes are filled without conversion.
 	 *
 	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
+	 * 		the channel to read from, positioned at the start of the data
+	 * @param valueBytes
+	 * 		the number of bytes per value
+	 * @param decoder
+	 * 		the decoder for the indices
+	 * @param table
+	 * 		the table to fill
+	 * @param attribute
+	 * 		the attribute whose column is filled
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		if the end of the file is reached before all rows are read
+	 * @since 9.10.0
 	 */
-	static ShortIndexColumnFiller getShortIndexColumnFiller(CustomDataInput channel) {
-		return new ShortIndexColumnFiller(channel);
+	static void fillChunked(CustomDataInput channel, int valueBytes, IndexDecoder decoder, ColumnarExampleTable table,
+							Attribute attribute) throws IOException {
+		int rows = table.size();
+		int[] chunk = new int[Math.min(CHUNK_SIZE, rows)];
+		int row = 0;
+		while (row < rows) {
+			ByteBuffer byteBuffer = next(channel, valueBytes, row);
+			int length = Math.min(Math.min(rows - row, chunk.length), byteBuffer.remaining() / valueBytes);
+			decoder.decode(byteBuffer, chunk, length);
+			byteBuffer.position(byteBuffer.position() + length * valueBytes);
+			table.fillColumn(attribute, row, chunk, 0, length);
+			row += length;
+		}
 	}
 
 	/**
-	 * Gets a column filler that reads byte category indices data from the channel and converts it to double values by
-	 * converting {@code 0} to {@link Double#NaN} and decreasing the other values by {@code 1}.
+	 * Reads the given number of values from the channel into the target array starting at position {@code 0}. The
+	 * values are decoded chunk-wise by the decoder.
 	 *
 	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
+	 * 		the channel to read from, positioned at the start of the values
+	 * @param valueBytes
+	 * 		the number of bytes per value
+	 * @param decoder
+	 * 		the decoder for the values
+	 * @param target
+	 * 		the array to read into
+	 * @param length
+	 * 		the number of values to read
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		if the end of the file is reached before all values are read
+	 * @since 9.10.0
+	 */
+	static void decodeChunked(CustomDataInput channel, int valueBytes, ChunkDecoder decoder, double[] target,
+							  int length) throws IOException {
+		double[] chunk = new double[Math.min(CHUNK_SIZE, length)];
+		int row = 0;
+		while (row < length) {
+			ByteBuffer byteBuffer = next(channel, valueBytes, row);
+			int chunkLength = Math.min(Math.min(length - row, chunk.length), byteBuffer.remaining() / valueBytes);
+			decoder.decode(byteBuffer, chunk, chunkLength);
+			byteBuffer.position(byteBuffer.position() + chunkLength * valueBytes);
+			System.arraycopy(chunk, 0, target, row, chunkLength);
+			row += chunkLength;
+		}
+	}
+
+	/**
+	 * Returns the buffer containing the next values available in the channel, at least one value of the given size.
+	 *
+	 * @throws HdfReaderException
+	 * 		if the end of the file is reached
 	 */
-	static ByteIndexColumnFiller getByteIndexColumnFiller(CustomDataInput channel) {
-		return new ByteIndexColumnFiller(channel);
+	private static ByteBuffer next(CustomDataInput channel, int valueBytes, int row) throws IOException {
+		try {
+			return channel.next(valueBytes);
+		} catch (EOFException e) {
+			throw new HdfReaderException(HdfReaderException.Reason.INCONSISTENT_FILE, "end of file reached while" +
+					" reading row " + row);
+		}
 	}
 
 	/**
@@ -580,73 +588,4 @@ enum ColumnFillers {
 		return new NanoDateColumnFiller(channel, table, attribute);
 	}
 
-	/**
-	 * Gets a column filler that reads long data from the channel representing seconds and converts it to double values
-	 * representing milli-seconds. {@link Long#MAX_VALUE} will be converted to {@link Double#NaN}.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static LongDateColumnFiller getLongDateColumnFiller(CustomDataInput channel) {
-		return new LongDateColumnFiller(channel);
-	}
-
-	/**
-	 * Gets a column filler that reads long data from the channel representing nanos of the day and converts it to
-	 * double values representing milli-seconds. {@link Long#MAX_VALUE} will be converted to {@link Double#NaN}.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static LongTimeColumnFiller getLongTimeColumnFiller(CustomDataInput channel) {
-		return new LongTimeColumnFiller(channel);
-	}
-
-	/**
-	 * Gets a column filler that reads int data from the channel and converts it to double values.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static IntegerColumnFiller getIntegerColumnFiller(CustomDataInput channel) {
-		return new IntegerColumnFiller(channel);
-	}
-
-	/**
-	 * Gets a column filler that reads long data from the channel and converts it to double values, mapping {@link
-	 * Long#MAX_VALUE} to {@link Double#NaN}.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static LongColumnFiller getLongColumnFiller(CustomDataInput channel) {
-		return new LongColumnFiller(channel);
-	}
-
-	/**
-	 * Gets a column filler that reads double data from the channel.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static DoubleColumnFiller getDoubleColumnFiller(CustomDataInput channel) {
-		return new DoubleColumnFiller(channel);
-	}
-
-	/**
-	 * Gets a column filler that reads float data from the channel and converts it to double values.
-	 *
-	 * @param channel
-	 * 		the channel to read from
-	 * @return a {@link IntToDoubleFunction}
-	 */
-	static FloatColumnFiller getFloatColumnFiller(CustomDataInput channel) {
-		return new FloatColumnFiller(channel);
-	}
-
 }
\ No newline at end of file
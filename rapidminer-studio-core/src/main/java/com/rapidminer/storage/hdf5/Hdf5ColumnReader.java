@@ -18,8 +18,11 @@
  */
 package com.rapidminer.storage.hdf5;
 
+import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.callParallel;
+import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.getBufferSize;
 import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.getDatasetByAddress;
 import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.getMissingValue;
+import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.isVariableLength;
 import static com.rapidminer.storage.hdf5.Hdf5DatasetReader.toDataAddress;
 
 import java.io.IOException;
@@ -27,10 +30,16 @@ import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import com.rapidminer.belt.buffer.Buffers;
 import com.rapidminer.belt.buffer.NominalBuffer;
@@ -44,6 +53,7 @@ import com.rapidminer.belt.column.io.DateTimeColumnBuilder;
 import com.rapidminer.belt.column.io.NominalColumnBuilder;
 import com.rapidminer.belt.column.io.NumericColumnBuilder;
 import com.rapidminer.belt.column.io.TimeColumnBuilder;
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.belt.table.BeltConverter;
 import com.rapidminer.hdf5.BufferedInChannel;
 import com.rapidminer.hdf5.file.ColumnDescriptor;
@@ -89,6 +99,55 @@ class Hdf5ColumnReader {
 		this.heaps = heaps;
 	}
 
+	/**
+	 * Reads the datasets into columns of the specified column types. If the context allows it, the columns are
+	 * decoded in parallel where every task reads with its own channel on the file at the given path. Columns with
+	 * variable-length Strings share the cache of global heaps and are read afterwards with the channel of this reader.
+	 *
+	 * @param columnTypes
+	 * 		the types of the columns to create
+	 * @param datasets
+	 * 		the datasets to read
+	 * @param dictionaries
+	 * 		for every dataset {@code null} or an ordered set of dictionary values starting with {@code null}
+	 * @param path
+	 * 		the path of the hdf5 file
+	 * @param context
+	 * 		the context to decode the columns in, can be {@code null} for sequential decoding
+	 * @return the columns created from the datasets
+	 * @throws IOException
+	 * 		if reading fails
+	 * @since 9.10.0
+	 */
+	Column[] read(List<ColumnType<?>> columnTypes, List<Dataset> datasets, List<LinkedHashSet<String>> dictionaries,
+				  Path path, Context context) throws IOException {
+		Column[] columns = new Column[datasets.size()];
+		List<Callable<Void>> tasks = new ArrayList<>();
+		boolean parallel = context != null && context.getParallelism() > 1 && datasets.size() > 1 && numberOfRows > 0;
+		int bufferSize = getBufferSize(numberOfRows);
+		for (int i = 0; i < datasets.size(); i++) {
+			if (!parallel || isVariableLength(datasets.get(i))) {
+				continue;
+			}
+			final int index = i;
+			tasks.add(() -> {
+				try (BufferedInChannel taskChannel =
+							 new BufferedInChannel(FileChannel.open(path, StandardOpenOption.READ), bufferSize)) {
+					columns[index] = new Hdf5ColumnReader(numberOfRows, hdfFile, taskChannel, heaps)
+							.read(columnTypes.get(index), datasets.get(index), dictionaries.get(index));
+				}
+				return null;
+			});
+		}
+		callParallel(context, tasks);
+		for (int i = 0; i < datasets.size(); i++) {
+			if (columns[i] == null) {
+				columns[i] = read(columnTypes.get(i), datasets.get(i), dictionaries.get(i));
+			}
+		}
+		return columns;
+	}
+
 	/**
 	 * Reads the dataset into a column of the specified column type.
 	 *
@@ -19,9 +19,17 @@
 package com.rapidminer.storage.hdf5;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.table.internal.ColumnarExampleTable;
 import com.rapidminer.hdf5.BufferedInChannel;
@@ -50,6 +58,12 @@ import io.jhdf.object.message.DataSpaceMessage;
  */
 class Hdf5DatasetReader {
 
+	/** the buffer size used for short columns, same as for the shared channel */
+	static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/** the maximal buffer size for the channels of parallel tasks */
+	private static final int MAXIMAL_BUFFER_SIZE = 1 << 20;
+
 	private final ColumnarExampleTable table;
 	private final HdfFile hdfFile;
 	private final BufferedInChannel inChannel;
@@ -77,24 +91,177 @@ class Hdf5DatasetReader {
 	void fillTable(List<Attribute> attributes, List<Dataset> datasets) throws IOException {
 		int index = 0;
 		for (Dataset dataset : datasets) {
-			Attribute attribute = attributes.get(index++);
-			table.resetColumn(attribute);
-			if (dataset instanceof ContiguousDataset) {
-				ContiguousDataset contiguousDataset = (ContiguousDataset) dataset;
-				long dataAddress = toDataAddress(hdfFile, contiguousDataset.getDataAddress());
-				if (inChannel.position(dataAddress).position() != dataAddress) {
-					throw new IOException("Cannot move to position " + dataAddress);
+			fillColumn(attributes.get(index++), dataset);
+		}
+		table.complete();
+	}
+
+	/**
+	 * Fills the data from the datasets into the {@link #table} at the column specified by the attributes. If the
+	 * context allows it, the columns are decoded in parallel where every task reads with its own channel on the file
+	 * at the given path. Columns with variable-length Strings share the cache of global heaps and are read afterwards
+	 * with the channel of this reader.
+	 *
+	 * @param attributes
+	 * 		the list of attribute for which the data is read
+	 * @param datasets
+	 * 		the list of contiguous dataset containing the data
+	 * @param path
+	 * 		the path of the hdf5 file
+	 * @param context
+	 * 		the context to decode the columns in, can be {@code null} for sequential decoding
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		if the format is wrong, e.g. the dataset is not contiguous or information is missing or of a wrong type
+	 * @since 9.10.0
+	 */
+	void fillTable(List<Attribute> attributes, List<Dataset> datasets, Path path, Context context) throws IOException {
+		if (context == null || context.getParallelism() < 2 || datasets.size() < 2) {
+			fillTable(attributes, datasets);
+			return;
+		}
+		int bufferSize = getBufferSize(table.size());
+		List<Callable<Void>> tasks = new ArrayList<>();
+		List<Integer> sequential = new ArrayList<>();
+		for (int i = 0; i < datasets.size(); i++) {
+			Attribute attribute = attributes.get(i);
+			Dataset dataset = datasets.get(i);
+			if (isVariableLength(dataset)) {
+				sequential.add(i);
+				continue;
+			}
+			tasks.add(() -> {
+				try (BufferedInChannel taskChannel =
+							 new BufferedInChannel(FileChannel.open(path, StandardOpenOption.READ), bufferSize)) {
+					new Hdf5DatasetReader(table, hdfFile, taskChannel, heaps).fillColumn(attribute, dataset);
 				}
-				handleContiguous(attribute, contiguousDataset);
+				return null;
+			});
+		}
+		callParallel(context, tasks);
+		for (int i : sequential) {
+			fillColumn(attributes.get(i), datasets.get(i));
+		}
+		table.complete();
+	}
 
+	/**
+	 * Adds the rows to the empty {@link #table} and fills the data from the datasets into the columns specified by
+	 * the attributes, but columns of fixed width numbers, nominal indices, dates without nanoseconds and times are not
+	 * read. Instead, the values of these columns are read page by page from the file at the given path on first
+	 * access, see {@link ColumnarExampleTable#pageColumn}.
+	 *
+	 * @param attributes
+	 * 		the list of attribute for which the data is read
+	 * @param datasets
+	 * 		the list of contiguous dataset containing the data
+	 * @param path
+	 * 		the path of the hdf5 file
+	 * @param rows
+	 * 		the number of rows to add
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		if the format is wrong, e.g. the dataset is not contiguous or information is missing or of a wrong type
+	 * @since 9.10.0
+	 */
+	void pageTable(List<Attribute> attributes, List<Dataset> datasets, Path path, int rows) throws IOException {
+		List<Integer> complete = new ArrayList<>();
+		for (int i = 0; i < datasets.size(); i++) {
+			Hdf5PageSource source = getPageSource(attributes.get(i), datasets.get(i), path);
+			if (source == null) {
+				complete.add(i);
 			} else {
-				throw new HdfReaderException(HdfReaderException.Reason.NON_CONTIGUOUS,
-						"non-contigous dataset " + dataset.getPath());
+				// paging before adding the rows prevents allocating the column
+				table.pageColumn(attributes.get(i), source, rows);
 			}
 		}
+		table.addBlankRows(rows);
+		for (int i : complete) {
+			fillColumn(attributes.get(i), datasets.get(i));
+		}
 		table.complete();
 	}
 
+	/**
+	 * Creates a page source for the dataset if its values have a fixed width and can be decoded independently of
+	 * each other.
+	 *
+	 * @return the page source or {@code null} if the dataset must be read completely
+	 * @throws IOException
+	 * 		if the attributes of the file cannot be read
+	 */
+	private Hdf5PageSource getPageSource(Attribute attribute, Dataset dataset, Path path) throws IOException {
+		if (!(dataset instanceof ContiguousDataset)) {
+			return null;
+		}
+		Class<?> type = dataset.getJavaType();
+		int valueBytes;
+		ColumnFillers.ChunkDecoder decoder;
+		if (attribute.isNumerical()) {
+			if (type.equals(double.class)) {
+				valueBytes = Double.BYTES;
+				decoder = ColumnFillers.DOUBLE_DECODER;
+			} else if (type.equals(float.class)) {
+				valueBytes = Float.BYTES;
+				decoder = ColumnFillers.FLOAT_DECODER;
+			} else if (type.equals(int.class)) {
+				valueBytes = Integer.BYTES;
+				decoder = ColumnFillers.INT_DECODER;
+			} else if (type.equals(long.class)) {
+				valueBytes = Long.BYTES;
+				decoder = ColumnFillers.LONG_DECODER;
+			} else {
+				return null;
+			}
+		} else if (attribute.isDateTime()) {
+			io.jhdf.api.Attribute columnType = dataset.getAttribute(TableWriter.ATTRIBUTE_TYPE);
+			if (!type.equals(long.class) || dataset.getAttribute(TableWriter.ATTRIBUTE_ADDITIONAL) != null
+					|| columnType == null) {
+				return null;
+			}
+			valueBytes = Long.BYTES;
+			decoder = columnType.getData().equals(ColumnDescriptor.Hdf5ColumnType.TIME.toString())
+					? ColumnFillers.LONG_TIME_DECODER : ColumnFillers.LONG_DATE_DECODER;
+		} else if (type.equals(byte.class)) {
+			valueBytes = Byte.BYTES;
+			decoder = ColumnFillers.BYTE_INDEX_DECODER;
+		} else if (type.equals(short.class)) {
+			valueBytes = Short.BYTES;
+			decoder = ColumnFillers.SHORT_INDEX_DECODER;
+		} else if (type.equals(int.class)) {
+			valueBytes = Integer.BYTES;
+			decoder = ColumnFillers.INT_INDEX_DECODER;
+		} else {
+			return null;
+		}
+		long dataAddress = toDataAddress(hdfFile, ((ContiguousDataset) dataset).getDataAddress());
+		return new Hdf5PageSource(path, dataAddress, valueBytes, decoder);
+	}
+
+	/**
+	 * Resets the column of the attribute in the {@link #table} and fills it with the data of the dataset.
+	 *
+	 * @throws IOException
+	 * 		if reading fails
+	 */
+	private void fillColumn(Attribute attribute, Dataset dataset) throws IOException {
+		table.resetColumn(attribute);
+		if (dataset instanceof ContiguousDataset) {
+			ContiguousDataset contiguousDataset = (ContiguousDataset) dataset;
+			long dataAddress = toDataAddress(hdfFile, contiguousDataset.getDataAddress());
+			if (inChannel.position(dataAddress).position() != dataAddress) {
+				throw new IOException("Cannot move to position " + dataAddress);
+			}
+			handleContiguous(attribute, contiguousDataset);
+
+		} else {
+			throw new HdfReaderException(HdfReaderException.Reason.NON_CONTIGUOUS,
+					"non-contigous dataset " + dataset.getPath());
+		}
+	}
+
 	/**
 	 * Reads the data from the dataset into the table at the column for the attribute.
 	 *
@@ -120,13 +287,16 @@ class Hdf5DatasetReader {
 	 * Supported types are mapping indices as {@code byte}, {@code short} or {@code int} or fixed or variable-length
 	 * {@code String}s.
 	 */
-	private void fillNominal(Attribute attribute, ContiguousDataset dataset) {
+	private void fillNominal(Attribute attribute, ContiguousDataset dataset) throws IOException {
 		if (dataset.getJavaType().equals(byte.class)) {
-			table.fillColumn(attribute, ColumnFillers.getByteIndexColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Byte.BYTES, ColumnFillers.BYTE_INDEX_INTEGER_DECODER, table,
+					attribute);
 		} else if (dataset.getJavaType().equals(short.class)) {
-			table.fillColumn(attribute, ColumnFillers.getShortIndexColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Short.BYTES, ColumnFillers.SHORT_INDEX_INTEGER_DECODER, table,
+					attribute);
 		} else if (dataset.getJavaType().equals(int.class)) {
-			table.fillColumn(attribute, ColumnFillers.getIntIndexColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Integer.BYTES, ColumnFillers.INT_INDEX_INTEGER_DECODER, table,
+					attribute);
 		} else if (dataset.getJavaType().equals(String.class)) {
 			String missingReplace = getMissingValue(dataset);
 			if (dataset.getDataType() instanceof StringData) {
@@ -163,9 +333,9 @@ class Hdf5DatasetReader {
 		// handle new writing of time
 		io.jhdf.api.Attribute type = dataset.getAttribute(TableWriter.ATTRIBUTE_TYPE);
 		if (type.getData().equals(ColumnDescriptor.Hdf5ColumnType.TIME.toString())) {
-			table.fillColumn(attribute, ColumnFillers.getLongTimeColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Long.BYTES, ColumnFillers.LONG_TIME_DECODER, table, attribute);
 		} else {
-			table.fillColumn(attribute, ColumnFillers.getLongDateColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Long.BYTES, ColumnFillers.LONG_DATE_DECODER, table, attribute);
 		}
 		io.jhdf.api.Attribute nanos = dataset.getAttribute(TableWriter.ATTRIBUTE_ADDITIONAL);
 		if (nanos != null) {
@@ -195,21 +365,62 @@ class Hdf5DatasetReader {
 	 * Fills numeric values from the dataset into the table for the given attribute.
 	 * Supported types are {@code double}, {@code float}, {@code int}, {@code long}.
 	 */
-	private void fillNumeric(Attribute attribute, ContiguousDataset dataset) {
+	private void fillNumeric(Attribute attribute, ContiguousDataset dataset) throws IOException {
 		if (dataset.getJavaType().equals(double.class)) {
-			table.fillColumn(attribute, ColumnFillers.getDoubleColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Double.BYTES, ColumnFillers.DOUBLE_DECODER, table, attribute);
 		} else if (dataset.getJavaType().equals(float.class)) {
-			table.fillColumn(attribute, ColumnFillers.getFloatColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Float.BYTES, ColumnFillers.FLOAT_DECODER, table, attribute);
 		} else if (dataset.getJavaType().equals(int.class)) {
-			table.fillColumn(attribute, ColumnFillers.getIntegerColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Integer.BYTES, ColumnFillers.INT_DECODER, table, attribute);
 		} else if (dataset.getJavaType().equals(long.class)) {
-			table.fillColumn(attribute, ColumnFillers.getLongColumnFiller(inChannel));
+			ColumnFillers.fillChunked(inChannel, Long.BYTES, ColumnFillers.LONG_DECODER, table, attribute);
 		} else {
 			throw new HdfReaderException(HdfReaderException.Reason.UNSUPPORTED_TYPE, dataset.getJavaType() + " not " +
 					"supported for numeric column, dataset: " + dataset.getPath());
 		}
 	}
 
+	/**
+	 * Checks whether the dataset contains variable-length Strings. These are read from global heaps which are cached
+	 * per file, so they are not decoded in parallel.
+	 */
+	static boolean isVariableLength(Dataset dataset) {
+		return dataset.getJavaType().equals(String.class) && dataset.getDataType() instanceof VariableLength;
+	}
+
+	/**
+	 * Returns the buffer size for a channel that reads a column with the given number of rows. Short columns use the
+	 * default buffer of 64KB, long columns a buffer of up to 1MB so that they are read in fewer blocks.
+	 */
+	static int getBufferSize(int rows) {
+		return (int) Math.min(MAXIMAL_BUFFER_SIZE, Math.max(DEFAULT_BUFFER_SIZE, (long) rows * Long.BYTES));
+	}
+
+	/**
+	 * Calls the tasks in the context and unwraps the cause of a failure.
+	 *
+	 * @throws IOException
+	 * 		if a task failed because of reading
+	 */
+	static <T> List<T> callParallel(Context context, List<Callable<T>> tasks) throws IOException {
+		if (tasks.isEmpty()) {
+			return Collections.emptyList();
+		}
+		try {
+			return context.call(tasks);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
 	/**
 	 * Retrieves the missing value from the hdf5 attribute of the dataset.
 	 */
@@ -26,9 +26,11 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
+import com.rapidminer.belt.execution.Context;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.Attributes;
 import com.rapidminer.example.ExampleSet;
@@ -112,6 +114,80 @@ public enum Hdf5ExampleSetReader {
 	 * 		in case the content of the hdf5 file does not match the admissible format
 	 */
 	public static ExampleSet read(Path path) throws IOException {
+		return read(path, null);
+	}
+
+	/**
+	 * Reads an {@link ExampleSet} from the hdf5 file at the given path, but only the columns with the given names. The
+	 * datasets of all other columns are never read. See the class javadoc for the admissible formats.
+	 *
+	 * @param path
+	 * 		the path to read from
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} to read all columns. Names that are not part of the file are
+	 * 		ignored.
+	 * @return the example set with the selected columns read from the path
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		in case the content of the hdf5 file does not match the admissible format
+	 * @since 9.10.0
+	 */
+	public static ExampleSet read(Path path, Set<String> columns) throws IOException {
+		return read(path, columns, null);
+	}
+
+	/**
+	 * Reads an {@link ExampleSet} from the hdf5 file at the given path, but only the columns with the given names. The
+	 * columns are decoded in parallel if the context allows it. See the class javadoc for the admissible formats.
+	 *
+	 * @param path
+	 * 		the path to read from
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} to read all columns. Names that are not part of the file are
+	 * 		ignored.
+	 * @param context
+	 * 		the context to decode the columns in, can be {@code null} for sequential decoding
+	 * @return the example set with the selected columns read from the path
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		in case the content of the hdf5 file does not match the admissible format
+	 * @since 9.10.0
+	 */
+	public static ExampleSet read(Path path, Set<String> columns, Context context) throws IOException {
+		return read(path, columns, context, false);
+	}
+
+	/**
+	 * Reads an {@link ExampleSet} from the hdf5 file at the given path, but only the columns with the given names.
+	 * Columns of fixed width numbers, nominal indices, dates without nanoseconds and times are not read immediately.
+	 * Their values are read page by page from the file on first access and kept in a bounded cache, so only the
+	 * accessed parts of the data are held in memory. A column is read completely as soon as a value of it is
+	 * written. Reading values fails with an {@link java.io.UncheckedIOException} if the file was changed in the
+	 * meantime. See the class javadoc for the admissible formats.
+	 *
+	 * @param path
+	 * 		the path to read from
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} to read all columns. Names that are not part of the file are
+	 * 		ignored.
+	 * @return the example set with the selected columns backed by the file at the path
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		in case the content of the hdf5 file does not match the admissible format
+	 * @since 9.10.0
+	 */
+	public static ExampleSet readOnDemand(Path path, Set<String> columns) throws IOException {
+		return read(path, columns, null, true);
+	}
+
+	/**
+	 * Reads the example set either completely or with columns that are read page by page on demand.
+	 */
+	private static ExampleSet read(Path path, Set<String> columns, Context context, boolean onDemand)
+			throws IOException {
 		try (HdfFile hdfFile = new HdfFile(path)) {
 			if (isMetadata(hdfFile)) {
 				throw new HdfReaderException(Reason.IS_META_DATA, "File only contains meta data");
@@ -129,6 +205,9 @@ public enum Hdf5ExampleSetReader {
 				Hdf5MappingReader mappingReader = new Hdf5MappingReader(hdfFile, inChannel, heaps);
 				for (int i = 0; i < numberOfColumns; i++) {
 					Dataset set = getDatasetOrException(hdfFile, i);
+					if (!isProjected(set, columns)) {
+						continue;
+					}
 					sets.add(set);
 					Attribute attribute = createAttribute(set, AttributeFactory::createAttribute);
 					mappingReader.addMapping(set, attribute);
@@ -136,11 +215,17 @@ public enum Hdf5ExampleSetReader {
 					addRole(set, value -> roles.put(attribute, value));
 				}
 
-				ExampleSet set = createExampleSet(numberOfRows, attributes, roles);
+				// rows of on demand columns are added after paging so that they are not allocated
+				ExampleSet set = createExampleSet(onDemand ? 0 : numberOfRows, attributes, roles);
 				addAnnotations(hdfFile, set.getAnnotations());
 				if (numberOfRows > 0) {
 					ColumnarExampleTable table = (ColumnarExampleTable) set.getExampleTable();
-					new Hdf5DatasetReader(table, hdfFile, inChannel, heaps).fillTable(attributes, sets);
+					Hdf5DatasetReader reader = new Hdf5DatasetReader(table, hdfFile, inChannel, heaps);
+					if (onDemand) {
+						reader.pageTable(attributes, sets, path, numberOfRows);
+					} else {
+						reader.fillTable(attributes, sets, path, context);
+					}
 				}
 				return set;
 			}
@@ -346,6 +431,25 @@ public enum Hdf5ExampleSetReader {
 		return clazz.cast(attribute.getData());
 	}
 
+	/**
+	 * Checks whether the column stored in the set is part of the projection. Only the name attribute of the dataset
+	 * header is read for this. Sets without a valid name are always part of the projection so that reading them fails
+	 * like without a projection.
+	 *
+	 * @param set
+	 * 		the dataset of the column
+	 * @param columns
+	 * 		the names of the columns to read, {@code null} for all columns
+	 * @return whether the column should be read
+	 */
+	static boolean isProjected(Dataset set, Set<String> columns) {
+		if (columns == null) {
+			return true;
+		}
+		String name = getSingleAttributeValueOrNull(set, TableWriter.ATTRIBUTE_NAME, String.class);
+		return name == null || columns.contains(name);
+	}
+
 	/**
 	 * Reads the dataset for the given datasetIndex from the hdfFile or handles the occurring exception.
 	 */
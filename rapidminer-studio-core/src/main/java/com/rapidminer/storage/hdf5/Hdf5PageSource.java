@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.storage.hdf5;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import com.rapidminer.example.table.internal.PageSource;
+import com.rapidminer.hdf5.BufferedInChannel;
+
+
+/**
+ * A {@link PageSource} that reads the values of a contiguous dataset with fixed width values from an hdf5 file. The
+ * file is opened on the first read and kept open until the source is {@link #release() released}, so reading a page
+ * only costs a seek. Reads of the same source are serialized. Since the values are read long after the file was
+ * opened, the source fails if the file was changed in the meantime.
+ *
+ * @author agent
+ * @see Hdf5ExampleSetReader#readOnDemand
+ * @since 9.10.0
+ */
+final class Hdf5PageSource implements PageSource {
+
+	private final Path path;
+	private final long dataAddress;
+	private final int valueBytes;
+	private final ColumnFillers.ChunkDecoder decoder;
+	private final long fileSize;
+	private final FileTime lastModified;
+
+	/** the open file, {@code null} if not opened or released */
+	private FileChannel fileChannel;
+
+	/** the buffered channel on the open file */
+	private BufferedInChannel channel;
+
+	/**
+	 * Creates a source for the values starting at the data address.
+	 *
+	 * @param path
+	 * 		the path of the hdf5 file
+	 * @param dataAddress
+	 * 		the absolute address of the first value in the file
+	 * @param valueBytes
+	 * 		the number of bytes per value
+	 * @param decoder
+	 * 		the decoder for the values
+	 * @throws IOException
+	 * 		if the attributes of the file cannot be read
+	 */
+	Hdf5PageSource(Path path, long dataAddress, int valueBytes, ColumnFillers.ChunkDecoder decoder)
+			throws IOException {
+		this.path = path;
+		this.dataAddress = dataAddress;
+		this.valueBytes = valueBytes;
+		this.decoder = decoder;
+		this.fileSize = Files.size(path);
+		this.lastModified = Files.getLastModifiedTime(path);
+	}
+
+	@Override
+	public synchronized void read(int fromRow, double[] target, int length) throws IOException {
+		long address = dataAddress + (long) fromRow * valueBytes;
+		try {
+			if (fileChannel == null) {
+				open(length);
+			}
+			if (channel.position(address).position() != address) {
+				throw new IOException("Cannot move to position " + address);
+			}
+			ColumnFillers.decodeChunked(channel, valueBytes, decoder, target, length);
+		} catch (IOException | RuntimeException e) {
+			// the channel might be closed, e.g. by an interrupt, or at an unknown position
+			release();
+			throw e;
+		}
+	}
+
+	@Override
+	public synchronized void release() {
+		if (fileChannel != null) {
+			try {
+				fileChannel.close();
+			} catch (IOException e) {
+				// nothing was written
+			}
+			fileChannel = null;
+			channel = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return path.toString();
+	}
+
+	/**
+	 * Opens the file after checking that it was not changed since the source was created.
+	 */
+	private void open(int length) throws IOException {
+		if (Files.size(path) != fileSize || !Files.getLastModifiedTime(path).equals(lastModified)) {
+			throw new IOException("The file " + path + " was changed after it was opened");
+		}
+		fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		channel = new BufferedInChannel(fileChannel, Hdf5DatasetReader.getBufferSize(length));
+	}
+
+}
@@ -24,6 +24,7 @@ import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.getNonnegativeInt
 import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.getSetRelation;
 import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.getSingleAttributeValueOrNull;
 import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.isMetadata;
+import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.isProjected;
 import static com.rapidminer.storage.hdf5.Hdf5ExampleSetReader.readNumberOfRows;
 import static com.rapidminer.storage.hdf5.IOTableHdf5Writer.ATTRIBUTE_LEGACY_TYPE;
 
@@ -118,8 +119,8 @@ public enum Hdf5TableReader {
 	 * @param path
 	 * 		the path to read from
 	 * @param context
-	 * 		the belt context to use for the {@link TableBuilder#build(Context)}. Since all columns are calculated
-	 * 		beforehand, this can be a sequential context without performance loss
+	 * 		the belt context to decode the columns in and to use for the {@link TableBuilder#build(Context)}. With a
+	 * 		sequential context, the columns are decoded one after the other
 	 * @return the table read from the path
 	 * @throws IOException
 	 * 		if reading fails
@@ -127,6 +128,29 @@ public enum Hdf5TableReader {
 	 * 		in case the content of the hdf5 file does not match the admissible format
 	 */
 	public static IOTable read(Path path, Context context) throws IOException {
+		return read(path, context, null);
+	}
+
+	/**
+	 * Reads an {@link IOTable} from the hdf5 file at the given path, but only the columns with the given labels. The
+	 * datasets and dictionaries of all other columns are never read. See the class javadoc for the admissible formats.
+	 *
+	 * @param path
+	 * 		the path to read from
+	 * @param context
+	 * 		the belt context to decode the columns in and to use for the {@link TableBuilder#build(Context)}. With a
+	 * 		sequential context, the columns are decoded one after the other
+	 * @param columns
+	 * 		the labels of the columns to read, {@code null} to read all columns. Labels that are not part of the file
+	 * 		are ignored.
+	 * @return the table with the selected columns read from the path
+	 * @throws IOException
+	 * 		if reading fails
+	 * @throws HdfReaderException
+	 * 		in case the content of the hdf5 file does not match the admissible format
+	 * @since 9.10.0
+	 */
+	public static IOTable read(Path path, Context context, Set<String> columns) throws IOException {
 		try (HdfFile hdfFile = new HdfFile(path)) {
 			if (isMetadata(hdfFile)) {
 				throw new HdfReaderException(Reason.IS_META_DATA, "File only contains meta data");
@@ -145,6 +169,9 @@ public enum Hdf5TableReader {
 				Hdf5MappingReader mappingReader = new Hdf5MappingReader(hdfFile, inChannel, heaps);
 				for (int i = 0; i < numberOfColumns; i++) {
 					Dataset set = getDatasetOrException(hdfFile, i);
+					if (!isProjected(set, columns)) {
+						continue;
+					}
 					sets.add(set);
 					final String name = getName(set);
 					names.add(name);
@@ -160,9 +187,14 @@ public enum Hdf5TableReader {
 				addAnnotations(hdfFile, annotations);
 				final Hdf5ColumnReader hdf5ColumnReader = new Hdf5ColumnReader(numberOfRows, hdfFile, inChannel,
 						heaps);
-				for (int i = 0; i < numberOfColumns; i++) {
+				List<LinkedHashSet<String>> setDictionaries = new ArrayList<>(names.size());
+				for (String name : names) {
+					setDictionaries.add(dictionaries.get(name));
+				}
+				Column[] readColumns = hdf5ColumnReader.read(types, sets, setDictionaries, path, context);
+				for (int i = 0; i < names.size(); i++) {
 					final String label = names.get(i);
-					builder.add(label, hdf5ColumnReader.read(types.get(i), sets.get(i), dictionaries.get(label)));
+					builder.add(label, readColumns[i]);
 					List<ColumnMetaData> columnMetaData = getColumnMetaData(sets.get(i));
 					if (!columnMetaData.isEmpty()) {
 						builder.addMetaData(label, columnMetaData);
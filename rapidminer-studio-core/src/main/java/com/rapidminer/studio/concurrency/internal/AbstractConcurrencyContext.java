@@ -57,6 +57,12 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 	/** The shared {@link ForkJoinPool} pool wrapper */
 	private final PoolInstance pool;
 
+	/** The memory budget consulted before starting tasks */
+	private final MemoryBudget memoryBudget;
+
+	/** The queue of the tasks waiting for the shared pool, {@code null} if the tasks are not scheduled */
+	private final ProcessTaskQueue taskQueue;
+
 	/**
 	 * Creates a new {@link ConcurrencyContext} for the given {@link Process}.
 	 * <p>
@@ -75,11 +81,15 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 		}
 		this.process = process;
 		this.pool = pool.getInstance(this);
+		this.memoryBudget = new MemoryBudget(process);
+		this.taskQueue = new ProcessTaskQueue(pool.getScheduler());
 	}
 
 	AbstractConcurrencyContext(PoolInstance instance) {
 		this.pool = ValidationUtilV2.requireNonNull(instance, "instance");
 		process = null;
+		memoryBudget = new MemoryBudget(null);
+		taskQueue = null;
 	}
 
 	@Override
@@ -119,7 +129,25 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 		if (callableCheck(callables)) {
 			return Collections.emptyList();
 		}
-		return internalCall(callables);
+		// the first batch keeps every thread busy once, the size of its results is the estimate for
+		// the remaining tasks whose results are held until all tasks are finished
+		int permitted = memoryBudget.getPermittedTasks(Math.min(callables.size(), getParallelism()), 0);
+		if (permitted >= callables.size()) {
+			return internalCall(callables);
+		}
+		List<T> results = new ArrayList<>(callables.size());
+		long resultBytes = 0;
+		int start = 0;
+		while (start < callables.size()) {
+			checkStatus();
+			int end = Math.min(callables.size(), start + permitted);
+			List<T> batch = internalCall(callables.subList(start, end));
+			results.addAll(batch);
+			resultBytes += AdaptiveBatching.estimateBytes(batch);
+			start = end;
+			permitted = memoryBudget.getPermittedTasks(callables.size() - start, resultBytes / results.size());
+		}
+		return results;
 	}
 
 	@Override
@@ -188,7 +216,24 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 
 	@Override
 	public int getParallelism() {
-		return pool.getParallelism();
+		int parallelism = pool.getParallelism();
+		return taskQueue == null ? parallelism : taskQueue.limitParallelism(parallelism);
+	}
+
+	/**
+	 * @return the memory budget of the process of this context
+	 * @since 9.10.0
+	 */
+	MemoryBudget getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * @return the queue of the tasks of the process of this context or {@code null} if the tasks are not scheduled
+	 * @since 9.10.0
+	 */
+	ProcessTaskQueue getTaskQueue() {
+		return taskQueue;
 	}
 
 	@Override
@@ -258,11 +303,12 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 				&& ((ForkJoinWorkerThread) currentThread).getPool() == forkJoinPool) {
 			return RecursiveWrapper.call(callables);
 		} else {
-			final List<Future<T>> futures = new ArrayList<>(callables.size());
+			final List<AdaptedCallable<T>> tasks = new ArrayList<>(callables.size());
 			for (Callable<T> callable : callables) {
-				futures.add(forkJoinPool.submit((ForkJoinTask<T>) new AdaptedCallable<>(callable)));
+				tasks.add(new AdaptedCallable<>(callable));
 			}
-			return collectResults(futures);
+			schedule(forkJoinPool, tasks);
+			return collectResults(new ArrayList<>(tasks));
 		}
 	}
 
@@ -289,14 +335,38 @@ abstract class AbstractConcurrencyContext implements ConcurrencyContext {
 			return futures;
 		} else {
 			// submit callables without further checks
+			final List<AdaptedCallable<T>> tasks = new ArrayList<>(callables.size());
 			final List<Future<T>> futures = new ArrayList<>(callables.size());
 			for (Callable<T> callable : callables) {
-				futures.add(new FutureWrapper<>(forkJoinPool.submit((ForkJoinTask<T>) new AdaptedCallable<>(callable))));
+				AdaptedCallable<T> task = new AdaptedCallable<>(callable);
+				tasks.add(task);
+				futures.add(new FutureWrapper<>(task));
 			}
+			schedule(forkJoinPool, tasks);
 			return futures;
 		}
 	}
 
+	/**
+	 * Hands the tasks submitted from outside the pool to the {@link FairScheduler} of the pool, or directly to the
+	 * pool if the tasks of this context are not scheduled.
+	 *
+	 * @param forkJoinPool
+	 *            the pool to execute the tasks
+	 * @param tasks
+	 *            the tasks
+	 * @since 9.10.0
+	 */
+	private void schedule(ForkJoinPool forkJoinPool, List<? extends ForkJoinTask<?>> tasks) {
+		if (taskQueue == null) {
+			for (ForkJoinTask<?> task : tasks) {
+				forkJoinPool.execute(task);
+			}
+		} else {
+			taskQueue.getScheduler().schedule(taskQueue, forkJoinPool, tasks);
+		}
+	}
+
 	/**
 	 * Checks the given list for {@code null} and {@code null} elements. If one of the former is the case, an {@link
 	 * IllegalArgumentException} is thrown. Returns {@code true} if the list is empty, {@code false} otherwise.
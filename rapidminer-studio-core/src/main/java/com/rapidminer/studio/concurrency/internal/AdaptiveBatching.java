@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.table.ExampleTable;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.IOObjectCollection;
+
+
+/**
+ * Adapts the granularity of the tasks of a parallel operator to the measured iterations. Instead of a fixed batch
+ * size like {@link ConcurrencyExecutionService#getRecommendedConcurrencyBatchSize(com.rapidminer.operator.Operator)},
+ * the durations and result sizes of the finished iterations are recorded and used to decide
+ * <ul>
+ * <li>how many iterations are merged into one task, so that short iterations do not drown in the overhead of
+ * preparing a task, but enough tasks remain to keep all threads busy, and</li>
+ * <li>how many tasks may be running at the same time, so that the results of the tasks waiting to be processed fit
+ * into the {@link MemoryBudget} of the process.</li>
+ * </ul>
+ * Until the first iterations are measured, every task consists of a single iteration and the results of an iteration
+ * are assumed to be as large as the input of the operator, see {@link #setInput(Collection)}; without a known input
+ * size only a single task is running. The example tables of the input are not counted for results that are views on
+ * them, see {@link #estimateResultBytes(Object)}. An instance is meant for a single execution of an operator and is
+ * used by
+ * {@link com.rapidminer.operator.concurrency.internal.OperatorClonePool}, so operators using the pool do not need to
+ * tune anything.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class AdaptiveBatching {
+
+	/** the run time a task should have at least if there are enough iterations */
+	static final long TARGET_TASK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	/** the number of tasks per thread that should remain when iterations are merged, for balancing */
+	private static final int TASKS_PER_THREAD = 2;
+
+	private final int parallelism;
+	private final MemoryBudget budget;
+
+	private long measuredIterations;
+	private long totalNanos;
+	private long totalResultBytes;
+
+	/** the estimated size of the input, used for the results until iterations are measured */
+	private long inputBytes;
+
+	/** the example tables of the input that are shared with the results */
+	private Set<ExampleTable> inputTables = Collections.emptySet();
+
+	/**
+	 * Creates a new instance for the given context.
+	 *
+	 * @param context
+	 *            the concurrency context of the operator
+	 */
+	public AdaptiveBatching(ConcurrencyContext context) {
+		this(context.getParallelism(), MemoryBudget.of(context));
+	}
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param parallelism
+	 *            the maximal number of tasks running at the same time
+	 * @param budget
+	 *            the memory budget of the process
+	 */
+	public AdaptiveBatching(int parallelism, MemoryBudget budget) {
+		this.parallelism = Math.max(1, parallelism);
+		this.budget = budget;
+	}
+
+	/**
+	 * Sets the input of the operator. Its size is the estimate for the results of an iteration until the first
+	 * iterations are measured and its example tables are not counted by {@link #estimateResultBytes(Object)}.
+	 *
+	 * @param input
+	 *            the input objects of the operator, can contain {@code null}
+	 */
+	public synchronized void setInput(Collection<?> input) {
+		inputBytes = estimateBytes(input);
+		Set<ExampleTable> tables = Collections.newSetFromMap(new IdentityHashMap<>());
+		collectTables(input, tables);
+		inputTables = tables;
+	}
+
+	/**
+	 * Records the measurements of a finished task.
+	 *
+	 * @param iterations
+	 *            the number of iterations of the task
+	 * @param nanos
+	 *            the run time of the iterations
+	 * @param resultBytes
+	 *            the estimated size of the results of the iterations or {@code 0} if unknown
+	 */
+	public synchronized void record(int iterations, long nanos, long resultBytes) {
+		if (iterations <= 0) {
+			return;
+		}
+		measuredIterations += iterations;
+		totalNanos += Math.max(0, nanos);
+		totalResultBytes += Math.max(0, resultBytes);
+	}
+
+	/**
+	 * Returns how many of the remaining iterations should be merged into the next task.
+	 *
+	 * @param remaining
+	 *            the number of iterations not yet submitted
+	 * @return the number of iterations of the next task, between {@code 1} and {@code remaining}
+	 */
+	public synchronized int getIterationsPerTask(int remaining) {
+		if (measuredIterations == 0 || remaining <= 1) {
+			return Math.min(1, Math.max(0, remaining));
+		}
+		long nanosPerIteration = Math.max(1, totalNanos / measuredIterations);
+		long iterations = TARGET_TASK_NANOS / nanosPerIteration;
+		// keep enough tasks to balance the load between the threads
+		iterations = Math.min(iterations, remaining / ((long) TASKS_PER_THREAD * parallelism));
+		long bytesPerIteration = totalResultBytes / measuredIterations;
+		if (bytesPerIteration > 0 && iterations > 1) {
+			// the results of a task are held until the whole task is finished
+			iterations = Math.min(iterations, budget.getPermittedTasks((int) iterations, bytesPerIteration));
+		}
+		return (int) Math.max(1, iterations);
+	}
+
+	/**
+	 * Returns how many tasks of the given size may be running at the same time. The number shrinks when the memory of
+	 * the process is running low and grows again up to the parallelism when memory is freed. Until the first
+	 * iterations are measured, the results of an iteration are assumed to be as large as the input and a single task
+	 * is permitted if the size of the input is unknown.
+	 *
+	 * @param iterationsPerTask
+	 *            the number of iterations per task
+	 * @return the number of tasks, between {@code 1} and the parallelism
+	 */
+	public synchronized int getTasksInFlight(int iterationsPerTask) {
+		long bytesPerIteration;
+		if (measuredIterations > 0) {
+			bytesPerIteration = totalResultBytes / measuredIterations;
+		} else if (inputBytes > 0) {
+			bytesPerIteration = inputBytes;
+		} else {
+			return 1;
+		}
+		return Math.max(1, budget.getPermittedTasks(parallelism, bytesPerIteration * Math.max(1, iterationsPerTask)));
+	}
+
+	/**
+	 * @return the maximal number of tasks running at the same time
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Estimates the size of a result like {@link #estimateBytes(Object)}, but without the example tables of the input
+	 * that are shared by views in the result.
+	 *
+	 * @param result
+	 *            the result of an iteration, can be {@code null}
+	 * @return the estimated number of bytes or {@code 0} if unknown
+	 * @see #setInput(Collection)
+	 */
+	public synchronized long estimateResultBytes(Object result) {
+		return estimateBytes(result, inputTables);
+	}
+
+	/**
+	 * Estimates the size of a result by {@link IOObject#estimateMemoryBytes()}. Collections are estimated by the sum
+	 * of their elements.
+	 *
+	 * @param result
+	 *            the result of an iteration, can be {@code null}
+	 * @return the estimated number of bytes or {@code 0} if unknown
+	 */
+	public static long estimateBytes(Object result) {
+		return estimateBytes(result, Collections.emptySet());
+	}
+
+	/**
+	 * Estimates the size of the result without the given shared example tables.
+	 */
+	private static long estimateBytes(Object result, Set<ExampleTable> sharedTables) {
+		if (result instanceof ExampleSet) {
+			ExampleSet exampleSet = (ExampleSet) result;
+			long bytes = exampleSet.estimateMemoryBytes();
+			ExampleTable table = exampleSet.getExampleTable();
+			if (table != null && sharedTables.contains(table)) {
+				bytes -= table.estimateMemoryUsage();
+			}
+			return Math.max(0, bytes);
+		}
+		if (result instanceof IOObjectCollection) {
+			return estimateBytes(((IOObjectCollection<?>) result).getObjects(), sharedTables);
+		}
+		if (result instanceof IOObject) {
+			return Math.max(0, ((IOObject) result).estimateMemoryBytes());
+		}
+		if (result instanceof Collection) {
+			long bytes = 0;
+			for (Object element : (Collection<?>) result) {
+				bytes += estimateBytes(element, sharedTables);
+			}
+			return bytes;
+		}
+		return 0;
+	}
+
+	/**
+	 * Adds the example tables of the example sets in the input to the given set.
+	 */
+	private static void collectTables(Object input, Set<ExampleTable> tables) {
+		if (input instanceof ExampleSet) {
+			ExampleTable table = ((ExampleSet) input).getExampleTable();
+			if (table != null) {
+				tables.add(table);
+			}
+		} else if (input instanceof IOObjectCollection) {
+			collectTables(((IOObjectCollection<?>) input).getObjects(), tables);
+		} else if (input instanceof Collection) {
+			for (Object element : (Collection<?>) input) {
+				collectTables(element, tables);
+			}
+		}
+	}
+}
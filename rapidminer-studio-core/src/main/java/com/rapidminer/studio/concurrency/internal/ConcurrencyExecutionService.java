@@ -25,6 +25,7 @@ import java.util.concurrent.Future;
 
 import com.rapidminer.Process;
 import com.rapidminer.RapidMiner;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
 import com.rapidminer.operator.IOContainer;
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.OperatorException;
@@ -87,6 +88,12 @@ public interface ConcurrencyExecutionService {
 	 * {@link ConcurrencyExecutionService#executeOperatorTasks(Operator, java.util.List)}
 	 * simultaneously.
 	 *
+	 * <p>
+	 * Since 9.10.0, fewer tasks are recommended if the {@link MemoryBudget} of the process is running low. Operators
+	 * whose iterations run on clones should use an {@link com.rapidminer.operator.concurrency.internal.OperatorClonePool}
+	 * instead, which adapts the number of tasks and the iterations per task to the measured iterations, see
+	 * {@link AdaptiveBatching}.
+	 *
 	 * @return the recommended batch size. Will never be less than the user setting of
 	 *         {@link RapidMiner#PROPERTY_RAPIDMINER_GENERAL_NUMBER_OF_THREADS} or {@link RapidMiner#PROPERTY_RAPIDMINER_GENERAL_NUMBER_OF_THREADS_BACKGROUND}
 	 * @since 9.1
@@ -95,8 +102,9 @@ public interface ConcurrencyExecutionService {
 		if (operator == null) {
 			return getRecommendedConcurrencyBatchSize();
 		}
-		int threadSetting = Resources.getConcurrencyContext(operator).getParallelism();
-		return Math.max(2_000, threadSetting);
+		ConcurrencyContext context = Resources.getConcurrencyContext(operator);
+		int threadSetting = context.getParallelism();
+		return MemoryBudget.permitsParallelExecution(context) ? Math.max(2_000, threadSetting) : threadSetting;
 	}
 
 	/**
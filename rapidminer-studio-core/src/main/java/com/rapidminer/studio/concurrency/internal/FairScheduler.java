@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+
+
+/**
+ * Schedules the tasks that the processes submit from outside to the shared {@link ForkJoinPool} of a
+ * {@link LazyPool}. Instead of handing all tasks to the pool at once, every process keeps its tasks in its own
+ * {@link ProcessTaskQueue} and at most as many tasks as the pool has threads are running at the same time. Whenever a
+ * thread becomes free, the next task is taken from the process with the smallest number of running tasks relative to
+ * its {@link ProcessTaskQueue#getPriority() priority}, ties are broken by the run time already used relative to the
+ * priority. So a process submitting thousands of small tasks does not delay the tasks of the other processes until
+ * all its tasks are done, but gets its share of the threads like every other process.
+ * <p>
+ * Tasks submitted from inside the pool, i.e. subtasks of running tasks, are not scheduled but forked directly, since
+ * the running task waits for them.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+final class FairScheduler {
+
+	/** A task waiting in a queue */
+	static final class Entry {
+
+		private final ForkJoinTask<?> task;
+		private final ForkJoinPool pool;
+		private final long enqueued;
+
+		private Entry(ForkJoinTask<?> task, ForkJoinPool pool, long enqueued) {
+			this.task = task;
+			this.pool = pool;
+			this.enqueued = enqueued;
+		}
+
+		ForkJoinTask<?> getTask() {
+			return task;
+		}
+	}
+
+	/** the queues with waiting tasks */
+	private final List<ProcessTaskQueue> waiting = new ArrayList<>();
+
+	/** the number of running tasks of all queues */
+	private int running;
+
+	/**
+	 * Adds the tasks to the queue and starts as many tasks as there are free threads.
+	 *
+	 * @param queue
+	 *            the queue of the submitting process
+	 * @param pool
+	 *            the pool to execute the tasks
+	 * @param tasks
+	 *            the tasks to schedule
+	 */
+	void schedule(ProcessTaskQueue queue, ForkJoinPool pool, List<? extends ForkJoinTask<?>> tasks) {
+		long now = System.nanoTime();
+		synchronized (this) {
+			for (ForkJoinTask<?> task : tasks) {
+				queue.getEntries().add(new Entry(task, pool, now));
+			}
+			if (!waiting.contains(queue)) {
+				waiting.add(queue);
+			}
+		}
+		dispatch();
+	}
+
+	/**
+	 * @return the number of waiting tasks of all processes
+	 */
+	synchronized int getQueueDepth() {
+		int depth = 0;
+		for (ProcessTaskQueue queue : waiting) {
+			depth += queue.getQueueDepth();
+		}
+		return depth;
+	}
+
+	/**
+	 * @return the number of running tasks of all processes
+	 */
+	synchronized int getRunningTasks() {
+		return running;
+	}
+
+	/**
+	 * Starts waiting tasks as long as there are free threads. The tasks are handed to the pool outside of the lock.
+	 */
+	void dispatch() {
+		boolean rejected;
+		do {
+			List<Entry> started = new ArrayList<>();
+			List<ProcessTaskQueue> owners = new ArrayList<>();
+			synchronized (this) {
+				ProcessTaskQueue next;
+				while ((next = selectNext()) != null) {
+					Entry entry = next.getEntries().poll();
+					next.taskStarted(System.nanoTime() - entry.enqueued);
+					running++;
+					if (next.getEntries().isEmpty()) {
+						waiting.remove(next);
+					}
+					started.add(entry);
+					owners.add(next);
+				}
+			}
+			rejected = false;
+			for (int i = 0; i < started.size(); i++) {
+				rejected |= !execute(owners.get(i), started.get(i));
+			}
+			// the threads of rejected tasks are free again
+		} while (rejected);
+	}
+
+	/**
+	 * Selects the queue whose head task should run next or returns {@code null} if no task can be started. Cancelled
+	 * tasks are dropped on the way.
+	 */
+	private ProcessTaskQueue selectNext() {
+		ProcessTaskQueue best = null;
+		for (int i = waiting.size() - 1; i >= 0; i--) {
+			ProcessTaskQueue queue = waiting.get(i);
+			while (!queue.getEntries().isEmpty() && queue.getEntries().peek().task.isDone()) {
+				queue.getEntries().poll();
+			}
+			if (queue.getEntries().isEmpty()) {
+				waiting.remove(i);
+			} else if (!queue.isAtLimit() && (best == null || queue.compareShare(best) < 0)) {
+				best = queue;
+			}
+		}
+		if (best == null || running >= best.getEntries().peek().pool.getParallelism()) {
+			return null;
+		}
+		return best;
+	}
+
+	/**
+	 * Runs the task of the entry in the pool and releases its thread afterwards.
+	 *
+	 * @return {@code false} if the pool rejected the task
+	 */
+	private boolean execute(ProcessTaskQueue queue, Entry entry) {
+		try {
+			entry.pool.execute(() -> {
+				long start = System.nanoTime();
+				try {
+					entry.task.quietlyInvoke();
+				} finally {
+					release(queue, System.nanoTime() - start);
+					dispatch();
+				}
+			});
+			return true;
+		} catch (RejectedExecutionException e) {
+			// the pool was shut down since the task was submitted, e.g. because the number of threads changed
+			entry.task.completeExceptionally(e);
+			release(queue, 0);
+			return false;
+		}
+	}
+
+	private synchronized void release(ProcessTaskQueue queue, long runTime) {
+		running--;
+		queue.taskFinished(runTime);
+	}
+}
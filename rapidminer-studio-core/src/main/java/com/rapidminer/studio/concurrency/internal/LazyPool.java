@@ -104,6 +104,11 @@ class LazyPool {
 
 	private final String key;
 
+	/**
+	 * The scheduler sharing the pool between the processes.
+	 */
+	private final FairScheduler scheduler = new FairScheduler();
+
 	/**
 	 * Creates a new pool from the given settings key
 	 *
@@ -126,6 +131,16 @@ class LazyPool {
 		return new LazyPool.Instance(context);
 	}
 
+	/**
+	 * Returns the scheduler of this pool
+	 *
+	 * @return the scheduler that shares the pool between the processes
+	 * @since 9.10.0
+	 */
+	FairScheduler getScheduler() {
+		return scheduler;
+	}
+
 	/**
 	 * Instance of this pool for a specific Context
 	 */
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+
+import com.rapidminer.Process;
+import com.rapidminer.RapidMiner;
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+import com.rapidminer.tools.ParameterService;
+import com.rapidminer.tools.Tools;
+
+
+/**
+ * Memory budget of a {@link Process} that is consulted before parallel tasks are started. The
+ * budget is the fraction of the maximal heap size configured by
+ * {@link RapidMiner#PROPERTY_RAPIDMINER_SYSTEM_MEMORY_BUDGET_FRACTION}. The memory still available
+ * is the budget minus the live heap, so all processes running in the same JVM share the heap but
+ * each process decides on its own how many of its tasks it can start. The live heap is the usage of
+ * the heap pools after their last garbage collection, see
+ * {@link MemoryPoolMXBean#getCollectionUsage()}, so garbage that is not yet collected does not
+ * count as used.
+ * <p>
+ * Callers that know how much memory each task needs, e.g. from
+ * {@link com.rapidminer.operator.IOObject#estimateMemoryBytes()} of the data copied for each task,
+ * get as many tasks as fit into the available memory. Without such an estimate, all tasks are
+ * permitted until the available memory drops below {@value #LOW_MEMORY_FRACTION} of the budget.
+ * At least one task is always permitted.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class MemoryBudget {
+
+	/** default fraction of the maximal heap size available to the tasks of a process */
+	static final double DEFAULT_FRACTION = 0.9;
+
+	/** fraction of the budget below which tasks of unknown size are started one by one */
+	private static final double LOW_MEMORY_FRACTION = 0.1;
+
+	/** budget for contexts without a process */
+	private static final MemoryBudget SHARED = new MemoryBudget(null);
+
+	private final Process process;
+	private final LongSupplier liveBytes;
+
+	/**
+	 * Creates a new budget for the given process.
+	 *
+	 * @param process
+	 *            the process whose log is informed about limited tasks, can be {@code null}
+	 */
+	MemoryBudget(Process process) {
+		this(process, MemoryBudget::getLiveHeapBytes);
+	}
+
+	/**
+	 * Creates a new budget for the given process that determines the live heap by the given supplier.
+	 *
+	 * @param process
+	 *            the process whose log is informed about limited tasks, can be {@code null}
+	 * @param liveBytes
+	 *            supplies the number of bytes of the heap that are in use
+	 */
+	MemoryBudget(Process process, LongSupplier liveBytes) {
+		this.process = process;
+		this.liveBytes = liveBytes;
+	}
+
+	/**
+	 * Returns the memory budget used by the given context.
+	 *
+	 * @param context
+	 *            the concurrency context
+	 * @return the budget of the process of the context or a shared budget for other contexts
+	 */
+	public static MemoryBudget of(ConcurrencyContext context) {
+		if (context instanceof AbstractConcurrencyContext) {
+			return ((AbstractConcurrencyContext) context).getMemoryBudget();
+		}
+		return SHARED;
+	}
+
+	/**
+	 * @return the number of bytes of the heap available to parallel tasks in total
+	 */
+	public long getLimit() {
+		double fraction = DEFAULT_FRACTION;
+		String value = ParameterService.getParameterValue(RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_MEMORY_BUDGET_FRACTION);
+		if (value != null && !value.trim().isEmpty()) {
+			try {
+				fraction = Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				// keep default
+			}
+		}
+		return (long) (Math.max(0, Math.min(1, fraction)) * Runtime.getRuntime().maxMemory());
+	}
+
+	/**
+	 * @return the number of bytes of the budget that are not used at the moment, can be negative
+	 */
+	public long getAvailableBytes() {
+		return getLimit() - liveBytes.getAsLong();
+	}
+
+	/**
+	 * Checks whether the memory of the process permits starting tasks in parallel at all, i.e.
+	 * whether more than {@value #LOW_MEMORY_FRACTION} of the budget is still available. Operators
+	 * should consult this before they decide for a parallel execution.
+	 *
+	 * @param context
+	 *            the concurrency context
+	 * @return {@code true} if the context has a parallelism greater than one and the budget of its
+	 *         process is not running low
+	 */
+	public static boolean permitsParallelExecution(ConcurrencyContext context) {
+		return context.getParallelism() > 1 && of(context).getPermittedTasks(2, 0) == 2;
+	}
+
+	/**
+	 * Returns how many of the given tasks can be started at the same time.
+	 *
+	 * @param tasks
+	 *            the number of tasks that should be started
+	 * @param bytesPerTask
+	 *            the estimated number of bytes each task needs or a value {@code <= 0} if unknown
+	 * @return the number of tasks to start, between {@code 1} and {@code tasks}
+	 */
+	public int getPermittedTasks(int tasks, long bytesPerTask) {
+		if (tasks <= 1) {
+			return tasks;
+		}
+		long available = getAvailableBytes();
+		long permitted;
+		if (bytesPerTask > 0) {
+			permitted = available / bytesPerTask;
+		} else {
+			permitted = available >= LOW_MEMORY_FRACTION * getLimit() ? tasks : 1;
+		}
+		int result = (int) Math.max(1, Math.min(tasks, permitted));
+		if (result < tasks && process != null) {
+			process.getLogger().log(Level.FINE, "com.rapidminer.studio.concurrency.internal.MemoryBudget.tasks_limited",
+					new Object[] { result, tasks, Tools.formatBytes(Math.max(0, available)) });
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number of bytes of the heap that survived the last garbage collection. For pools
+	 * that do not report their usage after a collection, the current usage is counted.
+	 */
+	private static long getLiveHeapBytes() {
+		long bytes = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() != MemoryType.HEAP || !pool.isValid()) {
+				continue;
+			}
+			MemoryUsage usage = pool.getCollectionUsage();
+			if (usage == null) {
+				usage = pool.getUsage();
+			}
+			if (usage != null) {
+				bytes += usage.getUsed();
+			}
+		}
+		return bytes;
+	}
+
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import com.rapidminer.core.concurrency.ConcurrencyContext;
+
+
+/**
+ * Queue of the tasks of a single process waiting for a thread of the shared pool, see {@link FairScheduler}. The
+ * queue holds the scheduling settings of the process, i.e. its priority and the maximal number of its tasks running at
+ * the same time, and provides the queue depth and the wait time of its tasks for monitoring.
+ * <p>
+ * The settings are taken from the parameters of the {@link com.rapidminer.operator.ProcessRootOperator} whenever the
+ * process starts.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public final class ProcessTaskQueue {
+
+	/** the default priority of a process */
+	public static final int DEFAULT_PRIORITY = 1;
+
+	private final FairScheduler scheduler;
+
+	/** the waiting tasks, guarded by the scheduler */
+	private final Deque<FairScheduler.Entry> entries = new ArrayDeque<>();
+
+	private volatile int priority = DEFAULT_PRIORITY;
+	private volatile int maximalParallelism;
+
+	// statistics, guarded by the scheduler
+	private int running;
+	private long startedTasks;
+	private long runTime;
+	private long totalWaitTime;
+	private long maximalWaitTime;
+
+	/**
+	 * Creates a new queue whose tasks are scheduled by the given scheduler.
+	 *
+	 * @param scheduler
+	 *            the scheduler of the pool
+	 */
+	ProcessTaskQueue(FairScheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the task queue used by the given context.
+	 *
+	 * @param context
+	 *            the concurrency context
+	 * @return the queue of the process of the context or {@code null} if the tasks of the context are not scheduled
+	 */
+	public static ProcessTaskQueue of(ConcurrencyContext context) {
+		if (context instanceof AbstractConcurrencyContext) {
+			return ((AbstractConcurrencyContext) context).getTaskQueue();
+		}
+		return null;
+	}
+
+	/**
+	 * @return the priority of the process, i.e. its weight when the threads are shared between the processes
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority of the process. A process with priority {@code 2} gets twice as many threads as a process
+	 * with priority {@code 1} if both have enough waiting tasks.
+	 *
+	 * @param priority
+	 *            the priority, at least {@code 1}
+	 */
+	public void setPriority(int priority) {
+		if (priority < 1) {
+			throw new IllegalArgumentException("priority must be at least 1");
+		}
+		this.priority = priority;
+		scheduler.dispatch();
+	}
+
+	/**
+	 * @return the maximal number of tasks of the process running at the same time or {@code 0} if only the size of the
+	 *         pool limits them
+	 */
+	public int getMaximalParallelism() {
+		return maximalParallelism;
+	}
+
+	/**
+	 * Limits the number of tasks of the process running at the same time. The parallelism of the concurrency context
+	 * of the process is reduced accordingly.
+	 *
+	 * @param maximalParallelism
+	 *            the maximal number of running tasks or {@code 0} for no limit
+	 */
+	public void setMaximalParallelism(int maximalParallelism) {
+		if (maximalParallelism < 0) {
+			throw new IllegalArgumentException("maximalParallelism must not be negative");
+		}
+		this.maximalParallelism = maximalParallelism;
+		scheduler.dispatch();
+	}
+
+	/**
+	 * @return the number of tasks of the process waiting for a thread
+	 */
+	public int getQueueDepth() {
+		synchronized (scheduler) {
+			int depth = 0;
+			for (FairScheduler.Entry entry : entries) {
+				if (!entry.getTask().isDone()) {
+					depth++;
+				}
+			}
+			return depth;
+		}
+	}
+
+	/**
+	 * @return the number of tasks of all processes sharing the pool waiting for a thread
+	 */
+	public int getSharedQueueDepth() {
+		return scheduler.getQueueDepth();
+	}
+
+	/**
+	 * @return the number of running tasks of the process
+	 */
+	public int getRunningTasks() {
+		synchronized (scheduler) {
+			return running;
+		}
+	}
+
+	/**
+	 * @return the number of tasks of the process started so far
+	 */
+	public long getStartedTasks() {
+		synchronized (scheduler) {
+			return startedTasks;
+		}
+	}
+
+	/**
+	 * @param unit
+	 *            the unit of the result
+	 * @return the average time the started tasks of the process waited for a thread
+	 */
+	public long getAverageWaitTime(TimeUnit unit) {
+		synchronized (scheduler) {
+			return startedTasks == 0 ? 0 : unit.convert(totalWaitTime / startedTasks, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * @param unit
+	 *            the unit of the result
+	 * @return the longest time a started task of the process waited for a thread
+	 */
+	public long getMaximalWaitTime(TimeUnit unit) {
+		synchronized (scheduler) {
+			return unit.convert(maximalWaitTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * @param parallelism
+	 *            the parallelism of the pool
+	 * @return the parallelism available to the process
+	 */
+	int limitParallelism(int parallelism) {
+		int limit = maximalParallelism;
+		return limit > 0 ? Math.min(limit, parallelism) : parallelism;
+	}
+
+	/**
+	 * @return the scheduler of the pool
+	 */
+	FairScheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * @return the waiting tasks, must only be accessed while holding the lock of the scheduler
+	 */
+	Deque<FairScheduler.Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * @return whether no further task of the process may be started at the moment
+	 */
+	boolean isAtLimit() {
+		int limit = maximalParallelism;
+		return limit > 0 && running >= limit;
+	}
+
+	/**
+	 * Compares the share of the threads used by this process with the one of the other process relative to their
+	 * priorities. The process with the smaller share should get the next thread.
+	 */
+	int compareShare(ProcessTaskQueue other) {
+		int result = Long.compare((long) running * other.priority, (long) other.running * priority);
+		if (result != 0) {
+			return result;
+		}
+		return Double.compare((double) runTime / priority, (double) other.runTime / other.priority);
+	}
+
+	void taskStarted(long waitTime) {
+		running++;
+		startedTasks++;
+		totalWaitTime += waitTime;
+		maximalWaitTime = Math.max(maximalWaitTime, waitTime);
+	}
+
+	void taskFinished(long taskRunTime) {
+		running--;
+		runTime += taskRunTime;
+	}
+}
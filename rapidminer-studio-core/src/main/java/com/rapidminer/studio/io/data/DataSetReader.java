@@ -34,6 +34,9 @@ import com.rapidminer.example.Attribute;
 import com.rapidminer.example.AttributeTypeException;
 import com.rapidminer.example.Attributes;
 import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.Statistics;
+import com.rapidminer.example.Tools;
+import com.rapidminer.example.set.AbstractExampleSet;
 import com.rapidminer.example.table.AttributeFactory;
 import com.rapidminer.example.table.DataRow;
 import com.rapidminer.example.table.DataRowFactory;
@@ -146,6 +149,42 @@ public class DataSetReader {
 	 */
 	public ExampleSet read(DataSet dataSet, ProgressListener listener)
 			throws UserError, DataSetException, ProcessStoppedException, ParseException {
+		return read(dataSet, listener, false);
+	}
+
+	/**
+	 * Transforms the {@link DataSet} dataSet to an {@link ExampleSet} like {@link #read(DataSet, ProgressListener)}
+	 * for storing it in the repository afterwards. The attribute statistics needed for the header of the stored data
+	 * are counted on the fly, so storing the result needs no further pass over the data. As for
+	 * {@link #read(DataSet, ProgressListener)}, the complete data is held in memory until it is stored.
+	 *
+	 * @param dataSet
+	 *            the data set to transform, will not be closed in this method
+	 * @param listener
+	 *            the progress listener, can be {@code null}
+	 * @return the created example set with precalculated statistics
+	 * @throws UserError
+	 *             if a column specified in the metaData is not found or the column names are not
+	 *             unique
+	 * @throws DataSetException
+	 *             when reading the data set fails
+	 * @throws ProcessStoppedException
+	 *             if the associated process is stopped or the {@link #stop()} method is called
+	 * @throws ParseException
+	 *             if parsing failed and the reading is not done fault tolerant
+	 * @since 9.10.0
+	 */
+	public ExampleSet readForStorage(DataSet dataSet, ProgressListener listener)
+			throws UserError, DataSetException, ProcessStoppedException, ParseException {
+		return read(dataSet, listener, true);
+	}
+
+	/**
+	 * Reads the dataSet into an {@link ExampleSet}, see {@link #readForStorage} for the case that forStorage is
+	 * {@code true}.
+	 */
+	private ExampleSet read(DataSet dataSet, ProgressListener listener, boolean forStorage)
+			throws UserError, DataSetException, ProcessStoppedException, ParseException {
 		isReading = true;
 
 		if (listener != null) {
@@ -163,12 +202,26 @@ public class DataSetReader {
 
 		// building example table
 		ExampleSetBuilder builder = ExampleSets.from(attributes);
-		fillExampleTable(dataSet, listener, attributeColumns, builder, attributes);
+		List<List<Statistics>> statistics = null;
+		if (forStorage) {
+			statistics = Tools.startCountingStatistics(attributes);
+		}
+		fillExampleTable(dataSet, listener, attributeColumns, builder, attributes, statistics);
 
 		// derive ExampleSet from exampleTable and assigning roles
 		ExampleSet exampleSet = builder.build();
 		assignRoles(attributeColumns, exampleSet);
 
+		if (statistics != null && exampleSet instanceof AbstractExampleSet) {
+			AbstractExampleSet abstractExampleSet = (AbstractExampleSet) exampleSet;
+			for (int i = 0; i < attributes.length; i++) {
+				Attribute attribute = exampleSet.getAttributes().get(attributes[i].getName());
+				if (attribute != null) {
+					abstractExampleSet.setAttributeStatistics(attribute, statistics.get(i));
+				}
+			}
+		}
+
 		isReading = false;
 		if (listener != null) {
 			listener.setCompleted(110);
@@ -207,10 +260,11 @@ public class DataSetReader {
 	}
 
 	/**
-	 * Fills the exampleTable with the data from the dataSet.
+	 * Fills the exampleTable with the data from the dataSet. Counts the values into the statistics if they are not
+	 * {@code null}.
 	 */
 	private void fillExampleTable(DataSet dataSet, ProgressListener listener, int[] attributeColumns,
-			ExampleSetBuilder builder, Attribute[] attributes)
+			ExampleSetBuilder builder, Attribute[] attributes, List<List<Statistics>> statistics)
 			throws DataSetException, ProcessStoppedException, ParseException {
 
 		dataSet.reset();
@@ -239,23 +293,30 @@ public class DataSetReader {
 			DataRow row = factory.create(attributes.length);
 			int attributeIndex = 0;
 			for (Attribute attribute : attributes) {
+				double value;
 				// check for missing
 				if (currentRow.isMissing(attributeColumns[attributeIndex])) {
-					row.set(attribute, Double.NaN);
+					value = Double.NaN;
 				} else {
 					switch (attribute.getValueType()) {
 						case Ontology.INTEGER:
 						case Ontology.NUMERICAL:
 						case Ontology.REAL:
-							row.set(attribute, getNumber(currentRow, attributeColumns[attributeIndex]));
+							value = getNumber(currentRow, attributeColumns[attributeIndex]);
 							break;
 						case Ontology.DATE_TIME:
 						case Ontology.TIME:
 						case Ontology.DATE:
-							row.set(attribute, getDate(currentRow, attributeColumns[attributeIndex]));
+							value = getDate(currentRow, attributeColumns[attributeIndex]);
 							break;
 						default:
-							row.set(attribute, getStringIndex(attribute, currentRow, attributeColumns[attributeIndex]));
+							value = getStringIndex(attribute, currentRow, attributeColumns[attributeIndex]);
+					}
+				}
+				row.set(attribute, value);
+				if (statistics != null) {
+					for (Statistics attributeStatistics : statistics.get(attributeIndex)) {
+						attributeStatistics.count(value, 1);
 					}
 				}
 				attributeIndex++;
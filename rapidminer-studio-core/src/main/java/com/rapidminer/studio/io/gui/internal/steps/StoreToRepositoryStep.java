@@ -108,7 +108,7 @@ public final class StoreToRepositoryStep extends AbstractToRepositoryStep<Reposi
 
 				ExampleSet exampleSet;
 				try {
-					exampleSet = importer.read(dataSource.getData(), getProgressListener());
+					exampleSet = importer.readForStorage(dataSource.getData(), getProgressListener());
 				} catch (ParseException e) {
 					Integer columnIndex = e.getColumnIndex();
 					String columnName = null;
@@ -19,7 +19,6 @@
 package com.rapidminer.tools.math.matrix;
 
 import com.rapidminer.example.Attribute;
-import com.rapidminer.example.Example;
 import com.rapidminer.example.ExampleSet;
 import com.rapidminer.operator.Operator;
 import com.rapidminer.operator.ProcessStoppedException;
@@ -66,13 +65,14 @@ public class CovarianceMatrix {
 	 */
 	public static Matrix getCovarianceMatrix(ExampleSet exampleSet, Operator op) throws ProcessStoppedException {
 		boolean checkForStop = op != null;
-		double[][] data = new double[exampleSet.size()][exampleSet.getAttributes().size()];
+		int size = exampleSet.size();
+		double[][] data = new double[size][exampleSet.getAttributes().size()];
+		double[] column = new double[size];
 		int c = 0;
 		for (Attribute attribute : exampleSet.getAttributes()) {
-			int r = 0;
-			for (Example example : exampleSet) {
-				data[r][c] = example.getValue(attribute);
-				r++;
+			exampleSet.readColumn(attribute, 0, column);
+			for (int r = 0; r < size; r++) {
+				data[r][c] = column[r];
 			}
 			c++;
 
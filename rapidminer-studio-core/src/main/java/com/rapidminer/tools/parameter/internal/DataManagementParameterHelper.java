@@ -50,7 +50,8 @@ public final class DataManagementParameterHelper {
 	/**
 	 * the options for {@link #PARAMETER_NEW_DATA_MANAGEMENT} coming from {@link DataManagement}
 	 */
-	public static final String[] NEW_DATA_MANAGMENT_OPTIONS = new String[] { "auto", "memory-optimized", "speed-optimized" };
+	public static final String[] NEW_DATA_MANAGMENT_OPTIONS = new String[] { "auto", "memory-optimized", "speed-optimized",
+			"off-heap" };
 
 	/**
 	 * Mapping from displayed data management options to {@link DataManagement} options. Must always
@@ -62,6 +63,7 @@ public final class DataManagementParameterHelper {
 		DATA_MANAGEMENT_LOOKUP.put(NEW_DATA_MANAGMENT_OPTIONS[0], DataManagement.AUTO);
 		DATA_MANAGEMENT_LOOKUP.put(NEW_DATA_MANAGMENT_OPTIONS[1], DataManagement.MEMORY_OPTIMIZED);
 		DATA_MANAGEMENT_LOOKUP.put(NEW_DATA_MANAGMENT_OPTIONS[2], DataManagement.SPEED_OPTIMIZED);
+		DATA_MANAGEMENT_LOOKUP.put(NEW_DATA_MANAGMENT_OPTIONS[3], DataManagement.OFF_HEAP);
 	}
 
 	/**
@@ -93,7 +95,7 @@ public final class DataManagementParameterHelper {
 		});
 		types.add(standard);
 		ParameterType beta = new ParameterTypeCategory(PARAMETER_NEW_DATA_MANAGEMENT,
-				"The data management optimization to use. Determines, how the data is represented internally. The auto option (default) only compresses data if it is very sparse and otherwise optimizes for speed. Choose speed-optimized if you have enough memory and want to speed up your process. Choose memory-optimized if you have a lot of sparse data that has trouble fitting into memory with auto mode.",
+				"The data management optimization to use. Determines, how the data is represented internally. The auto option (default) only compresses data if it is very sparse and otherwise optimizes for speed. Choose speed-optimized if you have enough memory and want to speed up your process. Choose memory-optimized if you have a lot of sparse data that has trouble fitting into memory with auto mode. Choose off-heap to store the data in memory-mapped temporary files outside of the Java heap if it is too big for the available memory.",
 				NEW_DATA_MANAGMENT_OPTIONS, 0, true);
 		beta.registerDependencyCondition(new ParameterCondition(operator, false) {
 
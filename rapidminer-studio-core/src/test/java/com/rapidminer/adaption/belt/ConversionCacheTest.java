@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.adaption.belt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.Process;
+import com.rapidminer.TestUtils;
+import com.rapidminer.belt.reader.NumericReader;
+import com.rapidminer.belt.reader.Readers;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.AttributeWeights;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.example.set.AttributeWeightedExampleSet;
+import com.rapidminer.operator.ports.Port;
+
+
+/**
+ * Tests the reuse of converted tables by the {@link AtPortConverter} via the {@link ConversionCache}.
+ *
+ * @author agent
+ */
+public class ConversionCacheTest {
+
+	private Port port;
+
+	@BeforeClass
+	public static void setupProcessUsage() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+	}
+
+	@Before
+	public void setupPort() {
+		port = createPort(new Process());
+	}
+
+	@Test
+	public void sameExampleSetIsShared() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		exampleSet.getAnnotations().setAnnotation("key", "value");
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		ConversionCache cache = ConversionCache.of(port.getPorts().getOwner().getOperator());
+		long shared = cache.getSharedBytes();
+		IOTable second = (IOTable) AtPortConverter.convert(exampleSet, port);
+
+		assertNotSame(first, second);
+		assertSame(first.getTable(), second.getTable());
+		assertEquals("value", second.getAnnotations().getAnnotation("key"));
+		assertEquals(shared + ConversionCache.estimateBytes(exampleSet), cache.getSharedBytes());
+	}
+
+	@Test
+	public void cloneIsShared() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		IOTable second = (IOTable) AtPortConverter.convert((ExampleSet) exampleSet.clone(), port);
+
+		assertSame(first.getTable(), second.getTable());
+	}
+
+	@Test
+	public void changedDataIsCopied() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		Attribute attribute = exampleSet.getAttributes().get("att1");
+		exampleSet.getExample(1).setValue(attribute, 42);
+		IOTable second = (IOTable) AtPortConverter.convert(exampleSet, port);
+
+		assertNotSame(first.getTable(), second.getTable());
+		NumericReader reader = Readers.numericReader(second.getTable().column("att1"));
+		reader.setPosition(0);
+		assertEquals(42, reader.read(), 0);
+	}
+
+	@Test
+	public void changedAttributesAreCopied() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		ExampleSet clone = (ExampleSet) exampleSet.clone();
+		clone.getAttributes().remove(clone.getAttributes().get("att2"));
+		IOTable second = (IOTable) AtPortConverter.convert(clone, port);
+
+		assertNotSame(first.getTable(), second.getTable());
+		assertEquals(1, second.getTable().width());
+	}
+
+	@Test
+	public void changedTransformationIsCopied() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		AttributeWeights weights = new AttributeWeights();
+		weights.setWeight("att1", 2);
+		weights.setWeight("att2", 1);
+		IOTable second = (IOTable) AtPortConverter.convert(new AttributeWeightedExampleSet(exampleSet, weights), port);
+
+		assertNotSame(first.getTable(), second.getTable());
+	}
+
+	@Test
+	public void processesDoNotShare() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, port);
+		IOTable second = (IOTable) AtPortConverter.convert(exampleSet, createPort(new Process()));
+
+		assertNotSame(first.getTable(), second.getTable());
+	}
+
+	@Test
+	public void noCachingWithoutProcess() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[][] { { 0, 1 }, { 2, 3 }, { 4, 5 } });
+		IOTable first = (IOTable) AtPortConverter.convert(exampleSet, null);
+		IOTable second = (IOTable) AtPortConverter.convert(exampleSet, null);
+
+		assertNotSame(first.getTable(), second.getTable());
+		assertNull(ConversionCache.of(null));
+	}
+
+	private static Port createPort(Process process) {
+		return process.getRootOperator().getSubprocess(0).getInnerSources().createPort("test");
+	}
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.example.Statistics;
+
+
+/**
+ * Tests that the attribute statistics calculated by {@link AbstractExampleSet} are reused only as
+ * long as the data does not change.
+ *
+ * @author agent
+ */
+public class AttributeStatisticsTest {
+
+	@Test
+	public void changedValueTest() {
+		ExampleSet es = ExampleSetFactory.createExampleSet(new double[][] { { 1 }, { 2 }, { 3 } });
+		Attribute att = es.getAttributes().get("att1");
+		es.recalculateAllAttributeStatistics();
+		assertEquals(3, es.getStatistics(att, Statistics.MAXIMUM), 0);
+
+		es.getExample(1).setValue(att, 7);
+		es.recalculateAllAttributeStatistics();
+		assertEquals(7, es.getStatistics(att, Statistics.MAXIMUM), 0);
+	}
+
+	@Test
+	public void repeatedlyChangedValueTest() {
+		ExampleSet es = ExampleSetFactory.createExampleSet(new double[][] { { 1 }, { 2 }, { 3 } });
+		Attribute att = es.getAttributes().get("att1");
+		for (int value = 4; value < 7; value++) {
+			es.getExample(0).setValue(att, value);
+			es.getExample(2).setValue(att, value);
+			es.recalculateAllAttributeStatistics();
+			assertEquals(value, es.getStatistics(att, Statistics.MAXIMUM), 0);
+		}
+	}
+
+	@Test
+	public void changedNominalMappingTest() {
+		ExampleSet es = ExampleSetFactory.createExampleSet(new Object[][] { { "a" }, { "a" }, { "b" } });
+		Attribute att = es.getAttributes().get("att1");
+		es.recalculateAllAttributeStatistics();
+		assertEquals(1, es.getStatistics(att, Statistics.LEAST), 0);
+
+		// the new value does not occur, but is part of the statistics
+		att.getMapping().mapString("c");
+		es.recalculateAllAttributeStatistics();
+		assertEquals(2, es.getStatistics(att, Statistics.LEAST), 0);
+	}
+
+	@Test
+	public void changedSelectionTest() {
+		ExampleSet es = ExampleSetFactory.createExampleSet(new double[][] { { 1 }, { 2 }, { 3 }, { 4 } });
+		SplittedExampleSet splitted = new SplittedExampleSet(es, new Partition(new int[] { 0, 0, 1, 1 }, 2));
+		Attribute att = splitted.getAttributes().get("att1");
+
+		splitted.selectSingleSubset(0);
+		splitted.recalculateAllAttributeStatistics();
+		assertEquals(1.5, splitted.getStatistics(att, Statistics.AVERAGE), 0);
+
+		// same size, but different rows
+		splitted.selectSingleSubset(1);
+		splitted.recalculateAllAttributeStatistics();
+		assertEquals(3.5, splitted.getStatistics(att, Statistics.AVERAGE), 0);
+	}
+
+	@Test
+	public void unchangedDataTest() {
+		ExampleSet es = ExampleSetFactory.createExampleSet(new double[][] { { 1 }, { 2 }, { 3 } });
+		Attribute att = es.getAttributes().get("att1");
+		es.recalculateAllAttributeStatistics();
+
+		// the counts of the attribute are reset, but the unchanged data is not scanned again
+		att.getAllStatistics().forEachRemaining(statistics -> statistics.startCounting(att));
+		es.recalculateAllAttributeStatistics();
+		assertEquals(2, es.getStatistics(att, Statistics.AVERAGE), 0);
+		assertEquals(Double.NaN, att.getStatistics(Statistics.AVERAGE), 0);
+	}
+
+}
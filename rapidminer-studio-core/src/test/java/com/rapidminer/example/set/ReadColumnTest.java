@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+
+
+/**
+ * Tests the bulk reading via {@link ExampleSet#readColumn} against reading example by example.
+ *
+ * @author agent
+ */
+public class ReadColumnTest {
+
+	private final ExampleSet es = ExampleSetFactory
+			.createExampleSet(new double[][] { { 0 }, { 1 }, { 2 }, { Double.NaN }, { 4 }, { 5 } });
+
+	@Test
+	public void simpleTest() {
+		assertReadEqual(es);
+	}
+
+	@Test
+	public void mappedTest() {
+		assertReadEqual(new MappedExampleSet(es, new int[] { 4, 1, 1, 3, 5 }));
+	}
+
+	@Test
+	public void splittedTest() {
+		SplittedExampleSet splitted = new SplittedExampleSet(es, new Partition(new int[] { 1, 0, 0, 1, 0, 1 }, 2));
+		splitted.selectSingleSubset(1);
+		assertReadEqual(splitted);
+	}
+
+	@Test
+	public void nestedTest() {
+		SplittedExampleSet splitted = new SplittedExampleSet(new MappedExampleSet(es, new int[] { 0, 2, 3, 3, 5 }),
+				new Partition(new int[] { 1, 0, 0, 1, 1 }, 2));
+		splitted.selectSingleSubset(1);
+		assertReadEqual(splitted);
+	}
+
+	@Test
+	public void offsetAndGatherTest() {
+		Attribute att = es.getAttributes().get("att1");
+		double[] target = new double[4];
+		es.readColumn(att, 4, target, 2, 2);
+		assertArrayEquals(new double[] { 0, 0, 4, 5 }, target, 0);
+
+		new MappedExampleSet(es, new int[] { 1, 2, 4 }).readColumn(att, new int[] { 2, 0 }, target);
+		assertArrayEquals(new double[] { 4, 1, 4, 5 }, target, 0);
+	}
+
+	@Test
+	public void multipleChunksTest() {
+		int size = 5 * ParentColumnReader.CHUNK_SIZE / 2;
+		double[][] data = new double[size][1];
+		for (int i = 0; i < size; i++) {
+			data[i][0] = i;
+		}
+		ExampleSet large = ExampleSetFactory.createExampleSet(data);
+		int[] mapping = new int[size - 3];
+		for (int i = 0; i < mapping.length; i++) {
+			mapping[i] = size - 1 - i;
+		}
+		int[] reversed = new int[mapping.length];
+		for (int i = 0; i < reversed.length; i++) {
+			reversed[i] = reversed.length - 1 - i;
+		}
+		assertReadEqual(new MappedExampleSet(new MappedExampleSet(large, mapping), reversed));
+
+		Attribute att = large.getAttributes().get("att1");
+		double[] target = new double[size];
+		new MappedExampleSet(large, mapping).readColumn(att, 1, target, 2, size - 4);
+		assertEquals(0, target[1], 0);
+		for (int i = 2; i < size - 2; i++) {
+			assertEquals(size - i, target[i], 0);
+		}
+	}
+
+	private static void assertReadEqual(ExampleSet exampleSet) {
+		Attribute att = exampleSet.getAttributes().get("att1");
+		double[] values = new double[exampleSet.size() + 3];
+		int read = exampleSet.readColumn(att, 1, values);
+		assertEquals(exampleSet.size() - 1, read);
+		for (int i = 0; i < read; i++) {
+			assertEquals(exampleSet.getExample(i + 1).getValue(att), values[i], 0);
+		}
+	}
+
+}
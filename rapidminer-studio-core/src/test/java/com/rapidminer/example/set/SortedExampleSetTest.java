@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.example.table.AttributeFactory;
+import com.rapidminer.example.utils.ExampleSets;
+import com.rapidminer.operator.ProcessStoppedException;
+import com.rapidminer.tools.Ontology;
+
+
+/**
+ * Tests the sorting of the {@link SortedExampleSet}.
+ *
+ * @author agent
+ */
+public class SortedExampleSetTest {
+
+	private final ExampleSet es = ExampleSetFactory.createExampleSet(
+			new double[][] { { 3, 1 }, { Double.NaN, 0 }, { 1, 1 }, { 3, 0 }, { 1, 1 }, { 2, 0 } });
+
+	@Test
+	public void singleAttributeTest() {
+		Attribute att = es.getAttributes().get("att1");
+		assertOrder(new int[] { 2, 4, 5, 0, 3, 1 }, new SortedExampleSet(es, att, SortedExampleSet.INCREASING));
+		assertOrder(new int[] { 1, 0, 3, 5, 2, 4 }, new SortedExampleSet(es, att, SortedExampleSet.DECREASING));
+	}
+
+	@Test
+	public void multipleAttributesTest() throws ProcessStoppedException {
+		Attribute first = es.getAttributes().get("att1");
+		Attribute second = es.getAttributes().get("att2");
+		SortedExampleSet sorted = new SortedExampleSet(es, Arrays.asList(first, second),
+				new int[] { SortedExampleSet.DECREASING, SortedExampleSet.INCREASING }, null, null);
+		assertOrder(new int[] { 1, 3, 0, 5, 2, 4 }, sorted);
+	}
+
+	@Test
+	public void missingDateTest() {
+		Attribute date = AttributeFactory.createAttribute("date", Ontology.DATE_TIME);
+		ExampleSet dates = ExampleSets.from(Collections.singletonList(date)).addRow(new double[] { 1000 })
+				.addRow(new double[] { Double.NaN }).addRow(new double[] { -5000 }).addRow(new double[] { 500 }).build();
+		// missing dates are sorted like missing numbers and not as the epoch
+		assertOrder(new int[] { 2, 3, 0, 1 }, new SortedExampleSet(dates, date, SortedExampleSet.INCREASING));
+	}
+
+	private static void assertOrder(int[] expectedRows, SortedExampleSet sorted) {
+		assertArrayEquals(expectedRows, sorted.getMappingCopy());
+	}
+
+}
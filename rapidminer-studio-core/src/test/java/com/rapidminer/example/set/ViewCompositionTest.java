@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.Example;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+
+
+/**
+ * Tests the composition of example set views by {@link ViewComposition}.
+ *
+ * @author agent
+ */
+public class ViewCompositionTest {
+
+	private final ExampleSet es = ExampleSetFactory
+			.createExampleSet(new double[][] { { 0, 10 }, { 1, 11 }, { 2, 12 }, { 3, 13 }, { 4, 14 }, { 5, 15 } });
+
+	@Test
+	public void mappedOverMapped() {
+		MappedExampleSet outer = new MappedExampleSet(es, new int[] { 1, 2, 4, 5 });
+		MappedExampleSet inner = new MappedExampleSet(outer, new int[] { 0, 2, 3 });
+
+		assertSame(SimpleExampleSet.class, inner.getParent().getClass());
+		assertValues(inner, 1, 4, 5);
+	}
+
+	@Test
+	public void sortedOverMapped() {
+		MappedExampleSet outer = new MappedExampleSet(es, new int[] { 1, 2, 4, 5 });
+		SortedExampleSet sorted = new SortedExampleSet(outer, new int[] { 3, 0, 2, 1 });
+
+		assertSame(SimpleExampleSet.class, sorted.getParent().getClass());
+		assertValues(sorted, 5, 1, 4, 2);
+	}
+
+	@Test
+	public void mappedOverSortedIsNotComposed() {
+		SortedExampleSet sorted = new SortedExampleSet(es, new int[] { 5, 4, 3, 2, 1, 0 });
+		MappedExampleSet mapped = new MappedExampleSet(sorted, new int[] { 0, 1 });
+
+		assertSame(SortedExampleSet.class, mapped.getParent().getClass());
+		assertValues(mapped, 5, 4);
+	}
+
+	@Test
+	public void attributeSelectionOverAttributeSelection() {
+		AttributeSelectionExampleSet outer = new AttributeSelectionExampleSet(es, new boolean[] { true, true });
+		AttributeSelectionExampleSet inner = new AttributeSelectionExampleSet(outer, new boolean[] { true, false });
+
+		assertSame(SimpleExampleSet.class, inner.getParent().getClass());
+		assertEquals(1, inner.getAttributes().size());
+		assertEquals(2, outer.getAttributes().size());
+		assertValues(inner, 0, 1, 2, 3, 4, 5);
+	}
+
+	@Test
+	public void shortChainIsNotMaterialized() {
+		MappedExampleSet mapped = new MappedExampleSet(es, new int[] { 1, 2 });
+		for (int pass = 0; pass < 5; pass++) {
+			assertValues(mapped, 1, 2);
+		}
+		assertSame(mapped, ViewComposition.materializeIfCheaper(mapped));
+	}
+
+	@Test
+	public void iteratedDeepChainIsMaterialized() {
+		ExampleSet chain = es;
+		for (int i = 0; i < 4; i++) {
+			SplittedExampleSet splitted = new SplittedExampleSet(chain, new Partition(new int[chain.size()], 1));
+			splitted.selectSingleSubset(0);
+			chain = splitted;
+		}
+		Attribute attribute = chain.getAttributes().get("att1");
+		// random access is not counted
+		assertValues(chain, 0, 1, 2, 3, 4, 5);
+		assertSame(chain, ViewComposition.materializeIfCheaper(chain));
+
+		for (int pass = 0; pass < 2; pass++) {
+			double sum = 0;
+			for (Example example : chain) {
+				sum += example.getValue(attribute);
+			}
+			assertEquals(15, sum, 0);
+		}
+		ExampleSet materialized = ViewComposition.materializeIfCheaper(chain);
+		assertNotSame(chain, materialized);
+		assertValues(materialized, 0, 1, 2, 3, 4, 5);
+	}
+
+	private static void assertValues(ExampleSet exampleSet, double... expected) {
+		Attribute attribute = exampleSet.getAttributes().get("att1");
+		assertEquals(expected.length, exampleSet.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], exampleSet.getExample(i).getValue(attribute), 0);
+		}
+	}
+
+}
@@ -19,6 +19,9 @@
 package com.rapidminer.example.table.internal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.IntFunction;
 
 import org.junit.Test;
 
@@ -1266,4 +1269,169 @@ public class AutoColumnTest {
 		assertEquals(size - 1, column.get(size - 1), 0);
 	}
 
+	@Test
+	public void doubleAutoColumnRunLengthEncoded() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column column = new DoubleAutoColumn(size, DataManagement.MEMORY_OPTIMIZED);
+		for (int i = 0; i < size; i++) {
+			column.setLast(i, i / 100);
+		}
+		column.complete();
+		assertTrue(column.estimateMemoryUsage(size) < size * Double.BYTES / 10);
+		double[] values = new double[size];
+		column.get(0, values, 0, size);
+		for (int i = 0; i < size; i++) {
+			assertEquals(i / 100, column.get(i), 0);
+			assertEquals(i / 100, values[i], 0);
+		}
+	}
+
+	@Test
+	public void doubleAutoColumnDictionaryEncoded() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column column = new DoubleAutoColumn(size, DataManagement.MEMORY_OPTIMIZED);
+		for (int i = 0; i < size; i++) {
+			column.setLast(i, i % 7 == 0 ? Double.NaN : i % 5 + 0.1);
+		}
+		column.complete();
+		assertTrue(column.estimateMemoryUsage(size) < size * Double.BYTES / 10);
+		for (int i = 0; i < size; i++) {
+			assertEquals(i % 7 == 0 ? Double.NaN : i % 5 + 0.1, column.get(i), 0);
+		}
+	}
+
+	@Test
+	public void doubleAutoColumnFloatEncoded() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column column = new DoubleAutoColumn(size, DataManagement.MEMORY_OPTIMIZED);
+		for (int i = 0; i < size; i++) {
+			column.setLast(i, i * 0.5f);
+		}
+		column.complete();
+		assertEquals(size * Float.BYTES, column.estimateMemoryUsage(size));
+		for (int i = 0; i < size; i++) {
+			assertEquals(i * 0.5f, column.get(i), 0);
+		}
+	}
+
+	@Test
+	public void integerAutoColumnDictionaryEncoded() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column column = new IntegerAutoColumn(size, DataManagement.MEMORY_OPTIMIZED);
+		for (int i = 0; i < size; i++) {
+			column.setLast(i, i % 7 == 0 ? Double.NaN : i % 3);
+		}
+		column.complete();
+		assertTrue(column.estimateMemoryUsage(size) < size * Integer.BYTES / 10);
+		for (int i = 0; i < size; i++) {
+			assertEquals(i % 7 == 0 ? Double.NaN : i % 3, column.get(i), 0);
+		}
+	}
+
+	@Test
+	public void encodedColumnSetAndEnsure() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column column = new DoubleAutoColumn(size, DataManagement.MEMORY_OPTIMIZED);
+		for (int i = 0; i < size; i++) {
+			column.setLast(i, i % 3);
+		}
+		column.complete();
+		// known value keeps the encoding, new value changes back to dense
+		column.set(0, 1);
+		column.set(1, 0.5);
+		column.ensure(size + 1);
+		column.setLast(size, 3);
+		assertEquals(size * Double.BYTES + Double.BYTES, column.estimateMemoryUsage(size + 1));
+		assertEquals(1, column.get(0), 0);
+		assertEquals(0.5, column.get(1), 0);
+		assertEquals(2, column.get(2), 0);
+		assertEquals((size - 1) % 3, column.get(size - 1), 0);
+		assertEquals(3, column.get(size), 0);
+	}
+
+	@Test
+	public void autoColumnNotEncoded() {
+		int size = AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE * 10;
+		Column doubleColumn = new DoubleAutoColumn(size, DataManagement.AUTO);
+		Column integerColumn = new IntegerAutoColumn(size, DataManagement.AUTO);
+		for (int i = 0; i < size; i++) {
+			doubleColumn.setLast(i, i / 100);
+			integerColumn.setLast(i, i / 100);
+		}
+		doubleColumn.complete();
+		integerColumn.complete();
+		assertEquals((long) size * Double.BYTES, doubleColumn.estimateMemoryUsage(size));
+		assertEquals((long) size * Integer.BYTES, integerColumn.estimateMemoryUsage(size));
+	}
+
+	@Test
+	public void dictionaryWithManyValues() {
+		ValueDictionary dictionary = new ValueDictionary(1000);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, dictionary.add(i * 31L));
+		}
+		assertEquals(-1, dictionary.add(-1));
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, dictionary.add(i * 31L));
+			assertEquals(i * 31L, dictionary.key(i));
+		}
+		assertEquals(1000, dictionary.size());
+	}
+
+	@Test
+	public void bulkSetLastDense() {
+		double[] values = new double[AutoColumnUtils.CHUNK_SIZE + AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE + 17];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i % 7 == 0 ? Double.NaN : i;
+		}
+		assertBulkSetLast(size -> new DoubleAutoColumn(size, DataManagement.AUTO), values);
+		assertBulkSetLast(size -> new IntegerAutoColumn(size, DataManagement.AUTO), values);
+		assertBulkSetLast(size -> new IntegerAutoColumn(size, DataManagement.MEMORY_OPTIMIZED), values);
+		assertBulkSetLast(IntegerArrayColumn::new, values);
+		assertBulkSetLast(DoubleArrayColumn::new, values);
+	}
+
+	@Test
+	public void bulkSetLastSparse() {
+		double[] values = new double[AutoColumnUtils.CHUNK_SIZE + AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE + 17];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i % 50 == 0 ? i : i % 51 == 0 ? Double.NaN : 3;
+		}
+		assertBulkSetLast(size -> new DoubleAutoColumn(size, DataManagement.AUTO), values);
+		assertBulkSetLast(size -> new DoubleAutoColumn(size, DataManagement.MEMORY_OPTIMIZED), values);
+		assertBulkSetLast(size -> new IntegerAutoColumn(size, DataManagement.AUTO), values);
+		assertBulkSetLast(size -> new IntegerAutoColumn(size, DataManagement.MEMORY_OPTIMIZED), values);
+	}
+
+	/**
+	 * Checks that setting the values in bulks of different lengths, as double and as integer
+	 * values, results in the same column as setting them one by one.
+	 */
+	private static void assertBulkSetLast(IntFunction<Column> factory, double[] values) {
+		int[] integers = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			integers[i] = Double.isNaN(values[i]) ? ColumnarExampleTable.MISSING_INTEGER : (int) values[i];
+		}
+		Column expected = factory.apply(values.length);
+		for (int i = 0; i < values.length; i++) {
+			expected.setLast(i, values[i]);
+		}
+		expected.complete();
+		for (int bulk : new int[] { 1, 1000, AutoColumnUtils.THRESHOLD_CHECK_FOR_SPARSE, values.length }) {
+			Column doubles = factory.apply(values.length);
+			Column ints = factory.apply(values.length);
+			for (int row = 0; row < values.length; row += bulk) {
+				int length = Math.min(bulk, values.length - row);
+				doubles.setLast(row, values, row, length);
+				ints.setLast(row, integers, row, length);
+			}
+			doubles.complete();
+			ints.complete();
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(expected.get(i), doubles.get(i), 0);
+				assertEquals(expected.get(i), ints.get(i), 0);
+			}
+		}
+	}
+
 }
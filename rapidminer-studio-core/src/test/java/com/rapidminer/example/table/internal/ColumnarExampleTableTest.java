@@ -19,10 +19,13 @@
 package com.rapidminer.example.table.internal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -33,6 +36,7 @@ import com.rapidminer.example.table.ExampleTable;
 import com.rapidminer.example.table.IntArrayDataRow;
 import com.rapidminer.example.test.ExampleTestTools;
 import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+import com.rapidminer.operator.WrapperOperatorRuntimeException;
 import com.rapidminer.tools.Ontology;
 
 
@@ -329,4 +333,136 @@ public class ColumnarExampleTableTest {
 		assertEquals(true, Double.isNaN(table.getDataRow(10).get(attribute)));
 	}
 
+	@Test
+	public void offHeapColumnsTest() {
+		Attribute attribute1 = ExampleTestTools.attributeInt();
+		Attribute attribute2 = ExampleTestTools.attributeDogCatMouse();
+		Attribute attribute3 = ExampleTestTools.attributeReal();
+
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute1, attribute2),
+				DataManagement.OFF_HEAP, true);
+		table.setExpectedSize(10);
+		table.addRow(new double[] { 1, attribute2.getMapping().getIndex("cat") });
+		table.addRow(new double[] { 7, Double.NaN });
+		table.addBlankRows(8);
+		table.addAttribute(attribute3);
+		table.fillColumn(attribute3, i -> 0.5 * i);
+		table.complete();
+		table.getDataRow(9).set(attribute1, 42);
+
+		assertEquals(DataManagement.OFF_HEAP, table.getDataManagement());
+		assertEquals(10, table.size());
+		assertEquals(1, table.getDataRow(0).get(attribute1), 0);
+		assertEquals(7, table.getDataRow(1).get(attribute1), 0);
+		assertEquals(42, table.getDataRow(9).get(attribute1), 0);
+		assertEquals(0, table.getDataRow(5).get(attribute1), 0);
+		assertEquals("cat", attribute2.getMapping().mapIndex((int) table.getDataRow(0).get(attribute2)));
+		assertEquals(true, Double.isNaN(table.getDataRow(1).get(attribute2)));
+		assertEquals(4.5, table.getDataRow(9).get(attribute3), 0);
+	}
+
+	@Test
+	public void pagedColumnTest() {
+		Attribute attribute1 = ExampleTestTools.attributeInt();
+		Attribute attribute2 = ExampleTestTools.attributeReal();
+		int rows = 3 * PagedColumn.PAGE_SIZE + 5;
+		AtomicInteger reads = new AtomicInteger();
+		PageSource source = (fromRow, target, length) -> {
+			reads.incrementAndGet();
+			for (int i = 0; i < length; i++) {
+				target[i] = 0.5 * (fromRow + i);
+			}
+		};
+
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute1, attribute2),
+				DataManagement.AUTO, true);
+		table.pageColumn(attribute2, source, rows);
+		table.addBlankRows(rows);
+		table.fillColumn(attribute1, i -> i);
+		table.complete();
+
+		assertEquals(0, reads.get());
+		assertEquals(0.5 * (rows - 1), table.getDataRow(rows - 1).get(attribute2), 0);
+		assertEquals(1, reads.get());
+		assertEquals(0.5 * (rows - 2), table.getDataRow(rows - 2).get(attribute2), 0);
+		double[] values = new double[PagedColumn.PAGE_SIZE + 2];
+		table.readColumn(attribute2, PagedColumn.PAGE_SIZE - 1, values, 0, values.length);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(0.5 * (PagedColumn.PAGE_SIZE - 1 + i), values[i], 0);
+		}
+		assertEquals(4, reads.get());
+	}
+
+	@Test
+	public void pagedColumnWriteTest() {
+		Attribute attribute = ExampleTestTools.attributeReal();
+		int rows = 2 * PagedColumn.PAGE_SIZE;
+		PageSource source = (fromRow, target, length) -> Arrays.fill(target, 0, length, 1);
+
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute), DataManagement.AUTO, true);
+		table.pageColumn(attribute, source, rows);
+		table.addBlankRows(rows);
+		table.complete();
+		assertEquals(1, table.getDataRow(3).get(attribute), 0);
+		assertEquals(0, table.estimateMemoryUsage());
+
+		table.getDataRow(7).set(attribute, 42);
+		table.addRow(new double[]{5});
+
+		assertEquals(rows + 1, table.size());
+		assertEquals(true, table.estimateMemoryUsage() > 0);
+		assertEquals(42, table.getDataRow(7).get(attribute), 0);
+		assertEquals(1, table.getDataRow(rows - 1).get(attribute), 0);
+		assertEquals(5, table.getDataRow(rows).get(attribute), 0);
+	}
+
+	@Test
+	public void pagedColumnReleaseTest() {
+		Attribute attribute = ExampleTestTools.attributeReal();
+		int rows = 2 * PagedColumn.PAGE_SIZE;
+		AtomicInteger releases = new AtomicInteger();
+		PageSource source = new PageSource() {
+
+			@Override
+			public void read(int fromRow, double[] target, int length) {
+				Arrays.fill(target, 0, length, 1);
+			}
+
+			@Override
+			public void release() {
+				releases.incrementAndGet();
+			}
+		};
+
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute), DataManagement.AUTO, true);
+		table.pageColumn(attribute, source, rows);
+		table.addBlankRows(rows);
+		table.complete();
+		assertEquals(1, table.getDataRow(3).get(attribute), 0);
+		assertEquals(1, table.getDataRow(rows - 1).get(attribute), 0);
+		assertTrue(PageCache.INSTANCE.size() >= 2L * PagedColumn.PAGE_SIZE * Double.BYTES);
+		assertEquals(0, releases.get());
+
+		long cached = PageCache.INSTANCE.size();
+		table.getDataRow(0).set(attribute, 2);
+		// the pages are dropped and the source released as soon as the column is materialized
+		assertEquals(cached - 2L * PagedColumn.PAGE_SIZE * Double.BYTES, PageCache.INSTANCE.size());
+		assertTrue(releases.get() >= 1);
+		assertEquals(2, table.getDataRow(0).get(attribute), 0);
+	}
+
+	@Test(expected = WrapperOperatorRuntimeException.class)
+	public void pagedColumnReadFailureTest() {
+		Attribute attribute = ExampleTestTools.attributeReal();
+		PageSource source = (fromRow, target, length) -> {
+			throw new IOException("gone");
+		};
+
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute), DataManagement.AUTO, true);
+		table.pageColumn(attribute, source, 10);
+		table.addBlankRows(10);
+		table.complete();
+		table.getDataRow(3).get(attribute);
+	}
+
 }
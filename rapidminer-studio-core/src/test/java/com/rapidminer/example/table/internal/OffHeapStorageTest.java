@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.example.table.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.Attributes;
+import com.rapidminer.example.SimpleAttributes;
+import com.rapidminer.example.test.ExampleTestTools;
+import com.rapidminer.example.utils.ExampleSetBuilder.DataManagement;
+
+
+/**
+ * Tests for the {@link OffHeapStorage}.
+ *
+ * @author agent
+ * @since 9.10.0
+ */
+public class OffHeapStorageTest {
+
+	@Test
+	public void smallStorageGrowsGeometrically() throws IOException {
+		OffHeapStorage storage = new OffHeapStorage(this);
+		storage.ensure(100);
+		assertEquals(1 << 16, storage.capacity());
+		assertTrue(Files.size(storage.getFile()) <= 1 << 16);
+
+		storage.putDouble(8, 42);
+		storage.ensure((1 << 16) + 1);
+		assertEquals(1 << 17, storage.capacity());
+		assertEquals(42, storage.getDouble(8), 0);
+
+		storage.putInt((1 << 17) - Integer.BYTES, 7);
+		assertEquals(7, storage.getInt((1 << 17) - Integer.BYTES));
+		storage.release();
+	}
+
+	@Test
+	public void fileDeletedWhenLastHolderReleases() {
+		OffHeapStorage storage = new OffHeapStorage(this);
+		storage.ensure(100);
+		storage.retain();
+
+		storage.release();
+		assertTrue(Files.exists(storage.getFile()));
+		storage.release();
+		assertFalse(Files.exists(storage.getFile()));
+	}
+
+	@Test
+	public void cleanupCloneKeepsSharedColumn() {
+		Attribute attribute1 = ExampleTestTools.attributeReal();
+		Attribute attribute2 = ExampleTestTools.attributeReal();
+		ColumnarExampleTable table = new ColumnarExampleTable(Arrays.asList(attribute1, attribute2),
+				DataManagement.OFF_HEAP, false);
+		table.addRow(new double[] { 1, 2 });
+
+		Attributes attributes = new SimpleAttributes();
+		attributes.addRegular(attribute1);
+		ColumnarExampleTable clone = table.columnCleanupClone(attributes);
+
+		// the dropped column is still held by the original table
+		assertEquals(2, table.getDataRow(0).get(attribute2), 0);
+		assertEquals(1, clone.getDataRow(0).get(attribute1), 0);
+	}
+
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.Process;
+import com.rapidminer.TestUtils;
+import com.rapidminer.operator.ports.OutputPort;
+import com.rapidminer.operator.ports.Port;
+import com.rapidminer.operator.ports.metadata.MetaData;
+import com.rapidminer.tools.documentation.OperatorDocumentation;
+
+
+/**
+ * Tests that an incremental {@link MetaDataPass} only transforms the modified operators and the operators downstream
+ * of them.
+ *
+ * @author agent
+ */
+public class IncrementalMetaDataTest {
+
+	/** Counts its meta data transformations and delivers new meta data each time. */
+	private static final class CountingOperator extends Operator {
+
+		private int transformations;
+		private Runnable onTransformation = () -> {};
+		private boolean alwaysTransform;
+
+		private CountingOperator(String name) {
+			super(createDescription(name));
+			getInputPorts().createPort("in");
+			getInputPorts().createPort("in2");
+			OutputPort output = getOutputPorts().createPort("out");
+			getTransformer().addRule(() -> {
+				transformations++;
+				onTransformation.run();
+				output.deliverMD(new MetaData());
+			});
+		}
+
+		@Override
+		protected boolean isMetaDataTransformationAlwaysRequired() {
+			return alwaysTransform;
+		}
+	}
+
+	@BeforeClass
+	public static void setup() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+	}
+
+	@Test
+	public void onlyModifiedAndDownstreamOperatorsAreTransformed() {
+		ProcessRootOperator root = new Process().getRootOperator();
+		ExecutionUnit unit = root.getSubprocess(0);
+		CountingOperator a = add(unit, "a");
+		CountingOperator b = add(unit, "b");
+		CountingOperator c = add(unit, "c");
+		connect(a, "in", b);
+		root.transformMetaData();
+		assertTransformations(new int[] { 1, 1, 1 }, a, b, c);
+
+		assertTrue(MetaDataPass.run(new AtomicLong(), root::transformMetaData));
+		assertTransformations(new int[] { 1, 1, 1 }, a, b, c);
+
+		a.invalidateMetaData();
+		assertTrue(MetaDataPass.run(new AtomicLong(), root::transformMetaData));
+		assertTransformations(new int[] { 2, 2, 1 }, a, b, c);
+
+		connect(c, "in2", b);
+		assertTrue(MetaDataPass.run(new AtomicLong(), root::transformMetaData));
+		assertTransformations(new int[] { 2, 3, 2 }, a, b, c);
+
+		// cleared meta data is transformed again
+		c.clear(Port.CLEAR_METADATA);
+		assertTrue(MetaDataPass.run(new AtomicLong(), root::transformMetaData));
+		assertTransformations(new int[] { 2, 4, 3 }, a, b, c);
+	}
+
+	@Test
+	public void externalSourcesAreAlwaysTransformed() {
+		ProcessRootOperator root = new Process().getRootOperator();
+		ExecutionUnit unit = root.getSubprocess(0);
+		CountingOperator source = add(unit, "source");
+		CountingOperator b = add(unit, "b");
+		CountingOperator c = add(unit, "c");
+		source.alwaysTransform = true;
+		connect(source, "in", b);
+		root.transformMetaData();
+		assertTransformations(new int[] { 1, 1, 1 }, source, b, c);
+
+		assertTrue(MetaDataPass.run(new AtomicLong(), root::transformMetaData));
+		assertTransformations(new int[] { 2, 2, 1 }, source, b, c);
+	}
+
+	@Test
+	public void cancelledPassLeavesRemainderForNextPass() {
+		ProcessRootOperator root = new Process().getRootOperator();
+		ExecutionUnit unit = root.getSubprocess(0);
+		CountingOperator a = add(unit, "a");
+		CountingOperator b = add(unit, "b");
+		connect(a, "in", b);
+		root.transformMetaData();
+
+		AtomicLong modifications = new AtomicLong();
+		a.onTransformation = modifications::incrementAndGet;
+		a.invalidateMetaData();
+		assertFalse(MetaDataPass.run(modifications, root::transformMetaData));
+		assertTransformations(new int[] { 2, 1 }, a, b);
+
+		a.onTransformation = () -> {};
+		assertTrue(MetaDataPass.run(modifications, root::transformMetaData));
+		assertTransformations(new int[] { 3, 2 }, a, b);
+	}
+
+	@Test
+	public void cachedTopologicalOrderFollowsConnections() {
+		ExecutionUnit unit = new Process().getRootOperator().getSubprocess(0);
+		CountingOperator a = add(unit, "a");
+		CountingOperator b = add(unit, "b");
+		connect(b, "in", a);
+		unit.updateExecutionOrder();
+		assertEquals(Arrays.asList(b, a), unit.getOperators());
+
+		b.getOutputPorts().getPortByName("out").disconnect();
+		connect(a, "in", b);
+		unit.updateExecutionOrder();
+		assertEquals(Arrays.asList(a, b), unit.getOperators());
+	}
+
+	private static void assertTransformations(int[] expected, CountingOperator... operators) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(operators[i].getName(), expected[i], operators[i].transformations);
+		}
+	}
+
+	private static CountingOperator add(ExecutionUnit unit, String name) {
+		CountingOperator operator = new CountingOperator(name);
+		unit.addOperator(operator);
+		return operator;
+	}
+
+	private static void connect(Operator from, String inputName, Operator to) {
+		from.getOutputPorts().getPortByName("out").connectTo(to.getInputPorts().getPortByName(inputName));
+	}
+
+	private static OperatorDescription createDescription(String name) {
+		OperatorDocumentation docu = mock(OperatorDocumentation.class);
+		doReturn(name).when(docu).getShortName();
+		OperatorDescription desc = mock(OperatorDescription.class);
+		doReturn(docu).when(desc).getOperatorDocumentation();
+		return desc;
+	}
+}
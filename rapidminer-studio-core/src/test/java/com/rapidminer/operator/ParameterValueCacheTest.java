@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.rapidminer.MacroHandler;
+
+
+/**
+ * Tests the {@link ParameterValueCache}.
+ *
+ * @author agent
+ */
+public class ParameterValueCacheTest {
+
+	private static final OperatorVersion LEVEL = new OperatorVersion(9, 10, 0);
+
+	@Test
+	public void compileFindsMacros() {
+		ParameterValueCache.Template template = ParameterValueCache.Template.compile("a%{x}b%{y}c");
+		assertArrayEquals(new String[] { "x", "y" }, template.getMacros());
+		assertTrue(template.isCacheable());
+
+		template = ParameterValueCache.Template.compile("no macros %{");
+		assertEquals(0, template.getMacros().length);
+	}
+
+	@Test
+	public void predefinedMacrosAreNotCacheable() {
+		assertFalse(ParameterValueCache.Template.compile("%{a}").isCacheable());
+		assertFalse(ParameterValueCache.Template.compile("x%{p[2]}").isCacheable());
+		assertFalse(ParameterValueCache.Template.compile("%{process_name}").isCacheable());
+		assertFalse(ParameterValueCache.Template.compile("%{t}").isCacheable());
+		assertTrue(ParameterValueCache.Template.compile("%{alpha}").isCacheable());
+	}
+
+	@Test
+	public void predefinedMacrosAreMarkedNotCacheable() {
+		MacroHandler handler = new MacroHandler(null);
+		ParameterValueCache cache = new ParameterValueCache();
+		cache.put("key", "%{a}", handler, LEVEL, handler.getModificationCount(), "1");
+		assertNull(cache.get("key", "%{a}", handler, LEVEL));
+		cache.putTypedValue("key", "1", 1);
+		assertNull(cache.getTypedValue("key", "1", Integer.class));
+		cache.put("key", "%{a}", handler, LEVEL, handler.getModificationCount(), "2");
+		assertNull(cache.get("key", "%{a}", handler, LEVEL));
+
+		// a new raw value replaces the marker
+		cache.put("key", "constant", handler, LEVEL, handler.getModificationCount(), "constant");
+		assertEquals("constant", cache.get("key", "constant", handler, LEVEL));
+	}
+
+	@Test
+	public void valueIsInvalidatedByReferencedMacroOnly() {
+		MacroHandler handler = new MacroHandler(null);
+		handler.addMacro("x", "1");
+		ParameterValueCache cache = new ParameterValueCache();
+		cache.put("key", "%{x}0", handler, LEVEL, handler.getModificationCount(), "10");
+		assertEquals("10", cache.get("key", "%{x}0", handler, LEVEL));
+
+		handler.addMacro("other", "5");
+		assertEquals("10", cache.get("key", "%{x}0", handler, LEVEL));
+
+		handler.addMacro("x", "2");
+		assertNull(cache.get("key", "%{x}0", handler, LEVEL));
+	}
+
+	@Test
+	public void valueIsInvalidatedByParameterChange() {
+		MacroHandler handler = new MacroHandler(null);
+		ParameterValueCache cache = new ParameterValueCache();
+		cache.put("key", "3", handler, LEVEL, handler.getModificationCount(), "3");
+		assertEquals("3", cache.get("key", "3", handler, LEVEL));
+		assertNull(cache.get("key", "4", handler, LEVEL));
+		assertNull(cache.get("key", "3", new MacroHandler(null), LEVEL));
+	}
+
+	@Test
+	public void undefinedMacrosAreNotCached() {
+		MacroHandler handler = new MacroHandler(null);
+		ParameterValueCache cache = new ParameterValueCache();
+		cache.put("key", "%{x}", handler, LEVEL, handler.getModificationCount(), "%{x}");
+		assertNull(cache.get("key", "%{x}", handler, LEVEL));
+	}
+
+	@Test
+	public void typedValueBelongsToResolvedValue() {
+		MacroHandler handler = new MacroHandler(null);
+		ParameterValueCache cache = new ParameterValueCache();
+		cache.put("key", "7", handler, LEVEL, handler.getModificationCount(), "7");
+		String value = cache.get("key", "7", handler, LEVEL);
+		cache.putTypedValue("key", value, 7);
+		assertEquals(Integer.valueOf(7), cache.getTypedValue("key", value, Integer.class));
+		assertNull(cache.getTypedValue("key", value, Double.class));
+		assertNull(cache.getTypedValue("key", new String("7"), Integer.class));
+	}
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.concurrency.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.TestUtils;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorDescription;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.studio.concurrency.internal.AdaptiveBatching;
+import com.rapidminer.studio.concurrency.internal.ConcurrencyExecutionService;
+import com.rapidminer.studio.concurrency.internal.MemoryBudget;
+
+
+/**
+ * Tests the merging of iterations and the order of the results of the {@link OperatorClonePool}.
+ *
+ * @author agent
+ */
+public class OperatorClonePoolTest {
+
+	/** Dummy operator that is cloned by the pool */
+	public static class PoolOperator extends Operator {
+
+		public PoolOperator(OperatorDescription description) {
+			super(description);
+		}
+	}
+
+	private ExecutorService executor;
+	private ConcurrencyExecutionService service;
+	private AtomicInteger submittedTasks;
+
+	@BeforeClass
+	public static void setupClass() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setup() {
+		executor = Executors.newFixedThreadPool(4);
+		submittedTasks = new AtomicInteger();
+		service = mock(ConcurrencyExecutionService.class);
+		doAnswer(invocation -> invocation.getArgument(4)).when(service).prepareOperatorTask(any(), any(), anyInt(),
+				anyBoolean(), any());
+		doAnswer(invocation -> {
+			submittedTasks.incrementAndGet();
+			return executor.submit((Callable<?>) invocation.getArgument(1));
+		}).when(service).submitOperatorTask(any(), any());
+		doAnswer(invocation -> {
+			List<Object> results = new ArrayList<>();
+			for (Future<?> future : (List<Future<?>>) invocation.getArgument(1)) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof OperatorException) {
+						throw e.getCause();
+					}
+					throw new OperatorException(e.getCause().getMessage(), e.getCause());
+				}
+			}
+			return results;
+		}).when(service).collectResults(any(), any());
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shortIterationsAreMerged() throws Exception {
+		AdaptiveBatching batching = new AdaptiveBatching(2, MemoryBudget.of(null));
+		batching.record(1000, TimeUnit.MICROSECONDS.toNanos(1000), 0);
+		OperatorClonePool<PoolOperator> pool = new OperatorClonePool<>(createOperator(), batching, service);
+		List<Integer> handled = new ArrayList<>();
+		pool.<Integer> execute(100, (clone, iteration) -> () -> iteration, (iteration, result) -> {
+			assertEquals(iteration, (int) result);
+			return handled.add(result);
+		});
+		assertEquals(100, handled.size());
+		assertTrue(submittedTasks.get() < 100);
+		assertTrue(pool.getNumberOfClones() <= 2);
+	}
+
+	@Test
+	public void resultsAreHandledInOrder() throws Exception {
+		AdaptiveBatching batching = new AdaptiveBatching(2, MemoryBudget.of(null));
+		// long iterations are not merged
+		batching.record(1, TimeUnit.SECONDS.toNanos(1), 0);
+		OperatorClonePool<PoolOperator> pool = new OperatorClonePool<>(createOperator(), batching, service);
+		CountDownLatch laterIterationFinished = new CountDownLatch(1);
+		AtomicBoolean otherClonesKeptBusy = new AtomicBoolean();
+		List<Integer> handled = new ArrayList<>();
+		pool.<Integer> execute(4, (clone, iteration) -> () -> {
+			if (iteration == 0) {
+				// the third iteration needs the clone of the second one, so it only runs if that is collected first
+				otherClonesKeptBusy.set(laterIterationFinished.await(10, TimeUnit.SECONDS));
+			} else if (iteration == 2) {
+				laterIterationFinished.countDown();
+			}
+			return iteration;
+		}, (iteration, result) -> handled.add(result));
+		assertTrue(otherClonesKeptBusy.get());
+		assertEquals(4, handled.size());
+		for (int i = 0; i < handled.size(); i++) {
+			assertEquals(i, (int) handled.get(i));
+		}
+	}
+
+	@Test
+	public void failureInMergedChunk() throws Exception {
+		AdaptiveBatching batching = new AdaptiveBatching(2, MemoryBudget.of(null));
+		batching.record(1000, TimeUnit.MICROSECONDS.toNanos(1000), 0);
+		OperatorClonePool<PoolOperator> pool = new OperatorClonePool<>(createOperator(), batching, service);
+		List<Integer> handled = new ArrayList<>();
+		try {
+			pool.<Integer> execute(100, (clone, iteration) -> () -> {
+				if (iteration == 30) {
+					throw new OperatorException("failed iteration");
+				}
+				return iteration;
+			}, (iteration, result) -> handled.add(result));
+			fail("failure not reported");
+		} catch (OperatorException e) {
+			assertEquals("failed iteration", e.getMessage());
+		}
+		// the results are handed on in order up to the failed chunk at most
+		assertTrue(handled.size() <= 30);
+		for (int i = 0; i < handled.size(); i++) {
+			assertEquals(i, (int) handled.get(i));
+		}
+		assertTrue(submittedTasks.get() < 100);
+	}
+
+	private static PoolOperator createOperator() {
+		return new PoolOperator(new OperatorDescription("", "clone_pool_test", PoolOperator.class,
+				OperatorClonePoolTest.class.getClassLoader(), "elements_selection.png", null) {
+
+			@Override
+			public String getName() {
+				return "Clone Pool Test";
+			}
+
+			@Override
+			public String getShortName() {
+				return "pool";
+			}
+		});
+	}
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rapidminer.example.ExampleSet;
+
+
+/**
+ * Tests the aggregation and the export of an {@link OperatorProfile}.
+ *
+ * @author agent
+ */
+public class OperatorProfileTest {
+
+	private static OperatorProfile createProfile() {
+		List<OperatorProfile.Record> records = Arrays.asList(
+				record(Arrays.asList("Process", "Loop", "Learner"), 1, 30, 1000),
+				record(Arrays.asList("Process", "Loop", "Learner"), 2, 50, 3000),
+				record(Arrays.asList("Process", "Loop"), 1, 100, 5000),
+				record(Arrays.asList("Process", "Retrieve"), 1, 20, OperatorProfile.UNKNOWN));
+		return new OperatorProfile(records);
+	}
+
+	private static OperatorProfile.Record record(List<String> path, int applyCount, long wallNanos, long allocated) {
+		return new OperatorProfile.Record(path.get(path.size() - 1), "key", path, applyCount, 0, wallNanos,
+				wallNanos, allocated, 10, 2, 10, 3, 1);
+	}
+
+	@Test
+	public void treeAggregatesByPath() {
+		OperatorProfile.Node root = createProfile().getTree();
+		assertEquals("Process", root.getName());
+		// the process itself has not finished, so it sums up its children
+		assertEquals(0, root.getExecutions());
+		assertEquals(120, root.getWallNanos());
+		assertEquals(5000, root.getAllocatedBytes());
+
+		List<OperatorProfile.Node> children = root.getChildren();
+		assertEquals(2, children.size());
+		OperatorProfile.Node loop = children.get(0);
+		assertEquals("Loop", loop.getName());
+		assertEquals(100, loop.getWallNanos());
+		assertEquals(20, loop.getSelfWallNanos());
+
+		OperatorProfile.Node learner = loop.getChildren().get(0);
+		assertEquals(2, learner.getExecutions());
+		assertEquals(80, learner.getWallNanos());
+		assertEquals(4000, learner.getAllocatedBytes());
+		assertEquals(2, learner.getConversions());
+	}
+
+	@Test
+	public void exampleSetHasOneExamplePerRecord() {
+		ExampleSet exampleSet = createProfile().createExampleSet();
+		assertEquals(4, exampleSet.size());
+		assertEquals("Process/Loop/Learner", exampleSet.getExample(0).getNominalValue(
+				exampleSet.getAttributes().get("path")));
+		assertEquals(2, exampleSet.getExample(1).getValue(exampleSet.getAttributes().get("apply count")), 0);
+		assertTrue(Double.isNaN(exampleSet.getExample(3).getValue(exampleSet.getAttributes().get("allocated bytes"))));
+	}
+
+	@Test
+	public void jsonContainsRecordsAndTree() throws Exception {
+		JsonNode json = new ObjectMapper().readTree(createProfile().toJson());
+		assertEquals(4, json.get("records").size());
+		assertEquals("Process/Retrieve", json.get("records").get(3).get("path").asText());
+		assertEquals("Process", json.get("tree").get("name").asText());
+		assertEquals(2, json.get("tree").get("children").size());
+	}
+}
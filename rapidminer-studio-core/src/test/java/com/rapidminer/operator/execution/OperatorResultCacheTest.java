@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.TestUtils;
+import com.rapidminer.example.Attribute;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.example.set.SplittedExampleSet;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorDescription;
+import com.rapidminer.parameter.ParameterType;
+import com.rapidminer.parameter.ParameterTypeInt;
+import com.rapidminer.tools.documentation.OperatorDocumentation;
+
+
+/**
+ * Tests that the keys and fingerprints of the {@link OperatorResultCache} change whenever the inputs or parameters
+ * of an operator change.
+ *
+ * @author agent
+ */
+public class OperatorResultCacheTest {
+
+	/** Dummy operator registered as deterministic */
+	public static class DeterministicOperator extends Operator {
+
+		public DeterministicOperator(OperatorDescription description) {
+			super(description);
+			getInputPorts().createPort("in");
+			getOutputPorts().createPort("out");
+		}
+
+		@Override
+		public List<ParameterType> getParameterTypes() {
+			List<ParameterType> types = super.getParameterTypes();
+			types.add(new ParameterTypeInt("value", "a value", 0, 10, 0));
+			return types;
+		}
+	}
+
+	private final OperatorResultCache cache = OperatorResultCache.getInstance();
+
+	@BeforeClass
+	public static void setup() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+		OperatorResultCache.registerDeterministicOperator(DeterministicOperator.class);
+	}
+
+	@Test
+	public void fingerprintChangesWithView() throws Exception {
+		SplittedExampleSet folds = new SplittedExampleSet(createExampleSet(), 2, SplittedExampleSet.LINEAR_SAMPLING,
+				false, 0);
+		folds.selectSingleSubset(0);
+		String first = cache.getFingerprint(folds);
+		assertEquals(first, cache.getFingerprint(folds));
+		folds.selectSingleSubset(1);
+		String second = cache.getFingerprint(folds);
+		assertNotEquals(first, second);
+		folds.selectSingleSubset(0);
+		assertEquals(first, cache.getFingerprint(folds));
+	}
+
+	@Test
+	public void fingerprintChangesWithTable() throws Exception {
+		ExampleSet exampleSet = createExampleSet();
+		String before = cache.getFingerprint(exampleSet);
+		Attribute attribute = exampleSet.getAttributes().get("att1");
+		exampleSet.getExample(0).setValue(attribute, 42);
+		assertNotEquals(before, cache.getFingerprint(exampleSet));
+		exampleSet.getExample(0).setValue(attribute, 0);
+		assertEquals(before, cache.getFingerprint(exampleSet));
+	}
+
+	@Test
+	public void equalDataHasEqualFingerprint() throws Exception {
+		assertEquals(cache.getFingerprint(createExampleSet()), cache.getFingerprint(createExampleSet()));
+	}
+
+	@Test
+	public void keyChangesWithParameter() {
+		Operator operator = new DeterministicOperator(createDescription());
+		operator.getInputPorts().getPortByName("in").receive(createExampleSet());
+		operator.setParameter("value", "1");
+		String first = cache.createKey(operator);
+		assertEquals(first, cache.createKey(operator));
+		operator.setParameter("value", "2");
+		assertNotEquals(first, cache.createKey(operator));
+		operator.setParameter("value", "1");
+		assertEquals(first, cache.createKey(operator));
+	}
+
+	@Test
+	public void keyChangesWithInput() {
+		Operator operator = new DeterministicOperator(createDescription());
+		ExampleSet exampleSet = createExampleSet();
+		operator.getInputPorts().getPortByName("in").receive(exampleSet);
+		String before = cache.createKey(operator);
+		exampleSet.getExample(1).setValue(exampleSet.getAttributes().get("att2"), -1);
+		assertNotEquals(before, cache.createKey(operator));
+	}
+
+	/** Creates an example set with distinct values in every row */
+	private static ExampleSet createExampleSet() {
+		double[][] data = new double[10][2];
+		for (int i = 0; i < data.length; i++) {
+			data[i][0] = i;
+			data[i][1] = i * 0.5;
+		}
+		return ExampleSetFactory.createExampleSet(data);
+	}
+
+	private static OperatorDescription createDescription() {
+		OperatorDocumentation docu = mock(OperatorDocumentation.class);
+		doReturn("deterministic").when(docu).getShortName();
+		OperatorDescription desc = mock(OperatorDescription.class);
+		doReturn(docu).when(desc).getOperatorDocumentation();
+		doReturn("deterministic").when(desc).getKey();
+		return desc;
+	}
+}
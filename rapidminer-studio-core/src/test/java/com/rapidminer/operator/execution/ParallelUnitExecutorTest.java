@@ -0,0 +1,228 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.BreakpointListener;
+import com.rapidminer.Process;
+import com.rapidminer.RapidMiner;
+import com.rapidminer.TestUtils;
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.operator.ExecutionUnit;
+import com.rapidminer.operator.IOStorageOperator;
+import com.rapidminer.operator.Operator;
+import com.rapidminer.operator.OperatorDescription;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.operator.filesystem.DeleteFileOperator;
+import com.rapidminer.operator.nio.file.WriteFileOperator;
+import com.rapidminer.operator.ports.InputPort;
+import com.rapidminer.operator.ports.OutputPort;
+import com.rapidminer.tools.ParameterService;
+import com.rapidminer.tools.documentation.OperatorDocumentation;
+
+
+/**
+ * Tests the grouping of operators into stages and the execution of the stages by the {@link ParallelUnitExecutor}.
+ *
+ * @author agent
+ */
+public class ParallelUnitExecutorTest {
+
+	@BeforeClass
+	public static void setup() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+	}
+
+	@Test
+	public void independentOperatorsShareStage() {
+		ExecutionUnit unit = new Process().getRootOperator().getSubprocess(0);
+		Operator a = createOperator(unit, "a");
+		Operator b = createOperator(unit, "b");
+		Operator c = createOperator(unit, "c");
+		Operator d = createOperator(unit, "d");
+		connect(a, "out", c, "in");
+		connect(b, "out", d, "in");
+		connect(c, "out", d, "in2");
+
+		List<List<Integer>> stages = ParallelUnitExecutor.createStages(Arrays.asList(a, b, c, d));
+		assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2), Arrays.asList(3)), stages);
+	}
+
+	@Test
+	public void sequentialOperatorIsBarrier() {
+		ExecutionUnit unit = new Process().getRootOperator().getSubprocess(0);
+		Operator a = createOperator(unit, "a");
+		Operator remember = new IOStorageOperator(createDescription("remember"));
+		unit.addOperator(remember);
+		Operator b = createOperator(unit, "b");
+		Operator c = createOperator(unit, "c");
+
+		assertTrue(ParallelUnitExecutor.isSequential(remember));
+		assertFalse(ParallelUnitExecutor.isSequential(a));
+		List<List<Integer>> stages = ParallelUnitExecutor.createStages(Arrays.asList(a, remember, b, c));
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2, 3)), stages);
+	}
+
+	@Test
+	public void unconnectedFileOperatorsKeepOrder() {
+		ExecutionUnit unit = new Process().getRootOperator().getSubprocess(0);
+		Operator read = createOperator(unit, "read");
+		Operator write = new WriteFileOperator(createDescription("write"));
+		unit.addOperator(write);
+		Operator delete = new DeleteFileOperator(createDescription("delete"));
+		unit.addOperator(delete);
+		Operator other = createOperator(unit, "other");
+
+		assertTrue(ParallelUnitExecutor.isSequential(write));
+		assertTrue(ParallelUnitExecutor.isSequential(delete));
+		List<List<Integer>> stages = ParallelUnitExecutor.createStages(Arrays.asList(read, write, delete, other));
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2), Arrays.asList(3)), stages);
+	}
+
+	@Test
+	public void breakpointIsBarrier() {
+		ExecutionUnit unit = new Process().getRootOperator().getSubprocess(0);
+		Operator a = createOperator(unit, "a");
+		Operator b = createOperator(unit, "b");
+		b.setBreakpoint(BreakpointListener.BREAKPOINT_BEFORE, true);
+
+		assertTrue(ParallelUnitExecutor.isSequential(b));
+		List<List<Integer>> stages = ParallelUnitExecutor.createStages(Arrays.asList(a, b));
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(1)), stages);
+	}
+
+	@Test
+	public void independentBranchesAreExecuted() throws OperatorException {
+		Process process = new Process();
+		ExecutionUnit unit = process.getRootOperator().getSubprocess(0);
+		Map<String, Double> received = new ConcurrentHashMap<>();
+		Operator a = createExecutingOperator(unit, "a", 1, received);
+		Operator b = createExecutingOperator(unit, "b", 2, received);
+		Operator c = createExecutingOperator(unit, "c", 3, received);
+		Operator d = createExecutingOperator(unit, "d", 4, received);
+		connect(a, "out", c, "in");
+		connect(b, "out", d, "in");
+
+		runInParallel(process);
+
+		assertEquals(4, received.size());
+		assertTrue(Double.isNaN(received.get("a")));
+		assertTrue(Double.isNaN(received.get("b")));
+		assertEquals(1, received.get("c"), 0);
+		assertEquals(2, received.get("d"), 0);
+	}
+
+	@Test
+	public void failedOperatorOfParallelStageIsCurrent() {
+		Process process = new Process();
+		ExecutionUnit unit = process.getRootOperator().getSubprocess(0);
+		Map<String, Double> received = new ConcurrentHashMap<>();
+		createExecutingOperator(unit, "a", 1, received);
+		Operator broken = createExecutingOperator(unit, "broken", 2, received);
+		createExecutingOperator(unit, "c", 3, received);
+
+		try {
+			runInParallel(process);
+			fail("failure of operator not reported");
+		} catch (OperatorException e) {
+			assertEquals("broken", e.getMessage());
+		}
+		assertSame(broken, process.getCurrentOperator());
+	}
+
+	/** Runs the process with parallel operator execution enabled */
+	private static void runInParallel(Process process) throws OperatorException {
+		String property = RapidMiner.PROPERTY_RAPIDMINER_SYSTEM_PARALLEL_OPERATOR_EXECUTION;
+		String previous = ParameterService.getParameterValue(property);
+		ParameterService.setParameterValue(property, "true");
+		try {
+			process.run();
+		} finally {
+			ParameterService.setParameterValue(property, previous);
+		}
+	}
+
+	/**
+	 * Creates an operator that records the value of the example set at its input, delivers an example set with the
+	 * given value and adds it to the unit. The operator fails if its name is "broken".
+	 */
+	private static Operator createExecutingOperator(ExecutionUnit unit, String name, double value,
+			Map<String, Double> received) {
+		Operator operator = new Operator(createDescription(name)) {
+
+			private final InputPort input = getInputPorts().createPort("in");
+			private final OutputPort output = getOutputPorts().createPort("out");
+
+			@Override
+			public void doWork() throws OperatorException {
+				if ("broken".equals(getName())) {
+					throw new OperatorException("broken");
+				}
+				ExampleSet exampleSet = input.getDataOrNull(ExampleSet.class);
+				received.put(getName(), exampleSet == null ? Double.NaN
+						: exampleSet.getExample(0).getValue(exampleSet.getAttributes().iterator().next()));
+				output.deliver(ExampleSetFactory.createExampleSet(new double[][]{{value}}));
+			}
+		};
+		unit.addOperator(operator);
+		return operator;
+	}
+
+	private static void connect(Operator from, String outputName, Operator to, String inputName) {
+		from.getOutputPorts().getPortByName(outputName).connectTo(to.getInputPorts().getPortByName(inputName));
+	}
+
+	/** Creates a dummy operator with two inputs and one output and adds it to the unit */
+	private static Operator createOperator(ExecutionUnit unit, String name) {
+		Operator operator = new Operator(createDescription(name)) {
+
+			{
+				getInputPorts().createPort("in");
+				getInputPorts().createPort("in2");
+				getOutputPorts().createPort("out");
+			}
+		};
+		unit.addOperator(operator);
+		return operator;
+	}
+
+	private static OperatorDescription createDescription(String name) {
+		OperatorDocumentation docu = mock(OperatorDocumentation.class);
+		doReturn(name).when(docu).getShortName();
+		OperatorDescription desc = mock(OperatorDescription.class);
+		doReturn(docu).when(desc).getOperatorDocumentation();
+		return desc;
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rapidminer.Process;
+import com.rapidminer.TestUtils;
+import com.rapidminer.datatable.DataTable;
+import com.rapidminer.datatable.SimpleDataTable;
+import com.rapidminer.datatable.SimpleDataTableRow;
+
+
+/**
+ * Tests the transfer of logged rows by {@link ParallelCandidates}.
+ *
+ * @author agent
+ */
+public class ParallelCandidatesTest {
+
+	@BeforeClass
+	public static void setup() throws Exception {
+		TestUtils.INSTANCE.minimalProcessUsageSetup();
+	}
+
+	@Test
+	public void rowsAreAddedInOrderOfTheCandidates() {
+		Process clone1 = new Process();
+		Process clone2 = new Process();
+		log(clone1, "b", 1);
+		log(clone2, "a", 2);
+		List<SimpleDataTable> tables1 = ParallelCandidates.takeDataTables(clone1);
+		List<SimpleDataTable> tables2 = ParallelCandidates.takeDataTables(clone2);
+		assertNull(clone1.getDataTable("log"));
+
+		Process process = new Process();
+		log(process, "a", 0);
+		ParallelCandidates.addDataTables(tables1, process);
+		ParallelCandidates.addDataTables(tables2, process);
+
+		DataTable table = process.getDataTable("log");
+		assertEquals(3, table.getNumberOfRows());
+		String[] expectedNames = { "a", "b", "a" };
+		for (int i = 0; i < expectedNames.length; i++) {
+			assertEquals(expectedNames[i], table.mapIndex(0, (int) table.getRow(i).getValue(0)));
+			assertEquals(i, table.getRow(i).getValue(1), 0);
+		}
+	}
+
+	@Test
+	public void missingTableIsCreated() {
+		Process clone = new Process();
+		log(clone, "x", 5);
+		Process process = new Process();
+		ParallelCandidates.addDataTables(ParallelCandidates.takeDataTables(clone), process);
+
+		DataTable table = process.getDataTable("log");
+		assertEquals(1, table.getNumberOfRows());
+		assertEquals("x", table.mapIndex(0, (int) table.getRow(0).getValue(0)));
+		assertEquals(5, table.getRow(0).getValue(1), 0);
+	}
+
+	private static void log(Process process, String name, double value) {
+		SimpleDataTable table = (SimpleDataTable) process.getDataTable("log");
+		if (table == null) {
+			table = new SimpleDataTable("log", new String[] { "name", "value" });
+			process.addDataTable(table);
+		}
+		table.add(new SimpleDataTableRow(new double[] { table.mapString(0, name), value }));
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.operator.nio.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+import com.rapidminer.gui.tools.dialogs.wizards.dataimport.csv.LineReader;
+import com.rapidminer.operator.OperatorException;
+import com.rapidminer.studio.concurrency.internal.SequentialConcurrencyContext;
+import com.rapidminer.tools.CSVParseException;
+import com.rapidminer.tools.LineParser;
+
+
+/**
+ * Tests that the {@link ParallelLineReader} reads the same lines as the sequential reader.
+ *
+ * @author agent
+ */
+public class ParallelLineReaderTest {
+
+	private static final String CONTENT = "a;b;c\n1;\"x;y\";3\r\n# comment\n\n4;5;6\r7;\"8\";9\n10;\"un;closed\n11;12;13";
+
+	@Test
+	public void sameLinesAsSequential() throws IOException, OperatorException {
+		File file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+		Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+		CSVResultSetConfiguration configuration = new CSVResultSetConfiguration();
+		configuration.setEncoding(StandardCharsets.UTF_8);
+		LineParser parser = new LineParser(configuration);
+
+		for (int rangeSize : new int[] { 1, 7, 16, 1000 }) {
+			try (LineReader sequential = new LineReader(file, StandardCharsets.UTF_8);
+					ParallelLineReader parallel = new ParallelLineReader(FileChannel.open(file.toPath(),
+							StandardOpenOption.READ), 0, configuration, new SequentialConcurrencyContext(), rangeSize)) {
+				String line;
+				while ((line = sequential.readLine()) != null) {
+					assertTrue(parallel.next());
+					assertEquals(line, parallel.getLine());
+					try {
+						assertArrayEquals(parser.parse(line), parallel.getParsed());
+					} catch (CSVParseException e) {
+						assertEquals(e.getMessage(), parallel.getParseException().getMessage());
+					}
+				}
+				assertFalse(parallel.next());
+				assertEquals(file.length(), parallel.getPosition());
+			}
+		}
+	}
+
+	@Test
+	public void supportedEncodings() {
+		assertTrue(ParallelLineReader.isSupported(StandardCharsets.UTF_8));
+		assertTrue(ParallelLineReader.isSupported(StandardCharsets.ISO_8859_1));
+		assertFalse(ParallelLineReader.isSupported(StandardCharsets.UTF_16));
+	}
+
+}
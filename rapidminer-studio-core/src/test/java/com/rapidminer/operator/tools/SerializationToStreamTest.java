@@ -18,6 +18,8 @@
  */
 package com.rapidminer.operator.tools;
 
+import static org.junit.Assert.assertEquals;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -145,6 +147,54 @@ public class SerializationToStreamTest {
 		RapidAssert.assertEquals("ExampleSets are not equal", set, backAndForth);
 	}
 
+	@Test
+	public void testExampleSetOlderVersion() throws IOException {
+		ExampleSet set = testSet;
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		IOObjectSerializer.getInstance().serialize(stream, set, SerializationType.STREAMED_EXAMPLE_SET_DENSE_3);
+		ExampleSet backAndForth = (ExampleSet) readFromArray(stream.toByteArray());
+		RapidAssert.assertEquals("ExampleSets are not equal", set, backAndForth);
+	}
+
+	@Test
+	public void testColumnarFormatIsOptIn() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		IOObjectSerializer.getInstance().serialize(stream, testSet, Belt.defaultContext());
+		assertEquals(SerializationType.STREAMED_EXAMPLE_SET_DENSE_3,
+				IOObjectSerializer.getInstance().deserializeHeader(new ByteArrayInputStream(stream.toByteArray())));
+	}
+
+	@Test
+	public void testExampleSetBlocksParallel() throws IOException {
+		Attribute integer = AttributeFactory.createAttribute("integer", Ontology.INTEGER);
+		Attribute real = AttributeFactory.createAttribute("real", Ontology.REAL);
+		Attribute dateTime = AttributeFactory.createAttribute("date_time", Ontology.DATE_TIME);
+		Attribute nominal = AttributeFactory.createAttribute("nominal", Ontology.NOMINAL);
+		for (int i = 0; i < 300; i++) {
+			nominal.getMapping().mapString("value" + i);
+		}
+		int size = 2 * ExampleSetBlockCodec.getBlockRows(4) + 17;
+		Random random = new Random();
+		ExampleSet set = ExampleSets.from(integer, real, dateTime, nominal).withBlankSize(size)
+				.withColumnFiller(integer, i -> random.nextDouble() > 0.9 ? Double.NaN : i - random.nextInt(100))
+				.withColumnFiller(real, i -> random.nextDouble() > 0.9 ? Double.NaN : random.nextGaussian())
+				.withColumnFiller(dateTime, i -> random.nextDouble() > 0.9 ? Double.NaN : 1515410698000d + i * 1000)
+				.withColumnFiller(nominal, i -> random.nextDouble() > 0.9 ? Double.NaN : random.nextInt(300))
+				.build();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IOObjectSerializer.getInstance().serialize(out, set, SerializationType.STREAMED_EXAMPLE_SET_COLUMNAR,
+				Belt.defaultContext());
+		assertEquals(SerializationType.STREAMED_EXAMPLE_SET_COLUMNAR,
+				IOObjectSerializer.getInstance().deserializeHeader(new ByteArrayInputStream(out.toByteArray())));
+		ExampleSet backAndForth = (ExampleSet) IOObjectSerializer.getInstance()
+				.deserialize(new ByteArrayInputStream(out.toByteArray()), Belt.defaultContext());
+		RapidAssert.assertEquals("ExampleSets are not equal", set, backAndForth);
+
+		ExampleSet sequential = (ExampleSet) readFromArray(out.toByteArray());
+		RapidAssert.assertEquals("ExampleSets are not equal", set, sequential);
+	}
+
 	@Test(expected = InvalidObjectException.class)
 	public void testTableWithAdvancedColumn() throws IOException {
 		Table table = Builders.newTableBuilder(11).addReal("real", i -> 3 * i / 5.0)
@@ -30,8 +30,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.IntToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -47,6 +49,7 @@ import org.junit.runners.Parameterized;
 import org.mockito.Mockito;
 
 import com.rapidminer.RapidMiner;
+import com.rapidminer.belt.util.Belt;
 import com.rapidminer.example.Attribute;
 import com.rapidminer.example.AttributeRole;
 import com.rapidminer.example.Attributes;
@@ -126,6 +129,49 @@ public class WriteReadTest {
 			assertEquals(set.getAnnotations(), read.getAnnotations());
 		}
 
+		@Test
+		public void testWriteAndReadParallel() throws IOException {
+			File f = File.createTempFile("test", ".hdf5");
+			f.deleteOnExit();
+			new ExampleSetHdf5Writer(set).write(f.toPath());
+			ExampleSet read = Hdf5ExampleSetReader.read(f.toPath(), null, Belt.defaultContext());
+			RapidAssert.assertEquals(set, read);
+			assertEquals(set.getAnnotations(), read.getAnnotations());
+		}
+
+		@Test
+		public void testWriteAndReadOnDemand() throws IOException {
+			File f = File.createTempFile("test", ".hdf5");
+			f.deleteOnExit();
+			new ExampleSetHdf5Writer(set).write(f.toPath());
+			ExampleSet read = Hdf5ExampleSetReader.readOnDemand(f.toPath(), null);
+			RapidAssert.assertEquals(set, read);
+			assertEquals(set.getAnnotations(), read.getAnnotations());
+		}
+
+		@Test
+		public void testWriteAndReadProjection() throws IOException {
+			File f = File.createTempFile("test", ".hdf5");
+			f.deleteOnExit();
+			new ExampleSetHdf5Writer(set).write(f.toPath());
+			ExampleSet expected = (ExampleSet) set.clone();
+			Set<String> columns = new HashSet<>();
+			List<Attribute> all = new ArrayList<>();
+			expected.getAttributes().allAttributes().forEachRemaining(all::add);
+			for (int i = 0; i < all.size(); i++) {
+				if (i % 2 == 0) {
+					columns.add(all.get(i).getName());
+				} else {
+					expected.getAttributes().remove(all.get(i));
+				}
+			}
+			columns.add("not in the file");
+			ExampleSet read = Hdf5ExampleSetReader.read(f.toPath(), columns);
+			RapidAssert.assertEquals(expected, read);
+			assertEquals(expected.getAttributes().allSize(), read.getAttributes().allSize());
+			assertEquals(set.getAnnotations(), read.getAnnotations());
+		}
+
 		@Test
 		public void testWriteAndReadMD() throws IOException {
 			File f = File.createTempFile("test", ".hdf5");
@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.SplittableRandom;
 
 import org.apache.commons.lang.StringUtils;
@@ -127,6 +128,27 @@ public class WriteTableReadTest {
 			}
 		}
 
+		@Test
+		public void testWriteAndReadProjection() throws IOException {
+			File f = File.createTempFile("test", ".hdf5");
+			f.deleteOnExit();
+			IOTable table = BeltConverter.convert(set, new SequentialConcurrencyContext());
+			new IOTableHdf5Writer(table).write(f.toPath());
+			List<String> labels = new ArrayList<>();
+			for (int i = 0; i < table.getTable().width(); i += 2) {
+				labels.add(table.getTable().label(i));
+			}
+			Set<String> columns = new HashSet<>(labels);
+			columns.add("not in the file");
+			IOTable read = Hdf5TableReader.read(f.toPath(), Belt.defaultContext(), columns);
+			IOTable expected = new IOTable(table.getTable().columns(labels));
+			RapidAssert.assertEquals(expected, read);
+			assertEquals(labels, read.getTable().labels());
+			for (String label : labels) {
+				assertEquals(table.getTable().getMetaData(label), read.getTable().getMetaData(label));
+			}
+		}
+
 		@Test
 		public void testWriteAndReadMD() throws IOException {
 			File f = File.createTempFile("test", ".hdf5");
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.operator.IOObject;
+import com.rapidminer.operator.IOObjectCollection;
+
+
+/**
+ * Tests the task granularity chosen by {@link AdaptiveBatching}.
+ *
+ * @author agent
+ */
+public class AdaptiveBatchingTest {
+
+	@Test
+	public void singleIterationsUntilMeasured() {
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null));
+		assertEquals(1, batching.getIterationsPerTask(10_000));
+		assertEquals(0, batching.getIterationsPerTask(0));
+		int inFlight = batching.getTasksInFlight(1);
+		assertTrue(inFlight >= 1 && inFlight <= 4);
+	}
+
+	@Test
+	public void inputSizeLimitsTasksUntilMeasured() {
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null, () -> 0L));
+		// nothing known about the results
+		assertEquals(1, batching.getTasksInFlight(1));
+		batching.setInput(Collections.singletonList(ExampleSetFactory.createExampleSet(new double[100][3])));
+		assertEquals(4, batching.getTasksInFlight(1));
+		IOObject large = mock(IOObject.class);
+		doReturn(Runtime.getRuntime().maxMemory()).when(large).estimateMemoryBytes();
+		batching.setInput(Arrays.asList(large, null));
+		assertEquals(1, batching.getTasksInFlight(1));
+		// measured results replace the estimate by the input
+		batching.record(1, 1, 1);
+		assertEquals(4, batching.getTasksInFlight(1));
+	}
+
+	@Test
+	public void shortIterationsAreMerged() {
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null));
+		batching.record(1000, TimeUnit.MILLISECONDS.toNanos(1), 0);
+		// bounded by two tasks per thread for the remaining iterations
+		assertEquals(10_000 / 8, batching.getIterationsPerTask(10_000));
+		// bounded by the target run time of a task
+		assertEquals(AdaptiveBatching.TARGET_TASK_NANOS / 1000, batching.getIterationsPerTask(10_000_000));
+		assertEquals(1, batching.getIterationsPerTask(5));
+	}
+
+	@Test
+	public void longIterationsAreNotMerged() {
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null));
+		batching.record(2, 2 * AdaptiveBatching.TARGET_TASK_NANOS, 0);
+		assertEquals(1, batching.getIterationsPerTask(10_000));
+	}
+
+	@Test
+	public void largeResultsLimitTasks() {
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null));
+		batching.record(1, 1, Runtime.getRuntime().maxMemory());
+		assertEquals(1, batching.getIterationsPerTask(10_000));
+		assertEquals(1, batching.getTasksInFlight(1));
+	}
+
+	@Test
+	public void resultSizes() {
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(new double[100][3]);
+		long bytes = exampleSet.estimateMemoryBytes();
+		assertEquals(bytes, AdaptiveBatching.estimateBytes(exampleSet));
+		assertEquals(2 * bytes, AdaptiveBatching.estimateBytes(Arrays.asList(exampleSet, null, exampleSet)));
+		assertEquals(0, AdaptiveBatching.estimateBytes("unknown"));
+	}
+
+	@Test
+	public void inputTablesAreNotCounted() {
+		ExampleSet input = ExampleSetFactory.createExampleSet(new double[100][3]);
+		AdaptiveBatching batching = new AdaptiveBatching(4, new MemoryBudget(null));
+		batching.setInput(Arrays.asList(input, null));
+		ExampleSet view = (ExampleSet) input.copy();
+		long tableBytes = input.getExampleTable().estimateMemoryUsage();
+		long viewBytes = view.estimateMemoryBytes() - tableBytes;
+		assertTrue(tableBytes > 0);
+		assertEquals(viewBytes, batching.estimateResultBytes(view));
+		assertEquals(2 * viewBytes,
+				batching.estimateResultBytes(new IOObjectCollection<>(Arrays.asList(view, (ExampleSet) input.copy()))));
+		// tables created by an iteration are counted
+		ExampleSet other = ExampleSetFactory.createExampleSet(new double[100][3]);
+		assertEquals(other.estimateMemoryBytes(), batching.estimateResultBytes(other));
+		assertEquals(view.estimateMemoryBytes(), AdaptiveBatching.estimateBytes(view));
+	}
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests the sharing of a pool between processes by the {@link FairScheduler}.
+ *
+ * @author agent
+ */
+public class FairSchedulerTest {
+
+	private ForkJoinPool pool;
+	private FairScheduler scheduler;
+	private Semaphore permits;
+
+	@Before
+	public void setup() {
+		pool = new ForkJoinPool(2);
+		scheduler = new FairScheduler();
+		permits = new Semaphore(0);
+	}
+
+	@After
+	public void tearDown() {
+		permits.release(1000);
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void otherProcessDoesNotWaitForFloodingProcess() throws Exception {
+		ProcessTaskQueue flooding = new ProcessTaskQueue(scheduler);
+		ProcessTaskQueue other = new ProcessTaskQueue(scheduler);
+		List<ForkJoinTask<Integer>> floodingTasks = blockingTasks(10);
+		scheduler.schedule(flooding, pool, floodingTasks);
+		ForkJoinTask<Integer> otherTask = ForkJoinTask.adapt(() -> (int) flooding.getStartedTasks());
+		scheduler.schedule(other, pool, Collections.singletonList(otherTask));
+
+		assertEquals(2, flooding.getRunningTasks());
+		assertEquals(8, flooding.getQueueDepth());
+		assertEquals(1, other.getQueueDepth());
+		assertEquals(9, other.getSharedQueueDepth());
+
+		// the first free thread goes to the other process
+		permits.release();
+		assertEquals(2, (int) otherTask.get(10, TimeUnit.SECONDS));
+		assertEquals(1, other.getStartedTasks());
+
+		permits.release(10);
+		for (ForkJoinTask<Integer> task : floodingTasks) {
+			task.get(10, TimeUnit.SECONDS);
+		}
+		assertEquals(10, flooding.getStartedTasks());
+		assertEquals(0, flooding.getQueueDepth());
+		assertTrue(flooding.getMaximalWaitTime(TimeUnit.NANOSECONDS) > 0);
+		assertTrue(flooding.getAverageWaitTime(TimeUnit.NANOSECONDS) <= flooding
+				.getMaximalWaitTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void maximalParallelismLimitsRunningTasks() throws Exception {
+		ProcessTaskQueue queue = new ProcessTaskQueue(scheduler);
+		queue.setMaximalParallelism(1);
+		assertEquals(1, queue.limitParallelism(2));
+		List<ForkJoinTask<Integer>> tasks = blockingTasks(3);
+		scheduler.schedule(queue, pool, tasks);
+		assertEquals(1, queue.getRunningTasks());
+		assertEquals(2, queue.getQueueDepth());
+
+		queue.setMaximalParallelism(0);
+		assertEquals(2, queue.getRunningTasks());
+		assertEquals(1, queue.getQueueDepth());
+		permits.release(3);
+		for (ForkJoinTask<Integer> task : tasks) {
+			task.get(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void cancelledTasksAreSkipped() throws Exception {
+		ProcessTaskQueue queue = new ProcessTaskQueue(scheduler);
+		List<ForkJoinTask<Integer>> tasks = blockingTasks(4);
+		scheduler.schedule(queue, pool, tasks);
+		tasks.get(2).cancel(true);
+		assertEquals(1, queue.getQueueDepth());
+
+		permits.release(3);
+		tasks.get(3).get(10, TimeUnit.SECONDS);
+		assertEquals(3, queue.getStartedTasks());
+	}
+
+	@Test
+	public void threadsAreSharedByPriority() {
+		ProcessTaskQueue low = new ProcessTaskQueue(scheduler);
+		ProcessTaskQueue high = new ProcessTaskQueue(scheduler);
+		high.setPriority(2);
+		low.taskStarted(0);
+		high.taskStarted(0);
+		assertTrue(high.compareShare(low) < 0);
+		high.taskStarted(0);
+		// same share, the process that used less run time relative to its priority is next
+		low.taskFinished(10);
+		low.taskStarted(0);
+		high.taskFinished(10);
+		high.taskStarted(0);
+		assertTrue(high.compareShare(low) < 0);
+		high.taskStarted(0);
+		assertTrue(high.compareShare(low) > 0);
+	}
+
+	private List<ForkJoinTask<Integer>> blockingTasks(int count) {
+		List<ForkJoinTask<Integer>> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int value = i;
+			tasks.add(ForkJoinTask.adapt(() -> {
+				permits.acquire();
+				return value;
+			}));
+		}
+		return tasks;
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2001-2021 by RapidMiner and the contributors
+ *
+ * Complete list of developers available at our web site:
+ *
+ * http://rapidminer.com
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU Affero General Public License as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with this program.
+ * If not, see http://www.gnu.org/licenses/.
+ */
+package com.rapidminer.studio.concurrency.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import com.rapidminer.example.ExampleSet;
+import com.rapidminer.example.ExampleSetFactory;
+import com.rapidminer.operator.GroupedModel;
+import com.rapidminer.operator.IOObjectCollection;
+import com.rapidminer.operator.Model;
+
+
+/**
+ * Tests the {@link MemoryBudget} and the memory estimates it is based on.
+ *
+ * @author agent
+ */
+public class MemoryBudgetTest {
+
+	@Test
+	public void permittedTasksAreBounded() {
+		MemoryBudget budget = new MemoryBudget(null);
+		assertEquals(1, budget.getPermittedTasks(16, Long.MAX_VALUE));
+		assertEquals(0, budget.getPermittedTasks(0, 1));
+		assertEquals(1, budget.getPermittedTasks(1, Long.MAX_VALUE));
+		int permitted = budget.getPermittedTasks(16, 1);
+		assertTrue(permitted >= 1 && permitted <= 16);
+	}
+
+	@Test
+	public void availableMemoryLimitsTasks() {
+		long limit = new MemoryBudget(null).getLimit();
+		MemoryBudget budget = new MemoryBudget(null, () -> limit - 1000);
+		assertEquals(1000, budget.getAvailableBytes());
+		assertEquals(10, budget.getPermittedTasks(16, 100));
+		assertEquals(4, budget.getPermittedTasks(4, 100));
+		assertEquals(1, budget.getPermittedTasks(16, 2000));
+	}
+
+	@Test
+	public void unknownTaskSizes() {
+		long limit = new MemoryBudget(null).getLimit();
+		assertEquals(16, new MemoryBudget(null, () -> 0).getPermittedTasks(16, 0));
+		assertEquals(16, new MemoryBudget(null, () -> limit / 2).getPermittedTasks(16, 0));
+		assertEquals(1, new MemoryBudget(null, () -> limit).getPermittedTasks(16, 0));
+		assertEquals(1, new MemoryBudget(null, () -> limit - limit / 20).getPermittedTasks(16, 0));
+	}
+
+	@Test
+	public void liveHeapIsBounded() {
+		long available = new MemoryBudget(null).getAvailableBytes();
+		assertTrue(available <= new MemoryBudget(null).getLimit());
+	}
+
+	@Test
+	public void metaModelEstimate() {
+		Model first = mock(Model.class);
+		when(first.estimateMemoryBytes()).thenReturn(100L);
+		Model second = mock(Model.class);
+		when(second.estimateMemoryBytes()).thenReturn(-1L);
+		GroupedModel model = new GroupedModel();
+		model.addModel(first);
+		model.addModel(second);
+		assertEquals(100, model.estimateMemoryBytes());
+	}
+
+	@Test
+	public void exampleSetEstimate() {
+		double[][] data = new double[1000][4];
+		for (int i = 0; i < data.length; i++) {
+			for (int j = 0; j < data[i].length; j++) {
+				data[i][j] = Math.sqrt(i + j);
+			}
+		}
+		ExampleSet exampleSet = ExampleSetFactory.createExampleSet(data);
+		long bytes = exampleSet.estimateMemoryBytes();
+		assertTrue(bytes > 0);
+
+		IOObjectCollection<ExampleSet> collection = new IOObjectCollection<>();
+		collection.add(exampleSet);
+		collection.add(exampleSet);
+		assertEquals(2 * bytes, collection.estimateMemoryBytes());
+	}
+
+}